@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.benchmark.connection;
+
+import org.postgresql.ds.PGConnectionPool;
+import org.postgresql.ds.common.BaseDataSource;
+import org.postgresql.test.TestUtil;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures borrowing and returning connections of the pools of the driver from many threads. The
+ * number of threads is set with the {@code -t} option of JMH, {@link #main(String[])} runs 1 to
+ * 256 threads.
+ *
+ * <p>{@code work} adds the time a connection is used, in CPU tokens, so the threads do not only
+ * contend on the pool.</p>
+ *
+ * <blockquote><code>java -jar benchmarks.jar ConnectionPoolContention -t 64
+ * -p pool=PGConnectionPool</code></blockquote>
+ */
+@Fork(value = 1, jvmArgsPrepend = "-Xmx512m")
+@Measurement(iterations = 5, time = 3, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ConnectionPoolContention {
+  @Param({"PGConnectionPool", "PGPoolingDataSource"})
+  public String pool;
+
+  @Param({"16"})
+  public int maxConnections;
+
+  @Param({"0", "1000"})
+  public int work;
+
+  private BaseDataSource dataSource;
+
+  @Setup(Level.Trial)
+  @SuppressWarnings("deprecation")
+  public void setUp() throws SQLException {
+    if ("PGConnectionPool".equals(pool)) {
+      PGConnectionPool ds = new PGConnectionPool();
+      ds.setMaxConnections(maxConnections);
+      ds.setMinIdle(maxConnections);
+      dataSource = ds;
+    } else {
+      org.postgresql.ds.PGPoolingDataSource ds = new org.postgresql.ds.PGPoolingDataSource();
+      ds.setDataSourceName("ConnectionPoolContention");
+      ds.setMaxConnections(maxConnections);
+      ds.setInitialConnections(maxConnections);
+      dataSource = ds;
+    }
+    dataSource.setServerNames(new String[]{TestUtil.getServer()});
+    dataSource.setPortNumbers(new int[]{TestUtil.getPort()});
+    dataSource.setDatabaseName(TestUtil.getDatabase());
+    dataSource.setUser(TestUtil.getUser());
+    dataSource.setPassword(TestUtil.getPassword());
+    // Open the connections before the measurement
+    try (Connection connection = dataSource.getConnection()) {
+      connection.isValid(1);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  @SuppressWarnings("deprecation")
+  public void tearDown() {
+    if (dataSource instanceof PGConnectionPool) {
+      ((PGConnectionPool) dataSource).close();
+    } else {
+      ((org.postgresql.ds.PGPoolingDataSource) dataSource).close();
+    }
+  }
+
+  @Benchmark
+  public void borrowAndReturn(Blackhole blackhole) throws SQLException {
+    try (Connection connection = dataSource.getConnection()) {
+      blackhole.consume(connection);
+      Blackhole.consumeCPU(work);
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    for (int threads : new int[]{1, 4, 16, 64, 256}) {
+      Options opt = new OptionsBuilder()
+          .include(ConnectionPoolContention.class.getSimpleName())
+          .threads(threads)
+          .detectJvmArgs()
+          .build();
+
+      new Runner(opt).run();
+    }
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.benchmark.connection;
+
+import org.postgresql.test.TestUtil;
+import org.postgresql.util.internal.VirtualThreads;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Measures how the query throughput scales with the number of threads that use the connections.
+ * Each invocation starts {@code threads} threads, each runs {@code queriesPerThread} queries of
+ * {@code sleepMillis} on one of the {@code connections} connections, so the score multiplied by
+ * {@code threads * queriesPerThread} is the number of queries per second.
+ *
+ * <p>With virtual threads the score should stay flat as {@code threads} grows past the number of
+ * carrier threads, as long as the threads do not pin their carriers while they wait for the
+ * server or for a connection shared by several threads. The virtual threads require Java 21.</p>
+ *
+ * <blockquote><code>java -jar benchmarks.jar VirtualThreadThroughput -p threads=64,1024
+ * -jvmArgsAppend -Djdk.virtualThreadScheduler.parallelism=4</code></blockquote>
+ */
+@Fork(value = 1, jvmArgsPrepend = "-Xmx512m")
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class VirtualThreadThroughput {
+  @Param({"virtual", "platform"})
+  public String threadKind;
+
+  @Param({"16", "256", "1024"})
+  public int threads;
+
+  @Param({"64"})
+  public int connections;
+
+  @Param({"10"})
+  public int queriesPerThread;
+
+  @Param({"1"})
+  public int sleepMillis;
+
+  private Connection[] pool;
+  private String sql;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    if ("virtual".equals(threadKind) && !VirtualThreads.isSupported()) {
+      throw new IllegalStateException("Virtual threads require Java 21 or later");
+    }
+    pool = new Connection[connections];
+    for (int i = 0; i < pool.length; i++) {
+      pool[i] = TestUtil.openDB();
+    }
+    sql = sleepMillis == 0 ? "SELECT 1" : "SELECT pg_sleep(" + sleepMillis / 1000.0 + ")";
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    for (Connection connection : pool) {
+      connection.close();
+    }
+  }
+
+  @Benchmark
+  public void runQueries() throws Exception {
+    AtomicReference<Exception> failure = new AtomicReference<>();
+    Thread[] workers = new Thread[threads];
+    for (int i = 0; i < workers.length; i++) {
+      // Several threads share a connection when threads > connections, which exercises the
+      // connection lock as well
+      Connection connection = pool[i % pool.length];
+      Runnable task = () -> {
+        try {
+          for (int q = 0; q < queriesPerThread; q++) {
+            try (PreparedStatement ps = connection.prepareStatement(sql);
+                 ResultSet rs = ps.executeQuery()) {
+              rs.next();
+            }
+          }
+        } catch (SQLException e) {
+          failure.compareAndSet(null, e);
+        }
+      };
+      String name = "VirtualThreadThroughput-" + i;
+      workers[i] = "virtual".equals(threadKind)
+          ? VirtualThreads.unstarted(name, task)
+          : new Thread(task, name);
+      workers[i].start();
+    }
+    for (Thread worker : workers) {
+      worker.join();
+    }
+    Exception e = failure.get();
+    if (e != null) {
+      throw e;
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(VirtualThreadThroughput.class.getSimpleName())
+        .detectJvmArgs()
+        .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -6,7 +6,12 @@
 package org.postgresql.benchmark.largeobject;
 
 import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.benchmark.network.LatencyProxy;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.copy.CopyOut;
 import org.postgresql.largeobject.LargeObject;
+import org.postgresql.largeobject.LargeObjectChannel;
 import org.postgresql.largeobject.LargeObjectManager;
 import org.postgresql.test.TestUtil;
 import org.postgresql.test.util.StrangeInputStream;
@@ -33,9 +38,11 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Properties;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
@@ -55,6 +62,16 @@ public class LargeObjectRead {
   @Param({"4096", "8192", "65536", "131072"})
   public int bufferSize;
 
+  /**
+   * Round-trip time added by a {@link LatencyProxy}, for instance
+   * {@code -p rttMillis=0,10 -p readSize=65536 -p bufferSize=65536} compares the streams, the
+   * channel and COPY over a long network link.
+   */
+  @Param({"0"})
+  public int rttMillis;
+
+  private LatencyProxy proxy;
+
   private Connection connection;
 
   private LargeObjectManager lom;
@@ -69,8 +86,15 @@ public class LargeObjectRead {
   private byte[] buffer;
 
   @Setup
-  public void setup() throws SQLException {
-    connection = TestUtil.openDB();
+  public void setup() throws SQLException, IOException {
+    Properties props = new Properties();
+    if (rttMillis > 0) {
+      proxy = new LatencyProxy(TestUtil.getServer(), TestUtil.getPort(),
+          TimeUnit.MILLISECONDS.toNanos(rttMillis));
+      TestUtil.setTestUrlProperty(props, PGProperty.PG_HOST, proxy.getHost());
+      TestUtil.setTestUrlProperty(props, PGProperty.PG_PORT, String.valueOf(proxy.getPort()));
+    }
+    connection = TestUtil.openDB(props);
     connection.setAutoCommit(false);
     lom = connection.unwrap(PGConnection.class).getLargeObjectAPI();
     input = new byte[size];
@@ -100,7 +124,11 @@ public void cleanupLob() throws SQLException {
   }
 
   @TearDown
-  public void tearDown() throws SQLException {
+  public void tearDown() throws SQLException, IOException {
+    connection.close();
+    if (proxy != null) {
+      proxy.close();
+    }
   }
 
   @Benchmark
@@ -162,6 +190,54 @@ private void readBuffer(InputStream is) throws IOException {
     }
   }
 
+  /**
+   * Reads with {@link LargeObjectChannel}, which keeps {@code bufferSize / 8192} loread calls of
+   * 8192 bytes in flight.
+   */
+  @Benchmark
+  public void readChannel() throws SQLException, IOException {
+    if (readSize > size) {
+      throw new IllegalArgumentException();
+    }
+    LargeObjectChannel channel = lo.getChannel(8192, Math.max(1, bufferSize / 8192));
+    ByteBuffer output = ByteBuffer.wrap(this.output);
+    while (output.hasRemaining()) {
+      output.limit(Math.min(output.capacity(), output.position() + readSize));
+      if (channel.read(output) == -1) {
+        throw new EOFException(
+            "Unexpected end of stream: there should be at least " + output.remaining()
+                + " bytes left");
+      }
+    }
+  }
+
+  /**
+   * Reads the same bytes with COPY, which streams them without round trips, as a reference for
+   * the throughput of the other methods.
+   */
+  @Benchmark
+  public void readCopy() throws SQLException {
+    if (readSize != size || bufferSize != 65536) {
+      // The reference does not depend on the read or buffer size
+      throw new IllegalArgumentException();
+    }
+    CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+    CopyOut copyOut = copyManager.copyOut(
+        "COPY (SELECT lo_get(" + loId + ")) TO STDOUT (FORMAT binary)");
+    // Binary COPY: 19 bytes of header, then the field count and the length of the value
+    int skip = 19 + 2 + 4;
+    int offs = 0;
+    byte[] output = this.output;
+    byte[] data;
+    while ((data = copyOut.readFromCopy()) != null) {
+      int from = Math.min(skip, data.length);
+      skip -= from;
+      int n = Math.min(data.length - from, output.length - offs);
+      System.arraycopy(data, from, output, offs, n);
+      offs += n;
+    }
+  }
+
   public static void main(String[] args) throws RunnerException {
     Options opt = new OptionsBuilder()
         .include(LargeObjectRead.class.getSimpleName())
@@ -5,6 +5,7 @@
 
 package org.postgresql.benchmark.metadata;
 
+import org.postgresql.PGProperty;
 import org.postgresql.test.TestUtil;
 
 import org.openjdk.jmh.annotations.Benchmark;
@@ -13,6 +14,7 @@
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -24,8 +26,10 @@
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
 @Fork(value = 3, jvmArgsPrepend = "-Xmx128m")
@@ -37,11 +41,20 @@
 public class DatabaseMetadataBenchmark {
   int index;
 
+  /**
+   * With {@code true}, the methods are served from the client-side catalog snapshot, so the
+   * lookups of the missing {@code tab<index>} tables do not query the server.
+   */
+  @Param({"false", "true"})
+  boolean databaseMetadataSnapshot;
+
   private Connection connection;
 
   @Setup
   public void setup() throws SQLException {
-    connection = TestUtil.openDB();
+    Properties props = new Properties();
+    PGProperty.DATABASE_METADATA_SNAPSHOT.set(props, databaseMetadataSnapshot);
+    connection = TestUtil.openDB(props);
     // See DatabaseMetaDataTest
     TestUtil.createTable(connection, "vv", "a int not null, b int not null, constraint vv_pkey primary key ( a, b )");
     TestUtil.createTable(connection, "ww",
@@ -88,6 +101,29 @@ public void getColumns_named(Blackhole blackhole) throws SQLException {
     }
   }
 
+  /**
+   * Introspects a table the way schema tools do, one metadata call after another.
+   */
+  @Benchmark
+  public void introspectTable(Blackhole blackhole) throws SQLException {
+    DatabaseMetaData metaData = connection.getMetaData();
+    String table = index++ % 2 == 0 ? "vv" : "ww";
+    consume(blackhole, metaData.getColumns(null, null, table, null), "COLUMN_NAME");
+    consume(blackhole, metaData.getPrimaryKeys(null, null, table), "PK_NAME");
+    consume(blackhole, metaData.getImportedKeys(null, null, table), "FK_NAME");
+    consume(blackhole, metaData.getExportedKeys(null, null, table), "FK_NAME");
+    consume(blackhole, metaData.getIndexInfo(null, null, table, false, true), "INDEX_NAME");
+  }
+
+  private static void consume(Blackhole blackhole, ResultSet rs, String column)
+      throws SQLException {
+    try (ResultSet ignored = rs) {
+      while (rs.next()) {
+        blackhole.consume(rs.getString(column));
+      }
+    }
+  }
+
   public static void main(String[] args) throws RunnerException {
     Options opt = new OptionsBuilder()
         .include(DatabaseMetadataBenchmark.class.getSimpleName())
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.benchmark.network;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * TCP proxy which delays the data by half of the given round-trip time in each direction, so the
+ * benchmarks can show the cost of round trips against a local server. The bandwidth is not
+ * limited: the data keeps flowing while earlier data is delayed, as on a long network link.
+ */
+public final class LatencyProxy implements Closeable {
+  private static final byte[] END = new byte[0];
+
+  private static final class Chunk {
+    final long dueNanos;
+    final byte[] data;
+
+    Chunk(long dueNanos, byte[] data) {
+      this.dueNanos = dueNanos;
+      this.data = data;
+    }
+  }
+
+  private final String targetHost;
+  private final int targetPort;
+  private final long delayNanos;
+  private final ServerSocket serverSocket;
+  private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+
+  /**
+   * Starts a proxy which listens on an ephemeral port of the loopback interface.
+   *
+   * @param targetHost the host to forward the connections to
+   * @param targetPort the port to forward the connections to
+   * @param roundTripNanos the round-trip time to add, in nanoseconds
+   * @throws IOException if the proxy cannot listen
+   */
+  public LatencyProxy(String targetHost, int targetPort, long roundTripNanos) throws IOException {
+    this.targetHost = targetHost;
+    this.targetPort = targetPort;
+    this.delayNanos = roundTripNanos / 2;
+    this.serverSocket = new ServerSocket();
+    serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    start("LatencyProxy-accept", this::accept);
+  }
+
+  public String getHost() {
+    return serverSocket.getInetAddress().getHostAddress();
+  }
+
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  private void accept() {
+    try {
+      while (true) {
+        Socket client = serverSocket.accept();
+        Socket server = new Socket(targetHost, targetPort);
+        for (Socket socket : Arrays.asList(client, server)) {
+          socket.setTcpNoDelay(true);
+          sockets.add(socket);
+        }
+        forward(client, server);
+        forward(server, client);
+      }
+    } catch (IOException e) {
+      // the proxy is closed
+    }
+  }
+
+  private void forward(Socket from, Socket to) {
+    BlockingQueue<Chunk> queue = new LinkedBlockingQueue<>();
+    start("LatencyProxy-read", () -> {
+      byte[] buffer = new byte[65536];
+      try (InputStream in = from.getInputStream()) {
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+          queue.add(new Chunk(System.nanoTime() + delayNanos, Arrays.copyOf(buffer, read)));
+        }
+      } catch (IOException e) {
+        // the connection is closed
+      }
+      queue.add(new Chunk(System.nanoTime() + delayNanos, END));
+    });
+    start("LatencyProxy-write", () -> {
+      try (OutputStream out = to.getOutputStream()) {
+        while (true) {
+          Chunk chunk = queue.take();
+          long wait;
+          while ((wait = chunk.dueNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(wait);
+          }
+          if (chunk.data == END) {
+            break;
+          }
+          out.write(chunk.data);
+          out.flush();
+        }
+      } catch (IOException | InterruptedException e) {
+        // the connection is closed
+      }
+      closeQuietly(from);
+      closeQuietly(to);
+    });
+  }
+
+  private static void start(String name, Runnable task) {
+    Thread thread = new Thread(task, name);
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private static void closeQuietly(Closeable closeable) {
+    try {
+      closeable.close();
+    } catch (IOException e) {
+      // ignore
+    }
+  }
+
+  @Override
+  public void close() {
+    closeQuietly(serverSocket);
+    for (Socket socket : sockets) {
+      closeQuietly(socket);
+    }
+    sockets.clear();
+  }
+
+  @Override
+  public String toString() {
+    return "LatencyProxy{" + getHost() + ':' + getPort() + " -> " + targetHost + ':' + targetPort
+        + ", delay=" + TimeUnit.NANOSECONDS.toMicros(delayNanos) + "us each way}";
+  }
+}
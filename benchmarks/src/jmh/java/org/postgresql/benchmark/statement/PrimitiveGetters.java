@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.benchmark.statement;
+
+import org.postgresql.test.TestUtil;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code ResultSet.getInt}, {@code getLong}, etc. for the values received in binary
+ * format. The getters decode the values right from the received row, so {@code -prof gc} should
+ * report {@code gc.alloc.rate.norm} of zero. {@link #main(String[])} verifies that.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-Xmx128m")
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PrimitiveGetters {
+  private Connection connection;
+  private PreparedStatement ps;
+  private ResultSet rs;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    Properties props = new Properties();
+    // Use binary transfer starting with the first execution
+    props.put("prepareThreshold", "-1");
+    props.put("binaryTransferEnable", "bool,oid");
+    connection = TestUtil.openDB(props);
+    ps = connection.prepareStatement(
+        "select 42::int2, 42::int4, 42::int8, 4.2::float4, 4.2::float8, true, 42::oid");
+    rs = ps.executeQuery();
+    rs.next();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    rs.close();
+    ps.close();
+    connection.close();
+  }
+
+  @Benchmark
+  public short getShort() throws SQLException {
+    return rs.getShort(1);
+  }
+
+  @Benchmark
+  public int getInt() throws SQLException {
+    return rs.getInt(2);
+  }
+
+  @Benchmark
+  public long getLong() throws SQLException {
+    return rs.getLong(3);
+  }
+
+  @Benchmark
+  public float getFloat() throws SQLException {
+    return rs.getFloat(4);
+  }
+
+  @Benchmark
+  public double getDouble() throws SQLException {
+    return rs.getDouble(5);
+  }
+
+  @Benchmark
+  public boolean getBoolean() throws SQLException {
+    return rs.getBoolean(6);
+  }
+
+  @Benchmark
+  public long getOidAsLong() throws SQLException {
+    return rs.getLong(7);
+  }
+
+  @Benchmark
+  public void getAll(Blackhole b) throws SQLException {
+    ResultSet rs = this.rs;
+    b.consume(rs.getShort(1));
+    b.consume(rs.getInt(2));
+    b.consume(rs.getLong(3));
+    b.consume(rs.getFloat(4));
+    b.consume(rs.getDouble(5));
+    b.consume(rs.getBoolean(6));
+    b.consume(rs.getLong(7));
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(PrimitiveGetters.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .detectJvmArgs()
+        .build();
+
+    Collection<RunResult> results = new Runner(opt).run();
+    for (RunResult result : results) {
+      String benchmark = result.getParams().getBenchmark();
+      for (Map.Entry<String, Result> entry : result.getSecondaryResults().entrySet()) {
+        // The key is "gc.alloc.rate.norm" or "·gc.alloc.rate.norm" depending on the JMH version
+        if (!entry.getKey().endsWith("gc.alloc.rate.norm")) {
+          continue;
+        }
+        // Allow for a measurement noise, an allocation per call would be 16+ bytes
+        double bytesPerOp = entry.getValue().getScore();
+        if (bytesPerOp >= 1) {
+          throw new IllegalStateException(
+              benchmark + " allocates " + bytesPerOp + " bytes/op, expected 0");
+        }
+      }
+    }
+  }
+}
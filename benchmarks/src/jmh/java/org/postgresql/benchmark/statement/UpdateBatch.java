@@ -5,6 +5,8 @@
 
 package org.postgresql.benchmark.statement;
 
+import org.postgresql.PGProperty;
+import org.postgresql.benchmark.network.LatencyProxy;
 import org.postgresql.benchmark.profilers.FlightRecorderProfiler;
 import org.postgresql.test.TestUtil;
 
@@ -19,6 +21,7 @@
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.BenchmarkParams;
 import org.openjdk.jmh.profile.GCProfiler;
@@ -31,8 +34,21 @@
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Measures {@code executeBatch} for statements {@code reWriteBatchedInserts} cannot rewrite.
+ *
+ * <p>The {@code update} and {@code delete} statements are executed through a proxy which adds
+ * {@code rttMillis} of round-trip time. With {@code batchWindowBytes=0}, the driver sends a Sync
+ * and waits for the responses every 256 statements or so, so a batch of {@code nrows} costs
+ * about {@code nrows / 256} round trips. With a batch window, the batch costs one round trip
+ * whatever its size.</p>
+ *
+ * <blockquote><code>java -jar benchmarks.jar UpdateBatch -p statement=update
+ * -p nrows=10000 -p rttMillis=1,10 -p batchWindowBytes=0,262144</code></blockquote>
+ */
 @Fork(value = 5, jvmArgsPrepend = "-Xmx128m")
 @Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
 @Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
@@ -42,13 +58,31 @@
 public class UpdateBatch {
   private Connection connection;
   private PreparedStatement ps;
+  private LatencyProxy proxy;
 
   @Param({"100"})
   int nrows;
 
+  @Param({"insert", "update", "delete"})
+  String statement;
+
+  @Param({"0"})
+  int rttMillis;
+
+  @Param({"0"})
+  int batchWindowBytes;
+
   @Setup(Level.Trial)
-  public void setUp(BenchmarkParams bp) throws SQLException {
-    connection = TestUtil.openDB();
+  public void setUp(BenchmarkParams bp) throws Exception {
+    Properties props = new Properties();
+    PGProperty.BATCH_WINDOW_BYTES.set(props, batchWindowBytes);
+    if (rttMillis > 0) {
+      proxy = new LatencyProxy(TestUtil.getServer(), TestUtil.getPort(),
+          TimeUnit.MILLISECONDS.toNanos(rttMillis));
+      TestUtil.setTestUrlProperty(props, PGProperty.PG_HOST, proxy.getHost());
+      TestUtil.setTestUrlProperty(props, PGProperty.PG_PORT, String.valueOf(proxy.getPort()));
+    }
+    connection = TestUtil.openDB(props);
     Statement s = connection.createStatement();
 
     try {
@@ -57,14 +91,47 @@ public void setUp(BenchmarkParams bp) throws SQLException {
       /* ignore */
     }
     s.execute("create table batch_perf_test(a int4, b varchar(100), c int4)");
+    switch (statement) {
+      case "insert":
+        s.close();
+        ps = connection.prepareStatement("insert into batch_perf_test(a) select 42 where false");
+        return;
+      case "update":
+        ps = connection.prepareStatement("update batch_perf_test set c = c + 1 where a = ?");
+        break;
+      case "delete":
+        // Deletes nothing, so every invocation does the same work
+        ps = connection.prepareStatement("delete from batch_perf_test where a = -?");
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown statement: " + statement);
+    }
+    s.execute("insert into batch_perf_test(a, c) select g, 0 from generate_series(1, " + nrows
+        + ") g");
+    s.execute("create index on batch_perf_test(a)");
+    s.execute("analyze batch_perf_test");
     s.close();
-    ps = connection.prepareStatement("insert into batch_perf_test(a) select 42 where false");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    connection.close();
+    if (proxy != null) {
+      proxy.close();
+    }
   }
 
   @Benchmark
   public int[] updateBatch() throws SQLException {
-    for (int i = 0; i < nrows; i++) {
-      ps.addBatch();
+    if ("insert".equals(statement)) {
+      for (int i = 0; i < nrows; i++) {
+        ps.addBatch();
+      }
+    } else {
+      for (int i = 0; i < nrows; i++) {
+        ps.setInt(1, i + 1);
+        ps.addBatch();
+      }
     }
     return ps.executeBatch();
   }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.benchmark.util;
+
+import org.postgresql.util.ByteConverter;
+import org.postgresql.util.MutableDecimal;
+import org.postgresql.util.NumberParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding and encoding of {@code numeric} through {@link BigDecimal} with the
+ * {@link MutableDecimal} paths that {@code getLong}, {@code getDouble} and {@code setBigDecimal}
+ * use. Run with {@code -prof gc} to see the allocations.
+ */
+@Fork(value = 1, jvmArgsPrepend = "-Xmx128m")
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NumericDecoding {
+  @Param({"42", "12345.67", "-0.000123", "1234567890123.456789"})
+  String value;
+
+  private BigDecimal bigDecimal;
+  private byte[] binary;
+  private byte[] text;
+  private final MutableDecimal decimal = new MutableDecimal();
+
+  @Setup
+  public void setUp() {
+    bigDecimal = new BigDecimal(value);
+    binary = ByteConverter.numeric(bigDecimal);
+    text = value.getBytes(StandardCharsets.US_ASCII);
+  }
+
+  @Benchmark
+  public long binaryToLongViaBigDecimal() {
+    return ((BigDecimal) ByteConverter.numeric(binary, 0, binary.length)).longValue();
+  }
+
+  @Benchmark
+  public long binaryToLong() {
+    ByteConverter.numeric(binary, 0, binary.length, decimal);
+    return decimal.longValue();
+  }
+
+  @Benchmark
+  public double binaryToDoubleViaBigDecimal() {
+    return ByteConverter.numeric(binary, 0, binary.length).doubleValue();
+  }
+
+  @Benchmark
+  public double binaryToDouble() {
+    ByteConverter.numeric(binary, 0, binary.length, decimal);
+    return decimal.doubleValue();
+  }
+
+  @Benchmark
+  public double textToDoubleViaString() {
+    return Double.parseDouble(new String(text, StandardCharsets.US_ASCII));
+  }
+
+  @Benchmark
+  public double textToDouble() {
+    return NumberParser.getFastDecimal(text, 0, text.length, decimal).doubleValue();
+  }
+
+  @Benchmark
+  public byte[] encode() {
+    return ByteConverter.numeric(bigDecimal);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(NumericDecoding.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .detectJvmArgs()
+        .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -75,6 +75,49 @@ public interface PGConnection {
    */
   PGNotification[] getNotifications(int timeoutMillis) throws SQLException;
 
+  /**
+   * Registers a listener for the notifications of a channel, so the application does not need to
+   * poll {@link #getNotifications(int)}. The first listener of a channel executes
+   * {@code LISTEN} for it, so with autocommit off it takes effect when the transaction commits.
+   * A single connection can listen to many channels.
+   *
+   * <p>While the connection has listeners, a thread of the driver waits for notifications whenever
+   * the connection is idle, and another thread calls the listeners as the notifications arrive.
+   * The notifications that arrive during the queries of the application are delivered as well.
+   * Queries of the application may wait up to 100 milliseconds for the connection, so a connection
+   * dedicated to notifications is best.</p>
+   *
+   * <p>At most {@code notificationQueueSize} notifications wait for delivery. When the queue is
+   * full, the driver stops reading notifications until the listeners catch up.</p>
+   *
+   * @param channel the name of the channel, it is quoted as an identifier
+   * @param listener the listener
+   * @throws SQLException if the connection is closed or {@code LISTEN} fails, or
+   *     {@code SQLFeatureNotSupportedException} if the implementation does not support listeners
+   * @see #removeNotificationListener(String, PGNotificationListener)
+   */
+  default void addNotificationListener(String channel, PGNotificationListener listener)
+      throws SQLException {
+    throw Driver.notImplemented(getClass(),
+        "addNotificationListener(String, PGNotificationListener)");
+  }
+
+  /**
+   * Removes a listener registered with
+   * {@link #addNotificationListener(String, PGNotificationListener)}. Removing the last listener
+   * of a channel executes {@code UNLISTEN} for it.
+   *
+   * @param channel the name of the channel
+   * @param listener the listener
+   * @throws SQLException if {@code UNLISTEN} fails, or {@code SQLFeatureNotSupportedException} if
+   *     the implementation does not support listeners
+   */
+  default void removeNotificationListener(String channel, PGNotificationListener listener)
+      throws SQLException {
+    throw Driver.notImplemented(getClass(),
+        "removeNotificationListener(String, PGNotificationListener)");
+  }
+
   /**
    * This returns the COPY API for the current connection.
    *
@@ -270,6 +313,19 @@ public interface PGConnection {
    */
   PGReplicationConnection getReplicationAPI();
 
+  /**
+   * Creates a pipeline that sends several statements back to back and reads their results in a
+   * single round-trip. See {@link PGPipeline} for the details.
+   *
+   * @return a new pipeline for the current connection
+   * @throws SQLException if the connection is closed or it uses {@link PreferQueryMode#SIMPLE}
+   *     query mode, or {@code SQLFeatureNotSupportedException} if the implementation does not
+   *     support pipelines
+   */
+  default PGPipeline pipeline() throws SQLException {
+    throw Driver.notImplemented(getClass(), "pipeline()");
+  }
+
   /**
    * Change a user's password to the specified new password.
    *
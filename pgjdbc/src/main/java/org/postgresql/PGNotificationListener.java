@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.sql.SQLException;
+
+/**
+ * Receives the notifications of a channel, see
+ * {@link PGConnection#addNotificationListener(String, PGNotificationListener)}.
+ *
+ * <p>The listeners of a connection are called one at a time by a thread of the driver, in the
+ * order the notifications arrive. A listener should return quickly: while it runs, the following
+ * notifications wait in a bounded queue, and the driver stops reading notifications from the
+ * server when the queue is full.</p>
+ */
+@FunctionalInterface
+public interface PGNotificationListener {
+  /**
+   * Called for each notification of the channel the listener is registered for.
+   *
+   * @param notification the notification
+   */
+  void notification(PGNotification notification);
+
+  /**
+   * Called once when the connection stops delivering notifications, because it is closed or
+   * broken. The notifications received before are delivered first.
+   *
+   * @param cause the error that broke the connection, or null if the connection was closed
+   */
+  default void closed(@Nullable SQLException cause) {
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Queues several statements so they are sent to the backend back to back, without waiting for a
+ * round-trip after each of them. Obtain an instance via {@link PGConnection#pipeline()}.
+ *
+ * <p>The statements are sent and their results are read when {@link #sync()} is called, so the
+ * returned futures complete in send order during {@link #sync()}. The current parameter values of
+ * the statement are captured when it is queued, so the same {@link PreparedStatement} can be
+ * queued several times with different parameters, the same way as
+ * {@link PreparedStatement#addBatch()} works.</p>
+ *
+ * <p>The queued statements are terminated with a single Sync message. As with pipeline mode in
+ * libpq, the statements up to the Sync execute in a single implicit transaction when the connection
+ * is in auto-commit mode, and a failure of a statement aborts the remaining ones: their futures
+ * complete exceptionally.</p>
+ *
+ * <p>A pipeline is not thread-safe, and the connection must not be used for other statements
+ * while {@link #sync()} is in progress.</p>
+ *
+ * <pre>
+ * try (PGPipeline pipeline = conn.unwrap(PGConnection.class).pipeline();
+ *     PreparedStatement ps = conn.prepareStatement("update t set v = ? where id = ?")) {
+ *   List&lt;CompletableFuture&lt;Long&gt;&gt; counts = new ArrayList&lt;&gt;();
+ *   for (Row row : rows) {
+ *     ps.setString(1, row.value);
+ *     ps.setInt(2, row.id);
+ *     counts.add(pipeline.executeUpdate(ps));
+ *   }
+ *   pipeline.sync();
+ * }
+ * </pre>
+ */
+public interface PGPipeline extends AutoCloseable {
+
+  /**
+   * Queues the statement with its current parameter values. The future completes with the
+   * {@link ResultSet} produced by the statement.
+   *
+   * @param statement statement created by the connection this pipeline belongs to
+   * @return future that completes with the result of the statement
+   * @throws SQLException if the statement can't be queued (e.g. not all the parameters are set, or
+   *     its SQL contains several statements)
+   */
+  CompletableFuture<ResultSet> executeQuery(PreparedStatement statement) throws SQLException;
+
+  /**
+   * Queues the statement with its current parameter values. The future completes with the number
+   * of rows affected by the statement.
+   *
+   * @param statement statement created by the connection this pipeline belongs to
+   * @return future that completes with the update count of the statement
+   * @throws SQLException if the statement can't be queued (e.g. not all the parameters are set, or
+   *     its SQL contains several statements)
+   */
+  CompletableFuture<Long> executeUpdate(PreparedStatement statement) throws SQLException;
+
+  /**
+   * Returns the number of queued statements that have not been sent yet.
+   *
+   * @return the number of queued statements
+   */
+  int getPendingCount();
+
+  /**
+   * Sends all the queued statements followed by a Sync message, and completes their futures as the
+   * results arrive. Failures of individual statements are reported via their futures only.
+   *
+   * @throws SQLException if the pipeline or the connection is closed
+   */
+  void sync() throws SQLException;
+
+  /**
+   * Sends the pending statements (see {@link #sync()}) and closes the pipeline.
+   *
+   * @throws SQLException if the connection is closed
+   */
+  @Override
+  void close() throws SQLException;
+}
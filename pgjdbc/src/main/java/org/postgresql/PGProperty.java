@@ -108,6 +108,35 @@ public enum PGProperty {
       false,
       new String[]{"always", "never", "conservative"}),
 
+  /**
+   * Estimated number of response bytes that {@code executeBatch} keeps in flight without a Sync.
+   * When the next statement would exceed the window, the driver reads the responses of the oldest
+   * statements before it sends more. The default value of 0 uses the legacy behaviour, which sends
+   * a Sync and waits for all the responses whenever the estimate reaches 64000 bytes.
+   *
+   * <p>The responses in flight must fit in the send buffer of the server and the receive buffer of
+   * the driver, otherwise both sides can block on write and the batch deadlocks. The window is
+   * therefore limited to 64000 bytes plus the receive buffer of the socket (see
+   * {@link #RECEIVE_BUFFER_SIZE}), and a warning is logged when a larger value is limited.</p>
+   */
+  BATCH_WINDOW_BYTES(
+      "batchWindowBytes",
+      "0",
+      "Estimated number of response bytes executeBatch keeps in flight, reading the responses of "
+          + "the oldest statements instead of sending a Sync when the window is full. "
+          + "0 disables the window. Values above 64000 bytes plus the socket receive buffer are "
+          + "limited to avoid a deadlock"),
+
+  /**
+   * Maximum number of statements that {@code executeBatch} keeps in flight when
+   * {@link #BATCH_WINDOW_BYTES} is enabled. The default value of 0 means no limit.
+   */
+  BATCH_WINDOW_STATEMENTS(
+      "batchWindowStatements",
+      "0",
+      "Maximum number of statements executeBatch keeps in flight when batchWindowBytes is set. "
+          + "0 means no limit"),
+
   /**
    * Use binary format for sending and receiving data if possible.
    */
@@ -136,6 +165,43 @@ public enum PGProperty {
       "",
       "Comma separated list of types to enable binary transfer. Either OID numbers or names."),
 
+  /**
+   * Controls which statements receive results in binary format: {@code prepared} uses binary
+   * results only for server-prepared statements, {@code always} also describes one-shot statements
+   * before binding them so their results use binary format too, and adds the array types the
+   * driver decodes from binary to the receive set.
+   */
+  BINARY_TRANSFER_MODE(
+      "binaryTransferMode",
+      "prepared",
+      "Controls which statements receive results in binary format, one of 'prepared' or 'always'. "
+          + "When 'prepared', only server-prepared statements (see prepareThreshold) use binary "
+          + "results. When 'always', one-shot statements are described before they are bound, "
+          + "which costs a network round trip, so their results use binary format as well.",
+      false,
+      new String[]{"prepared", "always"}),
+
+  /**
+   * Allocator for the send and receive buffers of the connection: {@code heap} allocates the
+   * buffers per connection, {@code pooled} shares a JVM-wide pool of buffers between connections
+   * and returns the buffers to the pool when the connection is idle. Other values are treated as
+   * the name of a class that implements {@link org.postgresql.core.BufferAllocator}.
+   */
+  BUFFER_ALLOCATOR(
+      "bufferAllocator",
+      "heap",
+      "Allocator for the send and receive buffers: heap, pooled, or a class name that implements "
+          + "org.postgresql.core.BufferAllocator"),
+
+  /**
+   * The maximum number of bytes retained by the buffer pool when {@code bufferAllocator=pooled}.
+   * Connections that use the same value share the pool.
+   */
+  BUFFER_POOL_SIZE(
+      "bufferPoolSize",
+      "67108864",
+      "The maximum number of bytes retained by the shared buffer pool when bufferAllocator=pooled"),
+
   /**
    * Cancel command is sent out of band over its own connection, so cancel message can itself get
    * stuck.
@@ -249,6 +315,19 @@ public enum PGProperty {
       "5",
       "Specifies the maximum size (in megabytes) of fields to be cached per connection. A value of {@code 0} disables the cache."),
 
+  /**
+   * Serve {@link java.sql.DatabaseMetaData#getColumns}, {@code getPrimaryKeys},
+   * {@code getImportedKeys}, {@code getExportedKeys} and {@code getIndexInfo} from a client-side
+   * snapshot of the catalog. The first call loads the rows of all the tables of the requested
+   * schema, and the calls for the other tables do not query the server. The snapshot is dropped
+   * when the connection executes {@code CREATE}, {@code DROP} or {@code ALTER}. The default is
+   * {@code false}.
+   */
+  DATABASE_METADATA_SNAPSHOT(
+      "databaseMetadataSnapshot",
+      "false",
+      "Serve the DatabaseMetaData methods from a client-side snapshot of the catalog"),
+
   /**
    * Default parameter for {@link java.sql.Statement#getFetchSize()}. A value of {@code 0} means
    * that need fetch all rows at once
@@ -266,6 +345,18 @@ public enum PGProperty {
       "false",
       "Enable optimization that disables column name sanitiser"),
 
+  /**
+   * Receiver of the connection metrics: {@code none} (the default) disables the metrics,
+   * {@code jfr} records Java Flight Recorder events (Java 11 or later). Other values are treated
+   * as the name of a class that implements {@link org.postgresql.core.DriverMetrics}, an instance
+   * is created for every connection.
+   */
+  DRIVER_METRICS(
+      "driverMetrics",
+      "none",
+      "Receiver of the connection metrics: none, jfr, or a class name that implements "
+          + "org.postgresql.core.DriverMetrics"),
+
   /**
    * Specifies how the driver transforms JDBC escape call syntax into underlying SQL, for invoking procedures or functions. (backend &gt;= 11)
    * In {@code escapeSyntaxCallMode=select} mode (the default), the driver always uses a SELECT statement (allowing function invocation only).
@@ -370,6 +461,18 @@ public enum PGProperty {
       "false",
       "Enable hiding of database objects for which the current user has no privileges granted from the DatabaseMetaData"),
 
+  /**
+   * Interval in seconds between background probes of the hosts of multi-host connections. The
+   * probes keep a connection to every host, check whether the host is a primary or a standby,
+   * and report the status to the host status cache, so new connections skip dead hosts and hosts
+   * of the wrong role. {@code 0} disables the probes.
+   */
+  HOST_PROBE_INTERVAL(
+      "hostProbeInterval",
+      "0",
+      "Specifies period (seconds) between background checks of the status of the hosts of "
+          + "multi-host connections, 0 disables the checks"),
+
   HOST_RECHECK_SECONDS(
       "hostRecheckSeconds",
       "10",
@@ -407,6 +510,18 @@ public enum PGProperty {
       "false",
       "If disabled hosts are connected in the given order. If enabled hosts are chosen randomly from the set of suitable candidates"),
 
+  /**
+   * The order in which the suitable hosts are tried when {@link #LOAD_BALANCE_HOSTS} is enabled:
+   * {@code random}, {@code leastLatency}, {@code leastConnections}, {@code boundedReplicaLag}, or
+   * a class name that implements {@link org.postgresql.hostchooser.LoadBalanceStrategy}.
+   */
+  LOAD_BALANCE_STRATEGY(
+      "loadBalanceStrategy",
+      "random",
+      "Order of the hosts when loadBalanceHosts is enabled: random, leastLatency, leastConnections, "
+          + "boundedReplicaLag, or a class name that implements "
+          + "org.postgresql.hostchooser.LoadBalanceStrategy"),
+
   /**
    * If this is set then the client side will bind to this address. This is useful if you need
    * to choose which interface to connect to.
@@ -464,6 +579,16 @@ public enum PGProperty {
       "false",
       "When connections that are not explicitly closed are garbage collected, log the stacktrace from the opening of the connection to trace the leak source"),
 
+  /**
+   * The replication lag in seconds above which {@code loadBalanceStrategy=boundedReplicaLag} skips
+   * a standby when the driver looks for one. The lag is measured by the host probes, see
+   * {@link #HOST_PROBE_INTERVAL}.
+   */
+  MAX_REPLICA_LAG_SECONDS(
+      "maxReplicaLagSeconds",
+      "30",
+      "Replication lag (seconds) above which loadBalanceStrategy=boundedReplicaLag skips a standby"),
+
   /**
    * Specifies size of buffer during fetching result set. Can be specified as specified size or
    * percent of heap memory.
@@ -481,6 +606,16 @@ public enum PGProperty {
       "8192",
       "Maximum amount of bytes buffered before sending to the backend"),
 
+  /**
+   * Maximum number of notifications that wait for delivery to the listeners registered with
+   * {@code PGConnection.addNotificationListener}. When the queue is full, the driver stops reading
+   * notifications from the server until the listeners catch up.
+   */
+  NOTIFICATION_QUEUE_SIZE(
+      "notificationQueueSize",
+      "1000",
+      "Maximum number of notifications that wait for delivery to the notification listeners"),
+
   /**
    * Specify 'options' connection initialization parameter.
    * The value of this parameter may contain spaces and other special characters or their URL representation.
@@ -490,6 +625,19 @@ public enum PGProperty {
       null,
       "Specify 'options' connection initialization parameter."),
 
+  /**
+   * Delay in milliseconds between the starts of parallel connection attempts. When positive, the
+   * driver does not wait for an attempt to fail before it tries the next host or the next address
+   * of a host: it starts the next attempt after the delay, or as soon as the previous one fails,
+   * and keeps the first connection that satisfies {@link #TARGET_SERVER_TYPE}. {@code 0} tries the
+   * hosts one after another.
+   */
+  PARALLEL_CONNECT_DELAY(
+      "parallelConnectDelay",
+      "0",
+      "Delay in milliseconds between the starts of parallel connection attempts to the hosts and "
+          + "their addresses, 0 connects to one host after another"),
+
   /**
    * Password to use when authenticating.
    */
@@ -672,6 +820,18 @@ public enum PGProperty {
                    "!password", "!md5", "!gss", "!sspi", "!scram-sha-256", "!none"}
   ),
 
+  /**
+   * Read the rows of a forward-only, read-only resultset from the connection as the resultset is
+   * advanced instead of buffering all the rows in memory. If the connection executes another
+   * statement before the resultset is consumed or closed, the remaining rows are discarded and the
+   * resultset fails.
+   */
+  RESULT_SET_STREAMING(
+      "resultSetStreaming",
+      "false",
+      "Read the rows of forward-only resultsets from the connection as the resultset is advanced "
+          + "instead of buffering them in memory"),
+
   /**
    * Configure optimization to enable batch insert re-writing.
    */
@@ -694,6 +854,18 @@ public enum PGProperty {
       "0",
       "Maximum number of rows merged into a single multi-values INSERT when reWriteBatchedInserts is enabled. Rounded down to a power of two and capped at 32768 rows; with the extended protocol also capped at 65535/parametersPerRow. A value of 0, the default, uses that maximum."),
 
+  /**
+   * Rewrite batches of single-row {@code UPDATE ... SET col = ? WHERE key = ?} and
+   * {@code DELETE FROM ... WHERE key = ?} statements into statements which take each parameter as
+   * an array and join the target table with {@code unnest(...)}, so thousands of executions become
+   * a few.
+   */
+  REWRITE_BATCHED_UPDATES(
+      "reWriteBatchedUpdates",
+      "false",
+      "Enable optimization to rewrite batches of single-row UPDATE and DELETE statements into "
+          + "statements that take the parameters as arrays"),
+
   /**
    * Maximum number of PBKDF2 iterations the client will accept from the server during SCRAM
    * authentication. If the server advertises more iterations than this value, authentication
@@ -727,6 +899,40 @@ public enum PGProperty {
       null,
       "Service name to be searched in pg_service.conf resource"),
 
+  /**
+   * Share the column metadata of result sets, looked up in {@code pg_attribute} by
+   * {@link java.sql.ResultSetMetaData}, with the other connections to the same database of the same
+   * server. The cache holds up to {@link #DATABASE_METADATA_CACHE_FIELDS} columns, and it is cleared
+   * when a connection observes {@code DROP} or {@code ALTER}. The default is {@code false}.
+   */
+  SHARED_FIELD_METADATA_CACHE(
+      "sharedFieldMetadataCache",
+      "false",
+      "Share the column metadata of result sets with the other connections to the same database"),
+
+  /**
+   * Specifies the maximum size (in megabytes) of a JVM-wide cache of parsed SQL, which is shared by
+   * the connections that use the same value. A new connection does not parse again the statements
+   * that other connections have used, while the server-prepared statements are still per
+   * connection. A value of {@code 0}, the default, disables the shared cache.
+   */
+  SHARED_QUERY_CACHE_SIZE_MIB(
+      "sharedQueryCacheSizeMiB",
+      "0",
+      "Specifies the maximum size (in megabytes) of a JVM-wide cache of parsed SQL shared by the connections. A value of {@code 0} disables the cache."),
+
+  /**
+   * Share the type information looked up in {@code pg_type} with the other connections to the same
+   * database of the same server. A new connection does not query again the types that other
+   * connections have looked up. Only the information that does not depend on the
+   * {@code search_path} is shared, and it is cleared when a connection observes {@code DROP} or
+   * {@code ALTER}. The default is {@code false}.
+   */
+  SHARED_TYPE_INFO_CACHE(
+      "sharedTypeInfoCache",
+      "false",
+      "Share the type information looked up in pg_type with the other connections to the same database"),
+
   /**
    * Socket factory used to create socket. A null value, which is the default, means system default.
    */
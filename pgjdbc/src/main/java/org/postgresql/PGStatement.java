@@ -94,4 +94,43 @@ public interface PGStatement {
    * @return state of adaptive fetch (turned on or off)
    */
   boolean getAdaptiveFetch();
+
+  /**
+   * Turn on/off streaming of the resultset rows. In streaming mode, the rows of forward-only,
+   * read-only resultsets are read from the connection as {@link java.sql.ResultSet#next()} is
+   * called, so the memory usage does not depend on the number of rows, and no server-side cursor
+   * or transaction is required. The fetch size defines how many rows are read at a time.
+   *
+   * <p>The connection is busy till the resultset is consumed or closed. Closing the resultset early
+   * discards the remaining rows. If the connection is used for another statement earlier, the
+   * remaining rows are discarded as well, and the resultset fails on the next {@code next()} call
+   * that needs more rows. In auto-commit mode, the driver cancels a streamed {@code SELECT} in
+   * these cases, so the server stops sending rows; other queries, and queries that run in an
+   * explicit transaction, are not cancelled, as that would abort the transaction.</p>
+   *
+   * <p>{@link java.sql.Statement#setQueryTimeout(int)} only limits the execution until the first
+   * rows are received. The rows read as the resultset is advanced are not covered, as with the
+   * rows fetched from a cursor, so use the {@code statement_timeout} setting of the server to
+   * limit the whole query.</p>
+   *
+   * <p>The default is defined by the {@code resultSetStreaming} connection property.</p>
+   *
+   * @param streaming true to stream the rows of the subsequent executions
+   * @throws SQLException if the statement is closed, or {@code SQLFeatureNotSupportedException}
+   *     if the implementation does not support streaming
+   */
+  default void setStreaming(boolean streaming) throws SQLException {
+    throw Driver.notImplemented(getClass(), "setStreaming(boolean)");
+  }
+
+  /**
+   * Returns true if the rows of the resultsets are streamed, see {@link #setStreaming(boolean)}.
+   *
+   * @return true if the rows of the resultsets are streamed
+   * @throws SQLException {@code SQLFeatureNotSupportedException} if the implementation does not
+   *     support streaming
+   */
+  default boolean isStreaming() throws SQLException {
+    throw Driver.notImplemented(getClass(), "isStreaming()");
+  }
 }
@@ -0,0 +1,509 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.copy;
+
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.TypeInfo;
+import org.postgresql.jdbc.PgArray;
+import org.postgresql.jdbc.TimestampUtils;
+import org.postgresql.util.ByteConverter;
+import org.postgresql.util.GT;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.sql.Array;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Reads rows of a {@code COPY ... TO STDOUT (FORMAT binary)} operation field by field, decoding
+ * the binary representation of the column types.
+ *
+ * <p>{@link #nextRow()} moves to the next row, then the fields are read in order with the
+ * {@code read} method that matches the column type. Like {@link java.sql.ResultSet}, the
+ * primitive {@code read} methods return zero for SQL {@code NULL} and {@link #wasNull()} tells
+ * the cases apart, while the other methods return null:</p>
+ *
+ * <pre>
+ * try (BinaryCopyReader reader =
+ *          copyManager.copyOutBinary("COPY t(id, name) TO STDOUT (FORMAT binary)")) {
+ *   while (reader.nextRow()) {
+ *     long id = reader.readLong();
+ *     String name = reader.readText();
+ *   }
+ * }
+ * </pre>
+ *
+ * @see CopyManager#copyOutBinary(String)
+ */
+public class BinaryCopyReader implements AutoCloseable {
+  private static final byte[] EMPTY = new byte[0];
+
+  private final BaseConnection connection;
+  private final TimestampUtils timestampUtils;
+  private final CopyOut op;
+  private final byte[] scratch4 = new byte[4];
+  private final byte[] scratch8 = new byte[8];
+
+  private byte[] buf = EMPTY;
+  private int pos;
+  private int limit;
+  private boolean headerRead;
+  private boolean finished;
+  private int fieldCount;
+  private int fieldIndex;
+  private boolean wasNull;
+
+  BinaryCopyReader(BaseConnection connection, CopyOut op) throws SQLException {
+    if (op.getFormat() != 1) {
+      op.cancelCopy();
+      throw new PSQLException(GT.tr("COPY statement must use the binary format."),
+          PSQLState.WRONG_OBJECT_TYPE);
+    }
+    this.connection = connection;
+    this.timestampUtils = BinaryCopyWriter.createTimestampUtils(connection);
+    this.op = op;
+  }
+
+  /**
+   * Moves to the next row. The unread fields of the current row are skipped.
+   *
+   * @return true if there is a row to read, false if all the rows have been read
+   * @throws SQLException if the data can't be read
+   */
+  public boolean nextRow() throws SQLException {
+    if (finished) {
+      return false;
+    }
+    if (!headerRead) {
+      readHeader();
+    }
+    while (fieldIndex < fieldCount) {
+      skipField();
+    }
+    require(2);
+    int count = ByteConverter.int2(buf, pos);
+    pos += 2;
+    if (count == -1) {
+      finish();
+      return false;
+    }
+    fieldCount = count;
+    fieldIndex = 0;
+    return true;
+  }
+
+  /**
+   * Returns the number of fields in the current row.
+   *
+   * @return the number of fields in the current row
+   */
+  public int getFieldCount() {
+    return fieldCount;
+  }
+
+  /**
+   * Returns true if the last field read was SQL {@code NULL}.
+   *
+   * @return true if the last field read was SQL {@code NULL}
+   */
+  public boolean wasNull() {
+    return wasNull;
+  }
+
+  /**
+   * Skips the next field of the current row.
+   *
+   * @throws SQLException if there are no more fields in the row or the data can't be read
+   */
+  public void skipField() throws SQLException {
+    int length = startField();
+    if (length > 0) {
+      skip(length);
+    }
+  }
+
+  /**
+   * Reads a {@code bool} field.
+   *
+   * @return the value, or false for SQL {@code NULL}
+   * @throws SQLException if there are no more fields in the row or the data can't be read
+   */
+  public boolean readBoolean() throws SQLException {
+    if (startField(1, "bool") < 0) {
+      return false;
+    }
+    boolean value = ByteConverter.bool(buf, pos);
+    pos += 1;
+    return value;
+  }
+
+  /**
+   * Reads an {@code int2} field.
+   *
+   * @return the value, or zero for SQL {@code NULL}
+   * @throws SQLException if there are no more fields in the row or the data can't be read
+   */
+  public short readShort() throws SQLException {
+    if (startField(2, "int2") < 0) {
+      return 0;
+    }
+    short value = ByteConverter.int2(buf, pos);
+    pos += 2;
+    return value;
+  }
+
+  /**
+   * Reads an {@code int4} field.
+   *
+   * @return the value, or zero for SQL {@code NULL}
+   * @throws SQLException if there are no more fields in the row or the data can't be read
+   */
+  public int readInt() throws SQLException {
+    if (startField(4, "int4") < 0) {
+      return 0;
+    }
+    int value = ByteConverter.int4(buf, pos);
+    pos += 4;
+    return value;
+  }
+
+  /**
+   * Reads an {@code int8} field.
+   *
+   * @return the value, or zero for SQL {@code NULL}
+   * @throws SQLException if there are no more fields in the row or the data can't be read
+   */
+  public long readLong() throws SQLException {
+    if (startField(8, "int8") < 0) {
+      return 0;
+    }
+    long value = ByteConverter.int8(buf, pos);
+    pos += 8;
+    return value;
+  }
+
+  /**
+   * Reads a {@code float4} field.
+   *
+   * @return the value, or zero for SQL {@code NULL}
+   * @throws SQLException if there are no more fields in the row or the data can't be read
+   */
+  public float readFloat() throws SQLException {
+    if (startField(4, "float4") < 0) {
+      return 0;
+    }
+    float value = ByteConverter.float4(buf, pos);
+    pos += 4;
+    return value;
+  }
+
+  /**
+   * Reads a {@code float8} field.
+   *
+   * @return the value, or zero for SQL {@code NULL}
+   * @throws SQLException if there are no more fields in the row or the data can't be read
+   */
+  public double readDouble() throws SQLException {
+    if (startField(8, "float8") < 0) {
+      return 0;
+    }
+    double value = ByteConverter.float8(buf, pos);
+    pos += 8;
+    return value;
+  }
+
+  /**
+   * Reads a {@code numeric} field.
+   *
+   * @return the value, a {@link java.math.BigDecimal} or {@link Double#NaN}, or null for SQL
+   *     {@code NULL}
+   * @throws SQLException if there are no more fields in the row or the data can't be read
+   */
+  public @Nullable Number readNumeric() throws SQLException {
+    int length = startField();
+    if (length < 0) {
+      return null;
+    }
+    require(length);
+    Number value = ByteConverter.numeric(buf, pos, length);
+    pos += length;
+    return value;
+  }
+
+  /**
+   * Reads a field of a text type such as {@code text}, {@code varchar} or {@code json}.
+   *
+   * @return the value, or null for SQL {@code NULL}
+   * @throws SQLException if there are no more fields in the row or the data can't be read
+   */
+  public @Nullable String readText() throws SQLException {
+    int length = startField();
+    if (length < 0) {
+      return null;
+    }
+    require(length);
+    String value;
+    try {
+      value = connection.getEncoding().decode(buf, pos, length);
+    } catch (IOException e) {
+      throw new PSQLException(
+          GT.tr("Invalid character data was found.  This is most likely caused by stored data "
+              + "containing characters that are invalid for the character set the database was "
+              + "created in.  The most common example of this is storing 8bit data in a SQL_ASCII "
+              + "database."),
+          PSQLState.DATA_ERROR, e);
+    }
+    pos += length;
+    return value;
+  }
+
+  /**
+   * Reads a {@code bytea} field, or the binary representation of a field of any type.
+   *
+   * @return the value, or null for SQL {@code NULL}
+   * @throws SQLException if there are no more fields in the row or the data can't be read
+   */
+  public byte @Nullable [] readBytes() throws SQLException {
+    int length = startField();
+    if (length < 0) {
+      return null;
+    }
+    require(length);
+    byte[] value = Arrays.copyOfRange(buf, pos, pos + length);
+    pos += length;
+    return value;
+  }
+
+  /**
+   * Reads a {@code uuid} field.
+   *
+   * @return the value, or null for SQL {@code NULL}
+   * @throws SQLException if there are no more fields in the row or the data can't be read
+   */
+  public @Nullable UUID readUUID() throws SQLException {
+    if (startField(16, "uuid") < 0) {
+      return null;
+    }
+    UUID value = new UUID(ByteConverter.int8(buf, pos), ByteConverter.int8(buf, pos + 8));
+    pos += 16;
+    return value;
+  }
+
+  /**
+   * Reads a {@code date} field. {@code infinity} and {@code -infinity} are returned as
+   * {@link LocalDate#MAX} and {@link LocalDate#MIN}.
+   *
+   * @return the value, or null for SQL {@code NULL}
+   * @throws SQLException if there are no more fields in the row or the data can't be read
+   */
+  public @Nullable LocalDate readDate() throws SQLException {
+    if (startField(4, "date") < 0) {
+      return null;
+    }
+    System.arraycopy(buf, pos, scratch4, 0, 4);
+    pos += 4;
+    return timestampUtils.toLocalDateBin(scratch4);
+  }
+
+  /**
+   * Reads a {@code timestamp} (without time zone) field. {@code infinity} and {@code -infinity}
+   * are returned as {@link LocalDateTime#MAX} and {@link LocalDateTime#MIN}.
+   *
+   * @return the value, or null for SQL {@code NULL}
+   * @throws SQLException if there are no more fields in the row or the data can't be read
+   */
+  public @Nullable LocalDateTime readTimestamp() throws SQLException {
+    if (startField(8, "timestamp") < 0) {
+      return null;
+    }
+    System.arraycopy(buf, pos, scratch8, 0, 8);
+    pos += 8;
+    return timestampUtils.toLocalDateTimeBin(scratch8);
+  }
+
+  /**
+   * Reads a {@code timestamptz} field. The value is returned in UTC. {@code infinity} and
+   * {@code -infinity} are returned as {@link OffsetDateTime#MAX} and {@link OffsetDateTime#MIN}.
+   *
+   * @return the value, or null for SQL {@code NULL}
+   * @throws SQLException if there are no more fields in the row or the data can't be read
+   */
+  public @Nullable OffsetDateTime readTimestamptz() throws SQLException {
+    if (startField(8, "timestamptz") < 0) {
+      return null;
+    }
+    System.arraycopy(buf, pos, scratch8, 0, 8);
+    pos += 8;
+    return timestampUtils.toOffsetDateTimeBin(scratch8);
+  }
+
+  /**
+   * Reads an array field. The element type is taken from the binary representation of the
+   * array.
+   *
+   * @return the value, or null for SQL {@code NULL}
+   * @throws SQLException if there are no more fields in the row or the data can't be read
+   */
+  public @Nullable Array readArray() throws SQLException {
+    byte[] bytes = readBytes();
+    if (bytes == null) {
+      return null;
+    }
+    if (bytes.length < 12) {
+      throw new PSQLException(GT.tr("Unsupported binary encoding of {0}.", "array"),
+          PSQLState.DATA_ERROR);
+    }
+    TypeInfo typeInfo = connection.getTypeInfo();
+    int elementOid = ByteConverter.int4(bytes, 8);
+    String elementType = typeInfo.getPGType(elementOid);
+    int oid = elementType == null ? elementOid : typeInfo.getPGArrayType(elementType);
+    return new PgArray(connection, oid, bytes);
+  }
+
+  /**
+   * Returns the number of rows copied, see {@link CopyOperation#getHandledRowCount()}.
+   *
+   * @return number of rows copied, or -1 if not all rows have been read
+   */
+  public long getHandledRowCount() {
+    return op.getHandledRowCount();
+  }
+
+  public boolean isActive() {
+    return op.isActive();
+  }
+
+  /**
+   * Cancels the COPY operation if not all rows have been read.
+   *
+   * @throws SQLException if the operation can't be cancelled
+   */
+  @Override
+  public void close() throws SQLException {
+    if (op.isActive()) {
+      op.cancelCopy();
+    }
+  }
+
+  private void readHeader() throws SQLException {
+    require(BinaryCopyWriter.SIGNATURE.length + 8);
+    for (int i = 0; i < BinaryCopyWriter.SIGNATURE.length; i++) {
+      if (buf[pos + i] != BinaryCopyWriter.SIGNATURE[i]) {
+        throw new PSQLException(GT.tr("Invalid binary COPY header."), PSQLState.DATA_ERROR);
+      }
+    }
+    pos += BinaryCopyWriter.SIGNATURE.length;
+    int flags = ByteConverter.int4(buf, pos);
+    int extensionLength = ByteConverter.int4(buf, pos + 4);
+    pos += 8;
+    // Bit 16 means OIDs are included, and the other high bits are critical format changes
+    if ((flags & 0xffff0000) != 0) {
+      throw new PSQLException(GT.tr("Unsupported binary COPY header flags: {0}", flags),
+          PSQLState.NOT_IMPLEMENTED);
+    }
+    if (extensionLength < 0) {
+      throw new PSQLException(GT.tr("Invalid binary COPY header."), PSQLState.DATA_ERROR);
+    }
+    skip(extensionLength);
+    headerRead = true;
+  }
+
+  /**
+   * Reads the length of the next field.
+   *
+   * @return the length of the field, or -1 for SQL {@code NULL}
+   */
+  private int startField() throws SQLException {
+    if (fieldIndex >= fieldCount) {
+      throw new PSQLException(GT.tr("The COPY row has no more fields."),
+          PSQLState.INVALID_PARAMETER_VALUE);
+    }
+    fieldIndex++;
+    require(4);
+    int length = ByteConverter.int4(buf, pos);
+    pos += 4;
+    wasNull = length < 0;
+    return length;
+  }
+
+  /**
+   * Reads the length of the next field, which must be either SQL {@code NULL} or have the given
+   * length, and ensures the value is in the buffer.
+   */
+  private int startField(int expectedLength, String type) throws SQLException {
+    int length = startField();
+    if (length >= 0) {
+      if (length != expectedLength) {
+        throw new PSQLException(GT.tr("Unsupported binary encoding of {0}.", type),
+            PSQLState.DATA_TYPE_MISMATCH);
+      }
+      require(length);
+    }
+    return length;
+  }
+
+  private void skip(int length) throws SQLException {
+    while (limit - pos < length) {
+      length -= limit - pos;
+      pos = limit;
+      nextChunk();
+    }
+    pos += length;
+  }
+
+  /**
+   * Ensures {@code length} bytes starting at {@link #pos} are in {@link #buf}. The COPY data
+   * messages usually contain a single row each, but the values may span messages.
+   */
+  private void require(int length) throws SQLException {
+    while (limit - pos < length) {
+      int remaining = limit - pos;
+      byte[] prev = buf;
+      int prevPos = pos;
+      nextChunk();
+      if (remaining > 0) {
+        byte[] combined = new byte[remaining + limit];
+        System.arraycopy(prev, prevPos, combined, 0, remaining);
+        System.arraycopy(buf, 0, combined, remaining, limit);
+        buf = combined;
+        pos = 0;
+        limit = combined.length;
+      }
+    }
+  }
+
+  private void nextChunk() throws SQLException {
+    byte[] chunk = op.readFromCopy();
+    if (chunk == null) {
+      throw new PSQLException(GT.tr("Unexpected end of binary COPY data."),
+          PSQLState.DATA_ERROR);
+    }
+    buf = chunk;
+    pos = 0;
+    limit = chunk.length;
+  }
+
+  private void finish() throws SQLException {
+    finished = true;
+    fieldCount = 0;
+    fieldIndex = 0;
+    buf = EMPTY;
+    pos = 0;
+    limit = 0;
+    // Consume CopyDone and CommandComplete, so the connection is released
+    while (op.readFromCopy() != null) {
+      // The trailer is the last data of the operation
+    }
+  }
+}
@@ -0,0 +1,487 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.copy;
+
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.Provider;
+import org.postgresql.core.QueryExecutor;
+import org.postgresql.jdbc.PgArray;
+import org.postgresql.jdbc.TimestampUtils;
+import org.postgresql.util.ByteConverter;
+import org.postgresql.util.GT;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.TimeZone;
+import java.util.UUID;
+
+/**
+ * Writes rows of a {@code COPY ... FROM STDIN (FORMAT binary)} operation field by field, so the
+ * values are sent in the binary representation of the column types and no text formatting or
+ * parsing is needed.
+ *
+ * <p>Each row starts with {@link #startRow(int)}, followed by exactly that many {@code write}
+ * calls. The method used for a field must match the type of the target column, as the backend
+ * decodes the value with the binary receive function of the column type:</p>
+ *
+ * <pre>
+ * try (BinaryCopyWriter writer =
+ *          copyManager.copyInBinary("COPY t(id, name, ts) FROM STDIN (FORMAT binary)")) {
+ *   writer.startRow(3);
+ *   writer.writeLong(1);
+ *   writer.writeText("one");
+ *   writer.writeTimestamp(LocalDateTime.now());
+ *   long rows = writer.endCopy();
+ * }
+ * </pre>
+ *
+ * <p>The rows are buffered and sent to the server when the buffer is full, or by
+ * {@link #flushCopy()} and {@link #endCopy()}.</p>
+ *
+ * @see CopyManager#copyInBinary(String)
+ */
+public class BinaryCopyWriter implements AutoCloseable {
+  /**
+   * The signature at the start of the binary COPY header.
+   */
+  static final byte[] SIGNATURE =
+      {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0};
+
+  private final BaseConnection connection;
+  private final TimestampUtils timestampUtils;
+  private final CopyIn op;
+  private final byte[] buf;
+  private int at;
+  private boolean headerWritten;
+  private int remainingFields;
+
+  BinaryCopyWriter(BaseConnection connection, CopyIn op, int bufferSize) throws SQLException {
+    if (op.getFormat() != 1) {
+      op.cancelCopy();
+      throw new PSQLException(GT.tr("COPY statement must use the binary format."),
+          PSQLState.WRONG_OBJECT_TYPE);
+    }
+    this.connection = connection;
+    this.timestampUtils = createTimestampUtils(connection);
+    this.op = op;
+    // The header and the fixed-size fields must fit into the buffer
+    this.buf = new byte[Math.max(bufferSize, 64)];
+  }
+
+  /**
+   * Creates the date and time conversions of the binary COPY operations of a connection.
+   *
+   * @param connection the connection of the COPY operation
+   * @return the conversions
+   */
+  static TimestampUtils createTimestampUtils(BaseConnection connection) {
+    QueryExecutor queryExecutor = connection.getQueryExecutor();
+    Provider<TimeZone> timeZoneProvider = () -> {
+      TimeZone timeZone = queryExecutor.getTimeZone();
+      if (timeZone == null) {
+        throw new IllegalStateException(
+            GT.tr("Backend timezone is not known. Backend should have returned TimeZone when "
+                + "establishing a connection"));
+      }
+      return timeZone;
+    };
+    return new TimestampUtils(!queryExecutor.getIntegerDateTimes(), timeZoneProvider);
+  }
+
+  /**
+   * Starts a new row. The previous row must be complete.
+   *
+   * @param fieldCount number of fields in the row, it must match the number of columns in the
+   *                   COPY statement
+   * @throws SQLException if the previous row is incomplete or sending the data fails
+   */
+  public void startRow(int fieldCount) throws SQLException {
+    checkRowComplete();
+    if (fieldCount < 0 || fieldCount > Short.MAX_VALUE) {
+      throw new PSQLException(GT.tr("Invalid number of fields in a COPY row: {0}", fieldCount),
+          PSQLState.INVALID_PARAMETER_VALUE);
+    }
+    writeHeaderIfNeeded();
+    ensureCapacity(2);
+    ByteConverter.int2(buf, at, fieldCount);
+    at += 2;
+    remainingFields = fieldCount;
+  }
+
+  /**
+   * Writes SQL {@code NULL}.
+   *
+   * @throws SQLException if the row is already complete or sending the data fails
+   */
+  public void writeNull() throws SQLException {
+    beginField(4);
+    ByteConverter.int4(buf, at, -1);
+    at += 4;
+  }
+
+  /**
+   * Writes a {@code bool} field.
+   *
+   * @param value the value
+   * @throws SQLException if the row is already complete or sending the data fails
+   */
+  public void writeBoolean(boolean value) throws SQLException {
+    startField(1);
+    ByteConverter.bool(buf, at, value);
+    at += 1;
+  }
+
+  /**
+   * Writes an {@code int2} field.
+   *
+   * @param value the value
+   * @throws SQLException if the row is already complete or sending the data fails
+   */
+  public void writeShort(short value) throws SQLException {
+    startField(2);
+    ByteConverter.int2(buf, at, value);
+    at += 2;
+  }
+
+  /**
+   * Writes an {@code int4} field.
+   *
+   * @param value the value
+   * @throws SQLException if the row is already complete or sending the data fails
+   */
+  public void writeInt(int value) throws SQLException {
+    startField(4);
+    ByteConverter.int4(buf, at, value);
+    at += 4;
+  }
+
+  /**
+   * Writes an {@code int8} field.
+   *
+   * @param value the value
+   * @throws SQLException if the row is already complete or sending the data fails
+   */
+  public void writeLong(long value) throws SQLException {
+    startField(8);
+    ByteConverter.int8(buf, at, value);
+    at += 8;
+  }
+
+  /**
+   * Writes a {@code float4} field.
+   *
+   * @param value the value
+   * @throws SQLException if the row is already complete or sending the data fails
+   */
+  public void writeFloat(float value) throws SQLException {
+    startField(4);
+    ByteConverter.float4(buf, at, value);
+    at += 4;
+  }
+
+  /**
+   * Writes a {@code float8} field.
+   *
+   * @param value the value
+   * @throws SQLException if the row is already complete or sending the data fails
+   */
+  public void writeDouble(double value) throws SQLException {
+    startField(8);
+    ByteConverter.float8(buf, at, value);
+    at += 8;
+  }
+
+  /**
+   * Writes a {@code numeric} field.
+   *
+   * @param value the value, or null to write SQL {@code NULL}
+   * @throws SQLException if the row is already complete or sending the data fails
+   */
+  public void writeNumeric(@Nullable BigDecimal value) throws SQLException {
+    if (value == null) {
+      writeNull();
+      return;
+    }
+    writeBytes(ByteConverter.numeric(value));
+  }
+
+  /**
+   * Writes a field of a text type such as {@code text}, {@code varchar} or {@code json}.
+   * The value is encoded with the client encoding of the connection.
+   *
+   * @param value the value, or null to write SQL {@code NULL}
+   * @throws SQLException if the row is already complete or sending the data fails
+   */
+  public void writeText(@Nullable String value) throws SQLException {
+    if (value == null) {
+      writeNull();
+      return;
+    }
+    try {
+      writeBytes(connection.getEncoding().encode(value));
+    } catch (IOException e) {
+      throw new PSQLException(GT.tr("Unable to translate data into the desired encoding."),
+          PSQLState.DATA_ERROR, e);
+    }
+  }
+
+  /**
+   * Writes a {@code bytea} field, or a field which is already in the binary representation of
+   * the column type.
+   *
+   * @param value the value, or null to write SQL {@code NULL}
+   * @throws SQLException if the row is already complete or sending the data fails
+   */
+  public void writeBytes(byte @Nullable [] value) throws SQLException {
+    if (value == null) {
+      writeNull();
+      return;
+    }
+    writeBytes(value, 0, value.length);
+  }
+
+  /**
+   * Writes a {@code bytea} field, or a field which is already in the binary representation of
+   * the column type.
+   *
+   * @param value the array that contains the value
+   * @param off the offset of the value in the array
+   * @param len the length of the value
+   * @throws SQLException if the row is already complete or sending the data fails
+   */
+  public void writeBytes(byte[] value, int off, int len) throws SQLException {
+    if (len > buf.length - 4) {
+      // Large values bypass the buffer
+      beginField(4);
+      ByteConverter.int4(buf, at, len);
+      at += 4;
+      op.writeToCopy(buf, 0, at);
+      at = 0;
+      op.writeToCopy(value, off, len);
+      return;
+    }
+    startField(len);
+    System.arraycopy(value, off, buf, at, len);
+    at += len;
+  }
+
+  /**
+   * Writes a {@code uuid} field.
+   *
+   * @param value the value, or null to write SQL {@code NULL}
+   * @throws SQLException if the row is already complete or sending the data fails
+   */
+  public void writeUUID(@Nullable UUID value) throws SQLException {
+    if (value == null) {
+      writeNull();
+      return;
+    }
+    startField(16);
+    ByteConverter.int8(buf, at, value.getMostSignificantBits());
+    ByteConverter.int8(buf, at + 8, value.getLeastSignificantBits());
+    at += 16;
+  }
+
+  /**
+   * Writes a {@code date} field. {@link LocalDate#MAX} and {@link LocalDate#MIN} are written as
+   * {@code infinity} and {@code -infinity}.
+   *
+   * @param value the value, or null to write SQL {@code NULL}
+   * @throws SQLException if the row is already complete or sending the data fails
+   */
+  public void writeDate(@Nullable LocalDate value) throws SQLException {
+    if (value == null) {
+      writeNull();
+      return;
+    }
+    startField(4);
+    timestampUtils.toBinLocalDate(buf, at, value);
+    at += 4;
+  }
+
+  /**
+   * Writes a {@code timestamp} (without time zone) field. {@link LocalDateTime#MAX} and
+   * {@link LocalDateTime#MIN} are written as {@code infinity} and {@code -infinity}.
+   *
+   * @param value the value, or null to write SQL {@code NULL}
+   * @throws SQLException if the row is already complete or sending the data fails
+   */
+  public void writeTimestamp(@Nullable LocalDateTime value) throws SQLException {
+    if (value == null) {
+      writeNull();
+      return;
+    }
+    startField(8);
+    timestampUtils.toBinLocalDateTime(buf, at, value);
+    at += 8;
+  }
+
+  /**
+   * Writes a {@code timestamptz} field. {@link OffsetDateTime#MAX} and
+   * {@link OffsetDateTime#MIN} are written as {@code infinity} and {@code -infinity}.
+   *
+   * @param value the value, or null to write SQL {@code NULL}
+   * @throws SQLException if the row is already complete or sending the data fails
+   */
+  public void writeTimestamptz(@Nullable OffsetDateTime value) throws SQLException {
+    if (value == null) {
+      writeNull();
+      return;
+    }
+    startField(8);
+    timestampUtils.toBinOffsetDateTime(buf, at, value);
+    at += 8;
+  }
+
+  /**
+   * Writes an array field. The elements are encoded the same way as
+   * {@link java.sql.Connection#createArrayOf(String, Object[])} does, so primitive arrays such as
+   * {@code int[]} and multidimensional arrays are supported.
+   *
+   * <p>Only the element types which have a binary array encoding are supported, and the
+   * connection must not use {@code preferQueryMode=simple}.</p>
+   *
+   * @param typeName the name of the element type, for instance {@code int4}
+   * @param elements the elements, or null to write SQL {@code NULL}
+   * @throws SQLException if the elements can't be encoded in binary, the row is already
+   *                      complete or sending the data fails
+   */
+  public void writeArray(String typeName, @Nullable Object elements) throws SQLException {
+    if (elements == null) {
+      writeNull();
+      return;
+    }
+    Array array = connection.createArrayOf(typeName, elements);
+    byte[] bytes = array instanceof PgArray ? ((PgArray) array).toBytes() : null;
+    if (bytes == null) {
+      throw new PSQLException(
+          GT.tr("Binary COPY is not supported for arrays of type {0}.", typeName),
+          PSQLState.NOT_IMPLEMENTED);
+    }
+    writeBytes(bytes);
+  }
+
+  /**
+   * Sends the buffered rows to the server.
+   *
+   * @throws SQLException if sending the data fails
+   */
+  public void flushCopy() throws SQLException {
+    if (at > 0) {
+      op.writeToCopy(buf, 0, at);
+      at = 0;
+    }
+    op.flushCopy();
+  }
+
+  /**
+   * Writes the end of the data and finishes the COPY operation.
+   *
+   * @return number of rows copied
+   * @throws SQLException if the last row is incomplete or the COPY operation fails
+   */
+  public long endCopy() throws SQLException {
+    checkRowComplete();
+    writeHeaderIfNeeded();
+    ensureCapacity(2);
+    ByteConverter.int2(buf, at, -1);
+    at += 2;
+    op.writeToCopy(buf, 0, at);
+    at = 0;
+    return op.endCopy();
+  }
+
+  /**
+   * Aborts the COPY operation, so none of the rows are stored.
+   *
+   * @throws SQLException if the operation can't be cancelled
+   */
+  public void cancelCopy() throws SQLException {
+    at = 0;
+    op.cancelCopy();
+  }
+
+  /**
+   * Returns the number of rows copied, see {@link CopyOperation#getHandledRowCount()}.
+   *
+   * @return number of rows copied, or -1 if the operation is not complete
+   */
+  public long getHandledRowCount() {
+    return op.getHandledRowCount();
+  }
+
+  public boolean isActive() {
+    return op.isActive();
+  }
+
+  /**
+   * Finishes the COPY operation with {@link #endCopy()} if it is still active.
+   *
+   * @throws SQLException if the last row is incomplete or the COPY operation fails
+   */
+  @Override
+  public void close() throws SQLException {
+    if (op.isActive()) {
+      endCopy();
+    }
+  }
+
+  private void checkRowComplete() throws SQLException {
+    if (remainingFields != 0) {
+      throw new PSQLException(
+          GT.tr("The COPY row is incomplete, {0} more fields are expected.", remainingFields),
+          PSQLState.INVALID_PARAMETER_VALUE);
+    }
+  }
+
+  private void writeHeaderIfNeeded() throws SQLException {
+    if (headerWritten) {
+      return;
+    }
+    ensureCapacity(SIGNATURE.length + 8);
+    System.arraycopy(SIGNATURE, 0, buf, at, SIGNATURE.length);
+    at += SIGNATURE.length;
+    // Flags field and header extension area length
+    ByteConverter.int4(buf, at, 0);
+    ByteConverter.int4(buf, at + 4, 0);
+    at += 8;
+    headerWritten = true;
+  }
+
+  /**
+   * Writes the length of a new field and makes room for {@code size} bytes of data.
+   */
+  private void startField(int size) throws SQLException {
+    beginField(4 + size);
+    ByteConverter.int4(buf, at, size);
+    at += 4;
+  }
+
+  private void beginField(int bytesNeeded) throws SQLException {
+    if (remainingFields <= 0) {
+      throw new PSQLException(GT.tr("The COPY row has more fields than declared in startRow."),
+          PSQLState.INVALID_PARAMETER_VALUE);
+    }
+    remainingFields--;
+    ensureCapacity(bytesNeeded);
+  }
+
+  private void ensureCapacity(int size) throws SQLException {
+    if (size > buf.length - at) {
+      op.writeToCopy(buf, 0, at);
+      at = 0;
+    }
+  }
+}
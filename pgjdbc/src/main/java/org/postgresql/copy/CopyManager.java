@@ -74,6 +74,43 @@ public CopyDual copyDual(String sql) throws SQLException {
     }
   }
 
+  /**
+   * Starts a {@code COPY ... FROM STDIN (FORMAT binary)} operation and returns a writer that
+   * encodes the rows field by field.
+   *
+   * @param sql COPY FROM STDIN statement with the binary format
+   * @return the writer for the rows
+   * @throws SQLException if the operation can't be started or does not use the binary format
+   */
+  public BinaryCopyWriter copyInBinary(String sql) throws SQLException {
+    return copyInBinary(sql, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Starts a {@code COPY ... FROM STDIN (FORMAT binary)} operation and returns a writer that
+   * encodes the rows field by field.
+   *
+   * @param sql COPY FROM STDIN statement with the binary format
+   * @param bufferSize number of bytes to buffer and push over network to server at once
+   * @return the writer for the rows
+   * @throws SQLException if the operation can't be started or does not use the binary format
+   */
+  public BinaryCopyWriter copyInBinary(String sql, int bufferSize) throws SQLException {
+    return new BinaryCopyWriter(connection, copyIn(sql), bufferSize);
+  }
+
+  /**
+   * Starts a {@code COPY ... TO STDOUT (FORMAT binary)} operation and returns a reader that
+   * decodes the rows field by field.
+   *
+   * @param sql COPY TO STDOUT statement with the binary format
+   * @return the reader for the rows
+   * @throws SQLException if the operation can't be started or does not use the binary format
+   */
+  public BinaryCopyReader copyOutBinary(String sql) throws SQLException {
+    return new BinaryCopyReader(connection, copyOut(sql));
+  }
+
   /**
    * Pass results of a COPY TO STDOUT query from database into a Writer.
    *
@@ -0,0 +1,407 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.copy;
+
+import org.postgresql.PGConnection;
+import org.postgresql.util.ByteStreamWriter;
+import org.postgresql.util.GT;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * Loads rows with {@code COPY ... FROM STDIN} over several connections at once.
+ *
+ * <p>The rows are grouped into chunks of about {@link #setChunkSize(int) chunkSize} bytes, and
+ * each chunk is sent with its own COPY statement by one of the
+ * {@link #setConnections(int) connections} worker threads. The calling thread produces the chunks
+ * and blocks when {@link #setMaxPendingChunks(int) maxPendingChunks} chunks wait for a worker,
+ * so the memory used is bounded even if the row source is faster than the server.</p>
+ *
+ * <p>Each chunk is committed on its own, so a chunk which fails because of a serialization
+ * failure, a deadlock or a lack of resources can be retried without duplicating rows. A chunk is
+ * also retried when no connection can be obtained for it. A chunk whose connection is lost while
+ * it is sent is not retried, as it may have been committed before the connection broke. When a
+ * chunk fails for another reason, or runs out of retries, the load stops and
+ * {@link #load(Iterator)} throws, but the chunks already committed are kept.</p>
+ *
+ * <pre>
+ * ParallelCopyLoader loader =
+ *     new ParallelCopyLoader(dataSource, "COPY t FROM STDIN (FORMAT csv)");
+ * loader.setConnections(8);
+ * long rows = loader.load(csvLines);
+ * </pre>
+ */
+public class ParallelCopyLoader {
+  private static final Logger LOGGER = Logger.getLogger(ParallelCopyLoader.class.getName());
+
+  private static final Chunk END = new Chunk(new byte[0], 0);
+
+  private final DataSource dataSource;
+  private final String sql;
+  private int connections = 4;
+  private int chunkSize = 1024 * 1024;
+  private int maxPendingChunks = -1;
+  private int maxRetries = 2;
+  private long retryDelayMillis = 100;
+
+  /**
+   * Creates a loader.
+   *
+   * @param dataSource the source of the connections, typically a connection pool
+   * @param sql COPY FROM STDIN statement, in text or CSV format
+   */
+  public ParallelCopyLoader(DataSource dataSource, String sql) {
+    this.dataSource = dataSource;
+    this.sql = sql;
+  }
+
+  public int getConnections() {
+    return connections;
+  }
+
+  /**
+   * Sets the number of connections, and worker threads, used for the load. The default is 4.
+   *
+   * @param connections number of connections
+   */
+  public void setConnections(int connections) {
+    if (connections < 1) {
+      throw new IllegalArgumentException("connections must be positive: " + connections);
+    }
+    this.connections = connections;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  /**
+   * Sets the approximate size of a chunk in bytes. A chunk is closed once it reaches this size,
+   * so it can be larger by up to one element of the row source. The default is 1MiB.
+   *
+   * @param chunkSize the size of a chunk in bytes
+   */
+  public void setChunkSize(int chunkSize) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+    }
+    this.chunkSize = chunkSize;
+  }
+
+  public int getMaxPendingChunks() {
+    return maxPendingChunks == -1 ? connections * 2 : maxPendingChunks;
+  }
+
+  /**
+   * Sets the number of chunks that can wait for a worker before the row source is paused. The
+   * default is twice the number of connections.
+   *
+   * @param maxPendingChunks number of chunks
+   */
+  public void setMaxPendingChunks(int maxPendingChunks) {
+    if (maxPendingChunks < 1) {
+      throw new IllegalArgumentException(
+          "maxPendingChunks must be positive: " + maxPendingChunks);
+    }
+    this.maxPendingChunks = maxPendingChunks;
+  }
+
+  public int getMaxRetries() {
+    return maxRetries;
+  }
+
+  /**
+   * Sets how many times a chunk is retried after a transient failure. The default is 2.
+   *
+   * @param maxRetries number of retries, 0 disables retries
+   */
+  public void setMaxRetries(int maxRetries) {
+    if (maxRetries < 0) {
+      throw new IllegalArgumentException("maxRetries must not be negative: " + maxRetries);
+    }
+    this.maxRetries = maxRetries;
+  }
+
+  public long getRetryDelayMillis() {
+    return retryDelayMillis;
+  }
+
+  /**
+   * Sets the delay before the first retry of a chunk. The delay doubles with each retry. The
+   * default is 100 milliseconds.
+   *
+   * @param retryDelayMillis delay in milliseconds
+   */
+  public void setRetryDelayMillis(long retryDelayMillis) {
+    if (retryDelayMillis < 0) {
+      throw new IllegalArgumentException(
+          "retryDelayMillis must not be negative: " + retryDelayMillis);
+    }
+    this.retryDelayMillis = retryDelayMillis;
+  }
+
+  /**
+   * Loads the rows and waits until all of them are committed.
+   *
+   * <p>Each element of {@code rows} must contain one or more complete rows in the format of the
+   * COPY statement, including the line terminators, as chunks are only split between
+   * elements.</p>
+   *
+   * @param rows the rows to load
+   * @return the number of rows loaded
+   * @throws SQLException if a chunk can't be loaded, or the calling thread is interrupted
+   */
+  public long load(Iterator<byte[]> rows) throws SQLException {
+    Load load = new Load(getMaxPendingChunks());
+    Thread[] workers = new Thread[connections];
+    for (int i = 0; i < workers.length; i++) {
+      Thread worker = new Thread(load::work, "PgJDBC-ParallelCopyLoader-" + i);
+      worker.setDaemon(true);
+      workers[i] = worker;
+      worker.start();
+    }
+    try {
+      produce(load, rows);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      load.fail(new PSQLException(GT.tr("Interrupted while loading rows with COPY."),
+          PSQLState.QUERY_CANCELED, e));
+    } catch (RuntimeException e) {
+      // Failure of the row source
+      load.fail(new PSQLException(GT.tr("Unable to read the rows to load with COPY."),
+          PSQLState.UNEXPECTED_ERROR, e));
+    } finally {
+      load.finish(workers);
+    }
+    SQLException failure = load.failure.get();
+    if (failure != null) {
+      throw failure;
+    }
+    return load.rowCount.get();
+  }
+
+  private void produce(Load load, Iterator<byte[]> rows) throws InterruptedException {
+    byte[] buf = new byte[Math.min(chunkSize, 65536)];
+    int length = 0;
+    while (rows.hasNext() && load.failure.get() == null) {
+      byte[] row = rows.next();
+      if (length + row.length > buf.length) {
+        buf = Arrays.copyOf(buf, Math.max(length + row.length, buf.length * 2));
+      }
+      System.arraycopy(row, 0, buf, length, row.length);
+      length += row.length;
+      if (length >= chunkSize) {
+        load.put(new Chunk(buf, length));
+        buf = new byte[buf.length];
+        length = 0;
+      }
+    }
+    if (length > 0 && load.failure.get() == null) {
+      load.put(new Chunk(buf, length));
+    }
+  }
+
+  /**
+   * Tells if a failed chunk can be sent again without duplicating rows.
+   *
+   * @param e the failure
+   * @param sent true if the COPY statement of the chunk was started
+   * @return true if the chunk can be retried
+   */
+  private static boolean isRetryable(SQLException e, boolean sent) {
+    String state = e.getSQLState();
+    // The chunk may have been committed if the connection broke before its result was read
+    return !sent && PSQLState.isConnectionError(state)
+        || PSQLState.SERIALIZATION_FAILURE.getState().equals(state)
+        || PSQLState.DEADLOCK_DETECTED.getState().equals(state)
+        // Insufficient resources
+        || state != null && state.startsWith("53");
+  }
+
+  private static final class Chunk {
+    final byte[] data;
+    final int length;
+
+    Chunk(byte[] data, int length) {
+      this.data = data;
+      this.length = length;
+    }
+  }
+
+  /**
+   * The state of one {@link #load(Iterator)} call, shared by the producer and the workers.
+   */
+  private final class Load {
+    final BlockingQueue<Chunk> queue;
+    final AtomicLong rowCount = new AtomicLong();
+    final AtomicReference<@Nullable SQLException> failure = new AtomicReference<>();
+
+    Load(int maxPendingChunks) {
+      queue = new ArrayBlockingQueue<>(maxPendingChunks);
+    }
+
+    void fail(SQLException e) {
+      if (!failure.compareAndSet(null, e)) {
+        SQLException first = failure.get();
+        if (first != null && first != e) {
+          first.addSuppressed(e);
+        }
+      }
+    }
+
+    /**
+     * Queues a chunk for the workers. A worker that stops early fails the load, so the producer
+     * gives up the chunk rather than waiting for room that the stopped workers would never make.
+     */
+    void put(Chunk chunk) throws InterruptedException {
+      while (failure.get() == null) {
+        if (queue.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+          return;
+        }
+      }
+    }
+
+    /**
+     * Tells the workers there are no more chunks and waits for them.
+     */
+    void finish(Thread[] workers) {
+      boolean interrupted = false;
+      int markers = 0;
+      // A worker stops at the first marker it takes, or when it is interrupted, so the queue may
+      // stay full once the workers are gone
+      while (markers < workers.length && isAnyAlive(workers)) {
+        try {
+          if (queue.offer(END, 100, TimeUnit.MILLISECONDS)) {
+            markers++;
+          }
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+      for (Thread worker : workers) {
+        while (true) {
+          try {
+            worker.join();
+            break;
+          } catch (InterruptedException e) {
+            interrupted = true;
+          }
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    void work() {
+      Connection connection = null;
+      try {
+        while (true) {
+          Chunk chunk;
+          try {
+            chunk = queue.take();
+          } catch (InterruptedException e) {
+            // The workers are not interrupted by the loader, so stop the load
+            fail(new PSQLException(GT.tr("Interrupted while loading rows with COPY."),
+                PSQLState.QUERY_CANCELED, e));
+            return;
+          }
+          if (chunk == END) {
+            return;
+          }
+          if (failure.get() != null) {
+            // Drain the queue, so the producer is not blocked
+            continue;
+          }
+          try {
+            connection = copyChunk(connection, chunk);
+          } catch (SQLException e) {
+            fail(e);
+          }
+        }
+      } finally {
+        closeQuietly(connection);
+      }
+    }
+
+    private @Nullable Connection copyChunk(@Nullable Connection connection, Chunk chunk)
+        throws SQLException {
+      for (int attempt = 0; ; attempt++) {
+        boolean sent = false;
+        try {
+          if (connection == null) {
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(true);
+          }
+          CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+          sent = true;
+          long rows = copyManager.copyIn(sql,
+              ByteStreamWriter.of(ByteBuffer.wrap(chunk.data, 0, chunk.length)));
+          rowCount.addAndGet(rows);
+          return connection;
+        } catch (SQLException e) {
+          if (connection != null && (connection.isClosed() || PSQLState.isConnectionError(
+              e.getSQLState()))) {
+            closeQuietly(connection);
+            connection = null;
+          }
+          if (attempt >= maxRetries || !isRetryable(e, sent) || failure.get() != null) {
+            throw e;
+          }
+          LOGGER.log(Level.FINE, "Retrying COPY chunk after failure", e);
+          try {
+            TimeUnit.MILLISECONDS.sleep(retryDelayMillis << Math.min(attempt, 20));
+          } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw e;
+          }
+        } catch (IOException e) {
+          // ByteBuffer writers do not fail
+          throw new PSQLException(GT.tr("Unable to load rows with COPY."),
+              PSQLState.UNEXPECTED_ERROR, e);
+        }
+      }
+    }
+  }
+
+  private static boolean isAnyAlive(Thread[] workers) {
+    for (Thread worker : workers) {
+      if (worker.isAlive()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void closeQuietly(@Nullable Connection connection) {
+    if (connection == null) {
+      return;
+    }
+    try {
+      connection.close();
+    } catch (SQLException e) {
+      LOGGER.log(Level.FINE, "Unable to close COPY loader connection", e);
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import org.postgresql.PGProperty;
+
+/**
+ * Supplies the buffers {@link PGStream} uses for receiving and sending protocol messages.
+ *
+ * <p>The default allocator creates a new heap array for every request, and the arrays are
+ * reclaimed by the garbage collector. A pooling allocator (see {@link PooledBufferAllocator}) can
+ * share the buffers between connections: the connection returns its buffers when it becomes idle
+ * and requests them again when it sends the next message.</p>
+ *
+ * <p>Implementations must be thread-safe since the allocator is shared by the connections.</p>
+ *
+ * @see PGProperty#BUFFER_ALLOCATOR
+ */
+public interface BufferAllocator {
+  /**
+   * Allocator that creates a new heap array on every request and never reuses the buffers.
+   */
+  BufferAllocator HEAP = new HeapBufferAllocator();
+
+  /**
+   * Returns a buffer of at least the given size. The contents of the buffer are undefined.
+   *
+   * @param minSize the minimum size of the buffer
+   * @return buffer that has at least {@code minSize} bytes
+   */
+  byte[] allocate(int minSize);
+
+  /**
+   * Returns the buffer to the allocator. The caller must not use the buffer afterwards.
+   *
+   * @param buffer the buffer obtained from {@link #allocate(int)}
+   */
+  void release(byte[] buffer);
+
+  /**
+   * Returns true if the connections should return their buffers when they become idle, so the
+   * buffers can be reused by the other connections. If the allocator does not reuse the buffers,
+   * releasing them would cause excessive allocations, so the connections keep their buffers.
+   *
+   * @return true if the connections should release their buffers when idle
+   */
+  default boolean isReleaseIdleBuffers() {
+    return true;
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import org.postgresql.PGProperty;
+import org.postgresql.util.GT;
+import org.postgresql.util.ObjectFactory;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import java.util.Properties;
+
+/**
+ * Instantiates {@link BufferAllocator} based on the {@link PGProperty#BUFFER_ALLOCATOR}.
+ */
+public class BufferAllocatorFactory {
+
+  /**
+   * Returns {@link BufferAllocator} based on the {@link PGProperty#BUFFER_ALLOCATOR}.
+   * {@code heap} (the default) and {@code pooled} map to the built-in allocators, and the other
+   * values are treated as class names.
+   *
+   * @param info connection properties
+   * @return buffer allocator
+   * @throws PSQLException if something goes wrong
+   */
+  public static BufferAllocator getBufferAllocator(Properties info) throws PSQLException {
+    String allocator = PGProperty.BUFFER_ALLOCATOR.getOrDefault(info);
+    if (allocator == null || allocator.isEmpty() || "heap".equals(allocator)) {
+      return BufferAllocator.HEAP;
+    }
+    if ("pooled".equals(allocator)) {
+      return PooledBufferAllocator.getShared(PGProperty.BUFFER_POOL_SIZE.getInt(info));
+    }
+    try {
+      return ObjectFactory.instantiate(BufferAllocator.class, allocator, info, false, null);
+    } catch (Exception e) {
+      throw new PSQLException(
+          GT.tr("The BufferAllocator class provided {0} could not be instantiated.", allocator),
+          PSQLState.CONNECTION_FAILURE, e);
+    }
+  }
+}
@@ -20,6 +20,11 @@ public class CachedQuery implements CanEstimateSize {
   public final boolean isFunction;
 
   private int executeCount;
+  /**
+   * Set once the query is returned to the statement cache, so a borrow that gets this instance
+   * is a cache hit.
+   */
+  boolean released;
 
   public CachedQuery(Object key, Query query, boolean isFunction) {
     assert key instanceof String || key instanceof CanEstimateSize
@@ -10,7 +10,10 @@
 import org.postgresql.jdbc.PreferQueryMode;
 import org.postgresql.util.LruCache;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -19,9 +22,12 @@
 class CachedQueryCreateAction implements LruCache.CreateAction<Object, CachedQuery> {
   private static final String[] EMPTY_RETURNING = new String[0];
   private final QueryExecutor queryExecutor;
+  private final @Nullable SharedQueryCache sharedQueryCache;
 
-  CachedQueryCreateAction(QueryExecutor queryExecutor) {
+  CachedQueryCreateAction(QueryExecutor queryExecutor,
+      @Nullable SharedQueryCache sharedQueryCache) {
     this.queryExecutor = queryExecutor;
+    this.sharedQueryCache = sharedQueryCache;
   }
 
   @Override
@@ -38,22 +44,39 @@ public CachedQuery create(Object key) throws SQLException {
       queryKey = null;
       parsedSql = (String) key;
     }
+    boolean standardConformingStrings = queryExecutor.getStandardConformingStrings();
+    boolean isParameterized = key instanceof String || castNonNull(queryKey).isParameterized;
+    boolean splitStatements = isParameterized || queryExecutor.getPreferQueryMode().compareTo(PreferQueryMode.EXTENDED) >= 0;
+
+    SharedQueryCache sharedQueryCache = this.sharedQueryCache;
+    SharedQueryCache.Key sharedKey = null;
+    if (sharedQueryCache != null) {
+      boolean isCallable = key instanceof CallableQueryKey;
+      sharedKey = new SharedQueryCache.Key(key, standardConformingStrings, splitStatements,
+          queryExecutor.isReWriteBatchedInsertsEnabled(),
+          queryExecutor.getQuoteReturningIdentifiers(),
+          isCallable ? queryExecutor.getServerVersionNum() : 0,
+          isCallable ? queryExecutor.getEscapeSyntaxCallMode() : null);
+      SharedQueryCache.ParsedQuery parsed = sharedQueryCache.get(sharedKey);
+      if (parsed != null) {
+        return new CachedQuery(key, queryExecutor.wrap(parsed.queries), parsed.isFunction);
+      }
+    }
+
     if (key instanceof String || castNonNull(queryKey).escapeProcessing) {
       parsedSql =
-          Parser.replaceProcessing(parsedSql, true, queryExecutor.getStandardConformingStrings());
+          Parser.replaceProcessing(parsedSql, true, standardConformingStrings);
     }
     boolean isFunction;
     if (key instanceof CallableQueryKey) {
       JdbcCallParseInfo callInfo =
-          Parser.modifyJdbcCall(parsedSql, queryExecutor.getStandardConformingStrings(),
+          Parser.modifyJdbcCall(parsedSql, standardConformingStrings,
               queryExecutor.getServerVersionNum(), queryExecutor.getEscapeSyntaxCallMode());
       parsedSql = callInfo.getSql();
       isFunction = callInfo.isFunction();
     } else {
       isFunction = false;
     }
-    boolean isParameterized = key instanceof String || castNonNull(queryKey).isParameterized;
-    boolean splitStatements = isParameterized || queryExecutor.getPreferQueryMode().compareTo(PreferQueryMode.EXTENDED) >= 0;
 
     String[] returningColumns;
     if (key instanceof QueryWithReturningColumnsKey) {
@@ -63,11 +86,16 @@ public CachedQuery create(Object key) throws SQLException {
     }
 
     List<NativeQuery> queries = Parser.parseJdbcSql(parsedSql,
-        queryExecutor.getStandardConformingStrings(), isParameterized, splitStatements,
+        standardConformingStrings, isParameterized, splitStatements,
         queryExecutor.isReWriteBatchedInsertsEnabled(), queryExecutor.getQuoteReturningIdentifiers(),
         returningColumns
         );
 
+    if (sharedQueryCache != null) {
+      sharedQueryCache.put(castNonNull(sharedKey), new SharedQueryCache.ParsedQuery(
+          Collections.unmodifiableList(queries), isFunction));
+    }
+
     Query query = queryExecutor.wrap(queries);
     return new CachedQuery(key, query, isFunction);
   }
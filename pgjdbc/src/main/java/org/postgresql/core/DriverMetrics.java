@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import org.postgresql.PGProperty;
+import org.postgresql.util.HostSpec;
+
+/**
+ * Receives the protocol-level events of a connection: connection attempts, round trips, bytes sent
+ * and received, Parse, Bind and Execute messages, statement cache lookups, cancel requests and
+ * completed {@code COPY} operations. The events tell apart network time, parse overhead and
+ * server time without capturing packets.
+ *
+ * <p>A new instance is created for every connection, see {@link PGProperty#DRIVER_METRICS}, so
+ * the instance may keep per-connection state. The events of a connection are reported from the
+ * thread that uses the connection, except {@link #cancelSent()}, which is reported from the thread
+ * that cancels the statement. The methods must return quickly since they are called on the hot
+ * path. All methods do nothing by default, so implementations override only the events
+ * they need. When no implementation is configured, {@link #NOOP} is used and the driver skips the
+ * time measurements.</p>
+ *
+ * @see JfrDriverMetrics
+ */
+public interface DriverMetrics {
+  /**
+   * Ignores all events. The driver does not measure time or count bytes when this instance is used.
+   */
+  DriverMetrics NOOP = new DriverMetrics() {
+  };
+
+  /**
+   * A connection to a host was established, including the authentication and the startup of the
+   * session.
+   *
+   * @param hostSpec the host the connection was established to
+   * @param durationNanos time spent on the attempt
+   */
+  default void connectionOpened(HostSpec hostSpec, long durationNanos) {
+  }
+
+  /**
+   * A connection attempt failed. The driver might try the next host afterwards.
+   *
+   * @param hostSpec the host the connection attempt was made to
+   * @param durationNanos time spent on the attempt
+   * @param cause the failure
+   */
+  default void connectionFailed(HostSpec hostSpec, long durationNanos, Throwable cause) {
+  }
+
+  /**
+   * The driver waited for and processed the responses of the server, which usually is one
+   * network round trip.
+   *
+   * @param durationNanos time from the start of waiting until the responses were processed
+   */
+  default void roundTrip(long durationNanos) {
+  }
+
+  /**
+   * Bytes were written to the socket.
+   *
+   * @param bytes number of bytes
+   */
+  default void bytesSent(int bytes) {
+  }
+
+  /**
+   * Bytes were read from the socket.
+   *
+   * @param bytes number of bytes
+   */
+  default void bytesReceived(int bytes) {
+  }
+
+  /**
+   * A Parse message was sent, so the server parses and plans the statement.
+   *
+   * @param sql the SQL of the statement as sent to the server
+   */
+  default void parseSent(String sql) {
+  }
+
+  /**
+   * A Bind message was sent.
+   *
+   * @param sql the SQL of the statement as sent to the server
+   */
+  default void bindSent(String sql) {
+  }
+
+  /**
+   * An Execute message was sent.
+   *
+   * @param sql the SQL of the statement as sent to the server
+   */
+  default void executeSent(String sql) {
+  }
+
+  /**
+   * A statement was looked up in the per-connection statement cache.
+   *
+   * @param hit true if the statement was found in the cache, false if it had to be parsed
+   */
+  default void statementCacheLookup(boolean hit) {
+  }
+
+  /**
+   * A cancel request was sent for the statement that runs on the connection. Unlike the other
+   * events, this one is reported from the thread that cancels the statement.
+   */
+  default void cancelSent() {
+  }
+
+  /**
+   * A {@code COPY} operation completed.
+   *
+   * @param rowCount number of rows copied, or -1 if the server did not report it
+   * @param durationNanos time from the start of the operation until it completed
+   */
+  default void copyCompleted(long rowCount, long durationNanos) {
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import org.postgresql.PGProperty;
+import org.postgresql.util.GT;
+import org.postgresql.util.ObjectFactory;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import java.util.Properties;
+
+/**
+ * Instantiates {@link DriverMetrics} based on the {@link PGProperty#DRIVER_METRICS}.
+ */
+public class DriverMetricsFactory {
+
+  /**
+   * Returns {@link DriverMetrics} for a new connection based on the
+   * {@link PGProperty#DRIVER_METRICS}. {@code none} (the default) maps to
+   * {@link DriverMetrics#NOOP}, {@code jfr} to {@link JfrDriverMetrics}, and the other values are
+   * treated as class names.
+   *
+   * @param info connection properties
+   * @return driver metrics
+   * @throws PSQLException if something goes wrong
+   */
+  public static DriverMetrics getDriverMetrics(Properties info) throws PSQLException {
+    String metrics = PGProperty.DRIVER_METRICS.getOrDefault(info);
+    if (metrics == null || metrics.isEmpty() || "none".equals(metrics)) {
+      return DriverMetrics.NOOP;
+    }
+    if ("jfr".equals(metrics)) {
+      return new JfrDriverMetrics();
+    }
+    try {
+      return ObjectFactory.instantiate(DriverMetrics.class, metrics, info, false, null);
+    } catch (Exception e) {
+      throw new PSQLException(
+          GT.tr("The DriverMetrics class provided {0} could not be instantiated.", metrics),
+          PSQLState.CONNECTION_FAILURE, e);
+    }
+  }
+}
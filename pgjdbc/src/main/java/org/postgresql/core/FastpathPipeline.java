@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import java.sql.SQLException;
+
+/**
+ * Fastpath calls that are sent without waiting for the results of the previous ones, so several
+ * calls share one network round trip. The results are received in the order of the calls.
+ *
+ * <p>While calls are pending, the connection is locked for the pipeline. If another operation
+ * needs the connection, the pending results are read into memory first, and
+ * {@link #receiveResult(byte[], int, int)} returns them from there.</p>
+ *
+ * <p>The server answers the calls in order, and reads the next call only after it sent the result
+ * of the previous one, so the caller must bound the number of pending calls: the results that are
+ * not received yet must fit in the socket buffers.</p>
+ */
+public interface FastpathPipeline extends AutoCloseable {
+
+  /**
+   * Sends a call, without flushing it to the server.
+   *
+   * @param fnid the OID of the backend function to invoke
+   * @param params a ParameterList returned from
+   *     {@link QueryExecutor#createFastpathParameters(int)}, which can be reused once this method
+   *     returns
+   * @throws SQLException if the call cannot be sent
+   */
+  void sendCall(int fnid, ParameterList params) throws SQLException;
+
+  /**
+   * Sends the calls that are buffered to the server.
+   *
+   * @throws SQLException if the calls cannot be sent
+   */
+  void flush() throws SQLException;
+
+  /**
+   * @return the number of calls whose result has not been received yet
+   */
+  int getPendingCount();
+
+  /**
+   * Receives the result of the oldest pending call, flushing the calls first if needed.
+   *
+   * @param buf the array to receive the result into
+   * @param off offset within the array
+   * @param len the maximum length of the result
+   * @return the length of the result, or -1 if the function returned null
+   * @throws SQLException if the call failed, or its result is longer than {@code len}
+   */
+  int receiveResult(byte[] buf, int off, int len) throws SQLException;
+
+  /**
+   * Receives the results of the pending calls and discards them, including their errors.
+   *
+   * @throws SQLException if the connection fails
+   */
+  @Override
+  void close() throws SQLException;
+}
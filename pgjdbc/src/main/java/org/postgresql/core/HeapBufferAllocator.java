@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+/**
+ * Allocates a new heap array for every request, see {@link BufferAllocator#HEAP}.
+ */
+final class HeapBufferAllocator implements BufferAllocator {
+  @Override
+  public byte[] allocate(int minSize) {
+    return new byte[minSize];
+  }
+
+  @Override
+  public void release(byte[] buffer) {
+    // The buffer is reclaimed by GC
+  }
+
+  @Override
+  public boolean isReleaseIdleBuffers() {
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return "HeapBufferAllocator";
+  }
+}
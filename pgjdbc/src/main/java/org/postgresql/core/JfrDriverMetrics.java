@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+/**
+ * Records the {@link DriverMetrics} events as Java Flight Recorder events.
+ *
+ * <p>This is the Java 8 implementation, which ignores the events since the driver for Java 8 is
+ * compiled without the {@code jdk.jfr} API. On Java 11+, this class is replaced by a version that
+ * records the events via the multi-release JAR mechanism.</p>
+ */
+public class JfrDriverMetrics implements DriverMetrics {
+  /**
+   * Creates the metrics of a connection.
+   */
+  public JfrDriverMetrics() {
+  }
+}
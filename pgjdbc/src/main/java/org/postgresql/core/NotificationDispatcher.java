@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import org.postgresql.PGNotification;
+import org.postgresql.PGNotificationListener;
+import org.postgresql.jdbc.ResourceLock;
+import org.postgresql.util.GT;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Delivers the notifications of a connection to the listeners registered with
+ * {@link org.postgresql.PGConnection#addNotificationListener(String, PGNotificationListener)}.
+ *
+ * <p>While a channel has listeners, a reader thread waits for notifications on the connection
+ * whenever it is idle, and a delivery thread calls the listeners, so a slow listener does not
+ * delay reading. The notifications of the listened channels that arrive during the queries of the
+ * application are delivered as well, the others are kept for
+ * {@link org.postgresql.PGConnection#getNotifications()}.</p>
+ *
+ * <p>At most {@code notificationQueueSize} notifications wait for delivery. When the queue is full
+ * the reader stops reading the connection, so the notifications wait in the server instead.</p>
+ *
+ * <p>Note: this is a driver-internal class</p>
+ */
+public final class NotificationDispatcher {
+  private static final Logger LOGGER = Logger.getLogger(NotificationDispatcher.class.getName());
+
+  /**
+   * How long the reader waits for notifications while it holds the connection. Queries of the
+   * application wait at most this long for the connection.
+   */
+  static final int READ_SLICE_MILLIS = 100;
+
+  private final QueryExecutorBase queryExecutor;
+  private final int capacity;
+
+  private final ResourceLock lock = new ResourceLock();
+  private final Condition changed = lock.newCondition();
+  private final Map<String, CopyOnWriteArrayList<PGNotificationListener>> listeners =
+      new HashMap<>();
+  private final ArrayDeque<PGNotification> queue = new ArrayDeque<>();
+  private volatile @Nullable Thread reader;
+  private @Nullable Thread delivery;
+  private boolean closed;
+  private @Nullable SQLException failure;
+
+  NotificationDispatcher(QueryExecutorBase queryExecutor, int capacity) {
+    this.queryExecutor = queryExecutor;
+    this.capacity = Math.max(1, capacity);
+  }
+
+  /**
+   * Registers a listener for a channel, and starts the threads if they do not run.
+   *
+   * @param channel the channel
+   * @param listener the listener
+   * @return true if the channel had no listener, so the caller must {@code LISTEN} to it
+   * @throws SQLException if the connection is closed
+   */
+  public boolean addListener(String channel, PGNotificationListener listener)
+      throws SQLException {
+    try (ResourceLock ignore = lock.obtain()) {
+      if (closed) {
+        throw new PSQLException(GT.tr("This connection has been closed."),
+            PSQLState.CONNECTION_DOES_NOT_EXIST, failure);
+      }
+      CopyOnWriteArrayList<PGNotificationListener> channelListeners = listeners.get(channel);
+      boolean first = channelListeners == null;
+      if (channelListeners == null) {
+        channelListeners = new CopyOnWriteArrayList<>();
+        listeners.put(channel, channelListeners);
+      }
+      channelListeners.add(listener);
+      if (reader == null) {
+        reader = startThread(this::read, "PgJDBC-Notification-Reader");
+      }
+      if (delivery == null) {
+        delivery = startThread(this::deliver, "PgJDBC-Notification-Delivery");
+      }
+      return first;
+    }
+  }
+
+  /**
+   * Removes a listener of a channel. The reader stops once no channel has listeners.
+   *
+   * @param channel the channel
+   * @param listener the listener
+   * @return true if the listener was the last one of the channel, so the caller must
+   *     {@code UNLISTEN} it
+   */
+  public boolean removeListener(String channel, PGNotificationListener listener) {
+    try (ResourceLock ignore = lock.obtain()) {
+      CopyOnWriteArrayList<PGNotificationListener> channelListeners = listeners.get(channel);
+      if (channelListeners == null || !channelListeners.remove(listener)) {
+        return false;
+      }
+      if (!channelListeners.isEmpty()) {
+        return false;
+      }
+      listeners.remove(channel);
+      changed.signalAll();
+      return true;
+    }
+  }
+
+  /**
+   * Queues a notification for delivery if its channel has listeners. This never blocks, so the
+   * queue may exceed its capacity with the notifications that arrive during queries.
+   *
+   * @param notification the notification
+   * @return true if the notification is queued
+   */
+  boolean offer(PGNotification notification) {
+    try (ResourceLock ignore = lock.obtain()) {
+      if (closed || !listeners.containsKey(notification.getName())) {
+        return false;
+      }
+      queue.add(notification);
+      changed.signalAll();
+      return true;
+    }
+  }
+
+  /**
+   * Returns whether the current thread is the reader, which waits for notifications even if the
+   * connection has notifications for {@code getNotifications()}.
+   */
+  boolean isReaderThread() {
+    return reader == Thread.currentThread();
+  }
+
+  /**
+   * Stops the threads. The delivery thread delivers the queued notifications, then calls
+   * {@link PGNotificationListener#closed(SQLException)}.
+   *
+   * @param cause the error that broke the connection, or null if it is closed
+   */
+  void close(@Nullable SQLException cause) {
+    try (ResourceLock ignore = lock.obtain()) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      failure = cause;
+      changed.signalAll();
+    }
+  }
+
+  private static Thread startThread(Runnable task, String name) {
+    Thread thread = new Thread(task, name);
+    thread.setDaemon(true);
+    thread.start();
+    return thread;
+  }
+
+  /**
+   * Waits until the queue has room for more notifications. When the reader must stop, it is
+   * unregistered under the same lock, so a listener added right after starts a new reader.
+   *
+   * @return false if the reader must stop
+   */
+  private boolean awaitCapacity() throws InterruptedException {
+    try (ResourceLock ignore = lock.obtain()) {
+      while (!closed && !listeners.isEmpty() && queue.size() >= capacity) {
+        changed.await();
+      }
+      if (!closed && !listeners.isEmpty()) {
+        return true;
+      }
+      if (reader == Thread.currentThread()) {
+        reader = null;
+      }
+      changed.signalAll();
+      return false;
+    }
+  }
+
+  private void pause() throws InterruptedException {
+    try (ResourceLock ignore = lock.obtain()) {
+      if (!closed && !listeners.isEmpty()) {
+        changed.await(READ_SLICE_MILLIS, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  private void read() {
+    try {
+      while (awaitCapacity()) {
+        if (queryExecutor.isClosed()) {
+          close(null);
+        } else if (queryExecutor.getTransactionState() != TransactionState.IDLE) {
+          // The server sends the notifications after the transaction ends
+          pause();
+        } else {
+          queryExecutor.processNotifies(READ_SLICE_MILLIS);
+          // The lock of the connection is not fair, so let the threads that wait for it run
+          // their queries before waiting for notifications again
+          while (queryExecutor.lock.hasQueuedThreads()) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+          }
+        }
+      }
+    } catch (SQLException e) {
+      if (queryExecutor.isClosed()) {
+        close(null);
+      } else {
+        LOGGER.log(Level.FINE, "Failed to read notifications", e);
+        close(e);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      close(null);
+    } catch (RuntimeException e) {
+      LOGGER.log(Level.WARNING, "Failed to read notifications", e);
+      close(null);
+    } finally {
+      try (ResourceLock ignore = lock.obtain()) {
+        if (reader == Thread.currentThread()) {
+          reader = null;
+        }
+        changed.signalAll();
+      }
+    }
+  }
+
+  private void deliver() {
+    while (true) {
+      PGNotification notification;
+      List<PGNotificationListener> channelListeners;
+      try (ResourceLock ignore = lock.obtain()) {
+        while (queue.isEmpty() && !closed && reader != null) {
+          changed.awaitUninterruptibly();
+        }
+        PGNotification next = queue.poll();
+        if (next == null) {
+          delivery = null;
+          break;
+        }
+        notification = next;
+        channelListeners = listeners.get(notification.getName());
+        changed.signalAll();
+      }
+      if (channelListeners == null) {
+        continue;
+      }
+      for (PGNotificationListener listener : channelListeners) {
+        try {
+          listener.notification(notification);
+        } catch (RuntimeException e) {
+          LOGGER.log(Level.WARNING, "Notification listener failed", e);
+        }
+      }
+    }
+    notifyClosed();
+  }
+
+  private void notifyClosed() {
+    Set<PGNotificationListener> closedListeners = new LinkedHashSet<>();
+    SQLException cause;
+    try (ResourceLock ignore = lock.obtain()) {
+      if (!closed) {
+        // The reader stopped because the listeners were removed
+        return;
+      }
+      for (List<PGNotificationListener> channelListeners : listeners.values()) {
+        closedListeners.addAll(channelListeners);
+      }
+      listeners.clear();
+      cause = failure;
+    }
+    for (PGNotificationListener listener : closedListeners) {
+      try {
+        listener.closed(cause);
+      } catch (RuntimeException e) {
+        LOGGER.log(Level.WARNING, "Notification listener failed", e);
+      }
+    }
+  }
+}
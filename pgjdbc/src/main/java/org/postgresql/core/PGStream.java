@@ -23,6 +23,7 @@
 
 import java.io.Closeable;
 import java.io.EOFException;
+import java.io.FilterInputStream;
 import java.io.FilterOutputStream;
 import java.io.Flushable;
 import java.io.IOException;
@@ -49,6 +50,8 @@ public class PGStream implements Closeable, Flushable {
   private final SocketFactory socketFactory;
   private final HostSpec hostSpec;
   private final int maxSendBufferSize;
+  private final BufferAllocator bufferAllocator;
+  private final DriverMetrics driverMetrics;
   private Socket connection;
   private VisibleBufferedInputStream pgInput;
   private PgBufferedOutputStream pgOutput;
@@ -124,9 +127,46 @@ public PGStream(SocketFactory socketFactory, HostSpec hostSpec, int timeout) thr
   @SuppressWarnings({"method.invocation", "initialization.fields.uninitialized"})
   public PGStream(SocketFactory socketFactory, HostSpec hostSpec, int timeout,
       int maxSendBufferSize) throws IOException {
+    this(socketFactory, hostSpec, timeout, maxSendBufferSize, BufferAllocator.HEAP);
+  }
+
+  /**
+   * Constructor: Connect to the PostgreSQL back end and return a stream connection.
+   *
+   * @param socketFactory socket factory to use when creating sockets
+   * @param hostSpec the host and port to connect to
+   * @param timeout timeout in milliseconds, or 0 if no timeout set
+   * @param maxSendBufferSize maximum amount of bytes buffered before sending to the backend
+   * @param bufferAllocator allocator for the send and receive buffers
+   * @throws IOException if an IOException occurs below it.
+   */
+  @SuppressWarnings({"method.invocation", "initialization.fields.uninitialized"})
+  public PGStream(SocketFactory socketFactory, HostSpec hostSpec, int timeout,
+      int maxSendBufferSize, BufferAllocator bufferAllocator) throws IOException {
+    this(socketFactory, hostSpec, timeout, maxSendBufferSize, bufferAllocator,
+        DriverMetrics.NOOP);
+  }
+
+  /**
+   * Constructor: Connect to the PostgreSQL back end and return a stream connection.
+   *
+   * @param socketFactory socket factory to use when creating sockets
+   * @param hostSpec the host and port to connect to
+   * @param timeout timeout in milliseconds, or 0 if no timeout set
+   * @param maxSendBufferSize maximum amount of bytes buffered before sending to the backend
+   * @param bufferAllocator allocator for the send and receive buffers
+   * @param driverMetrics receiver of the bytes sent and received
+   * @throws IOException if an IOException occurs below it.
+   */
+  @SuppressWarnings({"method.invocation", "initialization.fields.uninitialized"})
+  public PGStream(SocketFactory socketFactory, HostSpec hostSpec, int timeout,
+      int maxSendBufferSize, BufferAllocator bufferAllocator, DriverMetrics driverMetrics)
+      throws IOException {
     this.socketFactory = socketFactory;
     this.hostSpec = hostSpec;
     this.maxSendBufferSize = maxSendBufferSize;
+    this.bufferAllocator = bufferAllocator;
+    this.driverMetrics = driverMetrics;
 
     Socket socket = createSocket(timeout);
     changeSocket(socket);
@@ -164,6 +204,8 @@ public PGStream(PGStream pgStream, int timeout) throws IOException {
     this.socketFactory = pgStream.socketFactory;
     this.hostSpec = pgStream.hostSpec;
     this.maxSendBufferSize = pgStream.maxSendBufferSize;
+    this.bufferAllocator = pgStream.bufferAllocator;
+    this.driverMetrics = pgStream.driverMetrics;
 
     Socket socket = createSocket(timeout);
     changeSocket(socket);
@@ -197,6 +239,14 @@ public Socket getSocket() {
     return connection;
   }
 
+  public BufferAllocator getBufferAllocator() {
+    return bufferAllocator;
+  }
+
+  public DriverMetrics getDriverMetrics() {
+    return driverMetrics;
+  }
+
   public SocketFactory getSocketFactory() {
     return socketFactory;
   }
@@ -264,7 +314,11 @@ private Socket createSocket(int timeout) throws IOException {
         // When using a SOCKS proxy, the host might not be resolvable locally,
         // thus we defer resolution until the traffic reaches the proxy. If there
         // is no proxy, we must resolve the host to an IP to connect the socket.
-        InetSocketAddress address = hostSpec.shouldResolve()
+        // Parallel connection attempts resolve the host in advance and race its addresses.
+        InetAddress resolved = hostSpec.getAddress();
+        InetSocketAddress address = resolved != null
+            ? new InetSocketAddress(resolved, hostSpec.getPort())
+            : hostSpec.shouldResolve()
             ? new InetSocketAddress(hostSpec.getHost(), hostSpec.getPort())
             : InetSocketAddress.createUnresolved(hostSpec.getHost(), hostSpec.getPort());
         socket.connect(address, timeout);
@@ -294,6 +348,14 @@ public void changeSocket(Socket socket) throws IOException {
         + " This is a no-op, however, it re-allocates buffered streams, so refrain from"
         + " excessive changeSocket calls";
 
+    // The old streams are replaced, so their buffers can be reused
+    VisibleBufferedInputStream oldInput = pgInput;
+    PgBufferedOutputStream oldOutput = pgOutput;
+    if (oldInput != null && oldOutput != null && bufferAllocator.isReleaseIdleBuffers()) {
+      oldInput.releaseBuffer();
+      oldOutput.releaseBuffer();
+    }
+
     this.connection = socket;
 
     // Submitted by Jason Venner <jason@idiom.com>. Disable Nagle
@@ -301,9 +363,15 @@ public void changeSocket(Socket socket) throws IOException {
     // really need to.
     connection.setTcpNoDelay(true);
 
-    pgInput = new VisibleBufferedInputStream(connection.getInputStream(), 8192);
+    InputStream socketInput = connection.getInputStream();
+    OutputStream socketOutput = connection.getOutputStream();
+    if (driverMetrics != DriverMetrics.NOOP) {
+      socketInput = new MeteredInputStream(socketInput, driverMetrics);
+      socketOutput = new MeteredOutputStream(socketOutput, driverMetrics);
+    }
+    pgInput = new VisibleBufferedInputStream(socketInput, 8192, bufferAllocator);
     int sendBufferSize = Math.min(maxSendBufferSize, Math.max(8192, socket.getSendBufferSize()));
-    pgOutput = new PgBufferedOutputStream(connection.getOutputStream(), sendBufferSize);
+    pgOutput = new PgBufferedOutputStream(socketOutput, sendBufferSize, bufferAllocator);
 
     if (encoding != null) {
       setEncoding(encoding);
@@ -598,8 +666,8 @@ public String receiveCanonicalStringIfPresent() throws IOException {
   }
 
   /**
-   * Read a tuple from the back end. A tuple is a two dimensional array of bytes. This variant reads
-   * the V3 protocol's tuple representation.
+   * Read a tuple from the back end. This variant reads the V3 protocol's tuple representation. The
+   * values of all the fields are stored in a single buffer, see {@link Tuple#Tuple(byte[], int[])}.
    *
    * @return tuple from the back end
    * @throws IOException if a data I/O error occurs
@@ -612,28 +680,30 @@ public Tuple receiveTupleV3() throws IOException, OutOfMemoryError, SQLException
     int dataToReadSize = messageSize - 4 - 2 - 4 * nf;
     setMaxRowSizeBytes(dataToReadSize);
 
-    byte[][] answer = new byte[nf][];
-
     increaseByteCounter(dataToReadSize);
-    OutOfMemoryError oom = null;
+    byte[] buffer;
+    int[] bounds;
+    try {
+      buffer = new byte[dataToReadSize];
+      bounds = new int[2 * nf];
+    } catch (OutOfMemoryError oome) {
+      // Skip the rest of the message, so the stream stays in sync
+      skip(messageSize - 4 - 2);
+      throw oome;
+    }
+
+    int offset = 0;
     for (int i = 0; i < nf; i++) {
       int size = receiveInteger4();
+      bounds[2 * i] = offset;
+      bounds[2 * i + 1] = size;
       if (size != -1) {
-        try {
-          answer[i] = new byte[size];
-          receive(answer[i], 0, size);
-        } catch (OutOfMemoryError oome) {
-          oom = oome;
-          skip(size);
-        }
+        receive(buffer, offset, size);
+        offset += size;
       }
     }
 
-    if (oom != null) {
-      throw oom;
-    }
-
-    return new Tuple(answer);
+    return new Tuple(buffer, bounds);
   }
 
   /**
@@ -723,6 +793,21 @@ public void receiveEOF() throws SQLException, IOException {
         PSQLState.COMMUNICATION_ERROR);
   }
 
+  /**
+   * Returns the send and receive buffers to the {@link BufferAllocator} if the allocator reuses
+   * the buffers, and the buffers are empty. The streams request new buffers when they are used next
+   * time. This should be called when the connection becomes idle, so idle connections do not hold
+   * the buffers.
+   */
+  public void releaseIdleBuffers() {
+    if (!bufferAllocator.isReleaseIdleBuffers() || gssEncrypted) {
+      // GSS streams wrap the buffered streams, so they keep their buffers
+      return;
+    }
+    pgInput.releaseBuffer();
+    pgOutput.releaseBuffer();
+  }
+
   /**
    * Closes the connection.
    *
@@ -832,4 +917,58 @@ private void increaseByteCounter(long value) throws SQLException {
   public boolean isClosed() {
     return connection.isClosed();
   }
+
+  /**
+   * Reports the bytes read from the socket to {@link DriverMetrics#bytesReceived(int)}.
+   */
+  private static final class MeteredInputStream extends FilterInputStream {
+    private final DriverMetrics metrics;
+
+    MeteredInputStream(InputStream in, DriverMetrics metrics) {
+      super(in);
+      this.metrics = metrics;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = in.read();
+      if (b >= 0) {
+        metrics.bytesReceived(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int read = in.read(b, off, len);
+      if (read > 0) {
+        metrics.bytesReceived(read);
+      }
+      return read;
+    }
+  }
+
+  /**
+   * Reports the bytes written to the socket to {@link DriverMetrics#bytesSent(int)}.
+   */
+  private static final class MeteredOutputStream extends FilterOutputStream {
+    private final DriverMetrics metrics;
+
+    MeteredOutputStream(OutputStream out, DriverMetrics metrics) {
+      super(out);
+      this.metrics = metrics;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      metrics.bytesSent(1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      metrics.bytesSent(len);
+    }
+  }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import org.postgresql.PGProperty;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link BufferAllocator} that keeps the released buffers in a pool, so the idle connections do not
+ * hold their send and receive buffers. The buffers are allocated in power-of-two sizes, so a buffer
+ * grown for a large row can be reused by another connection that needs a large buffer later.
+ *
+ * <p>The pool retains at most {@code maxPoolSize} bytes. The buffers released when the pool is full,
+ * and the buffers larger than {@link #MAX_POOLED_BUFFER_SIZE} are left to the garbage collector.</p>
+ *
+ * <p>Use {@code bufferAllocator=pooled} connection property to share a pool between the connections
+ * that have the same {@link PGProperty#BUFFER_POOL_SIZE}.</p>
+ */
+public class PooledBufferAllocator implements BufferAllocator {
+  /**
+   * The smallest buffer the pool allocates.
+   */
+  public static final int MIN_BUFFER_SIZE = 1024;
+
+  /**
+   * The buffers larger than this are not pooled.
+   */
+  public static final int MAX_POOLED_BUFFER_SIZE = 16 * 1024 * 1024;
+
+  private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_BUFFER_SIZE);
+
+  private static final ConcurrentMap<Integer, PooledBufferAllocator> SHARED =
+      new ConcurrentHashMap<>();
+
+  private final long maxPoolSize;
+  private final AtomicLong pooledBytes = new AtomicLong();
+  private final Queue<byte[]>[] pools;
+
+  /**
+   * Creates a pool that retains up to {@code maxPoolSize} bytes of idle buffers.
+   *
+   * @param maxPoolSize the maximum number of bytes the pool retains
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public PooledBufferAllocator(long maxPoolSize) {
+    if (maxPoolSize < 0) {
+      throw new IllegalArgumentException("maxPoolSize must be non-negative, got " + maxPoolSize);
+    }
+    this.maxPoolSize = maxPoolSize;
+    int sizeClasses = Integer.numberOfTrailingZeros(MAX_POOLED_BUFFER_SIZE) - MIN_SHIFT + 1;
+    Queue<byte[]>[] pools = new Queue[sizeClasses];
+    for (int i = 0; i < pools.length; i++) {
+      pools[i] = new ConcurrentLinkedQueue<>();
+    }
+    this.pools = pools;
+  }
+
+  /**
+   * Returns the JVM-wide pool for the given size limit, so all the connections configured with the
+   * same limit share the buffers.
+   *
+   * @param maxPoolSize the maximum number of bytes the pool retains
+   * @return shared pool
+   */
+  public static PooledBufferAllocator getShared(int maxPoolSize) {
+    return SHARED.computeIfAbsent(maxPoolSize, PooledBufferAllocator::new);
+  }
+
+  /**
+   * Returns the index of the size class that fits the given number of bytes.
+   */
+  private static int sizeClass(int size) {
+    if (size <= MIN_BUFFER_SIZE) {
+      return 0;
+    }
+    return 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_SHIFT;
+  }
+
+  @Override
+  public byte[] allocate(int minSize) {
+    if (minSize > MAX_POOLED_BUFFER_SIZE) {
+      return new byte[minSize];
+    }
+    int sizeClass = sizeClass(minSize);
+    byte[] buffer = pools[sizeClass].poll();
+    if (buffer != null) {
+      pooledBytes.addAndGet(-buffer.length);
+      return buffer;
+    }
+    return new byte[1 << (sizeClass + MIN_SHIFT)];
+  }
+
+  @Override
+  public void release(byte[] buffer) {
+    int length = buffer.length;
+    if (length < MIN_BUFFER_SIZE || length > MAX_POOLED_BUFFER_SIZE
+        || Integer.bitCount(length) != 1) {
+      // The buffer was not allocated by the pool
+      return;
+    }
+    if (pooledBytes.addAndGet(length) > maxPoolSize) {
+      pooledBytes.addAndGet(-length);
+      return;
+    }
+    pools[sizeClass(length)].offer(buffer);
+  }
+
+  /**
+   * Returns the number of bytes held by the idle buffers in the pool.
+   *
+   * @return the number of bytes held by the pool
+   */
+  public long getPooledBytes() {
+    return pooledBytes.get();
+  }
+
+  /**
+   * Returns the maximum number of bytes the pool retains.
+   *
+   * @return the maximum number of bytes the pool retains
+   */
+  public long getMaxPoolSize() {
+    return maxPoolSize;
+  }
+
+  @Override
+  public String toString() {
+    return "PooledBufferAllocator{pooledBytes=" + pooledBytes.get()
+        + ", maxPoolSize=" + maxPoolSize + '}';
+  }
+}
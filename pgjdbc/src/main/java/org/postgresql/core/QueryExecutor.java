@@ -130,6 +130,17 @@ public interface QueryExecutor extends TypeTransferModeRegistry {
    */
   int QUERY_READ_ONLY_HINT = 2048;
 
+  /**
+   * Flag for query execution that the rows should be read from the connection as the resultset is
+   * advanced rather than buffered in memory. The resultset receives the first row and a
+   * {@link ResultCursor}, and the subsequent rows are read via {@link #fetch}. The connection stays
+   * busy till the rows are consumed or the cursor is closed: closing the cursor early, or any other
+   * operation on the connection, discards the remaining rows, and cancels the query when it is a
+   * {@code SELECT} outside of a transaction. The flag is ignored for multi-statement queries,
+   * simple query mode and when an automatic savepoint is required.
+   */
+  int QUERY_STREAMING = 4096;
+
   /**
    * Execute a Query, passing results to a provided ResultHandler.
    *
@@ -210,6 +221,28 @@ void execute(Query[] queries, @Nullable ParameterList[] parameterLists,
       BatchResultHandler handler, int maxRows,
       int fetchSize, int flags, boolean adaptiveFetch) throws SQLException;
 
+  /**
+   * Execute several independent Query objects as a single pipeline, passing results to a provided
+   * ResultHandler. All the queries are sent before any response is read, and the responses are
+   * consumed in send order. Unlike {@link #execute(Query[], ParameterList[], BatchResultHandler,
+   * int, int, int)}, the queries might return rows, so the handler receives
+   * {@link ResultHandler#handleResultRows} followed by {@link ResultHandler#handleCommandStatus}
+   * for each of them.
+   *
+   * <p>The queries are terminated with a single Sync unless the estimated response size requires an
+   * intermediate Sync to avoid a network deadlock, so a failure aborts the rest of the pipeline.</p>
+   *
+   * @param queries the queries to execute; each must be a query returned from calling
+   *        {@link #wrap(List)} on this QueryExecutor object.
+   * @param parameterLists the parameter lists for the queries. The parameter lists correspond 1:1
+   *        to the queries passed in the <code>queries</code> array.
+   * @param handler a ResultHandler responsible for handling results generated by the queries
+   * @param flags a combination of QUERY_* flags indicating how to handle the queries.
+   * @throws SQLException if query execution fails
+   */
+  void executePipeline(Query[] queries, @Nullable ParameterList[] parameterLists,
+      ResultHandler handler, int flags) throws SQLException;
+
   /**
    * Fetch additional rows from a cursor.
    *
@@ -244,6 +277,14 @@ void execute(Query[] queries, @Nullable ParameterList[] parameterLists,
    */
   int getReWriteBatchedInsertsSize();
 
+  /**
+   * Returns whether batches of single-row {@code UPDATE} and {@code DELETE} statements are
+   * rewritten into statements that take the parameters as arrays.
+   *
+   * @return true if {@code reWriteBatchedUpdates} is enabled
+   */
+  boolean isReWriteBatchedUpdatesEnabled();
+
   CachedQuery createQuery(String sql, boolean escapeProcessing, boolean isParameterized,
       String @Nullable ... columnNames)
       throws SQLException;
@@ -328,6 +369,15 @@ Object createQueryKey(String sql, boolean escapeProcessing, boolean isParameteri
   byte @Nullable [] fastpathCall(int fnid, ParameterList params, boolean suppressBegin)
       throws SQLException;
 
+  /**
+   * Creates a pipeline of fastpath calls, that sends the calls without waiting for the results of
+   * the previous ones.
+   *
+   * @param suppressBegin if begin should be suppressed
+   * @return a pipeline, which must be closed once its results are no longer needed
+   */
+  FastpathPipeline createFastpathPipeline(boolean suppressBegin);
+
   /**
    * Issues a COPY FROM STDIN / COPY TO STDOUT statement and returns handler for associated
    * operation. Until the copy operation completes, no other database operation may be performed.
@@ -497,6 +547,14 @@ Object createQueryKey(String sql, boolean escapeProcessing, boolean isParameteri
    */
   PGNotification[] getNotifications() throws SQLException;
 
+  /**
+   * Returns the dispatcher of the notifications of this connection to the listeners registered
+   * with {@link org.postgresql.PGConnection#addNotificationListener}.
+   *
+   * @return the notification dispatcher of this connection
+   */
+  NotificationDispatcher getNotificationDispatcher();
+
   /**
    * Retrieve and clear the chain of warnings accumulated on this connection.
    *
@@ -602,6 +660,31 @@ Object createQueryKey(String sql, boolean escapeProcessing, boolean isParameteri
    */
   void setFlushCacheOnDdl(boolean flushCacheOnDdl);
 
+  /**
+   * Returns the type catalog shared with the other connections to the same database, if
+   * {@code sharedTypeInfoCache} is enabled.
+   *
+   * @return the shared type catalog, or null if it is disabled
+   */
+  @Nullable SharedTypeCatalog getSharedTypeCatalog();
+
+  /**
+   * Returns the column metadata cache shared with the other connections to the same database, if
+   * {@code sharedFieldMetadataCache} is enabled.
+   *
+   * @return the shared column metadata cache, or null if it is disabled
+   */
+  @Nullable SharedFieldMetadataCache getSharedFieldMetadataCache();
+
+  /**
+   * Returns the number of {@code CREATE}, {@code DROP} and {@code ALTER} commands this connection
+   * has executed, so the catalog snapshot of {@code databaseMetadataSnapshot} can tell when it is
+   * stale. The commands are counted only when {@code databaseMetadataSnapshot} is enabled.
+   *
+   * @return the number of commands that might have changed the schema
+   */
+  int getSchemaChangeCount();
+
   /**
    * @return the ReplicationProtocol instance for this connection.
    */
@@ -38,6 +38,7 @@ public abstract class QueryExecutorBase implements QueryExecutor {
 
   private static final Logger LOGGER = Logger.getLogger(QueryExecutorBase.class.getName());
   protected final PGStream pgStream;
+  protected final DriverMetrics metrics;
   private final String user;
   private final String database;
   private final int cancelSignalTimeout;
@@ -51,6 +52,7 @@ public abstract class QueryExecutorBase implements QueryExecutor {
   private volatile TransactionState transactionState = TransactionState.IDLE;
   private final boolean reWriteBatchedInserts;
   private final int reWriteBatchedInsertsSize;
+  private final boolean reWriteBatchedUpdates;
   private final boolean columnSanitiserDisabled;
   private final EscapeSyntaxCallMode escapeSyntaxCallMode;
   private final boolean quoteReturningIdentifiers;
@@ -65,9 +67,18 @@ public abstract class QueryExecutorBase implements QueryExecutor {
 
   private @Nullable SQLWarning warnings;
   private final ArrayList<PGNotification> notifications = new ArrayList<>();
+  private final int notificationQueueSize;
+  private volatile @Nullable NotificationDispatcher notificationDispatcher;
 
   private final LruCache<Object, CachedQuery> statementCache;
   private final CachedQueryCreateAction cachedQueryCreateAction;
+  private final boolean sharedTypeInfoCache;
+  private volatile @Nullable SharedTypeCatalog sharedTypeCatalog;
+  private final boolean sharedFieldMetadataCache;
+  private final int fieldMetadataCacheEntries;
+  private volatile @Nullable SharedFieldMetadataCache sharedFieldMetadata;
+  private final boolean databaseMetadataSnapshot;
+  private volatile int schemaChangeCount;
 
   // For getParameterStatuses(), GUC_REPORT tracking
   private final TreeMap<String,String> parameterStatuses
@@ -79,12 +90,14 @@ public abstract class QueryExecutorBase implements QueryExecutor {
   @SuppressWarnings({"assignment", "argument", "method.invocation"})
   protected QueryExecutorBase(PGStream pgStream, int cancelSignalTimeout, Properties info) throws SQLException {
     this.pgStream = pgStream;
+    this.metrics = pgStream.getDriverMetrics();
     this.protocolVersion = pgStream.getProtocolVersion();
     this.user = PGProperty.USER.getOrDefault(info);
     this.database = PGProperty.PG_DBNAME.getOrDefault(info);
     this.cancelSignalTimeout = cancelSignalTimeout;
     this.reWriteBatchedInserts = PGProperty.REWRITE_BATCHED_INSERTS.getBoolean(info);
     this.reWriteBatchedInsertsSize = Math.max(0, PGProperty.REWRITE_BATCHED_INSERTS_SIZE.getInt(info));
+    this.reWriteBatchedUpdates = PGProperty.REWRITE_BATCHED_UPDATES.getBoolean(info);
     this.columnSanitiserDisabled = PGProperty.DISABLE_COLUMN_SANITISER.getBoolean(info);
     String callMode = PGProperty.ESCAPE_SYNTAX_CALL_MODE.getOrDefault(info);
     this.escapeSyntaxCallMode = EscapeSyntaxCallMode.of(callMode);
@@ -94,7 +107,17 @@ protected QueryExecutorBase(PGStream pgStream, int cancelSignalTimeout, Properti
     this.autoSave = AutoSave.of(PGProperty.AUTOSAVE.getOrDefault(info));
     this.logServerErrorDetail = PGProperty.LOG_SERVER_ERROR_DETAIL.getBoolean(info);
     // assignment, argument
-    this.cachedQueryCreateAction = new CachedQueryCreateAction(this);
+    int sharedQueryCacheSizeMiB = PGProperty.SHARED_QUERY_CACHE_SIZE_MIB.getInt(info);
+    this.cachedQueryCreateAction = new CachedQueryCreateAction(this,
+        sharedQueryCacheSizeMiB > 0
+            ? SharedQueryCache.getShared(sharedQueryCacheSizeMiB * 1024L * 1024L)
+            : null);
+    this.sharedTypeInfoCache = PGProperty.SHARED_TYPE_INFO_CACHE.getBoolean(info);
+    this.sharedFieldMetadataCache = PGProperty.SHARED_FIELD_METADATA_CACHE.getBoolean(info);
+    this.fieldMetadataCacheEntries =
+        Math.max(0, PGProperty.DATABASE_METADATA_CACHE_FIELDS.getInt(info));
+    this.databaseMetadataSnapshot = PGProperty.DATABASE_METADATA_SNAPSHOT.getBoolean(info);
+    this.notificationQueueSize = PGProperty.NOTIFICATION_QUEUE_SIZE.getInt(info);
     statementCache = new LruCache<>(
         Math.max(0, PGProperty.PREPARED_STATEMENT_CACHE_QUERIES.getInt(info)),
         Math.max(0, PGProperty.PREPARED_STATEMENT_CACHE_SIZE_MIB.getInt(info) * 1024L * 1024L),
@@ -147,6 +170,76 @@ public String getDatabase() {
     return database;
   }
 
+  @Override
+  public @Nullable SharedTypeCatalog getSharedTypeCatalog() {
+    if (!sharedTypeInfoCache) {
+      return null;
+    }
+    SharedTypeCatalog sharedTypeCatalog = this.sharedTypeCatalog;
+    if (sharedTypeCatalog == null) {
+      // The server version is known once the connection is established
+      sharedTypeCatalog = SharedTypeCatalog.getShared(getHostSpec(), database, getServerVersion());
+      this.sharedTypeCatalog = sharedTypeCatalog;
+    }
+    return sharedTypeCatalog;
+  }
+
+  @Override
+  public @Nullable SharedFieldMetadataCache getSharedFieldMetadataCache() {
+    if (!sharedFieldMetadataCache) {
+      return null;
+    }
+    SharedFieldMetadataCache sharedFieldMetadata = this.sharedFieldMetadata;
+    if (sharedFieldMetadata == null) {
+      sharedFieldMetadata = SharedFieldMetadataCache.getShared(getHostSpec(), database,
+          getServerVersion(), fieldMetadataCacheEntries);
+      this.sharedFieldMetadata = sharedFieldMetadata;
+    }
+    return sharedFieldMetadata;
+  }
+
+  @Override
+  public int getSchemaChangeCount() {
+    return schemaChangeCount;
+  }
+
+  /**
+   * Clears the shared type catalog and the shared column metadata cache when a command may have
+   * dropped, renamed or altered types or tables, and counts the commands that make the catalog
+   * snapshot stale.
+   *
+   * @param status the command status of a completed command
+   */
+  protected void invalidateSharedCatalogs(String status) {
+    if (databaseMetadataSnapshot && (status.startsWith("CREATE ")
+        || status.startsWith("DROP ") || status.startsWith("ALTER "))) {
+      schemaChangeCount++;
+    }
+    if (!sharedTypeInfoCache && !sharedFieldMetadataCache) {
+      return;
+    }
+    if (!status.startsWith("DROP ") && !status.startsWith("ALTER ")) {
+      return;
+    }
+    if (status.startsWith("DROP DATABASE")) {
+      if (sharedTypeInfoCache) {
+        SharedTypeCatalog.invalidateAll();
+      }
+      if (sharedFieldMetadataCache) {
+        SharedFieldMetadataCache.invalidateAll();
+      }
+      return;
+    }
+    SharedTypeCatalog sharedTypeCatalog = this.sharedTypeCatalog;
+    if (sharedTypeCatalog != null) {
+      sharedTypeCatalog.invalidate();
+    }
+    SharedFieldMetadataCache sharedFieldMetadata = this.sharedFieldMetadata;
+    if (sharedFieldMetadata != null) {
+      sharedFieldMetadata.invalidate();
+    }
+  }
+
   public void setBackendKeyData(int cancelPid, byte[] cancelKey) {
     this.cancelPid = cancelPid;
     this.cancelKey = cancelKey;
@@ -159,6 +252,7 @@ public int getBackendPID() {
 
   @Override
   public void abort() {
+    closeNotificationDispatcher();
     closeAction.abort();
   }
 
@@ -173,6 +267,7 @@ public void close() {
       return;
     }
 
+    closeNotificationDispatcher();
     try {
       getCloseAction().close();
     } catch (IOException ioe) {
@@ -214,6 +309,7 @@ public void sendQueryCancel() throws SQLException {
       cancelStream.sendInteger4(cancelPid);
       cancelStream.send(cancelKey);
       cancelStream.flush();
+      metrics.cancelSent();
       cancelStream.receiveEOF();
     } catch (IOException e) {
       // Safe to ignore.
@@ -240,11 +336,37 @@ public void addWarning(SQLWarning newWarning) {
   }
 
   public void addNotification(PGNotification notification) {
+    NotificationDispatcher notificationDispatcher = this.notificationDispatcher;
+    if (notificationDispatcher != null && notificationDispatcher.offer(notification)) {
+      return;
+    }
     try (ResourceLock ignore = lock.obtain()) {
       notifications.add(notification);
     }
   }
 
+  @Override
+  public NotificationDispatcher getNotificationDispatcher() {
+    NotificationDispatcher notificationDispatcher = this.notificationDispatcher;
+    if (notificationDispatcher == null) {
+      try (ResourceLock ignore = lock.obtain()) {
+        notificationDispatcher = this.notificationDispatcher;
+        if (notificationDispatcher == null) {
+          notificationDispatcher = new NotificationDispatcher(this, notificationQueueSize);
+          this.notificationDispatcher = notificationDispatcher;
+        }
+      }
+    }
+    return notificationDispatcher;
+  }
+
+  private void closeNotificationDispatcher() {
+    NotificationDispatcher notificationDispatcher = this.notificationDispatcher;
+    if (notificationDispatcher != null) {
+      notificationDispatcher.close(null);
+    }
+  }
+
   @Override
   public PGNotification[] getNotifications() throws SQLException {
     try (ResourceLock ignore = lock.obtain()) {
@@ -332,31 +454,43 @@ public int getReWriteBatchedInsertsSize() {
     return this.reWriteBatchedInsertsSize;
   }
 
+  @Override
+  public boolean isReWriteBatchedUpdatesEnabled() {
+    return this.reWriteBatchedUpdates;
+  }
+
   @Override
   public final CachedQuery borrowQuery(String sql) throws SQLException {
-    return statementCache.borrow(sql);
+    return borrow(sql);
   }
 
   @Override
   public final CachedQuery borrowCallableQuery(String sql) throws SQLException {
-    return statementCache.borrow(new CallableQueryKey(sql));
+    return borrow(new CallableQueryKey(sql));
   }
 
   @Override
   public final CachedQuery borrowReturningQuery(String sql, String @Nullable [] columnNames)
       throws SQLException {
-    return statementCache.borrow(new QueryWithReturningColumnsKey(sql, true, true,
+    return borrow(new QueryWithReturningColumnsKey(sql, true, true,
         columnNames
     ));
   }
 
   @Override
   public CachedQuery borrowQueryByKey(Object key) throws SQLException {
-    return statementCache.borrow(key);
+    return borrow(key);
+  }
+
+  private CachedQuery borrow(Object key) throws SQLException {
+    CachedQuery cachedQuery = statementCache.borrow(key);
+    metrics.statementCacheLookup(cachedQuery.released);
+    return cachedQuery;
   }
 
   @Override
   public void releaseQuery(CachedQuery cachedQuery) {
+    cachedQuery.released = true;
     statementCache.put(cachedQuery.key, cachedQuery);
   }
 
@@ -481,6 +615,11 @@ public void setFlushCacheOnDdl(boolean flushCacheOnDdl) {
   }
 
   protected boolean hasNotifications() {
+    NotificationDispatcher notificationDispatcher = this.notificationDispatcher;
+    if (notificationDispatcher != null && notificationDispatcher.isReaderThread()) {
+      // The notifications are for getNotifications(), the reader waits for more
+      return false;
+    }
     return !notifications.isEmpty();
   }
 
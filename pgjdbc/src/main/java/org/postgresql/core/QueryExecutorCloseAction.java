@@ -5,6 +5,9 @@
 
 package org.postgresql.core;
 
+import org.postgresql.hostchooser.GlobalHostStatusTracker;
+import org.postgresql.util.HostSpec;
+
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.Closeable;
@@ -30,8 +33,12 @@ public class QueryExecutorCloseAction implements Closeable {
 
   private volatile @Nullable PGStream pgStream;
 
+  private final HostSpec hostSpec;
+
   public QueryExecutorCloseAction(PGStream pgStream) {
     this.pgStream = pgStream;
+    this.hostSpec = pgStream.getHostSpec();
+    GlobalHostStatusTracker.connectionOpened(hostSpec);
   }
 
   public boolean isClosed() {
@@ -45,6 +52,7 @@ public void abort() {
       // The connection has already been closed
       return;
     }
+    GlobalHostStatusTracker.connectionClosed(hostSpec);
     try {
       LOGGER.log(Level.FINEST, " FE=> close socket");
       pgStream.getSocket().close();
@@ -61,6 +69,7 @@ public void close() throws IOException {
       // The connection has already been closed
       return;
     }
+    GlobalHostStatusTracker.connectionClosed(hostSpec);
     sendCloseMessage(pgStream);
 
     // Technically speaking, this check should not be needed,
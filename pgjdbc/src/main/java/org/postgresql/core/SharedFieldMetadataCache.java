@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import org.postgresql.jdbc.FieldMetadata;
+import org.postgresql.util.Gettable;
+import org.postgresql.util.HostSpec;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * JVM-wide cache of the column metadata of result sets, keyed by table oid and column number, and
+ * shared by the connections to the same database of the same server when
+ * {@code sharedFieldMetadataCache} is enabled. A new connection finds the columns other
+ * connections have already looked up, so {@code ResultSet.getMetaData()} does not query
+ * {@code pg_attribute} again.
+ *
+ * <p>Column names, nullability and defaults change with DDL, so the cache is cleared when a
+ * connection observes {@code DROP} or {@code ALTER}, and a connection that finds a different server
+ * version replaces the cache. DDL executed outside of this JVM is not observed. When the cache
+ * grows over its limit, it is cleared and warmed again by the next lookups.</p>
+ *
+ * <p>Reads and writes do not lock.</p>
+ */
+public final class SharedFieldMetadataCache implements Gettable<FieldMetadata.Key, FieldMetadata> {
+  private static final ConcurrentMap<String, SharedFieldMetadataCache> SHARED =
+      new ConcurrentHashMap<>();
+
+  private final String serverVersion;
+  private final int maxEntries;
+  private final ConcurrentMap<FieldMetadata.Key, FieldMetadata> fields = new ConcurrentHashMap<>();
+
+  SharedFieldMetadataCache(String serverVersion, int maxEntries) {
+    this.serverVersion = serverVersion;
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * Returns the cache of the given database. The cache is replaced if it was populated with a
+   * different server version, for instance after an upgrade of the server.
+   *
+   * @param hostSpec the server
+   * @param database the database name
+   * @param serverVersion the server version reported by the server
+   * @param maxEntries the maximum number of columns the cache holds, used when it is created
+   * @return the shared cache
+   */
+  static SharedFieldMetadataCache getShared(HostSpec hostSpec, String database,
+      String serverVersion, int maxEntries) {
+    String key = hostSpec.getHost() + ':' + hostSpec.getPort() + '/' + database;
+    return SHARED.compute(key, (k, cache) ->
+        cache != null && cache.serverVersion.equals(serverVersion)
+            ? cache
+            : new SharedFieldMetadataCache(serverVersion, maxEntries));
+  }
+
+  /**
+   * Clears the caches of all the databases. {@code DROP DATABASE} calls this, as the name of the
+   * dropped database can be reused by a database with different tables.
+   */
+  static void invalidateAll() {
+    for (SharedFieldMetadataCache cache : SHARED.values()) {
+      cache.invalidate();
+    }
+  }
+
+  /**
+   * Clears the cache, so the connections look up the columns again.
+   */
+  public void invalidate() {
+    fields.clear();
+  }
+
+  @Override
+  public @Nullable FieldMetadata get(FieldMetadata.Key key) {
+    return fields.get(key);
+  }
+
+  /**
+   * Adds the columns looked up by a connection.
+   *
+   * @param metadata the columns
+   */
+  public void putAll(Map<FieldMetadata.Key, FieldMetadata> metadata) {
+    if (maxEntries <= 0) {
+      return;
+    }
+    if (fields.size() + metadata.size() > maxEntries) {
+      fields.clear();
+      if (metadata.size() > maxEntries) {
+        return;
+      }
+    }
+    fields.putAll(metadata);
+  }
+
+  @Override
+  public String toString() {
+    return "SharedFieldMetadataCache{serverVersion=" + serverVersion
+        + ", fields=" + fields.size() + '}';
+  }
+}
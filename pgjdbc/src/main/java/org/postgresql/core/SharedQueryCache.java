@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import org.postgresql.jdbc.EscapeSyntaxCallMode;
+import org.postgresql.util.CanEstimateSize;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JVM-wide cache of parsed SQL, shared by the connections with the same
+ * {@code sharedQueryCacheSizeMiB}. It stores the result of {@link Parser#parseJdbcSql}, which
+ * does not depend on the connection, so a new connection does not parse again the statements
+ * other connections already use. The server-prepared statements are still per connection, as
+ * {@link QueryExecutor#wrap(List)} creates new {@link Query} instances for every connection.
+ *
+ * <p>Reads do not lock. The entries are spread over shards which are bounded by size, and a
+ * shard that exceeds its size evicts entries with the CLOCK algorithm: recently read entries get
+ * a second chance. Only one thread evicts from a shard at a time, and the other threads do not
+ * wait for it.</p>
+ */
+final class SharedQueryCache {
+  private static final ConcurrentMap<Long, SharedQueryCache> SHARED = new ConcurrentHashMap<>();
+
+  private static final int SHARDS = 16;
+
+  private final Shard[] shards;
+  private final long maxSize;
+
+  SharedQueryCache(long maxSize) {
+    this.maxSize = maxSize;
+    shards = new Shard[SHARDS];
+    for (int i = 0; i < shards.length; i++) {
+      shards[i] = new Shard(maxSize / SHARDS);
+    }
+  }
+
+  /**
+   * Returns the cache shared by the connections that use the same size.
+   *
+   * @param maxSize the maximum estimated size of the cache in bytes
+   * @return the shared cache
+   */
+  static SharedQueryCache getShared(long maxSize) {
+    return SHARED.computeIfAbsent(maxSize, SharedQueryCache::new);
+  }
+
+  long getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Returns the estimated size of the cached entries in bytes.
+   *
+   * @return the estimated size of the cached entries in bytes
+   */
+  long getSize() {
+    long size = 0;
+    for (Shard shard : shards) {
+      size += shard.size.get();
+    }
+    return size;
+  }
+
+  @Nullable ParsedQuery get(Key key) {
+    return shard(key).get(key);
+  }
+
+  void put(Key key, ParsedQuery value) {
+    shard(key).put(key, value);
+  }
+
+  private Shard shard(Key key) {
+    int h = key.hashCode();
+    return shards[(h ^ (h >>> 16)) & (SHARDS - 1)];
+  }
+
+  /**
+   * Identifies a parse result: the cache key of the statement plus the connection settings that
+   * affect parsing.
+   */
+  static final class Key {
+    private final Object queryKey;
+    private final boolean standardConformingStrings;
+    private final boolean splitStatements;
+    private final boolean reWriteBatchedInserts;
+    private final boolean quoteReturningIdentifiers;
+    // Used only for callable statements
+    private final int serverVersionNum;
+    private final @Nullable EscapeSyntaxCallMode escapeSyntaxCallMode;
+    private final int hash;
+
+    Key(Object queryKey, boolean standardConformingStrings, boolean splitStatements,
+        boolean reWriteBatchedInserts, boolean quoteReturningIdentifiers, int serverVersionNum,
+        @Nullable EscapeSyntaxCallMode escapeSyntaxCallMode) {
+      this.queryKey = queryKey;
+      this.standardConformingStrings = standardConformingStrings;
+      this.splitStatements = splitStatements;
+      this.reWriteBatchedInserts = reWriteBatchedInserts;
+      this.quoteReturningIdentifiers = quoteReturningIdentifiers;
+      this.serverVersionNum = serverVersionNum;
+      this.escapeSyntaxCallMode = escapeSyntaxCallMode;
+      int hash = queryKey.hashCode();
+      hash = 31 * hash + (standardConformingStrings ? 1 : 0);
+      hash = 31 * hash + (splitStatements ? 1 : 0);
+      hash = 31 * hash + (reWriteBatchedInserts ? 1 : 0);
+      hash = 31 * hash + (quoteReturningIdentifiers ? 1 : 0);
+      hash = 31 * hash + serverVersionNum;
+      hash = 31 * hash + (escapeSyntaxCallMode == null ? 0 : escapeSyntaxCallMode.hashCode());
+      this.hash = hash;
+    }
+
+    long getSize() {
+      if (queryKey instanceof String) {
+        return 48 + ((String) queryKey).length() * 2L;
+      }
+      return 48 + ((CanEstimateSize) queryKey).getSize();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key that = (Key) o;
+      return hash == that.hash
+          && standardConformingStrings == that.standardConformingStrings
+          && splitStatements == that.splitStatements
+          && reWriteBatchedInserts == that.reWriteBatchedInserts
+          && quoteReturningIdentifiers == that.quoteReturningIdentifiers
+          && serverVersionNum == that.serverVersionNum
+          && escapeSyntaxCallMode == that.escapeSyntaxCallMode
+          && queryKey.equals(that.queryKey);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  /**
+   * The connection-independent part of a {@link CachedQuery}. {@link NativeQuery} is immutable,
+   * so the instances are shared by the connections.
+   */
+  static final class ParsedQuery {
+    final List<NativeQuery> queries;
+    final boolean isFunction;
+
+    ParsedQuery(List<NativeQuery> queries, boolean isFunction) {
+      this.queries = queries;
+      this.isFunction = isFunction;
+    }
+
+    long getSize() {
+      long size = 32;
+      for (NativeQuery query : queries) {
+        size += 64 + query.nativeSql.length() * 2L + query.bindPositions.length * 4L;
+      }
+      return size;
+    }
+  }
+
+  private static final class Entry {
+    final Key key;
+    final ParsedQuery value;
+    final long size;
+    volatile boolean referenced;
+
+    Entry(Key key, ParsedQuery value) {
+      this.key = key;
+      this.value = value;
+      this.size = key.getSize() + value.getSize();
+    }
+  }
+
+  private static final class Shard {
+    private final ConcurrentHashMap<Key, Entry> map = new ConcurrentHashMap<>();
+    private final AtomicLong size = new AtomicLong();
+    private final long maxSize;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    // The CLOCK hand, guarded by evictionLock
+    private @Nullable Iterator<Entry> hand;
+
+    Shard(long maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    @Nullable ParsedQuery get(Key key) {
+      Entry entry = map.get(key);
+      if (entry == null) {
+        return null;
+      }
+      if (!entry.referenced) {
+        // Avoid writing the shared cache line when the flag is already set
+        entry.referenced = true;
+      }
+      return entry.value;
+    }
+
+    void put(Key key, ParsedQuery value) {
+      Entry entry = new Entry(key, value);
+      if (entry.size > maxSize) {
+        return;
+      }
+      if (map.putIfAbsent(key, entry) != null) {
+        // Another connection parsed the same statement concurrently
+        return;
+      }
+      if (size.addAndGet(entry.size) > maxSize) {
+        evict();
+      }
+    }
+
+    private void evict() {
+      if (!evictionLock.tryLock()) {
+        // Another thread is evicting, it will bring the size down
+        return;
+      }
+      try {
+        // Each entry gets at most one second chance, so two rounds are enough
+        long steps = 2L * map.size() + 2;
+        while (size.get() > maxSize && steps-- > 0) {
+          Iterator<Entry> hand = this.hand;
+          if (hand == null || !hand.hasNext()) {
+            hand = map.values().iterator();
+            this.hand = hand;
+            if (!hand.hasNext()) {
+              return;
+            }
+          }
+          Entry entry = hand.next();
+          if (entry.referenced) {
+            entry.referenced = false;
+          } else if (map.remove(entry.key, entry)) {
+            size.addAndGet(-entry.size);
+          }
+        }
+      } finally {
+        evictionLock.unlock();
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "SharedQueryCache{maxSize=" + maxSize + ", size=" + getSize() + '}';
+  }
+}
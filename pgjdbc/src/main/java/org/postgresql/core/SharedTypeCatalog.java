@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import org.postgresql.util.HostSpec;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * JVM-wide catalog of type information, shared by the connections to the same database of the same
+ * server when {@code sharedTypeInfoCache} is enabled. A new connection finds the types other
+ * connections have already looked up, so it does not query {@code pg_type} again.
+ *
+ * <p>Only the information that does not depend on the {@code search_path} of the connection is
+ * shared: the properties of a type oid, and the oid of a schema-qualified type name. The
+ * properties of an oid do not change while the type exists. The names can change, so the catalog is
+ * cleared when a connection observes {@code DROP} or {@code ALTER}, and a connection that finds a
+ * different server version replaces the catalog. DDL executed outside of this JVM is not observed,
+ * so names may resolve to dropped types until the catalog is cleared.</p>
+ *
+ * <p>Reads and writes do not lock.</p>
+ */
+public final class SharedTypeCatalog {
+  private static final ConcurrentMap<String, SharedTypeCatalog> SHARED = new ConcurrentHashMap<>();
+
+  private final String serverVersion;
+
+  // type oid -> java.sql.Types
+  private final ConcurrentMap<Integer, Integer> oidToSQLType = new ConcurrentHashMap<>();
+  // array type oid -> element type oid
+  private final ConcurrentMap<Integer, Integer> arrayOidToElementOid = new ConcurrentHashMap<>();
+  // array type oid -> element delimiter
+  private final ConcurrentMap<Integer, Character> arrayOidToDelimiter = new ConcurrentHashMap<>();
+  // schema-qualified type name -> type oid
+  private final ConcurrentMap<String, Integer> qualifiedNameToOid = new ConcurrentHashMap<>();
+
+  SharedTypeCatalog(String serverVersion) {
+    this.serverVersion = serverVersion;
+  }
+
+  /**
+   * Returns the catalog of the given database. The catalog is replaced if it was populated with a
+   * different server version, for instance after an upgrade of the server.
+   *
+   * @param hostSpec the server
+   * @param database the database name
+   * @param serverVersion the server version reported by the server
+   * @return the shared catalog
+   */
+  static SharedTypeCatalog getShared(HostSpec hostSpec, String database, String serverVersion) {
+    String key = hostSpec.getHost() + ':' + hostSpec.getPort() + '/' + database;
+    return SHARED.compute(key, (k, catalog) ->
+        catalog != null && catalog.serverVersion.equals(serverVersion)
+            ? catalog
+            : new SharedTypeCatalog(serverVersion));
+  }
+
+  /**
+   * Clears the catalogs of all the databases. {@code DROP DATABASE} calls this, as the name of the
+   * dropped database can be reused by a database with different types.
+   */
+  static void invalidateAll() {
+    for (SharedTypeCatalog catalog : SHARED.values()) {
+      catalog.invalidate();
+    }
+  }
+
+  /**
+   * Clears the catalog, so the connections look up the types again.
+   */
+  public void invalidate() {
+    qualifiedNameToOid.clear();
+    oidToSQLType.clear();
+    arrayOidToElementOid.clear();
+    arrayOidToDelimiter.clear();
+  }
+
+  public @Nullable Integer getSQLType(int oid) {
+    return oidToSQLType.get(oid);
+  }
+
+  public void putSQLType(int oid, int sqlType) {
+    oidToSQLType.put(oid, sqlType);
+  }
+
+  public @Nullable Integer getArrayElement(int arrayOid) {
+    return arrayOidToElementOid.get(arrayOid);
+  }
+
+  public void putArrayElement(int arrayOid, int elementOid) {
+    arrayOidToElementOid.put(arrayOid, elementOid);
+  }
+
+  public @Nullable Character getArrayDelimiter(int arrayOid) {
+    return arrayOidToDelimiter.get(arrayOid);
+  }
+
+  public void putArrayDelimiter(int arrayOid, char delimiter) {
+    arrayOidToDelimiter.put(arrayOid, delimiter);
+  }
+
+  /**
+   * Returns the oid of a schema-qualified type name, as it was passed to
+   * {@link TypeInfo#getPGType(String)}.
+   *
+   * @param qualifiedName the schema-qualified type name
+   * @return the oid, or null if the name is not in the catalog
+   */
+  public @Nullable Integer getOid(String qualifiedName) {
+    return qualifiedNameToOid.get(qualifiedName);
+  }
+
+  public void putOid(String qualifiedName, int oid) {
+    qualifiedNameToOid.put(qualifiedName, oid);
+  }
+
+  @Override
+  public String toString() {
+    return "SharedTypeCatalog{serverVersion=" + serverVersion
+        + ", oids=" + oidToSQLType.size()
+        + ", names=" + qualifiedNameToOid.size() + '}';
+  }
+}
@@ -9,13 +9,34 @@
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.dataflow.qual.Pure;
 
+import java.util.Arrays;
+
 /**
  * Class representing a row in a {@link java.sql.ResultSet}.
+ *
+ * <p>Rows received from the backend keep the values of all the fields in a single backing buffer
+ * (see {@link #Tuple(byte[], int[])}), so receiving a row does not allocate an array per field.
+ * Use {@link #getBackingArray(int)}, {@link #getOffset(int)} and {@link #getLength(int)} to decode
+ * a value in place, {@link #get(int)} returns a copy of the value in that case.</p>
  */
 public class Tuple {
+  private static final byte[] @Nullable [] NO_DATA = new byte[0][];
+
   private final boolean forUpdate;
   final byte[] @Nullable [] data;
 
+  /**
+   * Values of all the fields, one after another, or {@code null} if the values are kept in
+   * {@link #data}.
+   */
+  private final byte @Nullable [] buffer;
+
+  /**
+   * Offset and length of each field value in {@link #buffer}: {@code bounds[2 * i]} is the offset
+   * and {@code bounds[2 * i + 1]} is the length of field {@code i}, or {@code -1} for null values.
+   */
+  private final int @Nullable [] bounds;
+
   /**
    * Construct an empty tuple. Used in updatable result sets.
    * @param length the number of fields in the tuple.
@@ -32,9 +53,26 @@ public Tuple(byte[] @Nullable [] data) {
     this(data, false);
   }
 
+  /**
+   * Construct a populated tuple backed by a single buffer. Used when receiving rows from the
+   * backend.
+   * @param buffer values of all the fields, one after another
+   * @param bounds offset and length of each field in the buffer: {@code bounds[2 * i]} is the
+   *     offset and {@code bounds[2 * i + 1]} is the length of field {@code i}, or {@code -1} if the
+   *     value is null
+   */
+  public Tuple(byte[] buffer, int[] bounds) {
+    this.data = NO_DATA;
+    this.forUpdate = false;
+    this.buffer = buffer;
+    this.bounds = bounds;
+  }
+
   private Tuple(byte[] @Nullable [] data, boolean forUpdate) {
     this.data = data;
     this.forUpdate = forUpdate;
+    this.buffer = null;
+    this.bounds = null;
   }
 
   /**
@@ -42,6 +80,10 @@ private Tuple(byte[] @Nullable [] data, boolean forUpdate) {
    * @return number of fields
    */
   public @NonNegative int fieldCount() {
+    int[] bounds = this.bounds;
+    if (bounds != null) {
+      return bounds.length / 2;
+    }
     return data.length;
   }
 
@@ -50,6 +92,10 @@ private Tuple(byte[] @Nullable [] data, boolean forUpdate) {
    * @return the number of bytes in this tuple
    */
   public @NonNegative int length() {
+    byte[] buffer = this.buffer;
+    if (buffer != null) {
+      return buffer.length;
+    }
     int length = 0;
     for (byte[] field : data) {
       if (field != null) {
@@ -60,13 +106,86 @@ private Tuple(byte[] @Nullable [] data, boolean forUpdate) {
   }
 
   /**
-   * Get the data for the given field
+   * Get the data for the given field. If the tuple is backed by a single buffer, the method
+   * allocates and returns a copy of the value on every call, so keep it off hot paths: decode the
+   * value in place via {@link #getBackingArray(int)}, {@link #getOffset(int)} and
+   * {@link #getLength(int)} instead.
    * @param index 0-based field position in the tuple
    * @return byte array of the data
    */
   @Pure
   public byte @Nullable [] get(@NonNegative int index) {
-    return data[index];
+    byte[] buffer = this.buffer;
+    int[] bounds = this.bounds;
+    if (buffer == null || bounds == null) {
+      return data[index];
+    }
+    int length = bounds[2 * index + 1];
+    if (length == -1) {
+      return null;
+    }
+    int offset = bounds[2 * index];
+    return Arrays.copyOfRange(buffer, offset, offset + length);
+  }
+
+  /**
+   * Returns true if the value of the given field is null.
+   * @param index 0-based field position in the tuple
+   * @return true if the value is null
+   */
+  @Pure
+  public boolean isNull(@NonNegative int index) {
+    int[] bounds = this.bounds;
+    if (bounds != null) {
+      return bounds[2 * index + 1] == -1;
+    }
+    return data[index] == null;
+  }
+
+  /**
+   * Returns the array that holds the value of the given field without copying it. The value starts
+   * at {@link #getOffset(int)} and spans {@link #getLength(int)} bytes. The caller must not modify
+   * the returned array.
+   * @param index 0-based field position in the tuple
+   * @return the array that holds the value, or null if the value is null
+   */
+  @Pure
+  public byte @Nullable [] getBackingArray(@NonNegative int index) {
+    byte[] buffer = this.buffer;
+    int[] bounds = this.bounds;
+    if (buffer == null || bounds == null) {
+      return data[index];
+    }
+    return bounds[2 * index + 1] == -1 ? null : buffer;
+  }
+
+  /**
+   * Returns the offset of the value in the array returned by {@link #getBackingArray(int)}.
+   * @param index 0-based field position in the tuple
+   * @return the offset of the value
+   */
+  @Pure
+  public @NonNegative int getOffset(@NonNegative int index) {
+    int[] bounds = this.bounds;
+    if (bounds != null) {
+      return bounds[2 * index];
+    }
+    return 0;
+  }
+
+  /**
+   * Returns the length of the value in bytes.
+   * @param index 0-based field position in the tuple
+   * @return the length of the value, or -1 if the value is null
+   */
+  @Pure
+  public int getLength(@NonNegative int index) {
+    int[] bounds = this.bounds;
+    if (bounds != null) {
+      return bounds[2 * index + 1];
+    }
+    byte[] value = data[index];
+    return value == null ? -1 : value.length;
   }
 
   /**
@@ -86,6 +205,18 @@ public Tuple readOnlyCopy() {
   }
 
   private Tuple copy(boolean forUpdate) {
+    if (buffer != null) {
+      if (!forUpdate) {
+        // The backing buffer is never modified, so it can be shared
+        return this;
+      }
+      int fieldCount = fieldCount();
+      byte[][] dataCopy = new byte[fieldCount][];
+      for (int i = 0; i < fieldCount; i++) {
+        dataCopy[i] = get(i);
+      }
+      return new Tuple(dataCopy, true);
+    }
     byte[][] dataCopy = new byte[data.length][];
     System.arraycopy(data, 0, dataCopy, 0, data.length);
     return new Tuple(dataCopy, forUpdate);
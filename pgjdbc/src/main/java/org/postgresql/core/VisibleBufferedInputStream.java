@@ -32,13 +32,26 @@ public class VisibleBufferedInputStream extends InputStream {
    */
   private static final int STRING_SCAN_SPAN = 1024;
 
+  private static final byte[] EMPTY_BUFFER = new byte[0];
+
   /**
    * The wrapped input stream.
    */
   private final InputStream wrapped;
 
   /**
-   * The buffer.
+   * Supplies the buffer.
+   */
+  private final BufferAllocator allocator;
+
+  /**
+   * The size of the buffer to request from the allocator.
+   */
+  private final int initialBufferSize;
+
+  /**
+   * The buffer. It is empty after {@link #releaseBuffer()}, and it is requested from the allocator
+   * on the next read.
    */
   private byte[] buffer;
 
@@ -64,8 +77,21 @@ public class VisibleBufferedInputStream extends InputStream {
    * @param bufferSize The initial size of the buffer.
    */
   public VisibleBufferedInputStream(InputStream in, int bufferSize) {
+    this(in, bufferSize, BufferAllocator.HEAP);
+  }
+
+  /**
+   * Creates a new buffer around the given stream.
+   *
+   * @param in The stream to buffer.
+   * @param bufferSize The initial size of the buffer.
+   * @param allocator The allocator for the buffer.
+   */
+  public VisibleBufferedInputStream(InputStream in, int bufferSize, BufferAllocator allocator) {
     wrapped = in;
-    buffer = new byte[bufferSize < MINIMUM_READ ? MINIMUM_READ : bufferSize];
+    this.allocator = allocator;
+    initialBufferSize = bufferSize < MINIMUM_READ ? MINIMUM_READ : bufferSize;
+    buffer = allocator.allocate(initialBufferSize);
   }
 
   /**
@@ -176,6 +202,9 @@ private boolean readMore(int wanted, boolean block) throws IOException {
       index = 0;
       endIndex = 0;
     }
+    if (buffer.length == 0) {
+      buffer = allocator.allocate(Math.max(initialBufferSize, wanted));
+    }
     int canFit = buffer.length - endIndex;
     if (canFit < wanted) {
       // would the wanted bytes fit if we compacted the buffer
@@ -212,8 +241,9 @@ private boolean readMore(int wanted, boolean block) throws IOException {
    * Doubles the size of the buffer.
    */
   private void doubleBuffer() {
-    byte[] buf = new byte[buffer.length * 2];
+    byte[] buf = allocator.allocate(buffer.length * 2);
     moveBufferTo(buf);
+    allocator.release(buffer);
     buffer = buf;
   }
 
@@ -371,6 +401,25 @@ public int scanCStringLength() throws IOException {
     }
   }
 
+  /**
+   * Returns the buffer to the allocator if it does not contain unread bytes. The next read
+   * requests a new buffer from the allocator. The caller must ensure no other thread is reading
+   * from the stream.
+   *
+   * @return true if the buffer was released
+   */
+  public boolean releaseBuffer() {
+    if (index != endIndex || buffer.length == 0) {
+      return false;
+    }
+    byte[] buffer = this.buffer;
+    this.buffer = EMPTY_BUFFER;
+    index = 0;
+    endIndex = 0;
+    allocator.release(buffer);
+    return true;
+  }
+
   public void setTimeoutRequested(boolean timeoutRequested) {
     this.timeoutRequested = timeoutRequested;
   }
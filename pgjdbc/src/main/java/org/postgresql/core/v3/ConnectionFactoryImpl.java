@@ -10,7 +10,11 @@
 
 import org.postgresql.PGProperty;
 import org.postgresql.core.AuthMethod;
+import org.postgresql.core.BufferAllocator;
+import org.postgresql.core.BufferAllocatorFactory;
 import org.postgresql.core.ConnectionFactory;
+import org.postgresql.core.DriverMetrics;
+import org.postgresql.core.DriverMetricsFactory;
 import org.postgresql.core.PGStream;
 import org.postgresql.core.PgMessageType;
 import org.postgresql.core.ProtocolVersion;
@@ -140,11 +144,12 @@ private static ISSPIClient createSSPI(PGStream pgStream,
    */
   private PGStream tryConnectWithoutSsl(Properties info, SocketFactory socketFactory,
       HostSpec hostSpec, GSSEncMode gssEncMode, int connectTimeoutMs, long startNanos,
-      Exception originalException)
+      DriverMetrics driverMetrics, Exception originalException)
       throws SQLException, IOException {
     try {
       PGStream stream =
-          tryConnect(info, socketFactory, hostSpec, SslMode.DISABLE, gssEncMode, connectTimeoutMs, startNanos);
+          tryConnect(info, socketFactory, hostSpec, SslMode.DISABLE, gssEncMode, connectTimeoutMs,
+              startNanos, driverMetrics);
       LOGGER.log(Level.FINE, "Downgraded to non-encrypted connection for host {0}",
           hostSpec);
       return stream;
@@ -165,11 +170,12 @@ private PGStream tryConnectWithoutSsl(Properties info, SocketFactory socketFacto
    */
   private PGStream tryConnectWithSsl(Properties info, SocketFactory socketFactory,
       HostSpec hostSpec, GSSEncMode gssEncMode, int connectTimeoutMs, long startNanos,
-      Exception originalException)
+      DriverMetrics driverMetrics, Exception originalException)
       throws SQLException, IOException {
     try {
       PGStream stream =
-          tryConnect(info, socketFactory, hostSpec, SslMode.REQUIRE, gssEncMode, connectTimeoutMs, startNanos);
+          tryConnect(info, socketFactory, hostSpec, SslMode.REQUIRE, gssEncMode, connectTimeoutMs,
+              startNanos, driverMetrics);
       LOGGER.log(Level.FINE, "Upgraded to encrypted connection for host {0}",
           hostSpec);
       return stream;
@@ -203,7 +209,8 @@ private static int remainingConnectTimeout(int connectTimeoutMs, long startNanos
   }
 
   private PGStream tryConnect(Properties info, SocketFactory socketFactory, HostSpec hostSpec,
-      SslMode sslMode, GSSEncMode gssEncMode, int connectTimeoutMs, long startNanos)
+      SslMode sslMode, GSSEncMode gssEncMode, int connectTimeoutMs, long startNanos,
+      DriverMetrics driverMetrics)
       throws SQLException, IOException {
     int connectTimeout = remainingConnectTimeout(connectTimeoutMs, startNanos);
     String user = PGProperty.USER.getOrDefault(info);
@@ -218,7 +225,9 @@ private PGStream tryConnect(Properties info, SocketFactory socketFactory, HostSp
     }
 
     int maxSendBufferSize = PGProperty.MAX_SEND_BUFFER_SIZE.getInt(info);
-    PGStream newStream = new PGStream(socketFactory, hostSpec, connectTimeout, maxSendBufferSize);
+    BufferAllocator bufferAllocator = BufferAllocatorFactory.getBufferAllocator(info);
+    PGStream newStream = new PGStream(socketFactory, hostSpec, connectTimeout, maxSendBufferSize,
+        bufferAllocator, driverMetrics);
     try {
       // Set the socket timeout if the "socketTimeout" property has been set.
       int socketTimeout = PGProperty.SOCKET_TIMEOUT.getInt(info);
@@ -315,6 +324,45 @@ private PGStream tryConnect(Properties info, SocketFactory socketFactory, HostSp
     }
   }
 
+  /**
+   * Connects with the given {@code sslMode}, and retries without or with SSL if the
+   * {@code sslMode} allows it and the first attempt fails.
+   */
+  private PGStream tryConnectWithFallback(Properties info, SocketFactory socketFactory,
+      HostSpec hostSpec, SslMode sslMode, GSSEncMode gssEncMode, int connectTimeoutMs,
+      long startNanos, DriverMetrics driverMetrics)
+      throws SQLException, IOException {
+    try {
+      return tryConnect(info, socketFactory, hostSpec, sslMode, gssEncMode,
+          connectTimeoutMs, startNanos, driverMetrics);
+    } catch (SQLException e) {
+      if (sslMode == SslMode.PREFER
+          && PSQLState.INVALID_AUTHORIZATION_SPECIFICATION.getState().equals(e.getSQLState())) {
+        return tryConnectWithoutSsl(info, socketFactory, hostSpec, gssEncMode,
+            connectTimeoutMs, startNanos, driverMetrics, e);
+      } else if (sslMode == SslMode.ALLOW
+          && PSQLState.INVALID_AUTHORIZATION_SPECIFICATION.getState().equals(e.getSQLState())) {
+        return tryConnectWithSsl(info, socketFactory, hostSpec, gssEncMode,
+            connectTimeoutMs, startNanos, driverMetrics, e);
+      }
+      throw e;
+    } catch (IOException e) {
+      if (sslMode == SslMode.PREFER && e instanceof SocketTimeoutException) {
+        // SSL negotiation timed out (server didn't respond to SSLRequest).
+        // Since sslMode is PREFER, fall back to a non-encrypted connection.
+        return tryConnectWithoutSsl(info, socketFactory, hostSpec, gssEncMode,
+            connectTimeoutMs, startNanos, driverMetrics, e);
+      } else if (sslMode == SslMode.ALLOW) {
+        // Plaintext connection failed (e.g. server reset the connection
+        // instead of sending a FATAL auth error). Since sslMode is ALLOW,
+        // try upgrading to SSL.
+        return tryConnectWithSsl(info, socketFactory, hostSpec, gssEncMode,
+            connectTimeoutMs, startNanos, driverMetrics, e);
+      }
+      throw e;
+    }
+  }
+
   @Override
   public QueryExecutor openConnectionImpl(HostSpec[] hostSpecs, Properties info) throws SQLException {
     SslMode sslMode = SslMode.of(info);
@@ -337,6 +385,12 @@ public QueryExecutor openConnectionImpl(HostSpec[] hostSpecs, Properties info) t
 
     HostChooser hostChooser =
         HostChooserFactory.createHostChooser(hostSpecs, targetServerType, info);
+    int parallelConnectDelay = PGProperty.PARALLEL_CONNECT_DELAY.getInt(info);
+    if (parallelConnectDelay > 0) {
+      return openConnectionInParallel(hostChooser, targetServerType, info, socketFactory,
+          sslMode, gssEncMode, connectTimeoutMs, startNanos, parallelConnectDelay);
+    }
+    DriverMetrics driverMetrics = DriverMetricsFactory.getDriverMetrics(info);
     Iterator<CandidateHost> hostIter = hostChooser.iterator();
     Map<HostSpec, HostStatus> knownStates = new HashMap<>();
     while (hostIter.hasNext()) {
@@ -362,33 +416,10 @@ public QueryExecutor openConnectionImpl(HostSpec[] hostSpecs, Properties info) t
       //
 
       PGStream newStream = null;
+      long attemptStartNanos = System.nanoTime();
       try {
-        try {
-          newStream = tryConnect(info, socketFactory, hostSpec, sslMode, gssEncMode, connectTimeoutMs, startNanos);
-        } catch (SQLException e) {
-          if (sslMode == SslMode.PREFER
-              && PSQLState.INVALID_AUTHORIZATION_SPECIFICATION.getState().equals(e.getSQLState())) {
-            newStream = tryConnectWithoutSsl(info, socketFactory, hostSpec, gssEncMode, connectTimeoutMs, startNanos, e);
-          } else if (sslMode == SslMode.ALLOW
-              && PSQLState.INVALID_AUTHORIZATION_SPECIFICATION.getState().equals(e.getSQLState())) {
-            newStream = tryConnectWithSsl(info, socketFactory, hostSpec, gssEncMode, connectTimeoutMs, startNanos, e);
-          } else {
-            throw e;
-          }
-        } catch (IOException e) {
-          if (sslMode == SslMode.PREFER && e instanceof SocketTimeoutException) {
-            // SSL negotiation timed out (server didn't respond to SSLRequest).
-            // Since sslMode is PREFER, fall back to a non-encrypted connection.
-            newStream = tryConnectWithoutSsl(info, socketFactory, hostSpec, gssEncMode, connectTimeoutMs, startNanos, e);
-          } else if (sslMode == SslMode.ALLOW) {
-            // Plaintext connection failed (e.g. server reset the connection
-            // instead of sending a FATAL auth error). Since sslMode is ALLOW,
-            // try upgrading to SSL.
-            newStream = tryConnectWithSsl(info, socketFactory, hostSpec, gssEncMode, connectTimeoutMs, startNanos, e);
-          } else {
-            throw e;
-          }
-        }
+        newStream = tryConnectWithFallback(info, socketFactory, hostSpec, sslMode, gssEncMode,
+            connectTimeoutMs, startNanos, driverMetrics);
 
         int cancelSignalTimeout = PGProperty.CANCEL_SIGNAL_TIMEOUT.getInt(info) * 1000;
 
@@ -412,11 +443,15 @@ public QueryExecutor openConnectionImpl(HostSpec[] hostSpecs, Properties info) t
         runInitialQueries(queryExecutor, info);
 
         // And we're done.
+        long connectNanos = System.nanoTime() - attemptStartNanos;
+        GlobalHostStatusTracker.reportLatency(hostSpec, connectNanos);
+        driverMetrics.connectionOpened(hostSpec, connectNanos);
         return queryExecutor;
       } catch (ConnectException cex) {
         // Added by Peter Mount <peter@retep.org.uk>
         // ConnectException is thrown when the connection cannot be made.
         // we trap this an return a more meaningful message for the end user
+        driverMetrics.connectionFailed(hostSpec, System.nanoTime() - attemptStartNanos, cex);
         GlobalHostStatusTracker.reportHostStatus(hostSpec, HostStatus.ConnectFail);
         knownStates.put(hostSpec, HostStatus.ConnectFail);
         if (hostIter.hasNext()) {
@@ -429,6 +464,7 @@ public QueryExecutor openConnectionImpl(HostSpec[] hostSpecs, Properties info) t
             hostSpec), PSQLState.CONNECTION_UNABLE_TO_CONNECT, cex);
       } catch (IOException ioe) {
         closeStream(newStream, ioe);
+        driverMetrics.connectionFailed(hostSpec, System.nanoTime() - attemptStartNanos, ioe);
         GlobalHostStatusTracker.reportHostStatus(hostSpec, HostStatus.ConnectFail);
         knownStates.put(hostSpec, HostStatus.ConnectFail);
         if (hostIter.hasNext()) {
@@ -440,6 +476,7 @@ public QueryExecutor openConnectionImpl(HostSpec[] hostSpecs, Properties info) t
             PSQLState.CONNECTION_UNABLE_TO_CONNECT, ioe);
       } catch (SQLException se) {
         closeStream(newStream, se);
+        driverMetrics.connectionFailed(hostSpec, System.nanoTime() - attemptStartNanos, se);
         GlobalHostStatusTracker.reportHostStatus(hostSpec, HostStatus.ConnectFail);
         knownStates.put(hostSpec, HostStatus.ConnectFail);
         if (hostIter.hasNext()) {
@@ -455,6 +492,58 @@ public QueryExecutor openConnectionImpl(HostSpec[] hostSpecs, Properties info) t
         PSQLState.CONNECTION_UNABLE_TO_CONNECT);
   }
 
+  /**
+   * Races the connection attempts to the candidate hosts, see {@link ConnectionRace}.
+   */
+  private QueryExecutor openConnectionInParallel(HostChooser hostChooser,
+      HostRequirement targetServerType, Properties info, SocketFactory socketFactory,
+      SslMode sslMode, GSSEncMode gssEncMode, int connectTimeoutMs, long startNanos,
+      int parallelConnectDelay) throws SQLException {
+    List<CandidateHost> candidates = new ArrayList<>();
+    for (CandidateHost candidateHost : hostChooser) {
+      candidates.add(candidateHost);
+    }
+    int cancelSignalTimeout = PGProperty.CANCEL_SIGNAL_TIMEOUT.getInt(info) * 1000;
+
+    ConnectionRace race = new ConnectionRace(candidates, socketFactory, parallelConnectDelay, info,
+        new ConnectionRace.Connector() {
+          @Override
+          public QueryExecutor connect(HostSpec hostSpec, SocketFactory socketFactory,
+              DriverMetrics driverMetrics) throws SQLException, IOException {
+            PGStream newStream = tryConnectWithFallback(info, socketFactory, hostSpec, sslMode,
+                gssEncMode, connectTimeoutMs, startNanos, driverMetrics);
+            try {
+              return new QueryExecutorImpl(newStream, cancelSignalTimeout, info);
+            } catch (SQLException | IOException | RuntimeException e) {
+              closeStream(newStream, e);
+              throw e;
+            }
+          }
+
+          @Override
+          public HostStatus getHostStatus(QueryExecutor queryExecutor,
+              HostRequirement requirement) throws SQLException, IOException {
+            if (requirement == HostRequirement.any) {
+              return HostStatus.ConnectOK;
+            }
+            return isPrimary(queryExecutor) ? HostStatus.Primary : HostStatus.Secondary;
+          }
+        });
+    QueryExecutor queryExecutor = race.connect();
+    if (queryExecutor == null) {
+      throw new PSQLException(GT
+          .tr("Could not find a server with specified targetServerType: {0}", targetServerType),
+          PSQLState.CONNECTION_UNABLE_TO_CONNECT);
+    }
+    try {
+      runInitialQueries(queryExecutor, info);
+    } catch (SQLException | RuntimeException e) {
+      queryExecutor.close();
+      throw e;
+    }
+    return queryExecutor;
+  }
+
   private static List<StartupParam> getParametersForStartup(String user, String database, Properties info) {
     List<StartupParam> paramList = new ArrayList<>();
     paramList.add(new StartupParam("user", user));
@@ -601,7 +690,7 @@ private static PGStream enableGSSEncrypted(PGStream pgStream, GSSEncMode gssEncM
         pgStream.close();
         int maxSendBufferSize = PGProperty.MAX_SEND_BUFFER_SIZE.getInt(info);
         return new PGStream(pgStream.getSocketFactory(), pgStream.getHostSpec(), connectTimeout,
-            maxSendBufferSize);
+            maxSendBufferSize, pgStream.getBufferAllocator(), pgStream.getDriverMetrics());
 
       case 'N':
         LOGGER.log(Level.FINEST, " <=BE GSSEncrypted Refused");
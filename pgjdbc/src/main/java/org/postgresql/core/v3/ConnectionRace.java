@@ -0,0 +1,493 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core.v3;
+
+import static org.postgresql.util.internal.Nullness.castNonNull;
+
+import org.postgresql.core.DriverMetrics;
+import org.postgresql.core.DriverMetricsFactory;
+import org.postgresql.core.QueryExecutor;
+import org.postgresql.hostchooser.CandidateHost;
+import org.postgresql.hostchooser.GlobalHostStatusTracker;
+import org.postgresql.hostchooser.HostRequirement;
+import org.postgresql.hostchooser.HostStatus;
+import org.postgresql.jdbc.ResourceLock;
+import org.postgresql.util.GT;
+import org.postgresql.util.HostSpec;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import javax.net.SocketFactory;
+
+/**
+ * Races the connection attempts to the candidate hosts, and to the addresses of every host, in the
+ * spirit of "Happy Eyeballs" (RFC 8305). The attempts start in the order of the candidates with
+ * {@code parallelConnectDelay} between them, and the next attempt starts right away when an
+ * attempt fails. The first connection to a server that satisfies the requirement of its host wins.
+ * The other attempts are cancelled by closing their sockets, and the connections they have
+ * already established are closed.
+ *
+ * <p>A connection that satisfies only a later requirement of its host, for instance a connection
+ * to a primary with {@code targetServerType=preferSecondary}, is kept until all the attempts
+ * complete, and it is used when no attempt satisfies the preferred requirement.</p>
+ */
+final class ConnectionRace {
+  private static final Logger LOGGER = Logger.getLogger(ConnectionRace.class.getName());
+
+  /**
+   * Establishes the connections of the race. The methods are called from the threads of the
+   * attempts.
+   */
+  interface Connector {
+    /**
+     * Connects to the host, including the authentication and the startup of the session.
+     *
+     * @param hostSpec the host, possibly with the address to connect to
+     * @param socketFactory the factory for the sockets of the attempt
+     * @param driverMetrics the metrics of the connection
+     * @return the established connection
+     * @throws SQLException if the server rejects the connection
+     * @throws IOException if the connection fails
+     */
+    QueryExecutor connect(HostSpec hostSpec, SocketFactory socketFactory,
+        DriverMetrics driverMetrics) throws SQLException, IOException;
+
+    /**
+     * Determines the status of the server the connection is established to.
+     *
+     * @param queryExecutor the established connection
+     * @param requirement the requirement of the host
+     * @return the status of the server
+     * @throws SQLException if the status query fails
+     * @throws IOException if the connection fails
+     */
+    HostStatus getHostStatus(QueryExecutor queryExecutor, HostRequirement requirement)
+        throws SQLException, IOException;
+  }
+
+  private final List<CandidateHost> candidates;
+  private final SocketFactory socketFactory;
+  private final long delayNanos;
+  private final Properties info;
+  private final Connector connector;
+  private final BlockingQueue<Attempt> completed = new LinkedBlockingQueue<>();
+
+  ConnectionRace(List<CandidateHost> candidates, SocketFactory socketFactory, int delayMillis,
+      Properties info, Connector connector) {
+    this.candidates = candidates;
+    this.socketFactory = socketFactory;
+    this.delayNanos = TimeUnit.MILLISECONDS.toNanos(delayMillis);
+    this.info = info;
+    this.connector = connector;
+  }
+
+  /**
+   * Runs the race.
+   *
+   * @return the winning connection, or null if all the servers were reachable, but none of them
+   *     satisfied the requirements
+   * @throws SQLException if the last attempt to complete failed
+   */
+  @Nullable QueryExecutor connect() throws SQLException {
+    List<Attempt> attempts = createAttempts();
+    Map<HostSpec, Integer> pendingAttempts = new HashMap<>();
+    for (Attempt attempt : attempts) {
+      Integer pending = pendingAttempts.get(attempt.hostSpec);
+      pendingAttempts.put(attempt.hostSpec, pending == null ? 1 : pending + 1);
+    }
+
+    Attempt winner = null;
+    Attempt fallback = null;
+    int fallbackRank = Integer.MAX_VALUE;
+    Attempt lastFailed = null;
+    List<Throwable> failures = new ArrayList<>();
+    int started = 0;
+    int running = 0;
+    long nextStartNanos = System.nanoTime();
+    try {
+      while (started < attempts.size() || running > 0) {
+        if (started < attempts.size()
+            && (running == 0 || System.nanoTime() - nextStartNanos >= 0)) {
+          attempts.get(started++).start();
+          running++;
+          nextStartNanos = System.nanoTime() + delayNanos;
+          continue;
+        }
+        Attempt attempt;
+        if (started < attempts.size()) {
+          attempt = completed.poll(nextStartNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+          if (attempt == null) {
+            continue;
+          }
+        } else {
+          attempt = completed.take();
+        }
+        running--;
+
+        HostSpec hostSpec = attempt.hostSpec;
+        HostStatus hostStatus = attempt.hostStatus;
+        if (attempt.queryExecutor == null || hostStatus == null) {
+          Throwable failure = castNonNull(attempt.failure);
+          log(Level.FINE, "Connection attempt to {0} failed", failure, attempt.hostSpec);
+          failures.add(failure);
+          lastFailed = attempt;
+          int pending = castNonNull(pendingAttempts.get(hostSpec)) - 1;
+          pendingAttempts.put(hostSpec, pending);
+          if (pending == 0) {
+            GlobalHostStatusTracker.reportHostStatus(hostSpec, HostStatus.ConnectFail);
+          }
+          // Do not wait for the delay when an attempt fails
+          nextStartNanos = System.nanoTime();
+          continue;
+        }
+
+        lastFailed = null;
+        // The host is reachable, so the failures of its other addresses do not matter
+        pendingAttempts.put(hostSpec, Integer.MAX_VALUE);
+        GlobalHostStatusTracker.reportHostStatus(hostSpec, hostStatus);
+        GlobalHostStatusTracker.reportLatency(hostSpec, attempt.durationNanos);
+        int rank = rank(hostSpec, hostStatus);
+        if (rank == attempt.firstRank) {
+          winner = attempt;
+          break;
+        }
+        if (rank >= 0 && rank < fallbackRank) {
+          if (fallback != null) {
+            fallback.cancel();
+          }
+          fallback = attempt;
+          fallbackRank = rank;
+        } else {
+          if (LOGGER.isLoggable(Level.FINER)) {
+            LOGGER.log(Level.FINER, "Status of host {0} is {1}, which does not satisfy {2}",
+                new Object[]{hostSpec, hostStatus, attempt.requirement});
+          }
+          attempt.cancel();
+        }
+      }
+      if (winner == null) {
+        winner = fallback;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PSQLException(GT.tr("Interrupted while attempting to connect."),
+          PSQLState.CONNECTION_UNABLE_TO_CONNECT, e);
+    } finally {
+      for (Attempt attempt : attempts) {
+        if (attempt != winner) {
+          attempt.cancel();
+        }
+      }
+    }
+
+    if (winner != null) {
+      winner.socketFactory.release();
+      winner.driverMetrics.connectionOpened(winner.hostSpec, winner.durationNanos);
+      return winner.queryExecutor;
+    }
+    if (lastFailed == null) {
+      return null;
+    }
+    SQLException exception = toSQLException(lastFailed);
+    for (Throwable failure : failures) {
+      if (failure != lastFailed.failure) {
+        exception.addSuppressed(failure);
+      }
+    }
+    throw exception;
+  }
+
+  /**
+   * Creates an attempt for every address of every host, in the order of the candidates. The
+   * addresses of a host alternate between IPv6 and IPv4, starting with the family of the first
+   * address the resolver returns.
+   */
+  private List<Attempt> createAttempts() throws SQLException {
+    List<Attempt> attempts = new ArrayList<>();
+    List<HostSpec> hosts = new ArrayList<>();
+    for (int i = 0; i < candidates.size(); i++) {
+      CandidateHost candidate = candidates.get(i);
+      if (hosts.contains(candidate.hostSpec)) {
+        continue;
+      }
+      hosts.add(candidate.hostSpec);
+      for (HostSpec hostSpec : resolve(candidate.hostSpec)) {
+        attempts.add(new Attempt(hostSpec, candidate.targetServerType, i,
+            DriverMetricsFactory.getDriverMetrics(info)));
+      }
+    }
+    return attempts;
+  }
+
+  private static List<HostSpec> resolve(HostSpec hostSpec) {
+    if (hostSpec.getAddress() != null || !hostSpec.shouldResolve()) {
+      return Collections.singletonList(hostSpec);
+    }
+    InetAddress[] addresses;
+    try {
+      addresses = InetAddress.getAllByName(hostSpec.getHost());
+    } catch (UnknownHostException e) {
+      // Let the attempt report the failure
+      return Collections.singletonList(hostSpec);
+    }
+    if (addresses.length <= 1) {
+      return Collections.singletonList(hostSpec);
+    }
+    List<InetAddress> first = new ArrayList<>();
+    List<InetAddress> second = new ArrayList<>();
+    boolean firstIsIpv6 = addresses[0] instanceof Inet6Address;
+    for (InetAddress address : addresses) {
+      if (address instanceof Inet6Address == firstIsIpv6) {
+        first.add(address);
+      } else {
+        second.add(address);
+      }
+    }
+    List<HostSpec> hostSpecs = new ArrayList<>(addresses.length);
+    for (int i = 0; i < Math.max(first.size(), second.size()); i++) {
+      if (i < first.size()) {
+        hostSpecs.add(withAddress(hostSpec, first.get(i)));
+      }
+      if (i < second.size()) {
+        hostSpecs.add(withAddress(hostSpec, second.get(i)));
+      }
+    }
+    return hostSpecs;
+  }
+
+  private static HostSpec withAddress(HostSpec hostSpec, InetAddress address) {
+    return new HostSpec(hostSpec.getHost(), hostSpec.getPort(), hostSpec.getLocalSocketAddress(),
+        address);
+  }
+
+  /**
+   * Returns the position of the first candidate the status of the host satisfies, or -1.
+   */
+  private int rank(HostSpec hostSpec, HostStatus hostStatus) {
+    for (int i = 0; i < candidates.size(); i++) {
+      CandidateHost candidate = candidates.get(i);
+      if (candidate.hostSpec.equals(hostSpec)
+          && candidate.targetServerType.allowConnectingTo(hostStatus)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static SQLException toSQLException(Attempt attempt) {
+    Throwable failure = castNonNull(attempt.failure);
+    if (failure instanceof SQLException) {
+      return (SQLException) failure;
+    }
+    if (failure instanceof ConnectException) {
+      return new PSQLException(GT.tr(
+          "Connection to {0} refused. Check that the hostname and port are correct and that the postmaster is accepting TCP/IP connections.",
+          attempt.hostSpec), PSQLState.CONNECTION_UNABLE_TO_CONNECT, failure);
+    }
+    return new PSQLException(GT.tr("The connection attempt failed."),
+        PSQLState.CONNECTION_UNABLE_TO_CONNECT, failure);
+  }
+
+  private static void log(Level level, String msg, Throwable thrown, Object... params) {
+    if (!LOGGER.isLoggable(level)) {
+      return;
+    }
+    LogRecord rec = new LogRecord(level, msg);
+    rec.setLoggerName(LOGGER.getName());
+    rec.setParameters(params);
+    rec.setThrown(thrown);
+    LOGGER.log(rec);
+  }
+
+  /**
+   * Connection attempt to one address of a host, which runs in its own thread.
+   */
+  private final class Attempt implements Runnable {
+    final HostSpec hostSpec;
+    final HostRequirement requirement;
+    final int firstRank;
+    final DriverMetrics driverMetrics;
+    final AttemptSocketFactory socketFactory;
+
+    // Published to the race via the completed queue
+    @Nullable QueryExecutor queryExecutor;
+    @Nullable HostStatus hostStatus;
+    @Nullable Throwable failure;
+    long durationNanos;
+
+    private final ResourceLock lock = new ResourceLock();
+    private boolean cancelled;
+
+    Attempt(HostSpec hostSpec, HostRequirement requirement, int firstRank,
+        DriverMetrics driverMetrics) {
+      this.hostSpec = hostSpec;
+      this.requirement = requirement;
+      this.firstRank = firstRank;
+      this.driverMetrics = driverMetrics;
+      this.socketFactory = new AttemptSocketFactory(ConnectionRace.this.socketFactory);
+    }
+
+    void start() {
+      Thread thread = new Thread(this, "PostgreSQL-JDBC-Connect-" + hostSpec);
+      thread.setDaemon(true);
+      thread.start();
+    }
+
+    @Override
+    public void run() {
+      long startNanos = System.nanoTime();
+      QueryExecutor queryExecutor = null;
+      HostStatus hostStatus = null;
+      Throwable failure = null;
+      try {
+        queryExecutor = connector.connect(hostSpec, socketFactory, driverMetrics);
+        hostStatus = connector.getHostStatus(queryExecutor, requirement);
+      } catch (Throwable e) {
+        if (queryExecutor != null) {
+          queryExecutor.close();
+          queryExecutor = null;
+        }
+        hostStatus = null;
+        failure = e;
+        driverMetrics.connectionFailed(hostSpec, System.nanoTime() - startNanos, e);
+      }
+      try (ResourceLock ignore = lock.obtain()) {
+        if (cancelled) {
+          if (queryExecutor != null) {
+            queryExecutor.close();
+          }
+          return;
+        }
+        this.queryExecutor = queryExecutor;
+        this.hostStatus = hostStatus;
+        this.failure = failure;
+        this.durationNanos = System.nanoTime() - startNanos;
+      }
+      completed.add(this);
+    }
+
+    /**
+     * Stops the attempt: closes its sockets, or the connection if it is already established.
+     */
+    void cancel() {
+      try (ResourceLock ignore = lock.obtain()) {
+        if (cancelled) {
+          return;
+        }
+        cancelled = true;
+        socketFactory.cancel();
+        QueryExecutor queryExecutor = this.queryExecutor;
+        if (queryExecutor != null) {
+          queryExecutor.close();
+          this.queryExecutor = null;
+        }
+      }
+    }
+  }
+
+  /**
+   * Keeps track of the sockets of an attempt, so the attempt can be cancelled by closing them.
+   * The sockets are no longer tracked once the attempt wins.
+   */
+  private static final class AttemptSocketFactory extends SocketFactory {
+    private final SocketFactory delegate;
+    private final ResourceLock lock = new ResourceLock();
+    private @Nullable List<Socket> sockets = new ArrayList<>();
+    private boolean cancelled;
+
+    AttemptSocketFactory(SocketFactory delegate) {
+      this.delegate = delegate;
+    }
+
+    private Socket track(Socket socket) throws IOException {
+      try (ResourceLock ignore = lock.obtain()) {
+        if (cancelled) {
+          socket.close();
+          throw new SocketException("The connection attempt was cancelled");
+        }
+        List<Socket> sockets = this.sockets;
+        if (sockets != null) {
+          sockets.add(socket);
+        }
+        return socket;
+      }
+    }
+
+    void release() {
+      try (ResourceLock ignore = lock.obtain()) {
+        sockets = null;
+      }
+    }
+
+    void cancel() {
+      try (ResourceLock ignore = lock.obtain()) {
+        cancelled = true;
+        List<Socket> sockets = this.sockets;
+        if (sockets == null) {
+          return;
+        }
+        for (Socket socket : sockets) {
+          try {
+            socket.close();
+          } catch (IOException e) {
+            // Ignored, the attempt fails anyway
+          }
+        }
+        sockets.clear();
+      }
+    }
+
+    @Override
+    public Socket createSocket() throws IOException {
+      return track(delegate.createSocket());
+    }
+
+    @Override
+    public Socket createSocket(String host, int port) throws IOException {
+      return track(delegate.createSocket(host, port));
+    }
+
+    @Override
+    public Socket createSocket(String host, int port, InetAddress localHost, int localPort)
+        throws IOException {
+      return track(delegate.createSocket(host, port, localHost, localPort));
+    }
+
+    @Override
+    public Socket createSocket(InetAddress host, int port) throws IOException {
+      return track(delegate.createSocket(host, port));
+    }
+
+    @Override
+    public Socket createSocket(InetAddress address, int port, InetAddress localAddress,
+        int localPort) throws IOException {
+      return track(delegate.createSocket(address, port, localAddress, localPort));
+    }
+  }
+}
@@ -6,17 +6,35 @@
 package org.postgresql.core.v3;
 
 import org.postgresql.copy.CopyDual;
+import org.postgresql.core.PGStream;
 import org.postgresql.util.ByteStreamWriter;
 import org.postgresql.util.PSQLException;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.IOException;
 import java.sql.SQLException;
 import java.util.ArrayDeque;
 import java.util.Queue;
 
 public class CopyDualImpl extends CopyOperationImpl implements CopyDual {
+  /**
+   * Receives the data of the CopyData messages, in place of the queue of
+   * {@link #readFromCopy(boolean)}.
+   */
+  public interface CopyDataReceiver {
+    /**
+     * Receives the data of a CopyData message.
+     *
+     * @param pgStream stream positioned at the data of the message
+     * @param len length of the data
+     * @throws IOException if the data can't be read from the stream
+     */
+    void receive(PGStream pgStream, int len) throws IOException;
+  }
+
   private final Queue<byte[]> received = new ArrayDeque<>();
+  private @Nullable CopyDataReceiver receiver;
 
   @Override
   public void writeToCopy(byte[] data, int off, int siz) throws SQLException {
@@ -28,6 +46,19 @@ public void writeToCopy(ByteStreamWriter from) throws SQLException {
     getQueryExecutor().writeToCopy(this, from);
   }
 
+  /**
+   * Sends data and flushes it without letting a read of another thread take the connection in
+   * between.
+   *
+   * @param data byte array to write
+   * @param off write start position and length
+   * @param siz number of bytes to write
+   * @throws SQLException on failure
+   */
+  public void writeToCopyAndFlush(byte[] data, int off, int siz) throws SQLException {
+    getQueryExecutor().writeToCopyAndFlush(this, data, off, siz);
+  }
+
   @Override
   public void flushCopy() throws SQLException {
     getQueryExecutor().flushCopy(this);
@@ -52,6 +83,23 @@ public long endCopy() throws SQLException {
     return received.poll();
   }
 
+  /**
+   * Reads the next message from the server into the given receiver, so the data does not go
+   * through a newly allocated array.
+   *
+   * @param receiver receiver of the data
+   * @param block whether to block waiting for a message
+   * @throws SQLException on any failure
+   */
+  public void readFromCopy(CopyDataReceiver receiver, boolean block) throws SQLException {
+    this.receiver = receiver;
+    try {
+      getQueryExecutor().readFromCopy(this, block);
+    } finally {
+      this.receiver = null;
+    }
+  }
+
   @Override
   public void handleCommandStatus(String status) throws PSQLException {
   }
@@ -60,4 +108,14 @@ public void handleCommandStatus(String status) throws PSQLException {
   protected void handleCopydata(byte[] data) {
     received.add(data);
   }
+
+  @Override
+  protected void receiveCopydata(PGStream pgStream, int len) throws IOException, PSQLException {
+    CopyDataReceiver receiver = this.receiver;
+    if (receiver != null) {
+      receiver.receive(pgStream, len);
+    } else {
+      super.receiveCopydata(pgStream, len);
+    }
+  }
 }
@@ -8,12 +8,14 @@
 import static org.postgresql.util.internal.Nullness.castNonNull;
 
 import org.postgresql.copy.CopyOperation;
+import org.postgresql.core.PGStream;
 import org.postgresql.util.GT;
 import org.postgresql.util.PSQLException;
 import org.postgresql.util.PSQLState;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.IOException;
 import java.sql.SQLException;
 
 public abstract class CopyOperationImpl implements CopyOperation {
@@ -21,8 +23,10 @@ public abstract class CopyOperationImpl implements CopyOperation {
   int rowFormat;
   int @Nullable [] fieldFormats;
   long handledRowCount = -1;
+  long startNanos;
 
   void init(QueryExecutorImpl q, int fmt, int[] fmts) {
+    startNanos = System.nanoTime();
     queryExecutor = q;
     rowFormat = fmt;
     fieldFormats = fmts;
@@ -75,6 +79,19 @@ public void handleCommandStatus(String status) throws PSQLException {
    */
   protected abstract void handleCopydata(byte[] data) throws PSQLException;
 
+  /**
+   * Receive the data of a CopyData message from the stream and consume it. Subclasses may override
+   * this to receive the data into buffers they reuse.
+   *
+   * @param pgStream stream positioned at the data of the message
+   * @param len length of the data
+   * @throws IOException if the data can't be read from the stream
+   * @throws PSQLException if some internal problem occurs
+   */
+  protected void receiveCopydata(PGStream pgStream, int len) throws IOException, PSQLException {
+    handleCopydata(pgStream.receive(len));
+  }
+
   @Override
   public long getHandledRowCount() {
     return handledRowCount;
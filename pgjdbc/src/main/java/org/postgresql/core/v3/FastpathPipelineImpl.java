@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core.v3;
+
+import org.postgresql.core.FastpathPipeline;
+import org.postgresql.core.PGStream;
+import org.postgresql.core.ParameterList;
+import org.postgresql.util.GT;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+
+/**
+ * {@link FastpathPipeline} of {@link QueryExecutorImpl}. The connection is locked for the instance
+ * while calls are pending. If another operation needs the connection, the pending results are
+ * moved to {@link #bufferedResults}.
+ */
+class FastpathPipelineImpl implements FastpathPipeline {
+  private static final Object NULL_RESULT = new Object();
+
+  private final QueryExecutorImpl executor;
+  private final boolean suppressBegin;
+
+  /**
+   * Results received while the connection was unlocked for another operation: a byte[], an
+   * SQLException, or {@link #NULL_RESULT}.
+   */
+  private final ArrayDeque<Object> bufferedResults = new ArrayDeque<>();
+  private int pendingCount;
+
+  /**
+   * The array the next result is received into, null to buffer the result.
+   */
+  private byte @Nullable [] target;
+  private int targetOffset;
+  private int targetLength;
+  private int resultLength;
+  private @Nullable SQLException resultError;
+
+  FastpathPipelineImpl(QueryExecutorImpl executor, boolean suppressBegin) {
+    this.executor = executor;
+    this.suppressBegin = suppressBegin;
+  }
+
+  boolean isSuppressBegin() {
+    return suppressBegin;
+  }
+
+  @Override
+  public void sendCall(int fnid, ParameterList params) throws SQLException {
+    executor.sendPipelinedFastpathCall(this, fnid, (SimpleParameterList) params);
+    pendingCount++;
+  }
+
+  @Override
+  public void flush() throws SQLException {
+    executor.flushFastpathPipeline(this);
+  }
+
+  @Override
+  public int getPendingCount() {
+    return pendingCount + bufferedResults.size();
+  }
+
+  /**
+   * Returns the number of calls whose result is still in the connection.
+   */
+  int getUnreceivedCount() {
+    return pendingCount;
+  }
+
+  /**
+   * Records that the result of a call was read from the connection.
+   */
+  void callReceived() {
+    pendingCount--;
+  }
+
+  /**
+   * Forgets the calls in the connection, after the connection failed.
+   */
+  void connectionFailed() {
+    pendingCount = 0;
+  }
+
+  @Override
+  public int receiveResult(byte[] buf, int off, int len) throws SQLException {
+    Object buffered = bufferedResults.poll();
+    if (buffered != null) {
+      if (buffered instanceof SQLException) {
+        throw (SQLException) buffered;
+      }
+      if (buffered == NULL_RESULT) {
+        return -1;
+      }
+      byte[] value = (byte[]) buffered;
+      if (value.length > len) {
+        throw resultTooLong(value.length, len);
+      }
+      System.arraycopy(value, 0, buf, off, value.length);
+      return value.length;
+    }
+    if (pendingCount == 0) {
+      throw new PSQLException(GT.tr("No fastpath call is pending."),
+          PSQLState.OBJECT_NOT_IN_STATE);
+    }
+    target = buf;
+    targetOffset = off;
+    targetLength = len;
+    resultError = null;
+    try {
+      executor.receivePipelinedFastpathResult(this);
+      SQLException error = resultError;
+      if (error != null) {
+        throw error;
+      }
+      return resultLength;
+    } finally {
+      target = null;
+    }
+  }
+
+  /**
+   * Receives the value of a FunctionCallResponse, into the target array, or into a new array that
+   * is buffered.
+   */
+  void receiveValue(PGStream pgStream, int valueLength) throws IOException {
+    byte[] target = this.target;
+    if (target == null) {
+      if (valueLength < 0) {
+        bufferedResults.add(NULL_RESULT);
+      } else {
+        byte[] value = new byte[valueLength];
+        pgStream.receive(value, 0, valueLength);
+        bufferedResults.add(value);
+      }
+      return;
+    }
+    resultLength = valueLength;
+    if (valueLength > targetLength) {
+      pgStream.skip(valueLength);
+      resultError = resultTooLong(valueLength, targetLength);
+    } else if (valueLength > 0) {
+      pgStream.receive(target, targetOffset, valueLength);
+    }
+  }
+
+  /**
+   * Buffers the error of a call, when the result is not received into a target array.
+   */
+  void addBufferedError(SQLException error) {
+    bufferedResults.add(error);
+  }
+
+  private static PSQLException resultTooLong(int length, int maxLength) {
+    return new PSQLException(
+        GT.tr("The fastpath result of {0} bytes exceeds the buffer of {1} bytes.", length,
+            maxLength),
+        PSQLState.DATA_ERROR);
+  }
+
+  @Override
+  public void close() throws SQLException {
+    bufferedResults.clear();
+    if (pendingCount > 0) {
+      executor.finishFastpathPipeline(this);
+      bufferedResults.clear();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FastpathPipeline{pending=" + pendingCount + ", buffered=" + bufferedResults.size()
+        + '}';
+  }
+}
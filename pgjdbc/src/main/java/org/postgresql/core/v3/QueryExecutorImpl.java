@@ -44,6 +44,8 @@
   *    Prevents concurrent operations during multi-step protocols:
   *    - Unlocked: lockedFor == null, connection available
   *    - Locked: lockedFor != null, held by specific operation (e.g., CopyOperation)
+  *    - A StreamingResult or a FastpathPipelineImpl holding the lock is drained by waitOnLock(),
+  *      the rows of a StreamingResult are discarded
   *    Methods: lock(), unlock(), waitOnLock(), hasLock()
   *
   * 6. AUTOSAVE STATE MACHINE
@@ -59,6 +61,7 @@
   *    - When exceeds MAX_BUFFERED_RECV_BYTES (64KB), forces Sync and processes results
   *    - Resets counter after consuming server responses
   *    - Ensures server doesn't block on write while client blocks on write
+  *    - With batchWindowBytes, batches read the oldest responses instead of forcing a Sync
   */
 
 package org.postgresql.core.v3;
@@ -70,8 +73,10 @@
 import org.postgresql.copy.CopyOperation;
 import org.postgresql.copy.CopyOut;
 import org.postgresql.core.CommandCompleteParser;
+import org.postgresql.core.DriverMetrics;
 import org.postgresql.core.Encoding;
 import org.postgresql.core.EncodingPredictor;
+import org.postgresql.core.FastpathPipeline;
 import org.postgresql.core.Field;
 import org.postgresql.core.NativeQuery;
 import org.postgresql.core.Notification;
@@ -196,6 +201,12 @@ public void handleWarning(SQLWarning warning) {
    */
   private final IntSet useBinarySendForOids = new IntSet();
 
+  /**
+   * Guards {@link #useBinaryReceiveForOids} and {@link #useBinarySendForOids}. A lock is used
+   * instead of {@code synchronized}, so a virtual thread waiting for it does not pin its carrier.
+   */
+  private final ResourceLock binaryOidsLock = new ResourceLock();
+
   /**
    * This is a fake query object so processResults can distinguish "ReadyForQuery" messages
    * from Sync messages vs from simple execute (aka 'Q').
@@ -246,6 +257,11 @@ public QueryExecutorImpl(PGStream pgStream,
 
     this.allowEncodingChanges = PGProperty.ALLOW_ENCODING_CHANGES.getBoolean(info);
     this.cleanupSavePoints = PGProperty.CLEANUP_SAVEPOINTS.getBoolean(info);
+    this.batchWindowBytes =
+        limitBatchWindowBytes(PGProperty.BATCH_WINDOW_BYTES.getInt(info), pgStream);
+    this.batchWindowStatements = PGProperty.BATCH_WINDOW_STATEMENTS.getInt(info);
+    this.describeBeforeBind =
+        "always".equalsIgnoreCase(PGProperty.BINARY_TRANSFER_MODE.getOrDefault(info));
     // assignment, argument
     this.replicationProtocol = new V3ReplicationProtocol(this, pgStream);
     readStartupMessages();
@@ -307,6 +323,25 @@ private void unlock(Object holder) throws PSQLException {
    */
   private void waitOnLock() throws PSQLException {
     while (lockedFor != null) {
+      Object holder = lockedFor;
+      if (holder instanceof StreamingResult) {
+        // The rows of a streaming resultset are still in the connection. Buffering them could
+        // exhaust the memory, so the resultset fails and the rows are skipped instead
+        StreamingResult stream = (StreamingResult) holder;
+        if (!stream.isDiscarded()) {
+          stream.addError(new PSQLException(
+              GT.tr("The remaining rows of the streaming result set were discarded because the "
+                  + "connection was used for another operation."),
+              PSQLState.OBJECT_NOT_IN_STATE));
+        }
+        discardStreamingRows(stream);
+        continue;
+      }
+      if (holder instanceof FastpathPipelineImpl) {
+        // The results of the pending calls are still in the connection
+        bufferFastpathPipeline((FastpathPipelineImpl) holder);
+        continue;
+      }
       try {
         lockCondition.await();
       } catch (InterruptedException ie) {
@@ -419,6 +454,9 @@ public void execute(Query query, @Nullable ParameterList parameters,
       }
 
       flags = updateQueryMode(flags);
+      if ((flags & QUERY_STREAMING) != 0 && !isStreamingSupported(query, flags)) {
+        flags &= ~QUERY_STREAMING;
+      }
 
       boolean describeOnly = (QUERY_DESCRIBE_ONLY & flags) != 0;
 
@@ -434,6 +472,14 @@ public void execute(Query query, @Nullable ParameterList parameters,
         try {
           handler = sendQueryPreamble(handler, flags);
           autosave = sendAutomaticSavepoint(query, flags);
+          if (autosave) {
+            // The savepoint must be released or rolled back after the rows are received
+            flags &= ~QUERY_STREAMING;
+          }
+          if (shouldDescribeBeforeBind(query, flags)) {
+            describeOneShotQuery((SimpleQuery) query, (SimpleParameterList) parameters, handler,
+                flags);
+          }
           sendQuery(query, (V3ParameterList) parameters, maxRows, fetchSize, flags,
               handler, null, adaptiveFetch);
           if ((flags & QueryExecutor.QUERY_EXECUTE_AS_SIMPLE) != 0) {
@@ -486,6 +532,68 @@ public void execute(Query query, @Nullable ParameterList parameters,
     }
   }
 
+  /**
+   * Returns true if the rows of the query can be streamed, see {@link QueryExecutor#QUERY_STREAMING}.
+   * The query must be a single statement that is executed with the extended protocol without a
+   * portal, so its rows are the last messages before ReadyForQuery.
+   */
+  private static boolean isStreamingSupported(Query query, int flags) {
+    int unsupportedFlags = QUERY_EXECUTE_AS_SIMPLE | QUERY_DESCRIBE_ONLY | QUERY_NO_RESULTS
+        | QUERY_FORWARD_CURSOR | QUERY_BOTH_ROWS_AND_STATUS;
+    return (flags & unsupportedFlags) == 0 && query.getSubqueries() == null;
+  }
+
+  /**
+   * Returns true if the result formats of a one-shot query should be chosen after the query is
+   * described, see {@link PGProperty#BINARY_TRANSFER_MODE}. Only statements that return rows are
+   * described, as the round trip buys nothing for the others.
+   */
+  private boolean shouldDescribeBeforeBind(Query query, int flags) {
+    int unsupportedFlags = QUERY_EXECUTE_AS_SIMPLE | QUERY_DESCRIBE_ONLY | QUERY_NO_RESULTS
+        | QUERY_NO_METADATA | QUERY_NO_BINARY_TRANSFER;
+    if (!describeBeforeBind || (flags & QUERY_ONESHOT) == 0 || (flags & unsupportedFlags) != 0
+        || query.getSubqueries() != null) {
+      return false;
+    }
+    SqlCommand command = query.getSqlCommand();
+    return command != null && command.returnsRows();
+  }
+
+  /**
+   * Parses and describes the unnamed statement of a one-shot query and waits for its
+   * RowDescription, so the Bind that follows can request binary format for the columns the driver
+   * decodes. The messages end with a Flush rather than a Sync, so the unnamed statement survives
+   * until {@link #sendOneQuery} binds it.
+   */
+  private void describeOneShotQuery(SimpleQuery query, SimpleParameterList params,
+      ResultHandler handler, int flags) throws IOException {
+    if (!pendingExecuteQueue.isEmpty()) {
+      // BEGIN or a savepoint was sent as a simple query, and its ReadyForQuery would end the
+      // processing of the responses below, so receive it first
+      pgStream.flush();
+      processResults(handler, flags);
+      if (handler.getException() != null) {
+        return;
+      }
+    }
+
+    sendParse(query, params, true);
+    sendDescribeStatement(query, params, false);
+    sendFlush();
+    pgStream.flush();
+
+    while (handler.getException() == null && !pendingDescribePortalQueue.isEmpty()) {
+      processResults(handler, flags, false, 0);
+      if (query.getFields() != null) {
+        // No execution is pending, so the RowDescription did not complete the describe request
+        pendingDescribePortalQueue.removeFirst();
+      }
+    }
+    if (handler.getException() == null) {
+      describedOneShotQuery = query;
+    }
+  }
+
   private boolean sendAutomaticSavepoint(Query query, int flags) throws IOException {
     if (shouldCreateAutomaticSavepoint(query, flags)) {
       sendOneQuery(autoSaveQuery, SimpleQuery.NO_PARAMETERS, 1, 0,
@@ -636,6 +744,41 @@ && getTransactionState() == TransactionState.FAILED
   private static final int MAX_BUFFERED_RECV_BYTES = 64000;
   private static final int NODATA_QUERY_RESPONSE_SIZE_BYTES = 250;
 
+  /**
+   * Limits {@link PGProperty#BATCH_WINDOW_BYTES} so the responses in flight fit in the buffers
+   * between the server and the driver, see MAX_BUFFERED_RECV_BYTES. The send buffer of the server
+   * is unknown, so it is assumed to be MAX_BUFFERED_RECV_BYTES, and the receive buffer of the
+   * socket is added to it.
+   *
+   * @param batchWindowBytes the configured window
+   * @param pgStream the connection stream
+   * @return the window to use, or 0 if the window is disabled
+   */
+  private static int limitBatchWindowBytes(int batchWindowBytes, PGStream pgStream) {
+    if (batchWindowBytes <= 0) {
+      if (batchWindowBytes < 0) {
+        LOGGER.log(Level.WARNING, "Ignore invalid value for batchWindowBytes: {0}",
+            batchWindowBytes);
+      }
+      return 0;
+    }
+    int receiveBufferSize;
+    try {
+      receiveBufferSize = pgStream.getSocket().getReceiveBufferSize();
+    } catch (SocketException e) {
+      receiveBufferSize = 0;
+    }
+    int maxBatchWindowBytes = MAX_BUFFERED_RECV_BYTES + Math.max(0, receiveBufferSize);
+    if (batchWindowBytes > maxBatchWindowBytes) {
+      LOGGER.log(Level.WARNING,
+          "batchWindowBytes={0} exceeds the buffers of the connection and could deadlock the "
+              + "batch, using {1} instead. Increase receiveBufferSize to allow a larger window",
+          new Object[]{batchWindowBytes, maxBatchWindowBytes});
+      return maxBatchWindowBytes;
+    }
+    return batchWindowBytes;
+  }
+
   @Override
   public void execute(Query[] queries, @Nullable ParameterList[] parameterLists,
       BatchResultHandler batchHandler, int maxRows, int fetchSize, int flags) throws SQLException {
@@ -653,70 +796,107 @@ public void execute(Query[] queries, @Nullable ParameterList[] parameterLists,
             new Object[]{queries.length, batchHandler, maxRows, fetchSize, flags});
       }
 
-      flags = updateQueryMode(flags);
+      executeQueries(queries, parameterLists, batchHandler, batchHandler, maxRows, fetchSize,
+          flags & ~QUERY_STREAMING, adaptiveFetch);
+    }
+  }
 
-      boolean describeOnly = (QUERY_DESCRIBE_ONLY & flags) != 0;
-      // Check parameters and resolve OIDs.
-      if (!describeOnly) {
-        for (ParameterList parameterList : parameterLists) {
-          if (parameterList != null) {
-            ((V3ParameterList) parameterList).checkAllParametersSet();
-          }
-        }
+  @Override
+  public void executePipeline(Query[] queries, @Nullable ParameterList[] parameterLists,
+      ResultHandler handler, int flags) throws SQLException {
+    try (ResourceLock ignore = lock.obtain()) {
+      waitOnLock();
+      if (LOGGER.isLoggable(Level.FINEST)) {
+        LOGGER.log(Level.FINEST, "  pipeline execute {0} queries, handler={1}, flags={2}",
+            new Object[]{queries.length, handler, flags});
       }
 
-      boolean autosave = false;
-      ResultHandler handler = batchHandler;
-      try {
-        handler = sendQueryPreamble(batchHandler, flags);
-        autosave = sendAutomaticSavepoint(queries[0], flags);
-        estimatedReceiveBufferBytes = 0;
+      executeQueries(queries, parameterLists, handler, null, 0, 0, flags & ~QUERY_STREAMING,
+          false);
+    }
+  }
 
-        for (int i = 0; i < queries.length; i++) {
-          SimpleQuery query = (SimpleQuery) queries[i];
+  /**
+   * Sends all the queries followed by a single Sync and processes the results. Intermediate Syncs
+   * are issued only when {@link #flushIfDeadlockRisk} estimates the receive buffer might fill up.
+   * When {@link #batchWindowBytes} is set, batches read the responses of the oldest statements with
+   * {@link #waitForBatchWindow} instead, and send no intermediate Sync.
+   */
+  private void executeQueries(Query[] queries, @Nullable ParameterList[] parameterLists,
+      ResultHandler resultHandler, @Nullable BatchResultHandler batchHandler, int maxRows,
+      int fetchSize, int flags, boolean adaptiveFetch) throws SQLException {
+    flags = updateQueryMode(flags);
+
+    boolean describeOnly = (QUERY_DESCRIBE_ONLY & flags) != 0;
+    // Check parameters and resolve OIDs.
+    if (!describeOnly) {
+      for (ParameterList parameterList : parameterLists) {
+        if (parameterList != null) {
+          ((V3ParameterList) parameterList).checkAllParametersSet();
+        }
+      }
+    }
+
+    boolean autosave = false;
+    ResultHandler handler = resultHandler;
+    try {
+      handler = sendQueryPreamble(resultHandler, flags);
+      autosave = sendAutomaticSavepoint(queries[0], flags);
+      estimatedReceiveBufferBytes = 0;
+      if (batchHandler != null && batchWindowBytes > 0
+          && (flags & QueryExecutor.QUERY_EXECUTE_AS_SIMPLE) == 0) {
+        batchWindow = new ArrayDeque<>();
+      }
+
+      for (int i = 0; i < queries.length; i++) {
+        SimpleQuery query = (SimpleQuery) queries[i];
+        // With a batch window, sendQuery makes room for each statement it sends
+        if (batchWindow == null) {
           if (i == 0) {
             estimatedReceiveBufferBytes += estimateQueryResponseBytes(query, flags);
           } else {
             flushIfDeadlockRisk(query, handler, batchHandler, flags);
           }
+        }
 
-          V3ParameterList parameters = (V3ParameterList) parameterLists[i];
-          if (parameters == null) {
-            parameters = SimpleQuery.NO_PARAMETERS;
-          }
+        V3ParameterList parameters = (V3ParameterList) parameterLists[i];
+        if (parameters == null) {
+          parameters = SimpleQuery.NO_PARAMETERS;
+        }
 
-          sendQuery(query, parameters, maxRows, fetchSize, flags, handler, batchHandler, adaptiveFetch);
+        sendQuery(query, parameters, maxRows, fetchSize, flags, handler, batchHandler, adaptiveFetch);
 
-          if (handler.getException() != null) {
-            break;
-          }
+        if (handler.getException() != null) {
+          break;
         }
+      }
 
-        if (handler.getException() == null) {
-          // Sync message is not required for 'Q' execution as 'Q' ends with ReadyForQuery message
-          // on its own
-          if ((flags & QueryExecutor.QUERY_EXECUTE_AS_SIMPLE) == 0) {
-            sendSync();
-          }
-          pgStream.flush();
-          processResults(handler, flags, adaptiveFetch);
-          estimatedReceiveBufferBytes = 0;
+      if (handler.getException() == null) {
+        // Sync message is not required for 'Q' execution as 'Q' ends with ReadyForQuery message
+        // on its own
+        if ((flags & QueryExecutor.QUERY_EXECUTE_AS_SIMPLE) == 0) {
+          sendSync();
         }
-      } catch (IOException e) {
-        abort();
-        handler.handleError(
-            new PSQLException(GT.tr("An I/O error occurred while sending to the backend."),
-                PSQLState.CONNECTION_FAILURE, e));
+        pgStream.flush();
+        processResults(handler, flags, adaptiveFetch);
+        estimatedReceiveBufferBytes = 0;
       }
+    } catch (IOException e) {
+      abort();
+      handler.handleError(
+          new PSQLException(GT.tr("An I/O error occurred while sending to the backend."),
+              PSQLState.CONNECTION_FAILURE, e));
+    } finally {
+      batchWindow = null;
+    }
 
-      try {
-        handler.handleCompletion();
-        if (cleanupSavePoints) {
-          releaseSavePoint(autosave);
-        }
-      } catch (SQLException e) {
-        rollbackIfRequired(autosave, e);
+    try {
+      handler.handleCompletion();
+      if (cleanupSavePoints) {
+        releaseSavePoint(autosave);
       }
+    } catch (SQLException e) {
+      rollbackIfRequired(autosave, e);
     }
   }
 
@@ -793,8 +973,8 @@ public void handleCommandStatus(String status, long updateCount, long insertOID)
         if (!pendingExecuteQueue.isEmpty()) {
           processResults(new DiscardResultHandler(), 0);
         }
-        sendFastpathCall(fnid, (SimpleParameterList) parameters);
-        return receiveFastpathResult();
+        sendFastpathCall(fnid, (SimpleParameterList) parameters, true);
+        return receiveFastpathResult(null);
       } catch (IOException ioe) {
         abort();
         throw new PSQLException(GT.tr("An I/O error occurred while sending to the backend."),
@@ -861,7 +1041,128 @@ public ParameterList createFastpathParameters(int count) {
     return new SimpleParameterList(count, this);
   }
 
-  private void sendFastpathCall(int fnid, SimpleParameterList params)
+  @Override
+  public FastpathPipeline createFastpathPipeline(boolean suppressBegin) {
+    return new FastpathPipelineImpl(this, suppressBegin);
+  }
+
+  /**
+   * Sends a call of a pipeline without flushing it. The connection is locked for the pipeline
+   * until the results of its calls are received.
+   */
+  void sendPipelinedFastpathCall(FastpathPipelineImpl pipeline, int fnid,
+      SimpleParameterList params) throws SQLException {
+    try (ResourceLock ignore = lock.obtain()) {
+      try {
+        if (lockedFor != pipeline) {
+          waitOnLock();
+          if (!pipeline.isSuppressBegin()) {
+            doSubprotocolBegin();
+          }
+          // See fastpathCall
+          if (!pendingExecuteQueue.isEmpty()) {
+            processResults(new DiscardResultHandler(), 0);
+          }
+          lockedFor = pipeline;
+        }
+        sendFastpathCall(fnid, params, false);
+      } catch (IOException ioe) {
+        abort();
+        pipeline.connectionFailed();
+        if (lockedFor == pipeline) {
+          unlock(pipeline);
+        }
+        throw new PSQLException(GT.tr("An I/O error occurred while sending to the backend."),
+            PSQLState.CONNECTION_FAILURE, ioe);
+      }
+    }
+  }
+
+  void flushFastpathPipeline(FastpathPipelineImpl pipeline) throws SQLException {
+    try (ResourceLock ignore = lock.obtain()) {
+      if (lockedFor != pipeline) {
+        // Nothing was sent since the results were buffered
+        return;
+      }
+      try {
+        pgStream.flush();
+      } catch (IOException ioe) {
+        abort();
+        pipeline.connectionFailed();
+        unlock(pipeline);
+        throw new PSQLException(GT.tr("An I/O error occurred while sending to the backend."),
+            PSQLState.CONNECTION_FAILURE, ioe);
+      }
+    }
+  }
+
+  /**
+   * Receives the result of the oldest call of a pipeline, and unlocks the connection after the
+   * last pending call.
+   */
+  void receivePipelinedFastpathResult(FastpathPipelineImpl pipeline) throws SQLException {
+    try (ResourceLock ignore = lock.obtain()) {
+      if (lockedFor != pipeline) {
+        throw new PSQLException(GT.tr("No fastpath call is pending."),
+            PSQLState.OBJECT_NOT_IN_STATE);
+      }
+      try {
+        pgStream.flush();
+        receiveFastpathResult(pipeline);
+      } catch (IOException ioe) {
+        abort();
+        pipeline.connectionFailed();
+        throw new PSQLException(GT.tr("An I/O error occurred while sending to the backend."),
+            PSQLState.CONNECTION_FAILURE, ioe);
+      } finally {
+        if (pipeline.getUnreceivedCount() > 0) {
+          pipeline.callReceived();
+        }
+        if (pipeline.getUnreceivedCount() == 0) {
+          unlock(pipeline);
+        }
+      }
+    }
+  }
+
+  /**
+   * Receives and discards the results of the pending calls of a pipeline.
+   */
+  void finishFastpathPipeline(FastpathPipelineImpl pipeline) throws SQLException {
+    try (ResourceLock ignore = lock.obtain()) {
+      if (lockedFor == pipeline) {
+        bufferFastpathPipeline(pipeline);
+      }
+    }
+  }
+
+  /**
+   * Reads the results of the pending calls of a pipeline into the pipeline, so the connection can
+   * be used for another operation.
+   */
+  private void bufferFastpathPipeline(FastpathPipelineImpl pipeline) throws PSQLException {
+    try {
+      pgStream.flush();
+      while (pipeline.getUnreceivedCount() > 0) {
+        try {
+          receiveFastpathResult(pipeline);
+        } catch (SQLException e) {
+          pipeline.addBufferedError(e);
+        }
+        pipeline.callReceived();
+      }
+    } catch (IOException ioe) {
+      abort();
+      pipeline.connectionFailed();
+      throw new PSQLException(GT.tr("An I/O error occurred while sending to the backend."),
+          PSQLState.CONNECTION_FAILURE, ioe);
+    } finally {
+      lockedFor = null;
+      lockCondition.signal();
+    }
+  }
+
+  private void sendFastpathCall(int fnid, SimpleParameterList params, boolean flush)
       throws SQLException, IOException {
     if (LOGGER.isLoggable(Level.FINEST)) {
       LOGGER.log(Level.FINEST, " FE=> FunctionCall({0}, {1} params)", new Object[]{fnid, params.getParameterCount()});
@@ -901,7 +1202,9 @@ private void sendFastpathCall(int fnid, SimpleParameterList params)
       }
     }
     pgStream.sendInteger2(1); // Binary result format
-    pgStream.flush();
+    if (flush) {
+      pgStream.flush();
+    }
   }
 
   // Just for API compatibility with previous versions.
@@ -1001,7 +1304,14 @@ private void setSocketTimeout(int millis) throws PSQLException {
     }
   }
 
-  private byte @Nullable [] receiveFastpathResult() throws IOException, SQLException {
+  /**
+   * Receives the messages of a fastpath call till ReadyForQuery.
+   *
+   * @param pipeline the pipeline that receives the value, or null to return the value
+   * @return the value, or null if the function returned null or the value went to the pipeline
+   */
+  private byte @Nullable [] receiveFastpathResult(@Nullable FastpathPipelineImpl pipeline)
+      throws IOException, SQLException {
     boolean endQuery = false;
     SQLException error = null;
     byte[] returnValue = null;
@@ -1041,7 +1351,9 @@ private void setSocketTimeout(int millis) throws PSQLException {
 
           LOGGER.log(Level.FINEST, " <=BE FunctionCallResponse({0} bytes)", valueLen);
 
-          if (valueLen != -1) {
+          if (pipeline != null) {
+            pipeline.receiveValue(pgStream, valueLen);
+          } else if (valueLen != -1) {
             byte[] buf = new byte[valueLen];
             pgStream.receive(buf, 0, valueLen);
             returnValue = buf;
@@ -1290,6 +1602,24 @@ public void writeToCopy(CopyOperationImpl op, byte[] data, int off, int siz)
     }
   }
 
+  /**
+   * Sends data and flushes it while holding the lock, so a read of another thread can't wait for
+   * a response while the data is still buffered.
+   *
+   * @param op the copy operation presumably currently holding lock on this connection
+   * @param data bytes to send
+   * @param off index of first byte to send (usually 0)
+   * @param siz number of bytes to send (usually data.length)
+   * @throws SQLException on failure
+   */
+  void writeToCopyAndFlush(CopyOperationImpl op, byte[] data, int off, int siz)
+      throws SQLException {
+    try (ResourceLock ignore = lock.obtain()) {
+      writeToCopy(op, data, off, siz);
+      flushCopy(op);
+    }
+  }
+
   /**
    * Sends data during a live COPY IN operation. Only unlocks the connection if server suddenly
    * returns CommandComplete, which should not happen
@@ -1453,6 +1783,7 @@ void readFromCopy(CopyOperationImpl op, boolean block) throws SQLException {
                     PSQLState.OBJECT_NOT_IN_STATE);
               }
               op.handleCommandStatus(status);
+              metrics.copyCompleted(op.handledRowCount, System.nanoTime() - op.startNanos);
             } catch (SQLException se) {
               error = se;
             }
@@ -1519,16 +1850,17 @@ void readFromCopy(CopyOperationImpl op, boolean block) throws SQLException {
 
             assert len > 0 : "Copy Data length must be greater than 4";
 
-            byte[] buf = pgStream.receive(len);
             if (op == null) {
+              pgStream.skip(len);
               error = new PSQLException(GT.tr("Got CopyData without an active copy operation"),
                   PSQLState.OBJECT_NOT_IN_STATE);
             } else if (!(op instanceof CopyOut)) {
+              pgStream.skip(len);
               error = new PSQLException(
                   GT.tr("Unexpected copydata from server for {0}", op.getClass().getName()),
                   PSQLState.COMMUNICATION_ERROR);
             } else {
-              op.handleCopydata(buf);
+              op.receiveCopydata(pgStream, len);
             }
             endReceiving = true;
             break;
@@ -1686,6 +2018,57 @@ private void flushIfDeadlockRisk(SimpleQuery query,
     }
   }
 
+  /*
+   * Makes room in the batch window for the given statement before it is sent: if the statement
+   * would exceed batchWindowBytes or batchWindowStatements, reads the responses of the oldest
+   * statements until it fits. The server keeps executing the statements which are still in flight
+   * meanwhile, so the batch is not serialized by round trips.
+   *
+   * The responses arrive in order, so the handler sees the results and the errors at their exact
+   * position in the batch. The server skips everything until Sync after an error, so in that case
+   * the Sync is sent right away and no more statements are sent.
+   */
+  private void waitForBatchWindow(Deque<Integer> window, SimpleQuery query,
+      ResultHandler resultHandler, int flags) throws IOException {
+    int resultBytes = estimateQueryResponseBytes(query, flags);
+
+    int completed = 0;
+    int bytes = estimatedReceiveBufferBytes;
+    for (Integer inFlight : window) {
+      int statements = window.size() - completed;
+      if (bytes + resultBytes <= batchWindowBytes
+          && (batchWindowStatements <= 0 || statements < batchWindowStatements)) {
+        break;
+      }
+      bytes -= inFlight;
+      completed++;
+    }
+
+    if (completed > 0) {
+      if (LOGGER.isLoggable(Level.FINEST)) {
+        LOGGER.log(Level.FINEST, "Batch window full, waiting for {0} of {1} statements",
+            new Object[]{completed, window.size()});
+      }
+      pgStream.flush();
+      processResults(resultHandler, flags, false, window.size() - completed);
+      if (resultHandler.getException() != null) {
+        sendSync();
+        pgStream.flush();
+        processResults(resultHandler, flags);
+        window.clear();
+        estimatedReceiveBufferBytes = 0;
+        return;
+      }
+      for (int i = 0; i < completed; i++) {
+        window.removeFirst();
+      }
+      estimatedReceiveBufferBytes = bytes;
+    }
+
+    window.addLast(resultBytes);
+    estimatedReceiveBufferBytes += resultBytes;
+  }
+
   /*
    * Send a query to the backend.
    */
@@ -1697,6 +2080,10 @@ private void sendQuery(Query query, V3ParameterList parameters, int maxRows, int
     SimpleParameterList[] subparams = parameters.getSubparams();
 
     if (subqueries == null) {
+      Deque<Integer> window = batchWindow;
+      if (window != null) {
+        waitForBatchWindow(window, (SimpleQuery) query, resultHandler, flags);
+      }
       // If we saw errors, don't send anything more.
       if (resultHandler.getException() == null) {
         if (fetchSize != 0) {
@@ -1708,14 +2095,17 @@ private void sendQuery(Query query, V3ParameterList parameters, int maxRows, int
     } else {
       for (int i = 0; i < subqueries.length; i++) {
         final SimpleQuery subquery = (SimpleQuery) subqueries[i];
-        if (i == 0) {
+        Deque<Integer> window = batchWindow;
+        if (window != null) {
+          waitForBatchWindow(window, subquery, resultHandler, flags);
+        } else if (i == 0) {
           estimatedReceiveBufferBytes += estimateQueryResponseBytes(subquery, flags);
         } else {
           flushIfDeadlockRisk(subquery, resultHandler, batchHandler, flags);
-          // If we saw errors, don't send anything more.
-          if (resultHandler.getException() != null) {
-            break;
-          }
+        }
+        // If we saw errors, don't send anything more.
+        if (resultHandler.getException() != null) {
+          break;
         }
 
         // In the situation where parameters is already
@@ -1751,6 +2141,13 @@ private void sendSync() throws IOException {
     pendingDescribePortalQueue.add(sync);
   }
 
+  private void sendFlush() throws IOException {
+    LOGGER.log(Level.FINEST, " FE=> Flush");
+
+    pgStream.sendChar(PgMessageType.FLUSH_REQ); // Flush
+    pgStream.sendInteger4(4); // Length
+  }
+
   private void sendParse(SimpleQuery query, SimpleParameterList params, boolean oneShot)
       throws IOException {
     // Already parsed, or we have a Parse pending and the types are right?
@@ -1816,6 +2213,7 @@ private void sendParse(SimpleQuery query, SimpleParameterList params, boolean on
         + queryUtf8.length + 1
         + 2 + 4 * params.getParameterCount();
 
+    metrics.parseSent(query.getNativeSql());
     pgStream.sendChar(PgMessageType.PARSE_REQUEST); // Parse
     pgStream.sendInteger4(encodedSize);
     if (encodedStatementName != null) {
@@ -1912,6 +2310,7 @@ private void sendBind(SimpleQuery query, SimpleParameterList params, @Nullable P
           encodedSize)));
     }
 
+    metrics.bindSent(query.getNativeSql());
     pgStream.sendChar(PgMessageType.BIND); // Bind
     pgStream.sendInteger4((int) encodedSize); // Message size
     if (encodedPortalName != null) {
@@ -2045,6 +2444,7 @@ private void sendExecute(SimpleQuery query, @Nullable Portal portal, int limit)
     int encodedSize = encodedPortalName == null ? 0 : encodedPortalName.length;
 
     // Total size = 4 (size field) + 1 + N (source portal) + 4 (max rows)
+    metrics.executeSent(query.getNativeSql());
     pgStream.sendChar(PgMessageType.EXECUTE_REQUEST); // Execute
     pgStream.sendInteger4(4 + 1 + encodedSize + 4); // message size
     if (encodedPortalName != null) {
@@ -2157,7 +2557,12 @@ private void sendOneQuery(SimpleQuery query, SimpleParameterList params, int max
 
     // STATE: Send Parse message (or skip if already parsed)
     // NEXT: Server will respond with ParseComplete (or skip if cached)
-    sendParse(query, params, oneShot);
+    if (query == describedOneShotQuery) {
+      // describeOneShotQuery has parsed and described the unnamed statement
+      describedOneShotQuery = null;
+    } else {
+      sendParse(query, params, oneShot);
+    }
 
     boolean queryHasUnknown = query.hasUnresolvedTypes();
     boolean paramsHasUnknown = params.hasUnresolvedTypes();
@@ -2364,8 +2769,33 @@ protected void processResults(ResultHandler handler, int flags) throws IOExcepti
 
   protected void processResults(ResultHandler handler, int flags, boolean adaptiveFetch)
       throws IOException {
+    processResults(handler, flags, adaptiveFetch, -1);
+  }
+
+  /**
+   * Processes the responses until ReadyForQuery, or, if {@code pendingExecutes} is not negative,
+   * until only that many executions are pending or an error is received. Batches use the latter to
+   * read the responses of the oldest statements without a Sync, see {@link #waitForBatchWindow}.
+   */
+  private void processResults(ResultHandler handler, int flags, boolean adaptiveFetch,
+      int pendingExecutes) throws IOException {
+    if (metrics == DriverMetrics.NOOP) {
+      receiveResults(handler, flags, adaptiveFetch, pendingExecutes);
+      return;
+    }
+    long startNanos = System.nanoTime();
+    try {
+      receiveResults(handler, flags, adaptiveFetch, pendingExecutes);
+    } finally {
+      metrics.roundTrip(System.nanoTime() - startNanos);
+    }
+  }
+
+  private void receiveResults(ResultHandler handler, int flags, boolean adaptiveFetch,
+      int pendingExecutes) throws IOException {
     boolean noResults = (flags & QueryExecutor.QUERY_NO_RESULTS) != 0;
     boolean bothRowsAndStatus = (flags & QueryExecutor.QUERY_BOTH_ROWS_AND_STATUS) != 0;
+    boolean streaming = (flags & QueryExecutor.QUERY_STREAMING) != 0 && !noResults;
 
     List<Tuple> tuples = null;
 
@@ -2518,6 +2948,7 @@ protected void processResults(ResultHandler handler, int flags, boolean adaptive
             // type" to callers that don't opt into autosave=ALWAYS.
             deallocateEpoch++;
           }
+          invalidateSharedCatalogs(status);
 
           doneAfterRowDescNoData = false;
 
@@ -2630,6 +3061,15 @@ && getParameterStatus("search_path") == null) {
           } catch (SQLException e) {
             handler.handleError(e);
           }
+          if (streaming && tuple != null && (tuples == null || tuples.isEmpty())) {
+            ExecuteRequest executeData = castNonNull(pendingExecuteQueue.peekFirst());
+            Field[] fields = executeData.query.getFields();
+            if (fields != null) {
+              // The rest of the rows will be read by fetch as the resultset is advanced
+              startStreaming(handler, executeData.query, fields, tuple, flags);
+              return;
+            }
+          }
           if (!noResults) {
             if (tuples == null) {
               tuples = new ArrayList<>();
@@ -2743,6 +3183,8 @@ && castNonNull(pendingExecuteQueue.peekFirst()).asSimple) {
           }
           endQuery = true;
 
+          describedOneShotQuery = null;
+
           // Reset the statement name of Parses that failed.
           while (!pendingParseQueue.isEmpty()) {
             SimpleQuery failedQuery = pendingParseQueue.removeFirst();
@@ -2810,6 +3252,11 @@ && castNonNull(pendingExecuteQueue.peekFirst()).asSimple) {
           throw new IOException("Unexpected packet type: " + c);
       }
 
+      if (pendingExecutes >= 0 && !endQuery
+          && (pendingExecuteQueue.size() <= pendingExecutes || handler.getException() != null)) {
+        // The executions that had to complete did, or the backend now skips until Sync
+        return;
+      }
     }
   }
 
@@ -2851,6 +3298,12 @@ private void skipMessage() throws IOException {
   public void fetch(ResultCursor cursor, ResultHandler handler, int fetchSize,
       boolean adaptiveFetch) throws SQLException {
     try (ResourceLock ignore = lock.obtain()) {
+      if (cursor instanceof StreamingResult) {
+        // The connection is locked for the streaming result, so waitOnLock must not be used
+        fetchStreamingRows((StreamingResult) cursor, handler, fetchSize);
+        handler.handleCompletion();
+        return;
+      }
       waitOnLock();
       final Portal portal = (Portal) cursor;
 
@@ -2888,6 +3341,198 @@ public void handleCommandStatus(String status, long updateCount, long insertOID)
     }
   }
 
+  /**
+   * Passes the first row of a streaming resultset to the handler and locks the connection till the
+   * rest of the rows are read.
+   */
+  private void startStreaming(ResultHandler handler, SimpleQuery query, Field[] fields,
+      Tuple firstRow, int flags) {
+    // Cancelling a query that runs in the transaction of the application would abort it
+    SqlCommand command = query.getSqlCommand();
+    boolean cancellable = !isTransactionActive(flags)
+        && command != null && command.getType() == SqlCommandType.SELECT;
+    StreamingResult stream = new StreamingResult(this, query, fields, cancellable);
+    lockedFor = stream;
+    List<Tuple> rows = new ArrayList<>();
+    rows.add(firstRow);
+    handler.handleResultRows(query, fields, rows, stream);
+  }
+
+  /**
+   * Passes the next rows of a streaming resultset to the handler. The handler receives the stream
+   * as a cursor until all the rows and the error, if any, are delivered.
+   */
+  private void fetchStreamingRows(StreamingResult stream, ResultHandler handler, int fetchSize) {
+    List<Tuple> rows;
+    if (stream.isCompleted()) {
+      // Another operation has already read the rows
+      rows = stream.takeBufferedRows();
+      if (rows == null) {
+        rows = new ArrayList<>();
+      }
+    } else {
+      rows = new ArrayList<>();
+      try {
+        readStreamingRows(stream, rows, fetchSize > 0 ? fetchSize : 1);
+      } catch (IOException e) {
+        abort();
+        handler.handleError(
+            new PSQLException(GT.tr("An I/O error occurred while sending to the backend."),
+                PSQLState.CONNECTION_FAILURE, e));
+        return;
+      }
+    }
+    SQLWarning warning = stream.takeWarning();
+    if (warning != null) {
+      handler.handleWarning(warning);
+    }
+    boolean hasMore = !stream.isCompleted();
+    if (!hasMore && stream.hasError()) {
+      if (rows.isEmpty()) {
+        handler.handleError(castNonNull(stream.takeError()));
+      } else {
+        // Deliver the rows received before the error, and report the error on the next fetch
+        hasMore = true;
+      }
+    }
+    handler.handleResultRows(stream.getQuery(), stream.getFields(), rows,
+        hasMore ? stream : null);
+  }
+
+  /**
+   * Discards the remaining rows of a closed streaming resultset.
+   */
+  void closeStreaming(StreamingResult stream) {
+    try (ResourceLock ignore = lock.obtain()) {
+      if (lockedFor == stream) {
+        discardStreamingRows(stream);
+      }
+    } catch (PSQLException e) {
+      LOGGER.log(Level.FINE, "Unable to discard the rows of a streaming result set", e);
+    }
+  }
+
+  /**
+   * Skips the remaining rows of a streaming resultset without keeping them in memory, so the
+   * connection can be used for another operation. The query is cancelled first when that is safe,
+   * so the backend stops producing rows.
+   */
+  private void discardStreamingRows(StreamingResult stream) throws PSQLException {
+    stream.setDiscarded();
+    if (stream.isCancellable()) {
+      try {
+        sendQueryCancel();
+      } catch (SQLException e) {
+        // The rows are skipped anyway
+        LOGGER.log(Level.FINE, "Unable to cancel a streaming query", e);
+      }
+    }
+    try {
+      readStreamingRows(stream, null, Integer.MAX_VALUE);
+    } catch (IOException e) {
+      abort();
+      stream.setCompleted();
+      lockedFor = null;
+      throw new PSQLException(GT.tr("An I/O error occurred while sending to the backend."),
+          PSQLState.CONNECTION_FAILURE, e);
+    }
+  }
+
+  /**
+   * Reads up to {@code maxRows} rows of a streaming resultset. When the rows end, the rest of the
+   * messages are processed till ReadyForQuery, and the connection is unlocked.
+   *
+   * @param stream streaming resultset
+   * @param rows the list to add the rows to, or null to skip the rows
+   * @param maxRows the maximum number of rows to read
+   * @throws IOException if reading from the connection fails
+   */
+  private void readStreamingRows(StreamingResult stream, @Nullable List<Tuple> rows, int maxRows)
+      throws IOException {
+    int count = 0;
+    while (count < maxRows) {
+      int c = pgStream.peekChar();
+      switch (c) {
+        case PgMessageType.DATA_ROW_RESPONSE:
+          pgStream.receiveChar();
+          if (rows == null || stream.isDiscarded()) {
+            // Nobody is going to read the row
+            pgStream.skip(pgStream.receiveInteger4() - 4);
+            break;
+          }
+          // The rows are released as the resultset is advanced
+          pgStream.clearResultBufferCount();
+          try {
+            Tuple tuple = pgStream.receiveTupleV3();
+            if (LOGGER.isLoggable(Level.FINEST)) {
+              LOGGER.log(Level.FINEST, " <=BE DataRow(len={0})", tuple.length());
+            }
+            rows.add(tuple);
+            count++;
+          } catch (OutOfMemoryError oome) {
+            stream.addError(new PSQLException(GT.tr("Ran out of memory retrieving query results."),
+                PSQLState.OUT_OF_MEMORY, oome));
+          } catch (SQLException e) {
+            stream.addError(e);
+          }
+          break;
+        case 'A': // Asynchronous Notify
+          pgStream.receiveChar();
+          receiveAsyncNotify();
+          break;
+        case PgMessageType.NOTICE_RESPONSE:
+          pgStream.receiveChar();
+          stream.addWarning(receiveNoticeResponse());
+          break;
+        default:
+          finishStreaming(stream);
+          return;
+      }
+    }
+  }
+
+  /**
+   * Processes the messages that follow the rows of a streaming resultset till ReadyForQuery and
+   * unlocks the connection.
+   */
+  private void finishStreaming(StreamingResult stream) throws IOException {
+    ResultHandler handler = new ResultHandlerBase() {
+      @Override
+      public void handleResultRows(Query fromQuery, Field[] fields, List<Tuple> tuples,
+          @Nullable ResultCursor cursor) {
+        // The resultset has already been created, however, a few rows might follow
+        // a ParameterStatus message
+        if (!stream.isDiscarded()) {
+          for (Tuple tuple : tuples) {
+            stream.addBufferedRow(tuple);
+          }
+        }
+      }
+
+      @Override
+      public void handleCommandStatus(String status, long updateCount, long insertOID) {
+        // The update count of a query is not exposed
+      }
+
+      @Override
+      public void handleWarning(SQLWarning warning) {
+        stream.addWarning(warning);
+      }
+
+      @Override
+      public void handleError(SQLException error) {
+        stream.addError(error);
+      }
+    };
+    try {
+      processResults(handler, 0);
+    } finally {
+      stream.setCompleted();
+      lockedFor = null;
+      lockCondition.signal();
+    }
+  }
+
   @Override
   public int getAdaptiveFetchSize(boolean adaptiveFetch, ResultCursor cursor) {
     if (cursor instanceof Portal) {
@@ -3065,6 +3710,8 @@ private void receiveRFQ() throws IOException {
         throw new IOException(
             "unexpected transaction state in ReadyForQuery message: " + (int) tStatus);
     }
+    // The connection is idle till the next query, so it does not need the buffers
+    pgStream.releaseIdleBuffers();
   }
 
   @Override
@@ -3260,14 +3907,14 @@ public ReplicationProtocol getReplicationProtocol() {
 
   @Override
   public void addBinaryReceiveOid(int oid) {
-    synchronized (useBinaryReceiveForOids) {
+    try (ResourceLock ignore = binaryOidsLock.obtain()) {
       useBinaryReceiveForOids.add(oid);
     }
   }
 
   @Override
   public void removeBinaryReceiveOid(int oid) {
-    synchronized (useBinaryReceiveForOids) {
+    try (ResourceLock ignore = binaryOidsLock.obtain()) {
       useBinaryReceiveForOids.remove(oid);
     }
   }
@@ -3276,21 +3923,21 @@ public void removeBinaryReceiveOid(int oid) {
   @SuppressWarnings("deprecation")
   public Set<? extends Integer> getBinaryReceiveOids() {
     // copy the values to prevent ConcurrentModificationException when reader accesses the elements
-    synchronized (useBinaryReceiveForOids) {
+    try (ResourceLock ignore = binaryOidsLock.obtain()) {
       return useBinaryReceiveForOids.toMutableSet();
     }
   }
 
   @Override
   public boolean useBinaryForReceive(int oid) {
-    synchronized (useBinaryReceiveForOids) {
+    try (ResourceLock ignore = binaryOidsLock.obtain()) {
       return useBinaryReceiveForOids.contains(oid);
     }
   }
 
   @Override
   public void setBinaryReceiveOids(Set<Integer> oids) {
-    synchronized (useBinaryReceiveForOids) {
+    try (ResourceLock ignore = binaryOidsLock.obtain()) {
       useBinaryReceiveForOids.clear();
       useBinaryReceiveForOids.addAll(oids);
     }
@@ -3298,14 +3945,14 @@ public void setBinaryReceiveOids(Set<Integer> oids) {
 
   @Override
   public void addBinarySendOid(int oid) {
-    synchronized (useBinarySendForOids) {
+    try (ResourceLock ignore = binaryOidsLock.obtain()) {
       useBinarySendForOids.add(oid);
     }
   }
 
   @Override
   public void removeBinarySendOid(int oid) {
-    synchronized (useBinarySendForOids) {
+    try (ResourceLock ignore = binaryOidsLock.obtain()) {
       useBinarySendForOids.remove(oid);
     }
   }
@@ -3314,21 +3961,21 @@ public void removeBinarySendOid(int oid) {
   @SuppressWarnings("deprecation")
   public Set<? extends Integer> getBinarySendOids() {
     // copy the values to prevent ConcurrentModificationException when reader accesses the elements
-    synchronized (useBinarySendForOids) {
+    try (ResourceLock ignore = binaryOidsLock.obtain()) {
       return useBinarySendForOids.toMutableSet();
     }
   }
 
   @Override
   public boolean useBinaryForSend(int oid) {
-    synchronized (useBinarySendForOids) {
+    try (ResourceLock ignore = binaryOidsLock.obtain()) {
       return useBinarySendForOids.contains(oid);
     }
   }
 
   @Override
   public void setBinarySendOids(Set<Integer> oids) {
-    synchronized (useBinarySendForOids) {
+    try (ResourceLock ignore = binaryOidsLock.obtain()) {
       useBinarySendForOids.clear();
       useBinarySendForOids.addAll(oids);
     }
@@ -3364,6 +4011,36 @@ public boolean getIntegerDateTimes() {
    */
   private int estimatedReceiveBufferBytes;
 
+  /**
+   * Estimated response bytes a batch keeps in flight without a Sync, or 0 to send a Sync whenever
+   * {@link #estimatedReceiveBufferBytes} reaches MAX_BUFFERED_RECV_BYTES.
+   */
+  private final int batchWindowBytes;
+
+  /**
+   * Maximum number of statements a batch keeps in flight when {@link #batchWindowBytes} is
+   * enabled, or 0 for no limit.
+   */
+  private final int batchWindowStatements;
+
+  /**
+   * Estimated response sizes of the statements of the current batch which have been sent and not
+   * completed yet, oldest first. Null unless a batch is executed with {@link #batchWindowBytes}.
+   */
+  private @Nullable Deque<Integer> batchWindow;
+
+  /**
+   * True if one-shot statements are described before they are bound, so their results can use
+   * binary format, see {@link PGProperty#BINARY_TRANSFER_MODE}.
+   */
+  private final boolean describeBeforeBind;
+
+  /**
+   * The one-shot query whose unnamed statement was parsed and described by
+   * {@link #describeOneShotQuery}, so {@link #sendOneQuery} binds it without parsing it again.
+   */
+  private @Nullable SimpleQuery describedOneShotQuery;
+
   private final SimpleQuery beginTransactionQuery =
       new SimpleQuery(
           new NativeQuery("BEGIN", null, false, SqlCommand.BLANK),
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core.v3;
+
+import org.postgresql.core.Field;
+import org.postgresql.core.QueryExecutor;
+import org.postgresql.core.ResultCursor;
+import org.postgresql.core.Tuple;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ResultCursor} for the rows that are still in the connection, see
+ * {@link QueryExecutor#QUERY_STREAMING}. While the rows are being read, the connection is locked
+ * for the instance. When the cursor is closed early, or another operation needs the connection,
+ * the remaining rows are discarded rather than kept in memory, and the query is cancelled if that
+ * is safe (see {@link #isCancellable()}).
+ */
+class StreamingResult implements ResultCursor {
+  private final QueryExecutorImpl executor;
+  private final SimpleQuery query;
+  private final Field[] fields;
+  private final boolean cancellable;
+
+  /**
+   * Rows received while the messages that end the query were processed, e.g. the rows that follow
+   * a ParameterStatus message.
+   */
+  private @Nullable List<Tuple> bufferedRows;
+
+  /**
+   * Error to report once the rows received before the error are consumed.
+   */
+  private @Nullable SQLException error;
+  private @Nullable SQLWarning warning;
+  private boolean completed;
+  private boolean discarded;
+  private volatile boolean closed;
+
+  StreamingResult(QueryExecutorImpl executor, SimpleQuery query, Field[] fields,
+      boolean cancellable) {
+    this.executor = executor;
+    this.query = query;
+    this.fields = fields;
+    this.cancellable = cancellable;
+  }
+
+  SimpleQuery getQuery() {
+    return query;
+  }
+
+  Field[] getFields() {
+    return fields;
+  }
+
+  /**
+   * Returns true if all the messages of the query have been received, so the rows can be served
+   * from {@link #bufferedRows} only.
+   */
+  boolean isCompleted() {
+    return completed;
+  }
+
+  void setCompleted() {
+    completed = true;
+  }
+
+  /**
+   * Returns true if the query can be cancelled to skip the remaining rows: the query is a
+   * {@code SELECT} that runs in its own implicit transaction, so cancelling it neither aborts the
+   * transaction of the application nor rolls back changes.
+   */
+  boolean isCancellable() {
+    return cancellable;
+  }
+
+  /**
+   * Returns true if nobody is going to read the remaining rows.
+   */
+  boolean isDiscarded() {
+    return discarded || closed;
+  }
+
+  void setDiscarded() {
+    discarded = true;
+  }
+
+  void addBufferedRow(Tuple tuple) {
+    List<Tuple> bufferedRows = this.bufferedRows;
+    if (bufferedRows == null) {
+      bufferedRows = new ArrayList<>();
+      this.bufferedRows = bufferedRows;
+    }
+    bufferedRows.add(tuple);
+  }
+
+  @Nullable List<Tuple> takeBufferedRows() {
+    List<Tuple> bufferedRows = this.bufferedRows;
+    this.bufferedRows = null;
+    return bufferedRows;
+  }
+
+  void addError(SQLException error) {
+    SQLException prev = this.error;
+    if (prev == null) {
+      this.error = error;
+    } else {
+      prev.setNextException(error);
+    }
+  }
+
+  boolean hasError() {
+    return error != null;
+  }
+
+  @Nullable SQLException takeError() {
+    SQLException error = this.error;
+    this.error = null;
+    return error;
+  }
+
+  void addWarning(SQLWarning warning) {
+    SQLWarning prev = this.warning;
+    if (prev == null) {
+      this.warning = warning;
+    } else {
+      prev.setNextWarning(warning);
+    }
+  }
+
+  @Nullable SQLWarning takeWarning() {
+    SQLWarning warning = this.warning;
+    this.warning = null;
+    return warning;
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    executor.closeStreaming(this);
+  }
+
+  @Override
+  public String toString() {
+    return "StreamingResult{query=" + query + ", completed=" + completed + '}';
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core.v3.replication;
+
+import static org.postgresql.util.internal.Nullness.castNonNull;
+
+import org.postgresql.core.PGStream;
+import org.postgresql.core.v3.CopyDualImpl;
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.replication.ReplicationBatch;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Buffers that the messages of {@link V3PGReplicationStream#readBatch(int)} are received into.
+ * Each batch reuses the buffers of the previous one, and a buffer grows only when a message does
+ * not fit, so reading a batch allocates nothing once the buffers are large enough.
+ *
+ * <p>A message is received into the slot after the last message of the batch, and becomes part of
+ * the batch with {@link #add(long)}. A keepalive message is not added, so its slot is reused by the
+ * next message.</p>
+ */
+final class ReplicationBufferRing implements ReplicationBatch, CopyDualImpl.CopyDataReceiver {
+  private static final int INITIAL_BUFFER_SIZE = 1024;
+
+  private byte[] @Nullable [] arrays;
+  private @Nullable ByteBuffer[] buffers;
+  private long[] lsns;
+  private int size;
+  private @Nullable ByteBuffer received;
+
+  ReplicationBufferRing(int capacity) {
+    arrays = new byte[capacity][];
+    buffers = new ByteBuffer[capacity];
+    lsns = new long[capacity];
+  }
+
+  int capacity() {
+    return arrays.length;
+  }
+
+  void ensureCapacity(int capacity) {
+    if (capacity > arrays.length) {
+      arrays = Arrays.copyOf(arrays, capacity);
+      buffers = Arrays.copyOf(buffers, capacity);
+      lsns = Arrays.copyOf(lsns, capacity);
+    }
+  }
+
+  /**
+   * Starts a new batch, releasing the buffers of the previous one.
+   */
+  void clear() {
+    size = 0;
+    received = null;
+  }
+
+  @Override
+  public void receive(PGStream pgStream, int len) throws IOException {
+    ByteBuffer buffer = allocate(len);
+    pgStream.receive(buffer.array(), 0, len);
+  }
+
+  /**
+   * Copies a message that was received into a new array.
+   *
+   * @param data the message
+   */
+  void receive(byte[] data) {
+    ByteBuffer buffer = allocate(data.length);
+    System.arraycopy(data, 0, buffer.array(), 0, data.length);
+  }
+
+  private ByteBuffer allocate(int len) {
+    int slot = size;
+    byte[] array = arrays[slot];
+    ByteBuffer buffer = buffers[slot];
+    if (array == null || buffer == null || array.length < len) {
+      int length = array == null ? INITIAL_BUFFER_SIZE : array.length;
+      while (length < len) {
+        length = length > Integer.MAX_VALUE / 2 ? len : length * 2;
+      }
+      array = new byte[length];
+      buffer = ByteBuffer.wrap(array);
+      arrays[slot] = array;
+      buffers[slot] = buffer;
+    }
+    buffer.clear();
+    buffer.limit(len);
+    received = buffer;
+    return buffer;
+  }
+
+  /**
+   * Returns the message received since the last call, if any.
+   *
+   * @return the message, positioned at its first byte
+   */
+  @Nullable ByteBuffer pollReceived() {
+    ByteBuffer buffer = received;
+    received = null;
+    return buffer;
+  }
+
+  /**
+   * Adds the last received message to the batch. Its buffer must be positioned at the data.
+   *
+   * @param lsn WAL position of the message
+   */
+  void add(long lsn) {
+    lsns[size++] = lsn;
+  }
+
+  boolean isFull() {
+    return size == arrays.length;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public ByteBuffer getData(int index) {
+    checkIndex(index);
+    return castNonNull(buffers[index]);
+  }
+
+  @Override
+  public LogSequenceNumber getLSN(int index) {
+    checkIndex(index);
+    return LogSequenceNumber.valueOf(lsns[index]);
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+    }
+  }
+}
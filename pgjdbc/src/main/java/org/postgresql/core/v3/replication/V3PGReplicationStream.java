@@ -5,9 +5,13 @@
 
 package org.postgresql.core.v3.replication;
 
+import static org.postgresql.util.internal.Nullness.castNonNull;
+
 import org.postgresql.copy.CopyDual;
+import org.postgresql.core.v3.CopyDualImpl;
 import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.replication.PGReplicationStream;
+import org.postgresql.replication.ReplicationBatch;
 import org.postgresql.replication.ReplicationType;
 import org.postgresql.util.GT;
 import org.postgresql.util.PSQLException;
@@ -19,7 +23,10 @@
 import java.nio.ByteBuffer;
 import java.sql.SQLException;
 import java.util.Date;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -28,13 +35,22 @@ public class V3PGReplicationStream implements PGReplicationStream {
   private static final Logger LOGGER = Logger.getLogger(V3PGReplicationStream.class.getName());
   public static final long POSTGRES_EPOCH_2000_01_01 = 946684800000L;
   private static final long NANOS_PER_MILLISECOND = 1000000L;
+  private static final long STATUS_SHUTDOWN_TIMEOUT_SECONDS = 5;
 
   private final CopyDual copyDual;
   private final long updateInterval;
   private final ReplicationType replicationType;
   private final boolean automaticFlush;
   private long lastStatusUpdate;
-  private boolean closeFlag;
+  private volatile boolean closeFlag;
+
+  /**
+   * Sends the status updates when they are sent asynchronously.
+   */
+  private final @Nullable ScheduledThreadPoolExecutor statusExecutor;
+  private volatile boolean statusSending;
+  private volatile @Nullable SQLException statusFailure;
+  private @Nullable ReplicationBufferRing ring;
 
   private LogSequenceNumber lastServerLSN = LogSequenceNumber.INVALID_LSN;
   /**
@@ -60,6 +76,22 @@ public class V3PGReplicationStream implements PGReplicationStream {
    */
   public V3PGReplicationStream(CopyDual copyDual, LogSequenceNumber startLSN, long updateIntervalMs,
       boolean automaticFlush, ReplicationType replicationType
+  ) {
+    this(copyDual, startLSN, updateIntervalMs, automaticFlush, false, replicationType);
+  }
+
+  /**
+   * @param copyDual           bidirectional copy protocol
+   * @param startLSN           the position in the WAL that we want to initiate replication from
+   * @param updateIntervalMs   the number of millisecond between status packets sent back to the
+   *                           server
+   * @param automaticFlush     whether to advance the flushed LSN with the keepalive messages
+   * @param asyncStatusUpdates whether the status packets are sent by a background thread instead
+   *                           of the thread that reads the stream
+   * @param replicationType    LOGICAL or PHYSICAL
+   */
+  public V3PGReplicationStream(CopyDual copyDual, LogSequenceNumber startLSN, long updateIntervalMs,
+      boolean automaticFlush, boolean asyncStatusUpdates, ReplicationType replicationType
   ) {
     this.copyDual = copyDual;
     this.updateInterval = updateIntervalMs * NANOS_PER_MILLISECOND;
@@ -67,6 +99,21 @@ public V3PGReplicationStream(CopyDual copyDual, LogSequenceNumber startLSN, long
     this.lastReceiveLSN = startLSN;
     this.automaticFlush = automaticFlush;
     this.replicationType = replicationType;
+    if (asyncStatusUpdates) {
+      ScheduledThreadPoolExecutor statusExecutor = new ScheduledThreadPoolExecutor(1, r -> {
+        Thread thread = new Thread(r, "PgJDBC-Replication-Status");
+        thread.setDaemon(true);
+        return thread;
+      });
+      statusExecutor.setRemoveOnCancelPolicy(true);
+      if (updateIntervalMs > 0) {
+        statusExecutor.scheduleWithFixedDelay(() -> sendStatus(false), updateIntervalMs,
+            updateIntervalMs, TimeUnit.MILLISECONDS);
+      }
+      this.statusExecutor = statusExecutor;
+    } else {
+      this.statusExecutor = null;
+    }
   }
 
   @Override
@@ -87,6 +134,66 @@ public V3PGReplicationStream(CopyDual copyDual, LogSequenceNumber startLSN, long
     return readInternal(false);
   }
 
+  @Override
+  public ReplicationBatch readBatch(int max) throws SQLException {
+    checkClose();
+    if (max < 1) {
+      throw new PSQLException(
+          GT.tr("The maximum number of messages must be positive: {0}", max),
+          PSQLState.INVALID_PARAMETER_VALUE);
+    }
+
+    ReplicationBufferRing ring = this.ring;
+    if (ring == null) {
+      ring = new ReplicationBufferRing(max);
+      this.ring = ring;
+    } else {
+      ring.ensureCapacity(max);
+    }
+    ring.clear();
+
+    boolean updateStatusRequired = false;
+    while (ring.size() < max && copyDual.isActive()) {
+      // Wait for the first message only, then take the messages that were already received
+      boolean block = ring.size() == 0;
+      ByteBuffer buffer = receiveNextData(ring, block);
+
+      updateStatusIfRequired(updateStatusRequired);
+      updateStatusRequired = false;
+
+      if (buffer == null) {
+        if (!block) {
+          break;
+        }
+        yieldToStatusUpdate();
+        continue;
+      }
+
+      int code = buffer.get();
+
+      switch (code) {
+
+        case 'k': //KeepAlive message
+          updateStatusRequired = processKeepAliveMessage(buffer);
+          updateStatusRequired |= updateInterval == 0;
+          break;
+
+        case 'w': //XLogData
+          processXLogHeader(buffer);
+          ring.add(lastReceiveLSN.asLong());
+          break;
+
+        default:
+          throw new PSQLException(
+              GT.tr("Unexpected packet type during replication: {0}", Integer.toString(code)),
+              PSQLState.PROTOCOL_VIOLATION
+          );
+      }
+    }
+
+    return ring;
+  }
+
   @Override
   public LogSequenceNumber getLastReceiveLSN() {
     return lastReceiveLSN;
@@ -115,6 +222,10 @@ public void setAppliedLSN(LogSequenceNumber applied) {
   @Override
   public void forceUpdateStatus() throws SQLException {
     checkClose();
+    if (statusExecutor != null) {
+      requestStatusUpdate(true);
+      return;
+    }
     updateStatusInternal(lastReceiveLSN, lastFlushedLSN, lastAppliedLSN, true);
   }
 
@@ -129,11 +240,10 @@ public boolean isClosed() {
 
       ByteBuffer buffer = receiveNextData(block);
 
-      if (updateStatusRequired || isTimeUpdate()) {
-        timeUpdateStatus();
-      }
+      updateStatusIfRequired(updateStatusRequired);
 
       if (buffer == null) {
+        yieldToStatusUpdate();
         return null;
       }
 
@@ -178,6 +288,89 @@ public boolean isClosed() {
     }
   }
 
+  /**
+   * Receives the next message into the buffers of a batch.
+   *
+   * @return the message, or null if no message was received
+   */
+  private @Nullable ByteBuffer receiveNextData(ReplicationBufferRing ring, boolean block)
+      throws SQLException {
+    try {
+      if (copyDual instanceof CopyDualImpl) {
+        ((CopyDualImpl) copyDual).readFromCopy(ring, block);
+      } else {
+        byte[] message = copyDual.readFromCopy(block);
+        if (message != null) {
+          ring.receive(message);
+        }
+      }
+      return ring.pollReceived();
+    } catch (PSQLException e) {
+      if (e.getCause() instanceof SocketTimeoutException) {
+        //signal for keep alive
+        return null;
+      }
+
+      throw e;
+    }
+  }
+
+  private void updateStatusIfRequired(boolean required) throws SQLException {
+    if (statusExecutor != null) {
+      // The status thread sends the periodic updates
+      if (required) {
+        requestStatusUpdate(false);
+      }
+    } else if (required || isTimeUpdate()) {
+      timeUpdateStatus();
+    }
+  }
+
+  private void requestStatusUpdate(boolean replyRequired) {
+    ScheduledThreadPoolExecutor statusExecutor = this.statusExecutor;
+    if (statusExecutor == null) {
+      return;
+    }
+    try {
+      statusExecutor.execute(() -> sendStatus(replyRequired));
+    } catch (RejectedExecutionException e) {
+      // The stream is being closed
+    }
+  }
+
+  /**
+   * Sends a status update from the status thread. A failure is reported by the next call of the
+   * reading thread.
+   */
+  private void sendStatus(boolean replyRequired) {
+    if (closeFlag || !copyDual.isActive()) {
+      // The stream or the connection was closed
+      castNonNull(statusExecutor).shutdown();
+      return;
+    }
+    statusSending = true;
+    try {
+      updateStatusInternal(lastReceiveLSN, lastFlushedLSN, lastAppliedLSN, replyRequired);
+    } catch (SQLException e) {
+      if (!isClosed()) {
+        LOGGER.log(Level.FINE, "Failed to send the replication status", e);
+        statusFailure = e;
+      }
+    } finally {
+      statusSending = false;
+    }
+  }
+
+  /**
+   * The reading thread holds the connection while it waits for a message, so after a wait timed
+   * out let the status thread send its update before waiting again.
+   */
+  private void yieldToStatusUpdate() {
+    while (statusSending && !closeFlag) {
+      LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+    }
+  }
+
   private boolean isTimeUpdate() {
     /* a value of 0 disables automatic updates */
     if ( updateInterval == 0 ) {
@@ -196,8 +389,12 @@ private void updateStatusInternal(
       boolean replyRequired)
       throws SQLException {
     byte[] reply = prepareUpdateStatus(received, flushed, applied, replyRequired);
-    copyDual.writeToCopy(reply, 0, reply.length);
-    copyDual.flushCopy();
+    if (copyDual instanceof CopyDualImpl) {
+      ((CopyDualImpl) copyDual).writeToCopyAndFlush(reply, 0, reply.length);
+    } else {
+      copyDual.writeToCopy(reply, 0, reply.length);
+      copyDual.flushCopy();
+    }
 
     explicitlyFlushedLSN = flushed;
     lastStatusUpdate = System.nanoTime();
@@ -263,6 +460,14 @@ private boolean processKeepAliveMessage(ByteBuffer buffer) {
   }
 
   private ByteBuffer processXLogData(ByteBuffer buffer) {
+    processXLogHeader(buffer);
+    return buffer.slice();
+  }
+
+  /**
+   * Reads the header of a XLogData message, so the buffer is positioned at the data.
+   */
+  private void processXLogHeader(ByteBuffer buffer) {
     long startLsn = buffer.getLong();
     startOfLastMessageLSN = LogSequenceNumber.valueOf(startLsn);
     lastServerLSN = LogSequenceNumber.valueOf(buffer.getLong());
@@ -279,8 +484,6 @@ private ByteBuffer processXLogData(ByteBuffer buffer) {
       LOGGER.log(Level.FINEST, "  <=BE XLogData(currWal: {0}, lastServerWal: {1}, clock: {2})",
           new Object[]{lastReceiveLSN.asString(), lastServerLSN.asString(), systemClock});
     }
-
-    return buffer.slice();
   }
 
   private void checkClose() throws PSQLException {
@@ -288,10 +491,27 @@ private void checkClose() throws PSQLException {
       throw new PSQLException(GT.tr("This replication stream has been closed."),
           PSQLState.CONNECTION_DOES_NOT_EXIST);
     }
+    SQLException statusFailure = this.statusFailure;
+    if (statusFailure != null) {
+      this.statusFailure = null;
+      throw new PSQLException(GT.tr("Failed to send the status of the replication stream."),
+          PSQLState.COMMUNICATION_ERROR, statusFailure);
+    }
   }
 
   @Override
   public void close() throws SQLException {
+    ScheduledThreadPoolExecutor statusExecutor = this.statusExecutor;
+    if (statusExecutor != null) {
+      // Let the requested updates be sent before the replication stops
+      statusExecutor.shutdown();
+      try {
+        statusExecutor.awaitTermination(STATUS_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
     if (isClosed()) {
       return;
     }
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.ds;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Holds the entries of {@link PGConnectionPool} so that borrowing and returning an entry does not
+ * take a lock. The state of each entry is changed with compare-and-set.
+ *
+ * <ul>
+ * <li>A thread first tries the entries it returned recently, which are kept in a thread-local
+ * list, so a thread that borrows and returns connections in a loop does not contend with the
+ * other threads.</li>
+ * <li>Then it scans the shared list of all the entries.</li>
+ * <li>Then it waits for an entry that another thread returns, or for a new entry. A returned entry
+ * is handed directly to a waiting thread.</li>
+ * </ul>
+ *
+ * @param <T> the type of the entries
+ */
+final class ConcurrentBag<T extends ConcurrentBag.Entry> {
+  /**
+   * An entry of the bag, with its state.
+   */
+  abstract static class Entry {
+    static final int NOT_IN_USE = 0;
+    static final int IN_USE = 1;
+    static final int REMOVED = -1;
+    static final int RESERVED = -2;
+
+    private static final AtomicIntegerFieldUpdater<Entry> STATE =
+        AtomicIntegerFieldUpdater.newUpdater(Entry.class, "state");
+
+    private volatile int state;
+
+    final int getState() {
+      return state;
+    }
+
+    final void setState(int state) {
+      this.state = state;
+    }
+
+    final boolean compareAndSetState(int expect, int update) {
+      return STATE.compareAndSet(this, expect, update);
+    }
+  }
+
+  /**
+   * Notified when a thread waits for an entry, so the owner can add entries.
+   */
+  interface Listener {
+    /**
+     * Called when a thread found no entry that is not in use.
+     *
+     * @param waiting the number of threads that wait for an entry
+     */
+    void addRequested(int waiting);
+  }
+
+  // Number of recently returned entries that a thread keeps
+  private static final int MAX_LOCAL_ENTRIES = 16;
+
+  private final CopyOnWriteArrayList<T> shared = new CopyOnWriteArrayList<>();
+  private final ThreadLocal<List<WeakReference<T>>> local = new ThreadLocal<>();
+  private final AtomicInteger waiters = new AtomicInteger();
+  private final SynchronousQueue<T> handoff = new SynchronousQueue<>(true);
+  private final Listener listener;
+
+  ConcurrentBag(Listener listener) {
+    this.listener = listener;
+  }
+
+  /**
+   * Borrows an entry, waiting up to the given time if all the entries are in use.
+   *
+   * @param timeoutNanos how long to wait for an entry
+   * @return the entry, now in use, or null if the time elapsed
+   * @throws InterruptedException if the thread is interrupted while it waits
+   */
+  @Nullable T borrow(long timeoutNanos) throws InterruptedException {
+    List<WeakReference<T>> recent = local.get();
+    if (recent != null) {
+      for (int i = recent.size() - 1; i >= 0; i--) {
+        T entry = recent.remove(i).get();
+        if (entry != null && entry.compareAndSetState(Entry.NOT_IN_USE, Entry.IN_USE)) {
+          return entry;
+        }
+      }
+    }
+
+    int waiting = waiters.incrementAndGet();
+    try {
+      for (T entry : shared) {
+        if (entry.compareAndSetState(Entry.NOT_IN_USE, Entry.IN_USE)) {
+          if (waiting > 1) {
+            // This thread may have taken the entry another thread waits for
+            listener.addRequested(waiting - 1);
+          }
+          return entry;
+        }
+      }
+
+      listener.addRequested(waiting);
+      long deadline = System.nanoTime() + timeoutNanos;
+      do {
+        T entry = handoff.poll(timeoutNanos, TimeUnit.NANOSECONDS);
+        if (entry == null || entry.compareAndSetState(Entry.NOT_IN_USE, Entry.IN_USE)) {
+          return entry;
+        }
+        timeoutNanos = deadline - System.nanoTime();
+      } while (timeoutNanos > 0);
+      return null;
+    } finally {
+      waiters.decrementAndGet();
+    }
+  }
+
+  /**
+   * Returns a borrowed entry to the bag. The entry is handed to a waiting thread if there is one.
+   *
+   * @param entry the entry
+   */
+  void requite(T entry) {
+    entry.setState(Entry.NOT_IN_USE);
+    for (int i = 0; waiters.get() > 0; i++) {
+      if (entry.getState() != Entry.NOT_IN_USE || handoff.offer(entry)) {
+        return;
+      }
+      if ((i & 0xff) == 0xff) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+      } else {
+        Thread.yield();
+      }
+    }
+    List<WeakReference<T>> recent = local.get();
+    if (recent == null) {
+      recent = new ArrayList<>(MAX_LOCAL_ENTRIES);
+      local.set(recent);
+    }
+    if (recent.size() < MAX_LOCAL_ENTRIES) {
+      recent.add(new WeakReference<>(entry));
+    }
+  }
+
+  /**
+   * Adds a new entry, which is not in use, and hands it to a waiting thread if there is one.
+   *
+   * @param entry the entry
+   */
+  void add(T entry) {
+    shared.add(entry);
+    while (waiters.get() > 0 && entry.getState() == Entry.NOT_IN_USE && !handoff.offer(entry)) {
+      Thread.yield();
+    }
+  }
+
+  /**
+   * Removes an entry that is in use or reserved.
+   *
+   * @param entry the entry
+   * @return false if the entry is not in use or reserved
+   */
+  boolean remove(T entry) {
+    if (!entry.compareAndSetState(Entry.IN_USE, Entry.REMOVED)
+        && !entry.compareAndSetState(Entry.RESERVED, Entry.REMOVED)) {
+      return false;
+    }
+    return shared.remove(entry);
+  }
+
+  /**
+   * Reserves an entry which is not in use, so it can't be borrowed while it is checked.
+   *
+   * @param entry the entry
+   * @return true if the entry is reserved
+   */
+  boolean reserve(T entry) {
+    return entry.compareAndSetState(Entry.NOT_IN_USE, Entry.RESERVED);
+  }
+
+  /**
+   * Makes a reserved entry available again.
+   *
+   * @param entry the entry
+   */
+  void unreserve(T entry) {
+    if (entry.compareAndSetState(Entry.RESERVED, Entry.NOT_IN_USE)) {
+      while (waiters.get() > 0 && entry.getState() == Entry.NOT_IN_USE
+          && !handoff.offer(entry)) {
+        Thread.yield();
+      }
+    }
+  }
+
+  /**
+   * Returns a snapshot of the entries.
+   *
+   * @return the entries
+   */
+  List<T> values() {
+    return new ArrayList<>(shared);
+  }
+
+  int size() {
+    return shared.size();
+  }
+
+  int getCount(int state) {
+    int count = 0;
+    for (T entry : shared) {
+      if (entry.getState() == state) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  int getWaitingThreadCount() {
+    return waiters.get();
+  }
+}
@@ -0,0 +1,702 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.ds;
+
+import org.postgresql.ds.common.BaseDataSource;
+import org.postgresql.jdbc.ResourceLock;
+import org.postgresql.util.DriverInfo;
+import org.postgresql.util.GT;
+import org.postgresql.util.LazyCleaner;
+import org.postgresql.util.LazyCleanerImpl;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.naming.NamingException;
+import javax.naming.Reference;
+import javax.naming.StringRefAddr;
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+import javax.sql.DataSource;
+
+/**
+ * DataSource with a connection pool, for applications that can't use a third-party pool. Unlike
+ * {@link PGPoolingDataSource}, borrowing and returning a connection does not take a lock, so the
+ * pool scales with the number of threads.
+ *
+ * <ul>
+ * <li>A thread first reuses the connections it returned recently, then takes any idle
+ * connection, then waits up to {@code connectionTimeout} for a returned or a new connection.</li>
+ * <li>A background thread opens the connections: {@code minIdle} connections when the pool starts,
+ * then one for each thread that waits, up to {@code maxConnections}.</li>
+ * <li>Connections are closed after {@code maxLifetime}, or when they stay idle for
+ * {@code idleTimeout} while the pool has more than {@code minIdle} idle connections.</li>
+ * <li>A connection idle for more than {@code validationInterval} is validated with
+ * {@link Connection#isValid(int)} before it is handed out.</li>
+ * <li>With {@code leakDetection}, a connection that is garbage collected without being closed is
+ * logged with the stack trace of the code that borrowed it, and replaced.</li>
+ * </ul>
+ *
+ * <p>Only the connections for the user and password of the DataSource are pooled. Connections for
+ * other users are not pooled. The pool properties can't be changed after the pool is started,
+ * which happens with the first connection or with {@link #initialize()}.</p>
+ */
+public class PGConnectionPool extends BaseDataSource implements DataSource, AutoCloseable {
+  private static final Logger LOGGER = Logger.getLogger(PGConnectionPool.class.getName());
+
+  // Maximum interval of the checks of the idle connections and of the lifetimes
+  private static final long HOUSEKEEPING_PERIOD_MILLIS = TimeUnit.SECONDS.toMillis(30);
+  private static final long MIN_HOUSEKEEPING_PERIOD_MILLIS = 100;
+
+  private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+  private int maxConnections = 10;
+  private int minIdle = 0;
+  private long connectionTimeout = TimeUnit.SECONDS.toMillis(30);
+  private long maxLifetime = TimeUnit.MINUTES.toMillis(30);
+  private long idleTimeout = TimeUnit.MINUTES.toMillis(10);
+  private long validationInterval = 500;
+  private int validationTimeout = 5;
+  private boolean leakDetection;
+  private boolean defaultAutoCommit = true;
+
+  private final ResourceLock lock = new ResourceLock();
+  private volatile boolean initialized;
+  private volatile boolean closed;
+  private @Nullable ConcurrentBag<PoolEntry> bag;
+  private @Nullable ScheduledThreadPoolExecutor executor;
+  private final AtomicBoolean filling = new AtomicBoolean();
+  private final AtomicInteger borrowed = new AtomicInteger();
+  private volatile @Nullable SQLException lastCreateFailure;
+
+  /**
+   * A pooled connection with its state in the bag.
+   */
+  private final class PoolEntry extends ConcurrentBag.Entry implements ConnectionEventListener {
+    final Connection connection;
+    final PGPooledConnection pooledConnection;
+    final long expiresNanos;
+    volatile long lastReturnedNanos;
+    volatile boolean evict;
+    // Set while the connection is borrowed with leakDetection
+    volatile LazyCleaner.@Nullable Cleanable<RuntimeException> leakCleanable;
+
+    PoolEntry(Connection connection, long createdNanos) {
+      this.connection = connection;
+      this.pooledConnection = new PGPooledConnection(connection, defaultAutoCommit);
+      this.lastReturnedNanos = createdNanos;
+      long lifetimeNanos = TimeUnit.MILLISECONDS.toNanos(maxLifetime);
+      // Spread the expirations, so the connections opened together are not closed together
+      long jitterNanos = ThreadLocalRandom.current().nextLong(lifetimeNanos / 40 + 1);
+      this.expiresNanos =
+          maxLifetime <= 0 ? Long.MAX_VALUE : createdNanos + lifetimeNanos - jitterNanos;
+      pooledConnection.addConnectionEventListener(this);
+    }
+
+    boolean isExpired(long nowNanos) {
+      return evict || nowNanos - expiresNanos >= 0;
+    }
+
+    @Override
+    public void connectionClosed(ConnectionEvent event) {
+      LazyCleaner.Cleanable<RuntimeException> leakCleanable = this.leakCleanable;
+      if (leakCleanable != null) {
+        this.leakCleanable = null;
+        leakCleanable.clean();
+      }
+      returnEntry(this);
+    }
+
+    @Override
+    public void connectionErrorOccurred(ConnectionEvent event) {
+      // The physical connection is broken
+      evict = true;
+    }
+  }
+
+  /**
+   * Gets a description of this DataSource.
+   */
+  @Override
+  public String getDescription() {
+    return "Connection pool from " + DriverInfo.DRIVER_FULL_NAME;
+  }
+
+  private void checkNotInitialized() {
+    if (initialized) {
+      throw new IllegalStateException(
+          "Cannot set Data Source properties after DataSource has been used");
+    }
+  }
+
+  /**
+   * Gets the maximum number of connections of the pool, in use or idle.
+   *
+   * @return the maximum number of connections
+   */
+  public int getMaxConnections() {
+    return maxConnections;
+  }
+
+  /**
+   * Sets the maximum number of connections of the pool, in use or idle. The default is 10.
+   *
+   * @param maxConnections the maximum number of connections
+   */
+  public void setMaxConnections(int maxConnections) {
+    checkNotInitialized();
+    this.maxConnections = maxConnections;
+  }
+
+  /**
+   * Gets the number of idle connections that the pool keeps open.
+   *
+   * @return the minimum number of idle connections
+   */
+  public int getMinIdle() {
+    return minIdle;
+  }
+
+  /**
+   * Sets the number of idle connections that the pool keeps open, within
+   * {@code maxConnections}. They are opened in the background when the pool starts. The default
+   * is 0.
+   *
+   * @param minIdle the minimum number of idle connections
+   */
+  public void setMinIdle(int minIdle) {
+    checkNotInitialized();
+    this.minIdle = minIdle;
+  }
+
+  /**
+   * Gets how long {@link #getConnection()} waits for a connection when all are in use.
+   *
+   * @return the timeout in milliseconds
+   */
+  public long getConnectionTimeout() {
+    return connectionTimeout;
+  }
+
+  /**
+   * Sets how long {@link #getConnection()} waits for a connection when all are in use. The
+   * default is 30 seconds.
+   *
+   * @param connectionTimeout the timeout in milliseconds
+   */
+  public void setConnectionTimeout(long connectionTimeout) {
+    checkNotInitialized();
+    this.connectionTimeout = connectionTimeout;
+  }
+
+  /**
+   * Gets the maximum lifetime of a connection.
+   *
+   * @return the maximum lifetime in milliseconds, 0 for no maximum
+   */
+  public long getMaxLifetime() {
+    return maxLifetime;
+  }
+
+  /**
+   * Sets the maximum lifetime of a connection. A connection in use is closed when it is returned.
+   * The default is 30 minutes.
+   *
+   * @param maxLifetime the maximum lifetime in milliseconds, 0 for no maximum
+   */
+  public void setMaxLifetime(long maxLifetime) {
+    checkNotInitialized();
+    this.maxLifetime = maxLifetime;
+  }
+
+  /**
+   * Gets how long a connection stays idle before it is closed.
+   *
+   * @return the idle timeout in milliseconds, 0 to keep the idle connections
+   */
+  public long getIdleTimeout() {
+    return idleTimeout;
+  }
+
+  /**
+   * Sets how long a connection stays idle before it is closed, as long as the pool has more than
+   * {@code minIdle} idle connections. The default is 10 minutes.
+   *
+   * @param idleTimeout the idle timeout in milliseconds, 0 to keep the idle connections
+   */
+  public void setIdleTimeout(long idleTimeout) {
+    checkNotInitialized();
+    this.idleTimeout = idleTimeout;
+  }
+
+  /**
+   * Gets how long a connection can stay idle before it is validated when it is borrowed.
+   *
+   * @return the validation interval in milliseconds
+   */
+  public long getValidationInterval() {
+    return validationInterval;
+  }
+
+  /**
+   * Sets how long a connection can stay idle before it is validated with
+   * {@link Connection#isValid(int)} when it is borrowed. The default is 500 milliseconds.
+   *
+   * @param validationInterval the validation interval in milliseconds, a negative value disables
+   *     the validation
+   */
+  public void setValidationInterval(long validationInterval) {
+    checkNotInitialized();
+    this.validationInterval = validationInterval;
+  }
+
+  /**
+   * Gets the timeout of the validation of a connection.
+   *
+   * @return the validation timeout in seconds
+   */
+  public int getValidationTimeout() {
+    return validationTimeout;
+  }
+
+  /**
+   * Sets the timeout of the validation of a connection. The default is 5 seconds.
+   *
+   * @param validationTimeout the validation timeout in seconds
+   */
+  public void setValidationTimeout(int validationTimeout) {
+    checkNotInitialized();
+    this.validationTimeout = validationTimeout;
+  }
+
+  /**
+   * Gets whether the connections that are not closed are detected.
+   *
+   * @return true if leak detection is enabled
+   */
+  public boolean getLeakDetection() {
+    return leakDetection;
+  }
+
+  /**
+   * Sets whether the connections that are garbage collected without being closed are logged with
+   * the stack trace of the code that borrowed them. The pool replaces them with new connections.
+   * This records a stack trace for each borrow. The default is false.
+   *
+   * @param leakDetection true to enable leak detection
+   */
+  public void setLeakDetection(boolean leakDetection) {
+    checkNotInitialized();
+    this.leakDetection = leakDetection;
+  }
+
+  /**
+   * Gets the auto-commit mode of the borrowed connections.
+   *
+   * @return the auto-commit mode of the borrowed connections
+   */
+  public boolean isDefaultAutoCommit() {
+    return defaultAutoCommit;
+  }
+
+  /**
+   * Sets the auto-commit mode of the borrowed connections. The default is true.
+   *
+   * @param defaultAutoCommit the auto-commit mode of the borrowed connections
+   */
+  public void setDefaultAutoCommit(boolean defaultAutoCommit) {
+    checkNotInitialized();
+    this.defaultAutoCommit = defaultAutoCommit;
+  }
+
+  /**
+   * Returns the number of connections of the pool, in use or idle.
+   *
+   * @return the number of connections
+   */
+  public int getTotalConnections() {
+    ConcurrentBag<PoolEntry> bag = this.bag;
+    return bag == null ? 0 : bag.size();
+  }
+
+  /**
+   * Returns the number of idle connections of the pool.
+   *
+   * @return the number of idle connections
+   */
+  public int getIdleConnections() {
+    ConcurrentBag<PoolEntry> bag = this.bag;
+    return bag == null ? 0 : bag.getCount(ConcurrentBag.Entry.NOT_IN_USE);
+  }
+
+  /**
+   * Returns the number of connections in use.
+   *
+   * @return the number of connections in use
+   */
+  public int getActiveConnections() {
+    return borrowed.get();
+  }
+
+  /**
+   * Returns the number of threads that wait for a connection.
+   *
+   * @return the number of threads that wait for a connection
+   */
+  public int getThreadsAwaitingConnection() {
+    ConcurrentBag<PoolEntry> bag = this.bag;
+    return bag == null ? 0 : bag.getWaitingThreadCount();
+  }
+
+  /**
+   * Starts the pool, which opens {@code minIdle} connections in the background. After this method
+   * is called, the DataSource properties cannot be changed. If you do not call this explicitly, it
+   * will be called the first time you get a connection from the DataSource.
+   */
+  public void initialize() {
+    try (ResourceLock ignore = lock.obtain()) {
+      if (initialized || closed) {
+        return;
+      }
+      bag = new ConcurrentBag<>(waiting -> requestFill());
+      int id = POOL_COUNT.incrementAndGet();
+      ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+        Thread thread = new Thread(r, "PgJDBC-ConnectionPool-" + id);
+        thread.setDaemon(true);
+        return thread;
+      });
+      executor.setRemoveOnCancelPolicy(true);
+      long period = getHousekeepingPeriod();
+      executor.scheduleWithFixedDelay(this::housekeep, period, period, TimeUnit.MILLISECONDS);
+      this.executor = executor;
+      initialized = true;
+    }
+    requestFill();
+  }
+
+  /**
+   * Returns the interval of the housekeeping, so short timeouts are applied in time.
+   */
+  private long getHousekeepingPeriod() {
+    long period = HOUSEKEEPING_PERIOD_MILLIS;
+    if (idleTimeout > 0) {
+      period = Math.min(period, idleTimeout / 2);
+    }
+    if (maxLifetime > 0) {
+      period = Math.min(period, maxLifetime / 2);
+    }
+    return Math.max(period, MIN_HOUSEKEEPING_PERIOD_MILLIS);
+  }
+
+  /**
+   * Gets a <b>non-pooled</b> connection, unless the user and password are the same as the default
+   * values for this connection pool.
+   *
+   * @return A pooled connection.
+   * @throws SQLException Occurs when no pooled connection is available, and a new physical
+   *         connection cannot be created.
+   */
+  @Override
+  public Connection getConnection(@Nullable String user, @Nullable String password)
+      throws SQLException {
+    // If this is for the default user/password, use a pooled connection
+    if (user == null || (user.equals(getUser()) && ((password == null && getPassword() == null)
+        || (password != null && password.equals(getPassword()))))) {
+      return getConnection();
+    }
+    // Otherwise, use a non-pooled connection
+    return super.getConnection(user, password);
+  }
+
+  /**
+   * Gets a connection from the pool, waiting up to {@code connectionTimeout} if all the
+   * connections are in use.
+   *
+   * @return A pooled connection.
+   * @throws SQLException if the pool is closed, or no connection becomes available in time
+   */
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (!initialized) {
+      initialize();
+    }
+    ConcurrentBag<PoolEntry> bag = getBag();
+    long startNanos = System.nanoTime();
+    long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(connectionTimeout);
+    long remainingNanos = timeoutNanos;
+    do {
+      PoolEntry entry;
+      try {
+        entry = bag.borrow(remainingNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new PSQLException(GT.tr("Interrupted while waiting for a connection."),
+            PSQLState.CONNECTION_UNABLE_TO_CONNECT, e);
+      }
+      if (entry == null) {
+        break;
+      }
+      Connection connection = checkOut(entry);
+      if (connection != null) {
+        return connection;
+      }
+      remainingNanos = timeoutNanos - (System.nanoTime() - startNanos);
+    } while (remainingNanos > 0 && !closed);
+
+    if (closed) {
+      throw new PSQLException(GT.tr("DataSource has been closed."),
+          PSQLState.CONNECTION_DOES_NOT_EXIST);
+    }
+    throw new PSQLException(
+        GT.tr("Timed out after {0} ms waiting for a connection from the pool.", connectionTimeout),
+        PSQLState.CONNECTION_UNABLE_TO_CONNECT, lastCreateFailure);
+  }
+
+  /**
+   * Validates a borrowed entry and returns its connection handle, or closes the entry and returns
+   * null.
+   */
+  private @Nullable Connection checkOut(PoolEntry entry) {
+    long nowNanos = System.nanoTime();
+    if (closed || entry.isExpired(nowNanos)) {
+      closeEntry(entry, "expired");
+      return null;
+    }
+    if (validationInterval >= 0
+        && nowNanos - entry.lastReturnedNanos > TimeUnit.MILLISECONDS.toNanos(validationInterval)
+        && !isValid(entry)) {
+      closeEntry(entry, "failed validation");
+      return null;
+    }
+    Connection connection;
+    try {
+      connection = entry.pooledConnection.getConnection();
+    } catch (SQLException e) {
+      LOGGER.log(Level.FINE, "Failed to reset a pooled connection", e);
+      closeEntry(entry, "failed reset");
+      return null;
+    }
+    borrowed.incrementAndGet();
+    if (leakDetection) {
+      Throwable borrowedAt = new Throwable("Connection was borrowed at this point:");
+      entry.leakCleanable = LazyCleanerImpl.getInstance().register(connection, leak -> {
+        if (leak) {
+          LOGGER.log(Level.WARNING, "A pooled connection was not closed, the pool replaces it",
+              borrowedAt);
+          entry.evict = true;
+          entry.leakCleanable = null;
+          returnEntry(entry);
+        }
+      });
+    }
+    return connection;
+  }
+
+  private boolean isValid(PoolEntry entry) {
+    try {
+      return entry.connection.isValid(validationTimeout);
+    } catch (SQLException e) {
+      return false;
+    }
+  }
+
+  private ConcurrentBag<PoolEntry> getBag() throws SQLException {
+    ConcurrentBag<PoolEntry> bag = this.bag;
+    if (closed || bag == null) {
+      throw new PSQLException(GT.tr("DataSource has been closed."),
+          PSQLState.CONNECTION_DOES_NOT_EXIST);
+    }
+    return bag;
+  }
+
+  /**
+   * Called when the application closes a connection handle.
+   */
+  private void returnEntry(PoolEntry entry) {
+    borrowed.decrementAndGet();
+    entry.lastReturnedNanos = System.nanoTime();
+    // The handle rolled back the unfinished transaction when it was closed
+    ConcurrentBag<PoolEntry> bag = this.bag;
+    if (!closed && bag != null && !entry.isExpired(entry.lastReturnedNanos)) {
+      bag.requite(entry);
+      return;
+    }
+    closeEntry(entry, "expired");
+    requestFill();
+  }
+
+  private void closeEntry(PoolEntry entry, String reason) {
+    ConcurrentBag<PoolEntry> bag = this.bag;
+    if (bag == null || !bag.remove(entry)) {
+      return;
+    }
+    LOGGER.log(Level.FINE, "Closing a pooled connection: {0}", reason);
+    try {
+      entry.pooledConnection.close();
+    } catch (SQLException e) {
+      LOGGER.log(Level.FINE, "Failed to close a pooled connection", e);
+    }
+  }
+
+  /**
+   * Opens connections in the background if threads wait for connections, or if there are fewer
+   * than {@code minIdle} idle connections.
+   */
+  private void requestFill() {
+    ScheduledThreadPoolExecutor executor = this.executor;
+    if (executor != null && !closed && needsConnection() && filling.compareAndSet(false, true)) {
+      executor.execute(this::fill);
+    }
+  }
+
+  private boolean needsConnection() {
+    ConcurrentBag<PoolEntry> bag = this.bag;
+    if (bag == null || bag.size() >= maxConnections) {
+      return false;
+    }
+    int idle = bag.getCount(ConcurrentBag.Entry.NOT_IN_USE);
+    return bag.getWaitingThreadCount() > idle || idle < minIdle;
+  }
+
+  private void fill() {
+    try {
+      long backoffMillis = 10;
+      while (!closed && needsConnection()) {
+        try {
+          Connection connection = super.getConnection(getUser(), getPassword());
+          PoolEntry entry = new PoolEntry(connection, System.nanoTime());
+          lastCreateFailure = null;
+          backoffMillis = 10;
+          ConcurrentBag<PoolEntry> bag = this.bag;
+          if (closed || bag == null) {
+            entry.pooledConnection.close();
+            return;
+          }
+          bag.add(entry);
+        } catch (SQLException e) {
+          lastCreateFailure = e;
+          LOGGER.log(Level.FINE, "Failed to open a pooled connection", e);
+          if (getThreadsAwaitingConnection() == 0) {
+            // The housekeeper retries later for minIdle
+            return;
+          }
+          LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(backoffMillis));
+          backoffMillis = Math.min(backoffMillis * 2, 1000);
+        }
+      }
+    } finally {
+      filling.set(false);
+    }
+    // A thread may have started to wait after the last check
+    requestFill();
+  }
+
+  /**
+   * Closes the idle connections that expired or that were idle for too long, and opens
+   * connections up to {@code minIdle}.
+   */
+  private void housekeep() {
+    ConcurrentBag<PoolEntry> bag = this.bag;
+    if (closed || bag == null) {
+      return;
+    }
+    long nowNanos = System.nanoTime();
+    long idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeout);
+    int idle = bag.getCount(ConcurrentBag.Entry.NOT_IN_USE);
+    for (PoolEntry entry : bag.values()) {
+      if (!bag.reserve(entry)) {
+        continue;
+      }
+      if (entry.isExpired(nowNanos)) {
+        closeEntry(entry, "expired");
+        idle--;
+      } else if (idleTimeout > 0 && idle > minIdle
+          && nowNanos - entry.lastReturnedNanos > idleTimeoutNanos) {
+        closeEntry(entry, "idle timeout");
+        idle--;
+      } else {
+        bag.unreserve(entry);
+      }
+    }
+    requestFill();
+  }
+
+  /**
+   * Closes the pool and all its connections, whether in use or not.
+   */
+  @Override
+  public void close() {
+    try (ResourceLock ignore = lock.obtain()) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      ScheduledThreadPoolExecutor executor = this.executor;
+      if (executor != null) {
+        executor.shutdownNow();
+      }
+    }
+    ConcurrentBag<PoolEntry> bag = this.bag;
+    if (bag == null) {
+      return;
+    }
+    for (PoolEntry entry : bag.values()) {
+      entry.pooledConnection.removeConnectionEventListener(entry);
+      bag.reserve(entry);
+      if (!bag.remove(entry)) {
+        continue;
+      }
+      try {
+        entry.pooledConnection.close();
+      } catch (SQLException ignored) {
+        // We can't do much if the connection close fails, try closing the rest
+      }
+    }
+  }
+
+  /**
+   * Adds custom properties for this DataSource to the properties defined in the superclass.
+   */
+  @Override
+  public Reference getReference() throws NamingException {
+    Reference ref = super.getReference();
+    ref.add(new StringRefAddr("maxConnections", Integer.toString(maxConnections)));
+    ref.add(new StringRefAddr("minIdle", Integer.toString(minIdle)));
+    ref.add(new StringRefAddr("connectionTimeout", Long.toString(connectionTimeout)));
+    ref.add(new StringRefAddr("maxLifetime", Long.toString(maxLifetime)));
+    ref.add(new StringRefAddr("idleTimeout", Long.toString(idleTimeout)));
+    ref.add(new StringRefAddr("validationInterval", Long.toString(validationInterval)));
+    ref.add(new StringRefAddr("validationTimeout", Integer.toString(validationTimeout)));
+    ref.add(new StringRefAddr("leakDetection", Boolean.toString(leakDetection)));
+    ref.add(new StringRefAddr("defaultAutoCommit", Boolean.toString(defaultAutoCommit)));
+    return ref;
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isAssignableFrom(getClass());
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (iface.isAssignableFrom(getClass())) {
+      return iface.cast(this);
+    }
+    throw new SQLException("Cannot unwrap to " + iface.getName());
+  }
+}
@@ -164,10 +164,10 @@ public Connection getConnection() throws SQLException {
     ConnectionHandler handler = new ConnectionHandler(castNonNull(con));
     last = handler;
 
-    Connection proxyCon = (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+    // The handler does not reference the proxy, so a proxy that the client does not close can be
+    // garbage collected, see PGConnectionPool leak detection
+    return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
         new Class[]{Connection.class, PGConnection.class}, handler);
-    handler.setProxy(proxyCon);
-    return proxyCon;
   }
 
   /**
@@ -263,7 +263,6 @@ private void fireConnectionError(SQLException e) {
    */
   private class ConnectionHandler implements InvocationHandler {
     private @Nullable Connection con;
-    private @Nullable Connection proxy; // the Connection the client is currently using, which is a proxy
     private boolean automatic;
 
     ConnectionHandler(Connection con) {
@@ -317,7 +316,6 @@ private class ConnectionHandler implements InvocationHandler {
           con.clearWarnings();
         }
         this.con = null;
-        this.proxy = null;
         last = null;
         fireConnectionClosed();
         if (ex != null) {
@@ -339,17 +337,17 @@ private class ConnectionHandler implements InvocationHandler {
           Statement st = castNonNull((Statement) method.invoke(con, args));
           return Proxy.newProxyInstance(getClass().getClassLoader(),
               new Class[]{Statement.class, PGStatement.class},
-              new StatementHandler(this, st));
+              new StatementHandler((Connection) proxy, st));
         } else if ("prepareCall".equals(methodName)) {
           Statement st = castNonNull((Statement) method.invoke(con, args));
           return Proxy.newProxyInstance(getClass().getClassLoader(),
               new Class[]{CallableStatement.class, PGStatement.class},
-              new StatementHandler(this, st));
+              new StatementHandler((Connection) proxy, st));
         } else if ("prepareStatement".equals(methodName)) {
           Statement st = castNonNull((Statement) method.invoke(con, args));
           return Proxy.newProxyInstance(getClass().getClassLoader(),
               new Class[]{PreparedStatement.class, PGStatement.class},
-              new StatementHandler(this, st));
+              new StatementHandler((Connection) proxy, st));
         } else {
           return method.invoke(con, args);
         }
@@ -362,20 +360,11 @@ private class ConnectionHandler implements InvocationHandler {
       }
     }
 
-    Connection getProxy() {
-      return castNonNull(proxy);
-    }
-
-    void setProxy(Connection proxy) {
-      this.proxy = proxy;
-    }
-
     void close() {
       if (con != null) {
         automatic = true;
       }
       con = null;
-      proxy = null;
       // No close event fired here: see JDBC 2.0 Optional Package spec section 6.3
     }
 
@@ -395,10 +384,10 @@ boolean isClosed() {
    * getConnection method.</p>
    */
   private class StatementHandler implements InvocationHandler {
-    private @Nullable ConnectionHandler con;
+    private @Nullable Connection con; // the proxy of the connection
     private @Nullable Statement st;
 
-    StatementHandler(ConnectionHandler con, Statement st) {
+    StatementHandler(Connection con, Statement st) {
       this.con = con;
       this.st = st;
     }
@@ -440,7 +429,7 @@ private class StatementHandler implements InvocationHandler {
         throw new PSQLException(GT.tr("Statement has been closed."), PSQLState.OBJECT_NOT_IN_STATE);
       }
       if ("getConnection".equals(methodName)) {
-        return castNonNull(con).getProxy(); // the proxied connection, not a physical connection
+        return castNonNull(con); // the proxied connection, not a physical connection
       }
 
       // Delegate the call to the proxied Statement.
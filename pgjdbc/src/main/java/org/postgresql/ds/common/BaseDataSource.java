@@ -350,6 +350,23 @@ public void setConnectTimeout(int connectTimeout) {
     PGProperty.CONNECT_TIMEOUT.set(properties, connectTimeout);
   }
 
+  /**
+   * @return delay between the starts of parallel connection attempts in milliseconds
+   * @see PGProperty#PARALLEL_CONNECT_DELAY
+   */
+  public int getParallelConnectDelay() {
+    return PGProperty.PARALLEL_CONNECT_DELAY.getIntNoCheck(properties);
+  }
+
+  /**
+   * @param parallelConnectDelay delay between the starts of parallel connection attempts in
+   *     milliseconds, 0 connects to one host after another
+   * @see PGProperty#PARALLEL_CONNECT_DELAY
+   */
+  public void setParallelConnectDelay(int parallelConnectDelay) {
+    PGProperty.PARALLEL_CONNECT_DELAY.set(properties, parallelConnectDelay);
+  }
+
   /**
    *
    * @return GSS ResponseTimeout
@@ -474,6 +491,71 @@ public void setMaxSendBufferSize(int nbytes) {
     PGProperty.MAX_SEND_BUFFER_SIZE.set(properties, nbytes);
   }
 
+  /**
+   * @return maximum number of notifications that wait for delivery to the listeners
+   * @see PGProperty#NOTIFICATION_QUEUE_SIZE
+   */
+  public int getNotificationQueueSize() {
+    return PGProperty.NOTIFICATION_QUEUE_SIZE.getIntNoCheck(properties);
+  }
+
+  /**
+   * @param notificationQueueSize maximum number of notifications that wait for delivery to the
+   *     listeners
+   * @see PGProperty#NOTIFICATION_QUEUE_SIZE
+   */
+  public void setNotificationQueueSize(int notificationQueueSize) {
+    PGProperty.NOTIFICATION_QUEUE_SIZE.set(properties, notificationQueueSize);
+  }
+
+  /**
+   * @return receiver of the connection metrics: none, jfr, or a class name
+   * @see PGProperty#DRIVER_METRICS
+   */
+  public String getDriverMetrics() {
+    return castNonNull(PGProperty.DRIVER_METRICS.getOrDefault(properties));
+  }
+
+  /**
+   * @param driverMetrics receiver of the connection metrics: none, jfr, or a class name
+   * @see PGProperty#DRIVER_METRICS
+   */
+  public void setDriverMetrics(@Nullable String driverMetrics) {
+    PGProperty.DRIVER_METRICS.set(properties, driverMetrics);
+  }
+
+  /**
+   * @return buffer allocator: heap, pooled, or a class name
+   * @see PGProperty#BUFFER_ALLOCATOR
+   */
+  public String getBufferAllocator() {
+    return castNonNull(PGProperty.BUFFER_ALLOCATOR.getOrDefault(properties));
+  }
+
+  /**
+   * @param bufferAllocator buffer allocator: heap, pooled, or a class name
+   * @see PGProperty#BUFFER_ALLOCATOR
+   */
+  public void setBufferAllocator(@Nullable String bufferAllocator) {
+    PGProperty.BUFFER_ALLOCATOR.set(properties, bufferAllocator);
+  }
+
+  /**
+   * @return the maximum number of bytes retained by the shared buffer pool
+   * @see PGProperty#BUFFER_POOL_SIZE
+   */
+  public int getBufferPoolSize() {
+    return PGProperty.BUFFER_POOL_SIZE.getIntNoCheck(properties);
+  }
+
+  /**
+   * @param nbytes the maximum number of bytes retained by the shared buffer pool
+   * @see PGProperty#BUFFER_POOL_SIZE
+   */
+  public void setBufferPoolSize(int nbytes) {
+    PGProperty.BUFFER_POOL_SIZE.set(properties, nbytes);
+  }
+
   /**
    * @param count prepare threshold
    * @see PGProperty#PREPARE_THRESHOLD
@@ -522,6 +604,57 @@ public void setPreparedStatementCacheSizeMiB(int cacheSize) {
     PGProperty.PREPARED_STATEMENT_CACHE_SIZE_MIB.set(properties, cacheSize);
   }
 
+  /**
+   * @return true if the column metadata of result sets is shared with other connections to the
+   *     same database
+   * @see PGProperty#SHARED_FIELD_METADATA_CACHE
+   */
+  public boolean getSharedFieldMetadataCache() {
+    return PGProperty.SHARED_FIELD_METADATA_CACHE.getBoolean(properties);
+  }
+
+  /**
+   * @param sharedFieldMetadataCache true to share the column metadata of result sets with other
+   *     connections to the same database
+   * @see PGProperty#SHARED_FIELD_METADATA_CACHE
+   */
+  public void setSharedFieldMetadataCache(boolean sharedFieldMetadataCache) {
+    PGProperty.SHARED_FIELD_METADATA_CACHE.set(properties, sharedFieldMetadataCache);
+  }
+
+  /**
+   * @return size of the JVM-wide cache of parsed SQL (number of megabytes)
+   * @see PGProperty#SHARED_QUERY_CACHE_SIZE_MIB
+   */
+  public int getSharedQueryCacheSizeMiB() {
+    return PGProperty.SHARED_QUERY_CACHE_SIZE_MIB.getIntNoCheck(properties);
+  }
+
+  /**
+   * @param cacheSize size of the JVM-wide cache of parsed SQL (number of megabytes)
+   * @see PGProperty#SHARED_QUERY_CACHE_SIZE_MIB
+   */
+  public void setSharedQueryCacheSizeMiB(int cacheSize) {
+    PGProperty.SHARED_QUERY_CACHE_SIZE_MIB.set(properties, cacheSize);
+  }
+
+  /**
+   * @return true if the type information is shared with other connections to the same database
+   * @see PGProperty#SHARED_TYPE_INFO_CACHE
+   */
+  public boolean getSharedTypeInfoCache() {
+    return PGProperty.SHARED_TYPE_INFO_CACHE.getBoolean(properties);
+  }
+
+  /**
+   * @param sharedTypeInfoCache true to share the type information with other connections to the
+   *     same database
+   * @see PGProperty#SHARED_TYPE_INFO_CACHE
+   */
+  public void setSharedTypeInfoCache(boolean sharedTypeInfoCache) {
+    PGProperty.SHARED_TYPE_INFO_CACHE.set(properties, sharedTypeInfoCache);
+  }
+
   /**
    * @return database metadata cache fields size (number of fields cached per connection)
    * @see PGProperty#DATABASE_METADATA_CACHE_FIELDS
@@ -554,6 +687,23 @@ public void setDatabaseMetadataCacheFieldsMiB(int cacheSize) {
     PGProperty.DATABASE_METADATA_CACHE_FIELDS_MIB.set(properties, cacheSize);
   }
 
+  /**
+   * @return true if the DatabaseMetaData methods are served from a snapshot of the catalog
+   * @see PGProperty#DATABASE_METADATA_SNAPSHOT
+   */
+  public boolean getDatabaseMetadataSnapshot() {
+    return PGProperty.DATABASE_METADATA_SNAPSHOT.getBoolean(properties);
+  }
+
+  /**
+   * @param databaseMetadataSnapshot true to serve the DatabaseMetaData methods from a snapshot of
+   *     the catalog
+   * @see PGProperty#DATABASE_METADATA_SNAPSHOT
+   */
+  public void setDatabaseMetadataSnapshot(boolean databaseMetadataSnapshot) {
+    PGProperty.DATABASE_METADATA_SNAPSHOT.set(properties, databaseMetadataSnapshot);
+  }
+
   /**
    * @param fetchSize default fetch size
    * @see PGProperty#DEFAULT_ROW_FETCH_SIZE
@@ -865,6 +1015,38 @@ public boolean getLoadBalanceHosts() {
     return PGProperty.LOAD_BALANCE_HOSTS.isPresent(properties);
   }
 
+  /**
+   * @param loadBalanceStrategy order of the hosts when load balancing is enabled
+   * @see PGProperty#LOAD_BALANCE_STRATEGY
+   */
+  public void setLoadBalanceStrategy(@Nullable String loadBalanceStrategy) {
+    PGProperty.LOAD_BALANCE_STRATEGY.set(properties, loadBalanceStrategy);
+  }
+
+  /**
+   * @return order of the hosts when load balancing is enabled
+   * @see PGProperty#LOAD_BALANCE_STRATEGY
+   */
+  public @Nullable String getLoadBalanceStrategy() {
+    return PGProperty.LOAD_BALANCE_STRATEGY.getOrDefault(properties);
+  }
+
+  /**
+   * @param maxReplicaLagSeconds replication lag above which a standby is skipped
+   * @see PGProperty#MAX_REPLICA_LAG_SECONDS
+   */
+  public void setMaxReplicaLagSeconds(int maxReplicaLagSeconds) {
+    PGProperty.MAX_REPLICA_LAG_SECONDS.set(properties, maxReplicaLagSeconds);
+  }
+
+  /**
+   * @return replication lag above which a standby is skipped
+   * @see PGProperty#MAX_REPLICA_LAG_SECONDS
+   */
+  public int getMaxReplicaLagSeconds() {
+    return PGProperty.MAX_REPLICA_LAG_SECONDS.getIntNoCheck(properties);
+  }
+
   /**
    * @param hostRecheckSeconds host recheck seconds
    * @see PGProperty#HOST_RECHECK_SECONDS
@@ -881,6 +1063,23 @@ public int getHostRecheckSeconds() {
     return PGProperty.HOST_RECHECK_SECONDS.getIntNoCheck(properties);
   }
 
+  /**
+   * @param hostProbeInterval seconds between background checks of the host status, 0 disables
+   *     the checks
+   * @see PGProperty#HOST_PROBE_INTERVAL
+   */
+  public void setHostProbeInterval(int hostProbeInterval) {
+    PGProperty.HOST_PROBE_INTERVAL.set(properties, hostProbeInterval);
+  }
+
+  /**
+   * @return seconds between background checks of the host status
+   * @see PGProperty#HOST_PROBE_INTERVAL
+   */
+  public int getHostProbeInterval() {
+    return PGProperty.HOST_PROBE_INTERVAL.getIntNoCheck(properties);
+  }
+
   /**
    * @param enabled if TCP keep alive should be enabled
    * @see PGProperty#TCP_KEEP_ALIVE
@@ -1784,6 +1983,23 @@ public void setCleanupSavepoints(boolean cleanupSavepoints) {
     PGProperty.CLEANUP_SAVEPOINTS.set(properties, cleanupSavepoints);
   }
 
+  /**
+   * @return true if the rows of forward-only resultsets are read as the resultset is advanced
+   * @see PGProperty#RESULT_SET_STREAMING
+   */
+  public boolean getResultSetStreaming() {
+    return PGProperty.RESULT_SET_STREAMING.getBoolean(properties);
+  }
+
+  /**
+   * @param resultSetStreaming true to read the rows of forward-only resultsets as the resultset is
+   *        advanced
+   * @see PGProperty#RESULT_SET_STREAMING
+   */
+  public void setResultSetStreaming(boolean resultSetStreaming) {
+    PGProperty.RESULT_SET_STREAMING.set(properties, resultSetStreaming);
+  }
+
   /**
    * @return boolean indicating property is enabled or not.
    * @see PGProperty#REWRITE_BATCHED_INSERTS
@@ -1818,6 +2034,54 @@ public void setReWriteBatchedInsertsSize(int size) {
     PGProperty.REWRITE_BATCHED_INSERTS_SIZE.set(properties, size);
   }
 
+  /**
+   * @return boolean indicating property is enabled or not.
+   * @see PGProperty#REWRITE_BATCHED_UPDATES
+   */
+  public boolean getReWriteBatchedUpdates() {
+    return PGProperty.REWRITE_BATCHED_UPDATES.getBoolean(properties);
+  }
+
+  /**
+   * @param reWrite boolean value to set the property in the properties collection
+   * @see PGProperty#REWRITE_BATCHED_UPDATES
+   */
+  public void setReWriteBatchedUpdates(boolean reWrite) {
+    PGProperty.REWRITE_BATCHED_UPDATES.set(properties, reWrite);
+  }
+
+  /**
+   * @return estimated number of response bytes executeBatch keeps in flight, or 0 if disabled
+   * @see PGProperty#BATCH_WINDOW_BYTES
+   */
+  public int getBatchWindowBytes() {
+    return PGProperty.BATCH_WINDOW_BYTES.getIntNoCheck(properties);
+  }
+
+  /**
+   * @param bytes estimated number of response bytes executeBatch keeps in flight, or 0 to disable
+   * @see PGProperty#BATCH_WINDOW_BYTES
+   */
+  public void setBatchWindowBytes(int bytes) {
+    PGProperty.BATCH_WINDOW_BYTES.set(properties, bytes);
+  }
+
+  /**
+   * @return maximum number of statements executeBatch keeps in flight, or 0 for no limit
+   * @see PGProperty#BATCH_WINDOW_STATEMENTS
+   */
+  public int getBatchWindowStatements() {
+    return PGProperty.BATCH_WINDOW_STATEMENTS.getIntNoCheck(properties);
+  }
+
+  /**
+   * @param statements maximum number of statements executeBatch keeps in flight, or 0 for no limit
+   * @see PGProperty#BATCH_WINDOW_STATEMENTS
+   */
+  public void setBatchWindowStatements(int statements) {
+    PGProperty.BATCH_WINDOW_STATEMENTS.set(properties, statements);
+  }
+
   /**
    * @return boolean indicating property is enabled or not.
    * @see PGProperty#HIDE_UNPRIVILEGED_OBJECTS
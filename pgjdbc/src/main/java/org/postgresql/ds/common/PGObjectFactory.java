@@ -5,6 +5,7 @@
 
 package org.postgresql.ds.common;
 
+import org.postgresql.ds.PGConnectionPool;
 import org.postgresql.ds.PGConnectionPoolDataSource;
 import org.postgresql.ds.PGSimpleDataSource;
 import org.postgresql.util.internal.Nullness;
@@ -50,6 +51,8 @@ public class PGObjectFactory implements ObjectFactory {
         || "org.postgresql.jdbc2.optional.PoolingDataSource".equals(className)
         || "org.postgresql.jdbc3.Jdbc3PoolingDataSource".equals(className)) {
       return loadPoolingDataSource(ref);
+    } else if ("org.postgresql.ds.PGConnectionPool".equals(className)) {
+      return loadPool(ref);
     } else {
       return null;
     }
@@ -79,6 +82,48 @@ private Object loadPoolingDataSource(Reference ref) {
     return pds;
   }
 
+  private Object loadPool(Reference ref) {
+    PGConnectionPool pool = new PGConnectionPool();
+    loadBaseDataSource(pool, ref);
+    String value = getProperty(ref, "maxConnections");
+    if (value != null) {
+      pool.setMaxConnections(Integer.parseInt(value));
+    }
+    value = getProperty(ref, "minIdle");
+    if (value != null) {
+      pool.setMinIdle(Integer.parseInt(value));
+    }
+    value = getProperty(ref, "connectionTimeout");
+    if (value != null) {
+      pool.setConnectionTimeout(Long.parseLong(value));
+    }
+    value = getProperty(ref, "maxLifetime");
+    if (value != null) {
+      pool.setMaxLifetime(Long.parseLong(value));
+    }
+    value = getProperty(ref, "idleTimeout");
+    if (value != null) {
+      pool.setIdleTimeout(Long.parseLong(value));
+    }
+    value = getProperty(ref, "validationInterval");
+    if (value != null) {
+      pool.setValidationInterval(Long.parseLong(value));
+    }
+    value = getProperty(ref, "validationTimeout");
+    if (value != null) {
+      pool.setValidationTimeout(Integer.parseInt(value));
+    }
+    value = getProperty(ref, "leakDetection");
+    if (value != null) {
+      pool.setLeakDetection(Boolean.parseBoolean(value));
+    }
+    value = getProperty(ref, "defaultAutoCommit");
+    if (value != null) {
+      pool.setDefaultAutoCommit(Boolean.parseBoolean(value));
+    }
+    return pool;
+  }
+
   private Object loadSimpleDataSource(Reference ref) {
     PGSimpleDataSource ds = new PGSimpleDataSource();
     return loadBaseDataSource(ds, ref);
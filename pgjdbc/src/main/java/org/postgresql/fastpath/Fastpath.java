@@ -8,6 +8,7 @@
 import static org.postgresql.util.internal.Nullness.castNonNull;
 
 import org.postgresql.core.BaseConnection;
+import org.postgresql.core.FastpathPipeline;
 import org.postgresql.core.ParameterList;
 import org.postgresql.core.QueryExecutor;
 import org.postgresql.util.ByteConverter;
@@ -107,11 +108,7 @@ public int getServerVersionNum() {
    */
   public byte @Nullable [] fastpath(int fnId, FastpathArg[] args) throws SQLException {
     // Turn fastpath array into a parameter list.
-    @SuppressWarnings("deprecation")
-    ParameterList params = executor.createFastpathParameters(args.length);
-    for (int i = 0; i < args.length; i++) {
-      args[i].populateParameter(params, i + 1);
-    }
+    ParameterList params = createParameters(args);
 
     // Run it.
     @SuppressWarnings("deprecation")
@@ -119,6 +116,35 @@ public int getServerVersionNum() {
     return result;
   }
 
+  /**
+   * Creates a pipeline, that sends several calls before their results are received, so they share
+   * one network round trip.
+   *
+   * @return a pipeline, which must be closed once its results are no longer needed
+   * @throws SQLException if a database-access error occurs.
+   * @see #createParameters(FastpathArg[])
+   */
+  public FastpathPipeline createPipeline() throws SQLException {
+    return executor.createFastpathPipeline(connection.getAutoCommit());
+  }
+
+  /**
+   * Turns arguments into a parameter list for
+   * {@link FastpathPipeline#sendCall(int, ParameterList)}.
+   *
+   * @param args FastpathArguments to pass to the function
+   * @return the parameter list, which can be reused with other values of the same arity
+   * @throws SQLException if an argument cannot be bound
+   */
+  public ParameterList createParameters(FastpathArg[] args) throws SQLException {
+    @SuppressWarnings("deprecation")
+    ParameterList params = executor.createFastpathParameters(args.length);
+    for (int i = 0; i < args.length; i++) {
+      args[i].populateParameter(params, i + 1);
+    }
+    return params;
+  }
+
   /**
    * @param name Function name
    * @param resulttype True if the result is a numeric (Integer or Long)
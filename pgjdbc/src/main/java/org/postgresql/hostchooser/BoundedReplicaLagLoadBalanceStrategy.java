@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.hostchooser;
+
+import org.postgresql.PGProperty;
+import org.postgresql.util.HostSpec;
+import org.postgresql.util.PSQLException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Leaves out the standbys that lag behind the primary by more than
+ * {@link PGProperty#MAX_REPLICA_LAG_SECONDS} when the driver looks for a standby, and tries the
+ * other hosts in random order. When the driver looks for any host, the standbys that lag too much
+ * are tried last, so with {@code targetServerType=preferSecondary} the driver connects to the
+ * primary rather than to a standby that lags too much.
+ *
+ * <p>The replication lag is measured by the host probes, see
+ * {@link PGProperty#HOST_PROBE_INTERVAL}. The standbys with unknown lag are not left out.</p>
+ */
+public final class BoundedReplicaLagLoadBalanceStrategy implements LoadBalanceStrategy {
+  private final long maxReplicaLagMillis;
+
+  public BoundedReplicaLagLoadBalanceStrategy(Properties info) throws PSQLException {
+    this.maxReplicaLagMillis = PGProperty.MAX_REPLICA_LAG_SECONDS.getInt(info) * 1000L;
+  }
+
+  @Override
+  public List<HostSpec> order(List<HostSpec> hosts, HostRequirement requirement) {
+    List<HostSpec> result = new ArrayList<>(hosts.size());
+    List<HostSpec> lagging = new ArrayList<>();
+    for (HostSpec host : hosts) {
+      if (GlobalHostStatusTracker.getReplicaLagMillis(host) <= maxReplicaLagMillis) {
+        result.add(host);
+      } else if (requirement != HostRequirement.secondary) {
+        lagging.add(host);
+      }
+    }
+    Collections.shuffle(result);
+    Collections.shuffle(lagging);
+    result.addAll(lagging);
+    return result;
+  }
+}
@@ -16,12 +16,17 @@
 import java.util.Map;
 
 /**
- * Keeps track of HostSpec targets in a global map.
+ * Keeps track of HostSpec targets in a global map: their status, and the statistics the
+ * {@link LoadBalanceStrategy load balance strategies} use.
  */
 public class GlobalHostStatusTracker {
   private static final Map<HostSpec, HostSpecStatus> hostStatusMap =
       new HashMap<>();
   private static final ResourceLock lock = new ResourceLock();
+  /**
+   * Weight of the latest sample in the moving average of the latency.
+   */
+  private static final double LATENCY_SMOOTHING = 0.25;
 
   /**
    * Store the actual observed host status.
@@ -32,16 +37,114 @@ public class GlobalHostStatusTracker {
   public static void reportHostStatus(HostSpec hostSpec, HostStatus hostStatus) {
     long now = System.nanoTime() / 1000000;
     try (ResourceLock ignore = lock.obtain()) {
-      HostSpecStatus hostSpecStatus = hostStatusMap.get(hostSpec);
-      if (hostSpecStatus == null) {
-        hostSpecStatus = new HostSpecStatus(hostSpec);
-        hostStatusMap.put(hostSpec, hostSpecStatus);
-      }
+      HostSpecStatus hostSpecStatus = getOrCreate(hostSpec);
       hostSpecStatus.status = hostStatus;
       hostSpecStatus.lastUpdated = now;
     }
   }
 
+  /**
+   * Adds a sample to the moving average of the latency of the host.
+   *
+   * @param hostSpec the host
+   * @param latencyNanos the time to connect to the host, or the time of a query round trip
+   */
+  public static void reportLatency(HostSpec hostSpec, long latencyNanos) {
+    try (ResourceLock ignore = lock.obtain()) {
+      HostSpecStatus hostSpecStatus = getOrCreate(hostSpec);
+      hostSpecStatus.latencyNanos = hostSpecStatus.latencyNanos < 0
+          ? latencyNanos
+          : (long) (LATENCY_SMOOTHING * latencyNanos
+              + (1 - LATENCY_SMOOTHING) * hostSpecStatus.latencyNanos);
+    }
+  }
+
+  /**
+   * Stores the replication lag of a standby.
+   *
+   * @param hostSpec the standby
+   * @param replicaLagMillis the replication lag in milliseconds
+   */
+  public static void reportReplicaLag(HostSpec hostSpec, long replicaLagMillis) {
+    try (ResourceLock ignore = lock.obtain()) {
+      getOrCreate(hostSpec).replicaLagMillis = replicaLagMillis;
+    }
+  }
+
+  /**
+   * Counts a connection to the host that was opened by this JVM.
+   *
+   * @param hostSpec the host
+   */
+  public static void connectionOpened(HostSpec hostSpec) {
+    try (ResourceLock ignore = lock.obtain()) {
+      getOrCreate(hostSpec).openConnections++;
+    }
+  }
+
+  /**
+   * Counts a connection to the host as closed.
+   *
+   * @param hostSpec the host
+   */
+  public static void connectionClosed(HostSpec hostSpec) {
+    try (ResourceLock ignore = lock.obtain()) {
+      HostSpecStatus hostSpecStatus = hostStatusMap.get(hostSpec);
+      if (hostSpecStatus != null && hostSpecStatus.openConnections > 0) {
+        hostSpecStatus.openConnections--;
+      }
+    }
+  }
+
+  /**
+   * Returns the moving average of the connect and query round trip times of the host.
+   *
+   * @param hostSpec the host
+   * @return the latency in nanoseconds, or -1 if it is not known
+   */
+  public static long getLatencyNanos(HostSpec hostSpec) {
+    try (ResourceLock ignore = lock.obtain()) {
+      HostSpecStatus hostSpecStatus = hostStatusMap.get(hostSpec);
+      return hostSpecStatus == null ? -1 : hostSpecStatus.latencyNanos;
+    }
+  }
+
+  /**
+   * Returns the number of open connections of this JVM to the host.
+   *
+   * @param hostSpec the host
+   * @return the number of open connections
+   */
+  public static int getOpenConnections(HostSpec hostSpec) {
+    try (ResourceLock ignore = lock.obtain()) {
+      HostSpecStatus hostSpecStatus = hostStatusMap.get(hostSpec);
+      return hostSpecStatus == null ? 0 : hostSpecStatus.openConnections;
+    }
+  }
+
+  /**
+   * Returns the replication lag of the standby, as measured by the host probes, see
+   * {@link org.postgresql.PGProperty#HOST_PROBE_INTERVAL}.
+   *
+   * @param hostSpec the standby
+   * @return the replication lag in milliseconds, or -1 if it is not known
+   */
+  public static long getReplicaLagMillis(HostSpec hostSpec) {
+    try (ResourceLock ignore = lock.obtain()) {
+      HostSpecStatus hostSpecStatus = hostStatusMap.get(hostSpec);
+      return hostSpecStatus == null ? -1 : hostSpecStatus.replicaLagMillis;
+    }
+  }
+
+  private static HostSpecStatus getOrCreate(HostSpec hostSpec) {
+    HostSpecStatus hostSpecStatus = hostStatusMap.get(hostSpec);
+    if (hostSpecStatus == null) {
+      hostSpecStatus = new HostSpecStatus(hostSpec);
+      hostStatusMap.put(hostSpec, hostSpecStatus);
+    }
+    return hostSpecStatus;
+  }
+
   /**
    * Returns a list of candidate hosts that have the required targetServerType.
    *
@@ -71,7 +174,11 @@ static List<HostSpec> getCandidateHosts(HostSpec[] hostSpecs,
   static class HostSpecStatus {
     final HostSpec host;
     @Nullable HostStatus status;
-    long lastUpdated;
+    // The statistics create entries without a status, which must not look up to date
+    long lastUpdated = Long.MIN_VALUE;
+    long latencyNanos = -1;
+    long replicaLagMillis = -1;
+    int openConnections;
 
     HostSpecStatus(HostSpec host) {
       this.host = host;
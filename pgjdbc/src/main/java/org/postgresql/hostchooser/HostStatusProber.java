@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.hostchooser;
+
+import org.postgresql.PGProperty;
+import org.postgresql.core.ConnectionFactory;
+import org.postgresql.core.QueryExecutor;
+import org.postgresql.core.SetupQueryRunner;
+import org.postgresql.core.Tuple;
+import org.postgresql.jdbc.ResourceLock;
+import org.postgresql.util.DriverInfo;
+import org.postgresql.util.HostSpec;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Probes the hosts of multi-host connections in the background, see
+ * {@link PGProperty#HOST_PROBE_INTERVAL}, and reports their status to
+ * {@link GlobalHostStatusTracker}.
+ *
+ * <p>Every host gets a daemon thread that keeps a connection to the host and runs
+ * {@code show transaction_read_only} on it, so a probe costs a single round trip as long as the
+ * host is up. When the query fails, the probe reconnects right away, and the host is reported as
+ * {@link HostStatus#ConnectFail} if that fails as well. The first connection that lists a host
+ * decides the properties, including the credentials, of its probe. A host is no longer probed once
+ * no connection attempt listed it for an hour.</p>
+ */
+final class HostStatusProber {
+  private static final Logger LOGGER = Logger.getLogger(HostStatusProber.class.getName());
+  private static final long IDLE_NANOS = TimeUnit.HOURS.toNanos(1);
+
+  private static final Map<HostSpec, Probe> probes = new HashMap<>();
+  private static final ResourceLock lock = new ResourceLock();
+
+  private HostStatusProber() {
+  }
+
+  /**
+   * Starts probing the hosts that are not probed yet, and keeps probing the others.
+   *
+   * @param hostSpecs the hosts of a connection attempt
+   * @param info the properties of the connection attempt
+   * @param intervalSeconds seconds between the probes
+   */
+  static void register(HostSpec[] hostSpecs, Properties info, int intervalSeconds) {
+    long now = System.nanoTime();
+    try (ResourceLock ignore = lock.obtain()) {
+      for (HostSpec hostSpec : hostSpecs) {
+        Probe probe = probes.get(hostSpec);
+        if (probe == null) {
+          probe = new Probe(hostSpec, probeProperties(info, intervalSeconds), intervalSeconds);
+          probes.put(hostSpec, probe);
+          probe.lastRegisteredNanos = now;
+          probe.start();
+        } else {
+          probe.lastRegisteredNanos = now;
+        }
+      }
+    }
+  }
+
+  private static Properties probeProperties(Properties info, int intervalSeconds) {
+    Properties props = new Properties();
+    props.putAll(info);
+    PGProperty.TARGET_SERVER_TYPE.set(props, HostRequirement.any.name());
+    PGProperty.HOST_PROBE_INTERVAL.set(props, 0);
+    PGProperty.PARALLEL_CONNECT_DELAY.set(props, 0);
+    PGProperty.DRIVER_METRICS.set(props, "none");
+    PGProperty.APPLICATION_NAME.set(props, DriverInfo.DRIVER_NAME + " host probe");
+    // A host that does not answer within the interval is as good as dead
+    PGProperty.SOCKET_TIMEOUT.set(props, intervalSeconds);
+    return props;
+  }
+
+  private static final class Probe implements Runnable {
+    private final HostSpec hostSpec;
+    private final Properties info;
+    private final long intervalMillis;
+    // Guarded by HostStatusProber.lock
+    long lastRegisteredNanos;
+    private @Nullable QueryExecutor queryExecutor;
+
+    Probe(HostSpec hostSpec, Properties info, int intervalSeconds) {
+      this.hostSpec = hostSpec;
+      this.info = info;
+      this.intervalMillis = TimeUnit.SECONDS.toMillis(intervalSeconds);
+    }
+
+    void start() {
+      Thread thread = new Thread(this, "PostgreSQL-JDBC-HostProbe-" + hostSpec);
+      thread.setDaemon(true);
+      thread.start();
+    }
+
+    @Override
+    public void run() {
+      try {
+        while (!isIdle()) {
+          probe();
+          Thread.sleep(intervalMillis);
+        }
+      } catch (InterruptedException e) {
+        LOGGER.log(Level.FINE, "Host probe for {0} was interrupted", hostSpec);
+        try (ResourceLock ignore = lock.obtain()) {
+          probes.remove(hostSpec);
+        }
+      } finally {
+        closeConnection();
+      }
+    }
+
+    private boolean isIdle() {
+      try (ResourceLock ignore = lock.obtain()) {
+        if (System.nanoTime() - lastRegisteredNanos < IDLE_NANOS) {
+          return false;
+        }
+        probes.remove(hostSpec);
+      }
+      LOGGER.log(Level.FINE, "Host {0} is no longer used, stopping its probe", hostSpec);
+      return true;
+    }
+
+    private void probe() {
+      QueryExecutor queryExecutor = this.queryExecutor;
+      if (queryExecutor != null && !queryExecutor.isClosed()) {
+        try {
+          GlobalHostStatusTracker.reportHostStatus(hostSpec, queryStatus(queryExecutor));
+          return;
+        } catch (SQLException | IOException e) {
+          LOGGER.log(Level.FINE, "Host probe query to {0} failed, reconnecting", hostSpec);
+          closeConnection();
+        }
+      }
+      try {
+        // ConnectionFactory reports ConnectFail if the host is unreachable
+        queryExecutor = ConnectionFactory.openConnection(new HostSpec[]{hostSpec}, info);
+        this.queryExecutor = queryExecutor;
+        GlobalHostStatusTracker.reportHostStatus(hostSpec, queryStatus(queryExecutor));
+      } catch (SQLException | IOException | RuntimeException e) {
+        if (LOGGER.isLoggable(Level.FINE)) {
+          LOGGER.log(Level.FINE, "Host probe to " + hostSpec + " failed", e);
+        }
+        GlobalHostStatusTracker.reportHostStatus(hostSpec, HostStatus.ConnectFail);
+        closeConnection();
+      }
+    }
+
+    private void closeConnection() {
+      QueryExecutor queryExecutor = this.queryExecutor;
+      if (queryExecutor != null) {
+        this.queryExecutor = null;
+        queryExecutor.close();
+      }
+    }
+
+    /**
+     * Queries the role of the server. Unlike the check at connect time, this does not rely on the
+     * {@code in_hot_standby} parameter, which is only updated when the connection reads the
+     * messages of the server.
+     */
+    private HostStatus queryStatus(QueryExecutor queryExecutor)
+        throws SQLException, IOException {
+      long startNanos = System.nanoTime();
+      String readOnly = queryString(queryExecutor, "show transaction_read_only");
+      GlobalHostStatusTracker.reportLatency(hostSpec, System.nanoTime() - startNanos);
+      if (readOnly == null) {
+        return HostStatus.ConnectOK;
+      }
+      if ("off".equalsIgnoreCase(readOnly)) {
+        GlobalHostStatusTracker.reportReplicaLag(hostSpec, -1);
+        return HostStatus.Primary;
+      }
+      GlobalHostStatusTracker.reportReplicaLag(hostSpec, queryReplicaLag(queryExecutor));
+      return HostStatus.Secondary;
+    }
+
+    /**
+     * Queries the replication lag of a standby. A standby that replayed all the WAL it received
+     * does not lag, even if the primary has not written anything for a while.
+     *
+     * @return the lag in milliseconds, or -1 if it is not known
+     */
+    private long queryReplicaLag(QueryExecutor queryExecutor) throws IOException {
+      try {
+        String lag = queryString(queryExecutor,
+            "select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0"
+                + " else extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000 end");
+        return lag == null ? -1 : (long) Double.parseDouble(lag);
+      } catch (SQLException | NumberFormatException e) {
+        // Servers before PostgreSQL 10 do not have the functions
+        LOGGER.log(Level.FINE, "Could not query the replication lag of {0}", hostSpec);
+        return -1;
+      }
+    }
+
+    private static @Nullable String queryString(QueryExecutor queryExecutor, String sql)
+        throws SQLException, IOException {
+      Tuple result = SetupQueryRunner.run(queryExecutor, sql, true);
+      if (result == null) {
+        return null;
+      }
+      byte[] value = result.get(0);
+      return value == null ? null : queryExecutor.getEncoding().decode(value);
+    }
+  }
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.hostchooser;
+
+import org.postgresql.util.HostSpec;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Tries the host this JVM has the fewest open connections to first, see
+ * {@link GlobalHostStatusTracker#getOpenConnections(HostSpec)}. The ties are broken randomly.
+ */
+public final class LeastConnectionsLoadBalanceStrategy implements LoadBalanceStrategy {
+  @Override
+  public List<HostSpec> order(List<HostSpec> hosts, HostRequirement requirement) {
+    List<HostSpec> result = new ArrayList<>(hosts);
+    Collections.shuffle(result);
+    result.sort(Comparator.comparingInt(GlobalHostStatusTracker::getOpenConnections));
+    return result;
+  }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.hostchooser;
+
+import org.postgresql.util.HostSpec;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Tries the host with the lowest moving average of the connect and query round trip times first,
+ * see {@link GlobalHostStatusTracker#getLatencyNanos(HostSpec)}. The hosts without a measurement
+ * come first, so their latency gets measured, and the ties are broken randomly.
+ */
+public final class LeastLatencyLoadBalanceStrategy implements LoadBalanceStrategy {
+  @Override
+  public List<HostSpec> order(List<HostSpec> hosts, HostRequirement requirement) {
+    List<HostSpec> result = new ArrayList<>(hosts);
+    Collections.shuffle(result);
+    result.sort(Comparator.comparingLong(GlobalHostStatusTracker::getLatencyNanos));
+    return result;
+  }
+}
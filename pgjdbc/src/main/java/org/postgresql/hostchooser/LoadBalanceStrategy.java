@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.hostchooser;
+
+import org.postgresql.PGProperty;
+import org.postgresql.util.HostSpec;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Orders the candidate hosts of a multi-host connection when {@link PGProperty#LOAD_BALANCE_HOSTS}
+ * is enabled, see {@link PGProperty#LOAD_BALANCE_STRATEGY}. The strategies can base the order on
+ * the statistics of {@link GlobalHostStatusTracker}.
+ *
+ * <p>The strategy is called for every connection attempt, possibly from several threads at
+ * once.</p>
+ */
+public interface LoadBalanceStrategy {
+  /**
+   * Spreads the connections evenly by trying the hosts in random order.
+   */
+  LoadBalanceStrategy RANDOM = new LoadBalanceStrategy() {
+    @Override
+    public List<HostSpec> order(List<HostSpec> hosts, HostRequirement requirement) {
+      List<HostSpec> result = new ArrayList<>(hosts);
+      Collections.shuffle(result);
+      return result;
+    }
+  };
+
+  /**
+   * Orders the hosts that might satisfy the requirement. The driver tries the hosts in the
+   * returned order, and skips the hosts the strategy leaves out. If no host satisfies the
+   * requirement, the driver still tries all the hosts.
+   *
+   * @param hosts the candidate hosts, in the order of the connection URL
+   * @param requirement the requirement the hosts are tried for
+   * @return the hosts in the order they should be tried
+   */
+  List<HostSpec> order(List<HostSpec> hosts, HostRequirement requirement);
+}
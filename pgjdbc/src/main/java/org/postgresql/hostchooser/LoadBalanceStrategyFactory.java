@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.hostchooser;
+
+import org.postgresql.PGProperty;
+import org.postgresql.util.GT;
+import org.postgresql.util.ObjectFactory;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import java.util.Properties;
+
+/**
+ * Instantiates {@link LoadBalanceStrategy} based on the {@link PGProperty#LOAD_BALANCE_STRATEGY}.
+ */
+public class LoadBalanceStrategyFactory {
+  private static final LoadBalanceStrategy LEAST_LATENCY = new LeastLatencyLoadBalanceStrategy();
+  private static final LoadBalanceStrategy LEAST_CONNECTIONS =
+      new LeastConnectionsLoadBalanceStrategy();
+
+  /**
+   * Returns {@link LoadBalanceStrategy} based on the {@link PGProperty#LOAD_BALANCE_STRATEGY}.
+   * {@code random} (the default), {@code leastLatency}, {@code leastConnections} and
+   * {@code boundedReplicaLag} map to the built-in strategies, and the other values are treated
+   * as class names.
+   *
+   * @param info connection properties
+   * @return load balance strategy
+   * @throws PSQLException if something goes wrong
+   */
+  public static LoadBalanceStrategy getLoadBalanceStrategy(Properties info) throws PSQLException {
+    String strategy = PGProperty.LOAD_BALANCE_STRATEGY.getOrDefault(info);
+    if (strategy == null || strategy.isEmpty() || "random".equals(strategy)) {
+      return LoadBalanceStrategy.RANDOM;
+    }
+    if ("leastLatency".equals(strategy)) {
+      return LEAST_LATENCY;
+    }
+    if ("leastConnections".equals(strategy)) {
+      return LEAST_CONNECTIONS;
+    }
+    if ("boundedReplicaLag".equals(strategy)) {
+      return new BoundedReplicaLagLoadBalanceStrategy(info);
+    }
+    try {
+      return ObjectFactory.instantiate(LoadBalanceStrategy.class, strategy, info, false, null);
+    } catch (Exception e) {
+      throw new PSQLException(
+          GT.tr("The LoadBalanceStrategy class provided {0} could not be instantiated.", strategy),
+          PSQLState.CONNECTION_FAILURE, e);
+    }
+  }
+}
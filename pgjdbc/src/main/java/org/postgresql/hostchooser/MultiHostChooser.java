@@ -26,6 +26,7 @@ class MultiHostChooser implements HostChooser {
   private final HostRequirement targetServerType;
   private int hostRecheckTime;
   private boolean loadBalance;
+  private LoadBalanceStrategy loadBalanceStrategy = LoadBalanceStrategy.RANDOM;
 
   MultiHostChooser(HostSpec[] hostSpecs, HostRequirement targetServerType,
       Properties info) {
@@ -34,6 +35,13 @@ class MultiHostChooser implements HostChooser {
     try {
       hostRecheckTime = PGProperty.HOST_RECHECK_SECONDS.getInt(info) * 1000;
       loadBalance = PGProperty.LOAD_BALANCE_HOSTS.getBoolean(info);
+      if (loadBalance) {
+        loadBalanceStrategy = LoadBalanceStrategyFactory.getLoadBalanceStrategy(info);
+      }
+      int hostProbeInterval = PGProperty.HOST_PROBE_INTERVAL.getInt(info);
+      if (hostProbeInterval > 0) {
+        HostStatusProber.register(hostSpecs, info, hostProbeInterval);
+      }
     } catch (PSQLException e) {
       throw new RuntimeException(e);
     }
@@ -88,7 +96,7 @@ private List<CandidateHost> getCandidateHosts(HostRequirement hostRequirement) {
     List<HostSpec> candidates =
         GlobalHostStatusTracker.getCandidateHosts(hostSpecs, hostRequirement, hostRecheckTime);
     if (loadBalance) {
-      shuffle(candidates);
+      candidates = loadBalanceStrategy.order(candidates, hostRequirement);
     }
     return withReqStatus(hostRequirement, candidates);
   }
@@ -13,6 +13,7 @@
 import org.postgresql.core.Parser;
 import org.postgresql.jdbc2.ArrayAssistant;
 import org.postgresql.jdbc2.ArrayAssistantRegistry;
+import org.postgresql.util.ByteConverter;
 import org.postgresql.util.GT;
 import org.postgresql.util.PGbytea;
 import org.postgresql.util.PSQLException;
@@ -310,9 +311,23 @@ Object parseValue(String stringVal, BaseConnection connection) throws SQLExcepti
     }
   };
 
-  private static final ArrayDecoder<BigDecimal[]> BIG_DECIMAL_STRING_DECODER = new AbstractObjectStringArrayDecoder<BigDecimal[]>(
+  private static final ArrayDecoder<BigDecimal[]> BIG_DECIMAL_ARRAY = new AbstractObjectArrayDecoder<BigDecimal[]>(
       BigDecimal.class) {
 
+    @Override
+    Object parseValue(int length, ByteBuffer bytes, BaseConnection connection) throws SQLException {
+      assert bytes.hasArray();
+      final int offset = bytes.arrayOffset() + bytes.position();
+      final Number value = ByteConverter.numeric(bytes.array(), offset, length);
+      bytes.position(bytes.position() + length);
+      if (!(value instanceof BigDecimal)) {
+        // NaN and infinity, which BigDecimal cannot represent either when parsed from text
+        throw new PSQLException(GT.tr("Bad value for type {0} : {1}", "BigDecimal", value),
+            PSQLState.NUMERIC_VALUE_OUT_OF_RANGE);
+      }
+      return value;
+    }
+
     @Override
     Object parseValue(String stringVal, BaseConnection connection) throws SQLException {
       return PgResultSet.toBigDecimal(stringVal);
@@ -364,7 +379,7 @@ Object parseValue(String stringVal, BaseConnection connection) throws SQLExcepti
    */
   @SuppressWarnings("rawtypes")
   private static final Map<Integer, ArrayDecoder> OID_TO_DECODER = new HashMap<>(
-      (int) (21 / .75) + 1);
+      (int) (22 / .75) + 1);
 
   static {
     OID_TO_DECODER.put(Oid.OID, INT4_UNSIGNED_OBJ_ARRAY);
@@ -381,10 +396,12 @@ Object parseValue(String stringVal, BaseConnection connection) throws SQLExcepti
     OID_TO_DECODER.put(Oid.BIT, BOOLEAN_OBJ_ARRAY);
     OID_TO_DECODER.put(Oid.BOOL, BOOLEAN_OBJ_ARRAY);
     OID_TO_DECODER.put(Oid.BYTEA, BYTE_ARRAY_ARRAY);
-    OID_TO_DECODER.put(Oid.NUMERIC, BIG_DECIMAL_STRING_DECODER);
-    OID_TO_DECODER.put(Oid.BPCHAR, STRING_ONLY_DECODER);
+    OID_TO_DECODER.put(Oid.NUMERIC, BIG_DECIMAL_ARRAY);
+    // the binary form of these is the same as the text form
+    OID_TO_DECODER.put(Oid.BPCHAR, STRING_ARRAY);
+    OID_TO_DECODER.put(Oid.NAME, STRING_ARRAY);
+    OID_TO_DECODER.put(Oid.JSON, STRING_ARRAY);
     OID_TO_DECODER.put(Oid.CHAR, STRING_ONLY_DECODER);
-    OID_TO_DECODER.put(Oid.JSON, STRING_ONLY_DECODER);
     OID_TO_DECODER.put(Oid.DATE, DATE_DECODER);
     OID_TO_DECODER.put(Oid.TIME, TIME_DECODER);
     OID_TO_DECODER.put(Oid.TIMETZ, TIME_DECODER);
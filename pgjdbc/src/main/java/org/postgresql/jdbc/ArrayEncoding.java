@@ -15,6 +15,7 @@
 import org.postgresql.util.PSQLState;
 
 import org.checkerframework.checker.index.qual.Positive;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -1077,6 +1078,55 @@ public static <A extends Object> ArrayEncoder<A> getArrayEncoder(A array) throws
     throw new PSQLException(GT.tr("Invalid elements {0}", array), PSQLState.INVALID_PARAMETER_TYPE);
   }
 
+  /**
+   * Creates the binary representation of a one dimension array of elements which are already in
+   * binary form, such as the values of bind parameters.
+   *
+   * @param elementOid
+   *          The type oid of the elements.
+   * @param elements
+   *          The binary representation of each element, {@code null} for {@code NULL}.
+   * @return The binary representation of the array.
+   */
+  static byte[] toBinaryRepresentation(int elementOid, byte[] @Nullable [] elements) {
+    int length = 20;
+    boolean hasNulls = false;
+    for (byte[] element : elements) {
+      length += 4;
+      if (element != null) {
+        length += element.length;
+      } else {
+        hasNulls = true;
+      }
+    }
+    final byte[] bytes = new byte[length];
+
+    // 1 dimension
+    ByteConverter.int4(bytes, 0, 1);
+    // nulls
+    ByteConverter.int4(bytes, 4, hasNulls ? 1 : 0);
+    // oid
+    ByteConverter.int4(bytes, 8, elementOid);
+    // length
+    ByteConverter.int4(bytes, 12, elements.length);
+    // postgresql uses 1 base by default
+    ByteConverter.int4(bytes, 16, 1);
+
+    int idx = 20;
+    for (byte[] element : elements) {
+      if (element != null) {
+        ByteConverter.int4(bytes, idx, element.length);
+        idx += 4;
+        System.arraycopy(element, 0, bytes, idx, element.length);
+        idx += element.length;
+      } else {
+        ByteConverter.int4(bytes, idx, -1);
+        idx += 4;
+      }
+    }
+    return bytes;
+  }
+
   /**
    * Wraps an {@link AbstractArrayEncoder} implementation and provides optimized
    * support for 2 dimensions.
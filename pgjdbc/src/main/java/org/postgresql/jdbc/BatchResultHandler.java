@@ -38,6 +38,8 @@ public class BatchResultHandler extends ResultHandlerBase {
   private int resultIndex;
 
   private final Query[] queries;
+  // Number of rows of the batch executed by each query, when it differs from Query.getBatchSize()
+  private final int @Nullable [] rowsPerQuery;
   private final long[] longUpdateCounts;
   private final @Nullable ParameterList @Nullable [] parameterLists;
   private final boolean expectGeneratedKeys;
@@ -50,8 +52,15 @@ public class BatchResultHandler extends ResultHandlerBase {
   BatchResultHandler(PgStatement pgStatement, Query[] queries,
       @Nullable ParameterList @Nullable [] parameterLists,
       boolean expectGeneratedKeys) {
+    this(pgStatement, queries, parameterLists, expectGeneratedKeys, null);
+  }
+
+  BatchResultHandler(PgStatement pgStatement, Query[] queries,
+      @Nullable ParameterList @Nullable [] parameterLists,
+      boolean expectGeneratedKeys, int @Nullable [] rowsPerQuery) {
     this.pgStatement = pgStatement;
     this.queries = queries;
+    this.rowsPerQuery = rowsPerQuery;
     this.parameterLists = parameterLists;
     this.longUpdateCounts = new long[queries.length];
     this.expectGeneratedKeys = expectGeneratedKeys;
@@ -215,14 +224,19 @@ public int[] getUpdateCount() {
     return uncompressUpdateCount();
   }
 
+  private int getBatchSize(int queryIndex) {
+    int[] rowsPerQuery = this.rowsPerQuery;
+    return rowsPerQuery != null ? rowsPerQuery[queryIndex] : queries[queryIndex].getBatchSize();
+  }
+
   private long[] uncompressLongUpdateCount() {
-    if (!(queries[0] instanceof BatchedQuery)) {
+    if (rowsPerQuery == null && !(queries[0] instanceof BatchedQuery)) {
       return longUpdateCounts;
     }
     int totalRows = 0;
     boolean hasRewrites = false;
-    for (Query query : queries) {
-      int batchSize = query.getBatchSize();
+    for (int i = 0; i < queries.length; i++) {
+      int batchSize = getBatchSize(i);
       totalRows += batchSize;
       hasRewrites |= batchSize > 1;
     }
@@ -238,8 +252,7 @@ private long[] uncompressLongUpdateCount() {
     long[] newUpdateCounts = new long[totalRows];
     int offset = 0;
     for (int i = 0; i < queries.length; i++) {
-      Query query = queries[i];
-      int batchSize = query.getBatchSize();
+      int batchSize = getBatchSize(i);
       long superBatchResult = longUpdateCounts[i];
       if (batchSize == 1) {
         newUpdateCounts[offset++] = superBatchResult;
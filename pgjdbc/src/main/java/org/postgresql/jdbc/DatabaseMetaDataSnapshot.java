@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import static org.postgresql.util.internal.Nullness.castNonNull;
+
+import org.postgresql.PGProperty;
+import org.postgresql.core.Field;
+import org.postgresql.core.Tuple;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Client-side snapshot of the catalog used by {@link PgDatabaseMetaData} when
+ * {@link PGProperty#DATABASE_METADATA_SNAPSHOT} is enabled.
+ *
+ * <p>The first call of a metadata method loads the rows of all the tables of the requested schema
+ * with a single catalog query, and the calls for the other tables of the schema are answered from
+ * memory. The snapshot is dropped when the connection executes {@code CREATE}, {@code DROP} or
+ * {@code ALTER}; the tables created or changed by other connections are not seen until then.</p>
+ */
+final class DatabaseMetaDataSnapshot {
+  /**
+   * Runs the catalog query of a metadata method for all the tables of a schema.
+   */
+  interface Loader {
+    ResultSet load() throws SQLException;
+  }
+
+  /**
+   * Selects the rows of the calls for a single table.
+   */
+  interface RowFilter {
+    boolean matches(Row row);
+  }
+
+  /**
+   * A row of a metadata result, with the columns the filters look at.
+   */
+  static final class Row {
+    final Tuple tuple;
+    private final @Nullable String[] keys;
+
+    Row(Tuple tuple, @Nullable String[] keys) {
+      this.tuple = tuple;
+      this.keys = keys;
+    }
+
+    /**
+     * Returns the value of a key column.
+     *
+     * @param index index of the column in the key columns the result was loaded with
+     * @return the value of the column
+     */
+    @Nullable String key(int index) {
+      return keys[index];
+    }
+  }
+
+  /**
+   * The rows of a metadata method for all the tables of a schema.
+   */
+  static final class Result {
+    final Field[] fields;
+    private final List<Row> rows;
+
+    Result(Field[] fields, List<Row> rows) {
+      this.fields = fields;
+      this.rows = rows;
+    }
+
+    /**
+     * Returns the matching rows in the order of the catalog query, or in the given order.
+     *
+     * @param filter the rows to return
+     * @param order the order of the rows, or null to keep the order of the query
+     * @return the matching rows
+     */
+    List<Tuple> select(RowFilter filter, @Nullable Comparator<Row> order) {
+      List<Row> matches = new ArrayList<>();
+      for (Row row : rows) {
+        if (filter.matches(row)) {
+          matches.add(row);
+        }
+      }
+      if (order != null) {
+        matches.sort(order);
+      }
+      List<Tuple> tuples = new ArrayList<>(matches.size());
+      for (Row row : matches) {
+        tuples.add(row.tuple);
+      }
+      return tuples;
+    }
+  }
+
+  private final PgConnection connection;
+  private final Map<String, Result> results = new HashMap<>();
+  private final ResourceLock lock = new ResourceLock();
+  private int schemaChangeCount;
+
+  DatabaseMetaDataSnapshot(PgConnection connection) {
+    this.connection = connection;
+    this.schemaChangeCount = connection.getQueryExecutor().getSchemaChangeCount();
+  }
+
+  /**
+   * Returns the rows of a metadata method, and loads them if they are not in the snapshot yet.
+   *
+   * @param key identifies the method and the arguments the rows were loaded with
+   * @param keyColumns the names of the columns the filters look at
+   * @param loader runs the catalog query
+   * @return the rows
+   * @throws SQLException if the catalog query fails
+   */
+  Result get(String key, String[] keyColumns, Loader loader) throws SQLException {
+    try (ResourceLock ignore = lock.obtain()) {
+      int schemaChangeCount = connection.getQueryExecutor().getSchemaChangeCount();
+      if (schemaChangeCount != this.schemaChangeCount) {
+        this.schemaChangeCount = schemaChangeCount;
+        results.clear();
+      }
+      Result result = results.get(key);
+      if (result == null) {
+        result = load(keyColumns, loader);
+        results.put(key, result);
+      }
+      return result;
+    }
+  }
+
+  private static Result load(String[] keyColumns, Loader loader) throws SQLException {
+    try (ResultSet rs = loader.load()) {
+      PgResultSet pgResultSet = rs.unwrap(PgResultSet.class);
+      int[] keyIndexes = new int[keyColumns.length];
+      for (int i = 0; i < keyColumns.length; i++) {
+        keyIndexes[i] = rs.findColumn(keyColumns[i]);
+      }
+      List<Row> rows = new ArrayList<>();
+      while (rs.next()) {
+        @Nullable String[] keys = new String[keyIndexes.length];
+        for (int i = 0; i < keyIndexes.length; i++) {
+          keys[i] = rs.getString(keyIndexes[i]);
+        }
+        rows.add(new Row(castNonNull(pgResultSet.thisRow), keys));
+      }
+      return new Result(pgResultSet.fields, rows);
+    }
+  }
+
+  /**
+   * A {@code LIKE} pattern of the metadata methods, which escape the wildcards with {@code \}.
+   * The pattern is compiled once, and then matched against the rows.
+   */
+  static final class LikePattern {
+    private final @Nullable String pattern;
+    // null if the pattern has no wildcard, so equals is enough
+    private final @Nullable Pattern regex;
+
+    /**
+     * Compiles a pattern.
+     *
+     * @param pattern the pattern, null matches any value
+     */
+    LikePattern(@Nullable String pattern) {
+      this.pattern = pattern;
+      this.regex = pattern == null || pattern.indexOf('%') < 0 && pattern.indexOf('_') < 0
+          && pattern.indexOf('\\') < 0 ? null : compileLike(pattern);
+    }
+
+    /**
+     * Tells if a value matches the pattern.
+     *
+     * @param value the value
+     * @return true if the value matches
+     */
+    boolean matches(@Nullable String value) {
+      String pattern = this.pattern;
+      if (pattern == null) {
+        return true;
+      }
+      if (value == null) {
+        return false;
+      }
+      Pattern regex = this.regex;
+      return regex == null ? pattern.equals(value) : regex.matcher(value).matches();
+    }
+  }
+
+  static Pattern compileLike(String pattern) {
+    StringBuilder regex = new StringBuilder(pattern.length() + 8);
+    for (int i = 0; i < pattern.length(); i++) {
+      char c = pattern.charAt(i);
+      if (c == '\\' && i + 1 < pattern.length()) {
+        regex.append(Pattern.quote(String.valueOf(pattern.charAt(++i))));
+      } else if (c == '%') {
+        regex.append(".*");
+      } else if (c == '_') {
+        regex.append('.');
+      } else {
+        regex.append(Pattern.quote(String.valueOf(c)));
+      }
+    }
+    return Pattern.compile(regex.toString(), Pattern.DOTALL);
+  }
+}
@@ -9,6 +9,8 @@
 
 import org.postgresql.Driver;
 import org.postgresql.PGNotification;
+import org.postgresql.PGNotificationListener;
+import org.postgresql.PGPipeline;
 import org.postgresql.PGProperty;
 import org.postgresql.copy.CopyManager;
 import org.postgresql.core.BaseConnection;
@@ -16,6 +18,7 @@
 import org.postgresql.core.CachedQuery;
 import org.postgresql.core.ConnectionFactory;
 import org.postgresql.core.Encoding;
+import org.postgresql.core.NotificationDispatcher;
 import org.postgresql.core.Oid;
 import org.postgresql.core.ProtocolVersion;
 import org.postgresql.core.Query;
@@ -107,6 +110,17 @@ public class PgConnection implements BaseConnection {
 
   private static final Logger LOGGER = Logger.getLogger(PgConnection.class.getName());
   private static final Set<Integer> SUPPORTED_BINARY_OIDS = getSupportedBinaryOids();
+  /**
+   * Array types whose elements are decoded from binary, which are received in binary format when
+   * {@link PGProperty#BINARY_TRANSFER_MODE} is {@code always}. They are not sent in binary format.
+   */
+  private static final Set<Integer> BINARY_RECEIVE_ARRAY_OIDS = new HashSet<>(Arrays.asList(
+      Oid.BOOL_ARRAY,
+      Oid.BPCHAR_ARRAY,
+      Oid.NAME_ARRAY,
+      Oid.JSON_ARRAY,
+      Oid.NUMERIC_ARRAY,
+      Oid.UUID_ARRAY));
   private static final SQLPermission SQL_PERMISSION_ABORT = new SQLPermission("callAbort");
   private static final SQLPermission SQL_PERMISSION_NETWORK_TIMEOUT = new SQLPermission("setNetworkTimeout");
 
@@ -211,12 +225,16 @@ private enum ReadOnlyBehavior {
   private boolean readOnly;
   // Filter out database objects for which the current user has no privileges granted from the DatabaseMetaData
   private final boolean  hideUnprivilegedObjects ;
+  // Serve the DatabaseMetaData methods from a client-side snapshot of the catalog
+  private final boolean databaseMetadataSnapshot;
   // Whether to include error details in logging and exceptions
   private final boolean logServerErrorDetail;
   // Bind String to UNSPECIFIED or VARCHAR?
   private final boolean bindStringAsVarchar;
   // Convert boolean values to numeric types?
   private final boolean convertBooleanToNumeric;
+  // Read the rows of forward-only resultsets as the resultset is advanced?
+  private final boolean resultSetStreaming;
 
   // Current warnings; there might be more on queryExecutor too.
   private @Nullable SQLWarning firstWarning;
@@ -312,6 +330,7 @@ public PgConnection(HostSpec[] hostSpecs,
       }
 
       this.hideUnprivilegedObjects = PGProperty.HIDE_UNPRIVILEGED_OBJECTS.getBoolean(info);
+      this.databaseMetadataSnapshot = PGProperty.DATABASE_METADATA_SNAPSHOT.getBoolean(info);
 
       // Default is true: DDL transparently invalidates the prepared-statement
       // cache so the driver re-prepares server plans rather than surfacing
@@ -331,6 +350,11 @@ public PgConnection(HostSpec[] hostSpecs,
       Set<Integer> useBinarySendForOids = new HashSet<>(binaryOids);
 
       Set<Integer> useBinaryReceiveForOids = new HashSet<>(binaryOids);
+      if (PGProperty.BINARY_TRANSFER.getBoolean(info)
+          && "always".equalsIgnoreCase(PGProperty.BINARY_TRANSFER_MODE.getOrDefault(info))) {
+        useBinaryReceiveForOids.addAll(BINARY_RECEIVE_ARRAY_OIDS);
+        useBinaryReceiveForOids.removeAll(binaryDisabledOids);
+      }
 
       /*
        * Does not pass unit tests because unit tests expect setDate to have millisecond accuracy
@@ -391,6 +415,7 @@ public PgConnection(HostSpec[] hostSpecs,
       this.logServerErrorDetail = PGProperty.LOG_SERVER_ERROR_DETAIL.getBoolean(info);
       this.disableColumnSanitiser = PGProperty.DISABLE_COLUMN_SANITISER.getBoolean(info);
       this.convertBooleanToNumeric = PGProperty.CONVERT_BOOLEAN_TO_NUMERIC.getBoolean(info);
+      this.resultSetStreaming = PGProperty.RESULT_SET_STREAMING.getBoolean(info);
 
       if (haveMinimumServerVersion(ServerVersion.v8_3)) {
         typeCache.addCoreType("uuid", Oid.UUID, Types.OTHER, "java.util.UUID", Oid.UUID_ARRAY);
@@ -818,7 +843,7 @@ public Object getObject(String type, @Nullable String value, byte @Nullable [] b
   }
 
   protected TypeInfo createTypeInfo(BaseConnection conn, int unknownLength) {
-    return new TypeInfoCache(conn, unknownLength);
+    return new TypeInfoCache(conn, unknownLength, queryExecutor.getSharedTypeCatalog());
   }
 
   @Override
@@ -1169,6 +1194,10 @@ public boolean getHideUnprivilegedObjects() {
     return hideUnprivilegedObjects;
   }
 
+  public boolean getDatabaseMetadataSnapshot() {
+    return databaseMetadataSnapshot;
+  }
+
   /**
    * Get server version number.
    *
@@ -1272,6 +1301,30 @@ public PGNotification[] getNotifications(int timeoutMillis) throws SQLException
     return notifications;
   }
 
+  @Override
+  public void addNotificationListener(String channel, PGNotificationListener listener)
+      throws SQLException {
+    checkClosed();
+    NotificationDispatcher notificationDispatcher = queryExecutor.getNotificationDispatcher();
+    if (notificationDispatcher.addListener(channel, listener)) {
+      try {
+        execSQLUpdate("LISTEN " + Utils.escapeIdentifier(null, channel));
+      } catch (SQLException e) {
+        notificationDispatcher.removeListener(channel, listener);
+        throw e;
+      }
+    }
+  }
+
+  @Override
+  public void removeNotificationListener(String channel, PGNotificationListener listener)
+      throws SQLException {
+    if (queryExecutor.getNotificationDispatcher().removeListener(channel, listener)
+        && !isClosed()) {
+      execSQLUpdate("UNLISTEN " + Utils.escapeIdentifier(null, channel));
+    }
+  }
+
   /**
    * Handler for transaction queries.
    */
@@ -1439,6 +1492,16 @@ public PGReplicationConnection getReplicationAPI() {
     return new PGReplicationConnectionImpl(this);
   }
 
+  @Override
+  public PGPipeline pipeline() throws SQLException {
+    checkClosed();
+    if (getPreferQueryMode() == PreferQueryMode.SIMPLE) {
+      throw new PSQLException(GT.tr("Pipelines are not supported in {0} query mode.",
+          PreferQueryMode.SIMPLE.value()), PSQLState.NOT_IMPLEMENTED);
+    }
+    return new PgPipeline(this);
+  }
+
   // Parse a "dirty" integer surrounded by non-numeric characters
   private static int integerPart(String dirtyString) {
     int start = 0;
@@ -1718,6 +1781,16 @@ public boolean getConvertBooleanToNumeric() {
     return convertBooleanToNumeric;
   }
 
+  /**
+   * Returns the default streaming mode of the statements created by this connection.
+   *
+   * @return true if the statements should stream the rows of the resultsets
+   * @see PGProperty#RESULT_SET_STREAMING
+   */
+  boolean getResultSetStreaming() {
+    return resultSetStreaming;
+  }
+
   @Override
   public boolean isWrapperFor(Class<?> iface) throws SQLException {
     checkClosed();
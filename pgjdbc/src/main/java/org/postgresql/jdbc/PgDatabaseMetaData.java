@@ -57,6 +57,7 @@ public PgDatabaseMetaData(PgConnection conn) {
   protected final PgConnection connection; // The connection association
 
   private int nameDataLength; // length for name datatype
+  private @Nullable DatabaseMetaDataSnapshot snapshot;
   private int indexMaxKeys; // maximum number of keys in an index.
 
   protected int getMaxIndexKeys() throws SQLException {
@@ -1710,6 +1711,25 @@ public ResultSet getTableTypes() throws SQLException {
   public ResultSet getColumns(@Nullable String catalog, @Nullable String schemaPattern,
       @Nullable String tableNamePattern,
       @Nullable String columnNamePattern) throws SQLException {
+    DatabaseMetaDataSnapshot snapshot = getSnapshot();
+    if (snapshot == null) {
+      return queryColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern);
+    }
+    DatabaseMetaDataSnapshot.Result result = snapshot.get(
+        snapshotKey("getColumns", catalog, schemaPattern),
+        new String[]{"TABLE_NAME", "COLUMN_NAME"},
+        () -> queryColumns(catalog, schemaPattern, null, null));
+    DatabaseMetaDataSnapshot.LikePattern tableName =
+        new DatabaseMetaDataSnapshot.LikePattern(tableNamePattern);
+    DatabaseMetaDataSnapshot.LikePattern columnName =
+        new DatabaseMetaDataSnapshot.LikePattern(columnNamePattern);
+    return createSnapshotResultSet(result, result.select(
+        row -> tableName.matches(row.key(0)) && columnName.matches(row.key(1)), null));
+  }
+
+  private ResultSet queryColumns(@Nullable String catalog, @Nullable String schemaPattern,
+      @Nullable String tableNamePattern,
+      @Nullable String columnNamePattern) throws SQLException {
 
     String currentCatalog = connection.getCatalog();
     int numberOfFields = 24; // JDBC4
@@ -2427,6 +2447,20 @@ public ResultSet getVersionColumns(
   @Override
   public ResultSet getPrimaryKeys(@Nullable String catalog, @Nullable String schema, String table)
       throws SQLException {
+    DatabaseMetaDataSnapshot snapshot = getSnapshot();
+    if (snapshot == null) {
+      return queryPrimaryKeys(catalog, schema, table);
+    }
+    DatabaseMetaDataSnapshot.Result result = snapshot.get(
+        snapshotKey("getPrimaryKeys", catalog, schema),
+        new String[]{"TABLE_NAME"},
+        () -> queryPrimaryKeys(catalog, schema, null));
+    return createSnapshotResultSet(result, result.select(
+        row -> table == null || table.equals(row.key(0)), null));
+  }
+
+  private ResultSet queryPrimaryKeys(@Nullable String catalog, @Nullable String schema,
+      @Nullable String table) throws SQLException {
 
     String currentCatalog = connection.getCatalog();
     Field[] f = new Field[6];
@@ -2695,13 +2729,40 @@ I could have done this using lower(relkind) = 'i' but chose to be explicit
   @Override
   public ResultSet getImportedKeys(@Nullable String catalog, @Nullable String schema, String table)
       throws SQLException {
-    return getImportedExportedKeys(null, null, null, catalog, schema, table);
+    DatabaseMetaDataSnapshot snapshot = getSnapshot();
+    if (snapshot == null) {
+      return getImportedExportedKeys(null, null, null, catalog, schema, table);
+    }
+    DatabaseMetaDataSnapshot.Result result = snapshot.get(
+        snapshotKey("getImportedKeys", catalog, schema),
+        new String[]{"FKTABLE_NAME"},
+        () -> getImportedExportedKeys(null, null, null, catalog, schema, null));
+    return createSnapshotResultSet(result, result.select(
+        row -> table == null || table.equals(row.key(0)), null));
   }
 
   @Override
   public ResultSet getExportedKeys(@Nullable String catalog, @Nullable String schema, String table)
       throws SQLException {
-    return getImportedExportedKeys(catalog, schema, table, null, null, null);
+    DatabaseMetaDataSnapshot snapshot = getSnapshot();
+    if (snapshot == null) {
+      return getImportedExportedKeys(catalog, schema, table, null, null, null);
+    }
+    DatabaseMetaDataSnapshot.Result result = snapshot.get(
+        snapshotKey("getExportedKeys", catalog, schema),
+        new String[]{"PKTABLE_NAME", "FKTABLE_SCHEM", "FKTABLE_NAME", "FK_NAME", "KEY_SEQ"},
+        () -> getImportedExportedKeys(catalog, schema, null, null, null, null));
+    if (table == null) {
+      return createSnapshotResultSet(result, result.select(row -> true, null));
+    }
+    // The rows of a single primary key table are ordered by the foreign key table
+    return createSnapshotResultSet(result, result.select(
+        row -> table.equals(row.key(0)),
+        Comparator.comparing((DatabaseMetaDataSnapshot.Row row) -> row.key(1),
+                Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(row -> row.key(2), Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(row -> row.key(3), Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparingInt(row -> Integer.parseInt(castNonNull(row.key(4))))));
   }
 
   @Override
@@ -2846,6 +2907,23 @@ public int compare(Tuple o1, Tuple o2) {
   public ResultSet getIndexInfo(
       @Nullable String catalog, @Nullable String schema, String tableName,
       boolean unique, boolean approximate) throws SQLException {
+    DatabaseMetaDataSnapshot snapshot = getSnapshot();
+    if (snapshot == null) {
+      return queryIndexInfo(catalog, schema, tableName, unique);
+    }
+    DatabaseMetaDataSnapshot.Result result = snapshot.get(
+        snapshotKey("getIndexInfo", catalog, schema, String.valueOf(unique)),
+        new String[]{"TABLE_NAME"},
+        () -> queryIndexInfo(catalog, schema, null, unique));
+    return createSnapshotResultSet(result, result.select(
+        row -> tableName != null && tableName.equals(row.key(0)), null));
+  }
+
+  /**
+   * Queries the indexes of the given table, or of all the tables if {@code tableName} is null.
+   */
+  private ResultSet queryIndexInfo(@Nullable String catalog, @Nullable String schema,
+      @Nullable String tableName, boolean unique) throws SQLException {
 
     String currentCatalog = connection.getCatalog();
     Field[] f = new Field[14];
@@ -2947,8 +3025,10 @@ public ResultSet getIndexInfo(
         args.add(schema);
       }
 
-      sql.append(" AND ct.relname = ?");
-      args.add(tableName);
+      if (tableName != null) {
+        sql.append(" AND ct.relname = ?");
+        args.add(tableName);
+      }
 
       if (unique) {
         sql.append(" AND i.indisunique ");
@@ -2986,8 +3066,10 @@ public ResultSet getIndexInfo(
         args.add(schema);
       }
 
-      sql.append(" AND ct.relname = ?");
-      args.add(tableName);
+      if (tableName != null) {
+        sql.append(" AND ct.relname = ?");
+        args.add(tableName);
+      }
       if (unique) {
         sql.append(" AND i.indisunique ");
       }
@@ -3183,6 +3265,32 @@ protected Statement createMetaDataStatement() throws SQLException {
     return statement;
   }
 
+  private @Nullable DatabaseMetaDataSnapshot getSnapshot() {
+    if (!connection.getDatabaseMetadataSnapshot()) {
+      return null;
+    }
+    DatabaseMetaDataSnapshot snapshot = this.snapshot;
+    if (snapshot == null) {
+      snapshot = new DatabaseMetaDataSnapshot(connection);
+      this.snapshot = snapshot;
+    }
+    return snapshot;
+  }
+
+  private static String snapshotKey(String method, @Nullable String... args) {
+    StringBuilder key = new StringBuilder(method);
+    for (String arg : args) {
+      // Tell null from the "null" string
+      key.append(arg == null ? "\u0001" : "\u0000" + arg);
+    }
+    return key.toString();
+  }
+
+  private ResultSet createSnapshotResultSet(DatabaseMetaDataSnapshot.Result result,
+      List<Tuple> tuples) throws SQLException {
+    return ((BaseStatement) createMetaDataStatement()).createDriverResultSet(result.fields, tuples);
+  }
+
   private ResultSet executeMetadataStatement(String sql, List<String> args) throws SQLException {
     return prepareMetaDataStatement(sql, args).executeQuery();
   }
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import org.postgresql.PGPipeline;
+import org.postgresql.core.CachedQuery;
+import org.postgresql.core.Field;
+import org.postgresql.core.ParameterList;
+import org.postgresql.core.Query;
+import org.postgresql.core.QueryExecutor;
+import org.postgresql.core.ResultCursor;
+import org.postgresql.core.ResultHandlerBase;
+import org.postgresql.core.Tuple;
+import org.postgresql.util.GT;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link PGPipeline} implementation that sends the queued statements via
+ * {@link QueryExecutor#executePipeline}.
+ */
+class PgPipeline implements PGPipeline {
+  private final PgConnection connection;
+  private final List<PipelineEntry> entries = new ArrayList<>();
+  private boolean closed;
+
+  PgPipeline(PgConnection connection) {
+    this.connection = connection;
+  }
+
+  /**
+   * A statement queued in the pipeline along with a copy of its parameters.
+   */
+  private static final class PipelineEntry {
+    final PgPreparedStatement statement;
+    final Query query;
+    final ParameterList parameters;
+    final boolean oneShot;
+    final @Nullable CompletableFuture<ResultSet> resultSetFuture;
+    final @Nullable CompletableFuture<Long> updateCountFuture;
+
+    PipelineEntry(PgPreparedStatement statement, Query query, ParameterList parameters,
+        boolean oneShot, @Nullable CompletableFuture<ResultSet> resultSetFuture,
+        @Nullable CompletableFuture<Long> updateCountFuture) {
+      this.statement = statement;
+      this.query = query;
+      this.parameters = parameters;
+      this.oneShot = oneShot;
+      this.resultSetFuture = resultSetFuture;
+      this.updateCountFuture = updateCountFuture;
+    }
+
+    void complete(@Nullable ResultSet resultSet, long updateCount) {
+      CompletableFuture<ResultSet> resultSetFuture = this.resultSetFuture;
+      if (resultSetFuture != null) {
+        if (resultSet == null) {
+          fail(new PSQLException(GT.tr("No results were returned by the query."),
+              PSQLState.NO_DATA));
+          return;
+        }
+        resultSetFuture.complete(resultSet);
+        return;
+      }
+      if (resultSet != null) {
+        fail(new PSQLException(GT.tr("A result was returned when none was expected."),
+            PSQLState.TOO_MANY_RESULTS));
+        return;
+      }
+      if (updateCountFuture != null) {
+        updateCountFuture.complete(updateCount);
+      }
+    }
+
+    void fail(SQLException e) {
+      if (resultSetFuture != null) {
+        resultSetFuture.completeExceptionally(e);
+      }
+      if (updateCountFuture != null) {
+        updateCountFuture.completeExceptionally(e);
+      }
+    }
+
+    boolean isDone() {
+      return resultSetFuture != null ? resultSetFuture.isDone()
+          : updateCountFuture == null || updateCountFuture.isDone();
+    }
+  }
+
+  /**
+   * Dispatches the results to the queued entries in send order. Each statement produces an optional
+   * {@link #handleResultRows} call followed by {@link #handleCommandStatus} as the pipeline is
+   * executed with {@link QueryExecutor#QUERY_BOTH_ROWS_AND_STATUS}.
+   */
+  private static final class PipelineResultHandler extends ResultHandlerBase {
+    private final List<PipelineEntry> entries;
+    private int resultIndex;
+    private @Nullable ResultSet latestResultSet;
+
+    PipelineResultHandler(List<PipelineEntry> entries) {
+      this.entries = entries;
+    }
+
+    @Override
+    public void handleResultRows(Query fromQuery, Field[] fields, List<Tuple> tuples,
+        @Nullable ResultCursor cursor) {
+      if (resultIndex >= entries.size()) {
+        handleError(new PSQLException(GT.tr("Too many update results were returned."),
+            PSQLState.TOO_MANY_RESULTS));
+        return;
+      }
+      try {
+        latestResultSet = entries.get(resultIndex).statement
+            .createResultSet(fromQuery, fields, tuples, cursor);
+      } catch (SQLException e) {
+        handleError(e);
+      }
+    }
+
+    @Override
+    public void handleCommandStatus(String status, long updateCount, long insertOID) {
+      if (resultIndex >= entries.size()) {
+        handleError(new PSQLException(GT.tr("Too many update results were returned."),
+            PSQLState.TOO_MANY_RESULTS));
+        return;
+      }
+      ResultSet resultSet = latestResultSet;
+      latestResultSet = null;
+      entries.get(resultIndex++).complete(resultSet, updateCount);
+    }
+
+    @Override
+    public void handleWarning(SQLWarning warning) {
+      if (resultIndex < entries.size()) {
+        entries.get(resultIndex).statement.addWarning(warning);
+      }
+    }
+
+    @Override
+    public void handleError(SQLException error) {
+      super.handleError(error);
+      // The backend skips the rest of the messages till Sync, so the error belongs to the statement
+      // being executed
+      latestResultSet = null;
+      if (resultIndex < entries.size()) {
+        entries.get(resultIndex++).fail(error);
+      }
+    }
+  }
+
+  @Override
+  public CompletableFuture<ResultSet> executeQuery(PreparedStatement statement)
+      throws SQLException {
+    CompletableFuture<ResultSet> future = new CompletableFuture<>();
+    add(statement, future, null);
+    return future;
+  }
+
+  @Override
+  public CompletableFuture<Long> executeUpdate(PreparedStatement statement) throws SQLException {
+    CompletableFuture<Long> future = new CompletableFuture<>();
+    add(statement, null, future);
+    return future;
+  }
+
+  private void add(PreparedStatement statement,
+      @Nullable CompletableFuture<ResultSet> resultSetFuture,
+      @Nullable CompletableFuture<Long> updateCountFuture) throws SQLException {
+    checkClosed();
+    PgPreparedStatement pgStatement = statement.unwrap(PgPreparedStatement.class);
+    pgStatement.checkClosed();
+    if (pgStatement.connection != connection) {
+      throw new PSQLException(
+          GT.tr("The statement was created by a different connection than the pipeline."),
+          PSQLState.OBJECT_NOT_IN_STATE);
+    }
+    CachedQuery cachedQuery = pgStatement.preparedQuery;
+    if (cachedQuery.query.getSubqueries() != null) {
+      // Each statement completes one future, so the results of the others would be misattributed
+      throw new PSQLException(
+          GT.tr("A pipeline does not support queries with multiple statements."),
+          PSQLState.NOT_IMPLEMENTED);
+    }
+    // we need to create copies of our parameters, otherwise the values can be changed
+    entries.add(new PipelineEntry(pgStatement, cachedQuery.query,
+        pgStatement.preparedParameters.copy(), pgStatement.isOneShotQuery(cachedQuery),
+        resultSetFuture, updateCountFuture));
+  }
+
+  @Override
+  public int getPendingCount() {
+    return entries.size();
+  }
+
+  @Override
+  public void sync() throws SQLException {
+    checkClosed();
+    connection.checkClosed();
+    if (entries.isEmpty()) {
+      return;
+    }
+    List<PipelineEntry> entries = new ArrayList<>(this.entries);
+    this.entries.clear();
+
+    int size = entries.size();
+    Query[] queries = new Query[size];
+    @Nullable ParameterList[] parameterLists = new ParameterList[size];
+    int flags = QueryExecutor.QUERY_BOTH_ROWS_AND_STATUS | QueryExecutor.QUERY_ONESHOT;
+    for (int i = 0; i < size; i++) {
+      PipelineEntry entry = entries.get(i);
+      queries[i] = entry.query;
+      parameterLists[i] = entry.parameters;
+      if (!entry.oneShot) {
+        // Once a statement reaches prepareThreshold, use named statements for the pipeline
+        flags &= ~QueryExecutor.QUERY_ONESHOT;
+      }
+      if (entry.statement.concurrency != ResultSet.CONCUR_READ_ONLY) {
+        // updateable result sets do not yet support binary updates
+        flags |= QueryExecutor.QUERY_NO_BINARY_TRANSFER;
+      }
+    }
+    if (connection.getAutoCommit()) {
+      flags |= QueryExecutor.QUERY_SUPPRESS_BEGIN;
+    }
+    if (connection.hintReadOnly()) {
+      flags |= QueryExecutor.QUERY_READ_ONLY_HINT;
+    }
+
+    PipelineResultHandler handler = new PipelineResultHandler(entries);
+    SQLException failure = null;
+    try {
+      connection.getQueryExecutor().executePipeline(queries, parameterLists, handler, flags);
+    } catch (SQLException e) {
+      failure = e;
+    }
+
+    // The statements that were not executed due to an earlier failure
+    for (PipelineEntry entry : entries) {
+      if (!entry.isDone()) {
+        entry.fail(new PSQLException(
+            GT.tr("The statement was not executed because a previous statement in the pipeline failed."),
+            PSQLState.IN_FAILED_SQL_TRANSACTION, failure));
+      }
+    }
+  }
+
+  @Override
+  public void close() throws SQLException {
+    if (closed) {
+      return;
+    }
+    try {
+      sync();
+    } finally {
+      closed = true;
+    }
+  }
+
+  private void checkClosed() throws SQLException {
+    if (closed) {
+      throw new PSQLException(GT.tr("This pipeline has been closed."),
+          PSQLState.OBJECT_NOT_IN_STATE);
+    }
+  }
+}
@@ -16,6 +16,8 @@
 import org.postgresql.core.QueryExecutor;
 import org.postgresql.core.ResultHandler;
 import org.postgresql.core.ServerVersion;
+import org.postgresql.core.SqlCommand;
+import org.postgresql.core.SqlCommandType;
 import org.postgresql.core.TypeInfo;
 import org.postgresql.core.v3.BatchedQuery;
 import org.postgresql.largeobject.LargeObject;
@@ -75,6 +77,7 @@
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Map;
@@ -89,6 +92,13 @@ class PgPreparedStatement extends PgStatement implements PreparedStatement {
 
   private @Nullable TimeZone defaultTimeZone;
 
+  // The rewrite of the batches with reWriteBatchedUpdates, if the statement has a supported form
+  private @Nullable UnnestBatchRewrite unnestBatchRewrite;
+  private boolean unnestBatchRewriteParsed;
+  private @Nullable CachedQuery unnestQuery;
+  // Number of rows of each statement of the rewritten batch
+  private int @Nullable [] batchRowCounts;
+
   PgPreparedStatement(PgConnection connection, String sql, int rsType, int rsConcurrency,
       int rsHoldability) throws SQLException {
     this(connection, connection.borrowQuery(sql), rsType, rsConcurrency, rsHoldability);
@@ -217,6 +227,11 @@ public void closeImpl() throws SQLException {
     if (preparedQuery != null) {
       ((PgConnection) connection).releaseQuery(preparedQuery);
     }
+    CachedQuery unnestQuery = this.unnestQuery;
+    if (unnestQuery != null) {
+      this.unnestQuery = null;
+      connection.releaseQuery(unnestQuery);
+    }
   }
 
   @Override
@@ -1808,11 +1823,29 @@ public ParameterMetaData getParameterMetaData() throws SQLException {
     return createParameterMetaData(connection, oids);
   }
 
+  @Override
+  protected BatchResultHandler createBatchHandler(Query[] queries,
+      @Nullable ParameterList[] parameterLists) {
+    int[] rowsPerQuery = batchRowCounts;
+    if (rowsPerQuery == null) {
+      return super.createBatchHandler(queries, parameterLists);
+    }
+    batchRowCounts = null;
+    return new BatchResultHandler(this, queries, parameterLists, wantsGeneratedKeysAlways,
+        rowsPerQuery);
+  }
+
   @Override
   protected void transformQueriesAndParameters() throws SQLException {
+    batchRowCounts = null;
     ArrayList<@Nullable ParameterList> batchParameters = this.batchParameters;
-    if (batchParameters == null || batchParameters.size() <= 1
-        || !(preparedQuery.query instanceof BatchedQuery)) {
+    if (batchParameters == null || batchParameters.size() <= 1) {
+      return;
+    }
+    if (!(preparedQuery.query instanceof BatchedQuery)) {
+      if (connection.getQueryExecutor().isReWriteBatchedUpdatesEnabled()) {
+        transformUpdatesToUnnest(batchParameters);
+      }
       return;
     }
     BatchedQuery originalQuery = (BatchedQuery) preparedQuery.query;
@@ -1867,4 +1900,72 @@ protected void transformQueriesAndParameters() throws SQLException {
     this.batchStatements = newBatchStatements;
     this.batchParameters = newBatchParameters;
   }
+
+  private @Nullable UnnestBatchRewrite getUnnestBatchRewrite() {
+    if (!unnestBatchRewriteParsed) {
+      unnestBatchRewriteParsed = true;
+      Query query = preparedQuery.query;
+      SqlCommand sqlCommand = query.getSqlCommand();
+      if (query.getSubqueries() == null && sqlCommand != null
+          && (sqlCommand.getType() == SqlCommandType.UPDATE
+              || sqlCommand.getType() == SqlCommandType.DELETE)
+          && !sqlCommand.isReturningKeywordPresent()) {
+        unnestBatchRewrite = UnnestBatchRewrite.parse(query.getNativeSql(),
+            preparedParameters.getParameterCount());
+      }
+    }
+    return unnestBatchRewrite;
+  }
+
+  /**
+   * Rewrites a batch of single-row UPDATE or DELETE statements into statements that take the
+   * parameters as arrays, see {@link UnnestBatchRewrite}. The batch is left as is if any block
+   * can't be rewritten.
+   */
+  private void transformUpdatesToUnnest(ArrayList<@Nullable ParameterList> batchParameters)
+      throws SQLException {
+    if (wantsGeneratedKeysAlways
+        || connection.getPreferQueryMode() == PreferQueryMode.SIMPLE) {
+      return;
+    }
+    UnnestBatchRewrite rewrite = getUnnestBatchRewrite();
+    if (rewrite == null) {
+      return;
+    }
+    CachedQuery unnestQuery = this.unnestQuery;
+    if (unnestQuery == null) {
+      this.unnestQuery = unnestQuery = connection.borrowQuery(rewrite.getSql());
+    }
+
+    TypeInfo typeInfo = connection.getTypeInfo();
+    int rows = batchParameters.size();
+    ArrayList<Query> newBatchStatements = new ArrayList<>();
+    ArrayList<@Nullable ParameterList> newBatchParameters = new ArrayList<>();
+    int[] rowCounts = new int[rows];
+    boolean rewritten = false;
+    int offset = 0;
+    while (offset < rows) {
+      int count = rewrite.nextBlockSize(batchParameters, offset);
+      if (count == 1) {
+        newBatchStatements.add(preparedQuery.query);
+        newBatchParameters.add(batchParameters.get(offset));
+      } else {
+        ParameterList arrays = unnestQuery.query.createParameterList();
+        if (!rewrite.bind(typeInfo, arrays, batchParameters, offset, count)) {
+          return;
+        }
+        newBatchStatements.add(unnestQuery.query);
+        newBatchParameters.add(arrays);
+        rewritten = true;
+      }
+      rowCounts[newBatchStatements.size() - 1] = count;
+      offset += count;
+    }
+    if (!rewritten) {
+      return;
+    }
+    this.batchStatements = newBatchStatements;
+    this.batchParameters = newBatchParameters;
+    this.batchRowCounts = Arrays.copyOf(rowCounts, newBatchStatements.size());
+  }
 }
@@ -27,6 +27,7 @@
 import org.postgresql.util.GT;
 import org.postgresql.util.HStoreConverter;
 import org.postgresql.util.JdbcBlackHole;
+import org.postgresql.util.MutableDecimal;
 import org.postgresql.util.NumberParser;
 import org.postgresql.util.PGbytea;
 import org.postgresql.util.PGobject;
@@ -148,6 +149,9 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
   private @Nullable ResultSetMetaData rsMetaData;
   private final ResourceLock lock = new ResourceLock();
 
+  // Reused by the primitive getters to decode numeric values without allocations
+  private @Nullable MutableDecimal decimalHolder;
+
   protected ResultSetMetaData createMetaData() throws SQLException {
     return new PgResultSetMetaData(connection, fields);
   }
@@ -216,8 +220,8 @@ public URL getURL(String columnName) throws SQLException {
           // it doesn't reflect the real length of the field, which is odd.
           // If we have 1 byte, it's a bit(1) and return a boolean to preserve the backwards
           // compatibility. If the value is null, it doesn't really matter
-          byte[] data = getRawValue(columnIndex);
-          if (data == null || data.length == 1) {
+          byte[] data = getRawValueInPlace(columnIndex);
+          if (data == null || thisRow.getLength(columnIndex - 1) == 1) {
             return getBoolean(columnIndex);
           }
         }
@@ -272,7 +276,9 @@ public URL getURL(String columnName) throws SQLException {
 
         if ("uuid".equals(type)) {
           if (isBinary(columnIndex)) {
-            return getUUID(castNonNull(thisRow.get(columnIndex - 1)));
+            Tuple row = castNonNull(thisRow);
+            return getUUID(castNonNull(row.getBackingArray(columnIndex - 1)),
+                row.getOffset(columnIndex - 1));
           }
           return getUUID(castNonNull(getString(columnIndex)));
         }
@@ -600,7 +606,7 @@ public int getConcurrency() throws SQLException {
   public @Nullable Timestamp getTimestamp(
       int i, @Nullable Calendar cal) throws SQLException {
 
-    byte[] value = getRawValue(i);
+    byte[] value = getRawValueInPlace(i);
     if (value == null) {
       return null;
     }
@@ -610,24 +616,26 @@ public int getConcurrency() throws SQLException {
     }
     int col = i - 1;
     int oid = fields[col].getOID();
+    int offset = thisRow.getOffset(col);
+    int length = thisRow.getLength(col);
 
     if (isBinary(i)) {
-      byte [] row = castNonNull(thisRow).get(col);
       if (oid == Oid.TIMESTAMPTZ || oid == Oid.TIMESTAMP) {
         boolean hasTimeZone = oid == Oid.TIMESTAMPTZ;
         TimeZone tz = cal.getTimeZone();
-        return getTimestampUtils().toTimestampBin(tz, castNonNull(row), hasTimeZone);
+        return getTimestampUtils().toTimestampBin(tz, value, offset, length, hasTimeZone);
       } else if (oid == Oid.TIME) {
         // JDBC spec says getTimestamp of Time and Date must be supported
-        Timestamp tsWithMicros = getTimestampUtils().toTimestampBin(cal.getTimeZone(), castNonNull(row), false);
+        Timestamp tsWithMicros = getTimestampUtils().toTimestampBin(cal.getTimeZone(), value,
+            offset, length, false);
         // If server sends us a TIME, we ensure java counterpart has date of 1970-01-01
         Timestamp tsUnixEpochDate = new Timestamp(castNonNull(getTime(i, cal)).getTime());
         tsUnixEpochDate.setNanos(tsWithMicros.getNanos());
         return tsUnixEpochDate;
       } else if (oid == Oid.TIMETZ) {
         TimeZone tz = cal.getTimeZone();
-        byte[] timeBytesWithoutTimeZone = Arrays.copyOfRange(castNonNull(row), 0, 8);
-        Timestamp tsWithMicros = getTimestampUtils().toTimestampBin(tz, timeBytesWithoutTimeZone, false);
+        // The first 8 bytes hold the time without the time zone
+        Timestamp tsWithMicros = getTimestampUtils().toTimestampBin(tz, value, offset, 8, false);
         // If server sends us a TIMETZ, we ensure java counterpart has date of 1970-01-01
         Timestamp tsUnixEpochDate = new Timestamp(castNonNull(getTime(i, cal)).getTime());
         tsUnixEpochDate.setNanos(tsWithMicros.getNanos());
@@ -647,13 +655,14 @@ public int getConcurrency() throws SQLException {
     // interpret the timezone-less value in the provided timezone.
     if (oid == Oid.TIME || oid == Oid.TIMETZ) {
       // If server sends us a TIME, we ensure java counterpart has date of 1970-01-01
-      Timestamp tsWithMicros = getTimestampUtils().toTimestamp(cal, value);
-      Timestamp tsUnixEpochDate = new Timestamp(getTimestampUtils().toTime(cal, value).getTime());
+      Timestamp tsWithMicros = getTimestampUtils().toTimestamp(cal, value, offset, length);
+      Timestamp tsUnixEpochDate = new Timestamp(
+          getTimestampUtils().toTime(cal, castNonNull(thisRow.get(col))).getTime());
       tsUnixEpochDate.setNanos(tsWithMicros.getNanos());
       return tsUnixEpochDate;
     }
 
-    return getTimestampUtils().toTimestamp(cal, value);
+    return getTimestampUtils().toTimestamp(cal, value, offset, length);
 
   }
 
@@ -2412,14 +2421,19 @@ public boolean wasNull() throws SQLException {
   @Override
   public @Nullable String getString(@Positive int columnIndex) throws SQLException {
     connection.getLogger().log(Level.FINEST, "  getString columnIndex: {0}", columnIndex);
-    byte[] value = getRawValue(columnIndex);
-    if (value == null) {
+    byte[] buffer = getRawValueInPlace(columnIndex);
+    if (buffer == null) {
       return null;
     }
+    Tuple row = thisRow;
+    int col = columnIndex - 1;
 
     // varchar in binary is same as text, other binary fields are converted to their text format
-    if (isBinary(columnIndex) && getSQLType(columnIndex) != Types.VARCHAR) {
-      Field field = fields[columnIndex - 1];
+    if (isBinary(columnIndex) && !hasTextualBinaryFormat(fields[col].getOID())
+        && getSQLType(columnIndex) != Types.VARCHAR) {
+      int offset = row.getOffset(col);
+      int length = row.getLength(col);
+      Field field = fields[col];
       TimestampUtils ts = getTimestampUtils();
       // internalGetObject is used in getObject(int), so we can't easily alter the returned type
       // Currently, internalGetObject delegates to getTime(), getTimestamp(), so it has issues
@@ -2427,15 +2441,17 @@ public boolean wasNull() throws SQLException {
       // However, as we know the explicit oids, we can do a better job here
       switch (field.getOID()) {
         case Oid.TIME:
-          return ts.toString(ts.toLocalTimeBin(value));
+          return ts.toString(ts.toLocalTimeBin(buffer, offset, length));
         case Oid.TIMETZ:
-          return ts.toStringOffsetTimeBin(value);
+          return ts.toStringOffsetTimeBin(buffer, offset, length);
         case Oid.DATE:
-          return ts.toString(ts.toLocalDateBin(value));
+          return ts.toString(ts.toLocalDateBin(buffer, offset, length));
         case Oid.TIMESTAMP:
-          return ts.toString(ts.toLocalDateTimeBin(value));
+          return ts.toString(ts.toLocalDateTimeBin(buffer, offset, length));
         case Oid.TIMESTAMPTZ:
-          return ts.toStringOffsetDateTime(value);
+          return ts.toStringOffsetDateTime(buffer, offset, length);
+        case Oid.BOOL:
+          return buffer[offset] == 1 ? "t" : "f";
       }
       // internalGetObject requires thisRow to be non-null
       castNonNull(thisRow, "thisRow");
@@ -2457,7 +2473,8 @@ public boolean wasNull() throws SQLException {
 
     Encoding encoding = connection.getEncoding();
     try {
-      return trimString(columnIndex, encoding.decode(value));
+      return trimString(columnIndex,
+          encoding.decode(buffer, row.getOffset(col), row.getLength(col)));
     } catch (IOException ioe) {
       throw new PSQLException(
           GT.tr(
@@ -2492,19 +2509,24 @@ public boolean wasNull() throws SQLException {
   @Override
   public boolean getBoolean(@Positive int columnIndex) throws SQLException {
     connection.getLogger().log(Level.FINEST, "  getBoolean columnIndex: {0}", columnIndex);
-    byte[] value = getRawValue(columnIndex);
-    if (value == null) {
+    byte[] buffer = getRawValueInPlace(columnIndex);
+    if (buffer == null) {
       return false;
     }
-
+    Tuple row = thisRow;
     int col = columnIndex - 1;
+
     if (Oid.BOOL == fields[col].getOID()) {
-      final byte[] v = value;
-      return (1 == v.length) && ((116 == v[0] && !isBinary(columnIndex)) || (1 == v[0] && isBinary(columnIndex))); // 116 = 't'
+      if (row.getLength(col) != 1) {
+        return false;
+      }
+      byte v = buffer[row.getOffset(col)];
+      return isBinary(columnIndex) ? 1 == v : 116 == v; // 116 = 't'
     }
 
     if (isBinary(columnIndex)) {
-      return BooleanTypeUtil.castToBoolean(readDoubleValue(value, fields[col].getOID(), "boolean"));
+      return BooleanTypeUtil.castToBoolean(readDoubleValue(buffer, row.getOffset(col),
+          row.getLength(col), fields[col].getOID(), getDecimalHolder(), "boolean"));
     }
 
     String stringValue = castNonNull(getString(columnIndex));
@@ -2568,23 +2590,25 @@ private int tryConvertBooleanToNumeric(@Nullable String stringValue, int columnI
   @Override
   public byte getByte(@Positive int columnIndex) throws SQLException {
     connection.getLogger().log(Level.FINEST, "  getByte columnIndex: {0}", columnIndex);
-    byte[] value = getRawValue(columnIndex);
-    if (value == null) {
+    byte[] buffer = getRawValueInPlace(columnIndex);
+    if (buffer == null) {
       return 0; // SQL NULL
     }
+    Tuple row = thisRow;
+    int col = columnIndex - 1;
 
     if (isBinary(columnIndex)) {
-      int col = columnIndex - 1;
       // there is no Oid for byte so must always do conversion from
       // some other numeric type
-      return (byte) readLongValue(value, fields[col].getOID(), Byte.MIN_VALUE,
-          Byte.MAX_VALUE, "byte");
+      return (byte) readLongValue(buffer, row.getOffset(col), row.getLength(col),
+          fields[col].getOID(), getDecimalHolder(), Byte.MIN_VALUE, Byte.MAX_VALUE, "byte");
     }
 
     Encoding encoding = connection.getEncoding();
     if (encoding.hasAsciiNumbers()) {
       try {
-        return (byte) NumberParser.getFastLong(value, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        return (byte) NumberParser.getFastLong(buffer, row.getOffset(col), row.getLength(col),
+            Byte.MIN_VALUE, Byte.MAX_VALUE);
       } catch (NumberFormatException ignored) {
         // Fast path failed, use slower parsing below
       }
@@ -2632,23 +2656,26 @@ public byte getByte(@Positive int columnIndex) throws SQLException {
   @Override
   public short getShort(@Positive int columnIndex) throws SQLException {
     connection.getLogger().log(Level.FINEST, "  getShort columnIndex: {0}", columnIndex);
-    byte[] value = getRawValue(columnIndex);
-    if (value == null) {
+    byte[] buffer = getRawValueInPlace(columnIndex);
+    if (buffer == null) {
       return 0; // SQL NULL
     }
+    Tuple row = thisRow;
+    int col = columnIndex - 1;
 
     if (isBinary(columnIndex)) {
-      int col = columnIndex - 1;
       int oid = fields[col].getOID();
       if (oid == Oid.INT2) {
-        return ByteConverter.int2(value, 0);
+        return ByteConverter.int2(buffer, row.getOffset(col));
       }
-      return (short) readLongValue(value, oid, Short.MIN_VALUE, Short.MAX_VALUE, "short");
+      return (short) readLongValue(buffer, row.getOffset(col), row.getLength(col), oid,
+          getDecimalHolder(), Short.MIN_VALUE, Short.MAX_VALUE, "short");
     }
     Encoding encoding = connection.getEncoding();
     if (encoding.hasAsciiNumbers()) {
       try {
-        return (short) NumberParser.getFastLong(value, Short.MIN_VALUE, Short.MAX_VALUE);
+        return (short) NumberParser.getFastLong(buffer, row.getOffset(col), row.getLength(col),
+            Short.MIN_VALUE, Short.MAX_VALUE);
       } catch (NumberFormatException ignored) {
         // Fast path failed, use slower parsing below
       }
@@ -2668,24 +2695,27 @@ public short getShort(@Positive int columnIndex) throws SQLException {
   @Override
   public int getInt(@Positive int columnIndex) throws SQLException {
     connection.getLogger().log(Level.FINEST, "  getInt columnIndex: {0}", columnIndex);
-    byte[] value = getRawValue(columnIndex);
-    if (value == null) {
+    byte[] buffer = getRawValueInPlace(columnIndex);
+    if (buffer == null) {
       return 0; // SQL NULL
     }
+    Tuple row = thisRow;
+    int col = columnIndex - 1;
 
     if (isBinary(columnIndex)) {
-      int col = columnIndex - 1;
       int oid = fields[col].getOID();
       if (oid == Oid.INT4) {
-        return ByteConverter.int4(value, 0);
+        return ByteConverter.int4(buffer, row.getOffset(col));
       }
-      return (int) readLongValue(value, oid, Integer.MIN_VALUE, Integer.MAX_VALUE, "int");
+      return (int) readLongValue(buffer, row.getOffset(col), row.getLength(col), oid,
+          getDecimalHolder(), Integer.MIN_VALUE, Integer.MAX_VALUE, "int");
     }
 
     Encoding encoding = connection.getEncoding();
     if (encoding.hasAsciiNumbers()) {
       try {
-        return (int) NumberParser.getFastLong(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return (int) NumberParser.getFastLong(buffer, row.getOffset(col), row.getLength(col),
+            Integer.MIN_VALUE, Integer.MAX_VALUE);
       } catch (NumberFormatException ignored) {
         // Fast path failed, use slower parsing below
       }
@@ -2705,24 +2735,27 @@ public int getInt(@Positive int columnIndex) throws SQLException {
   @Override
   public long getLong(@Positive int columnIndex) throws SQLException {
     connection.getLogger().log(Level.FINEST, "  getLong columnIndex: {0}", columnIndex);
-    byte[] value = getRawValue(columnIndex);
-    if (value == null) {
+    byte[] buffer = getRawValueInPlace(columnIndex);
+    if (buffer == null) {
       return 0; // SQL NULL
     }
+    Tuple row = thisRow;
+    int col = columnIndex - 1;
 
     if (isBinary(columnIndex)) {
-      int col = columnIndex - 1;
       int oid = fields[col].getOID();
       if (oid == Oid.INT8) {
-        return ByteConverter.int8(value, 0);
+        return ByteConverter.int8(buffer, row.getOffset(col));
       }
-      return readLongValue(value, oid, Long.MIN_VALUE, Long.MAX_VALUE, "long");
+      return readLongValue(buffer, row.getOffset(col), row.getLength(col), oid,
+          getDecimalHolder(), Long.MIN_VALUE, Long.MAX_VALUE, "long");
     }
 
     Encoding encoding = connection.getEncoding();
     if (encoding.hasAsciiNumbers()) {
       try {
-        return NumberParser.getFastLong(value, Long.MIN_VALUE, Long.MAX_VALUE);
+        return NumberParser.getFastLong(buffer, row.getOffset(col), row.getLength(col),
+            Long.MIN_VALUE, Long.MAX_VALUE);
       } catch (NumberFormatException ignored) {
         // Fast path failed, use slower parsing below
       }
@@ -2761,40 +2794,44 @@ public Throwable fillInStackTrace() {
    * Optimised byte[] to number parser. This code does not handle null values, so the caller must do
    * checkResultSet and handle null values prior to calling this function.
    *
-   * @param bytes integer represented as a sequence of ASCII bytes
+   * @param bytes array that holds the number represented as a sequence of ASCII bytes
+   * @param offset offset of the number in the array
+   * @param length length of the number in bytes
    * @return The parsed number.
    * @throws NumberFormatException If the number is invalid or the out of range for fast parsing.
    *         The value must then be parsed by {@link #toBigDecimal(String, int)}.
    */
-  private static BigDecimal getFastBigDecimal(byte[] bytes) throws NumberFormatException {
-    if (bytes.length == 0) {
+  private static BigDecimal getFastBigDecimal(byte[] bytes, int offset, int length)
+      throws NumberFormatException {
+    if (length == 0) {
       throw FAST_NUMBER_FAILED;
     }
 
     int scale = 0;
     long val = 0;
     int start;
+    int end = offset + length;
     boolean neg;
-    if (bytes[0] == '-') {
+    if (bytes[offset] == '-') {
       neg = true;
-      start = 1;
-      if (bytes.length == 1 || bytes.length > 19) {
+      start = offset + 1;
+      if (length == 1 || length > 19) {
         throw FAST_NUMBER_FAILED;
       }
     } else {
-      start = 0;
+      start = offset;
       neg = false;
-      if (bytes.length > 18) {
+      if (length > 18) {
         throw FAST_NUMBER_FAILED;
       }
     }
 
     int periodsSeen = 0;
-    while (start < bytes.length) {
+    while (start < end) {
       byte b = bytes[start++];
       if (b < '0' || b > '9') {
         if (b == '.' && periodsSeen == 0) {
-          scale = bytes.length - start;
+          scale = end - start;
           periodsSeen++;
           continue;
         } else {
@@ -2805,7 +2842,7 @@ private static BigDecimal getFastBigDecimal(byte[] bytes) throws NumberFormatExc
       val += b - '0';
     }
 
-    int numNonSignChars = neg ? bytes.length - 1 : bytes.length;
+    int numNonSignChars = neg ? length - 1 : length;
     if (periodsSeen > 1 || periodsSeen == numNonSignChars) {
       throw FAST_NUMBER_FAILED;
     }
@@ -2821,18 +2858,20 @@ private static BigDecimal getFastBigDecimal(byte[] bytes) throws NumberFormatExc
   @Override
   public float getFloat(@Positive int columnIndex) throws SQLException {
     connection.getLogger().log(Level.FINEST, "  getFloat columnIndex: {0}", columnIndex);
-    byte[] value = getRawValue(columnIndex);
-    if (value == null) {
+    byte[] buffer = getRawValueInPlace(columnIndex);
+    if (buffer == null) {
       return 0; // SQL NULL
     }
 
     if (isBinary(columnIndex)) {
+      Tuple row = thisRow;
       int col = columnIndex - 1;
       int oid = fields[col].getOID();
       if (oid == Oid.FLOAT4) {
-        return ByteConverter.float4(value, 0);
+        return ByteConverter.float4(buffer, row.getOffset(col));
       }
-      return (float) readDoubleValue(value, oid, "float");
+      return (float) readDoubleValue(buffer, row.getOffset(col), row.getLength(col), oid,
+          getDecimalHolder(), "float");
     }
 
     String s = getFixedString(columnIndex);
@@ -2850,20 +2889,33 @@ public float getFloat(@Positive int columnIndex) throws SQLException {
   @Override
   public double getDouble(@Positive int columnIndex) throws SQLException {
     connection.getLogger().log(Level.FINEST, "  getDouble columnIndex: {0}", columnIndex);
-    byte[] value = getRawValue(columnIndex);
-    if (value == null) {
+    byte[] buffer = getRawValueInPlace(columnIndex);
+    if (buffer == null) {
       return 0; // SQL NULL
     }
 
     if (isBinary(columnIndex)) {
+      Tuple row = thisRow;
       int col = columnIndex - 1;
       int oid = fields[col].getOID();
       if (oid == Oid.FLOAT8) {
-        return ByteConverter.float8(value, 0);
+        return ByteConverter.float8(buffer, row.getOffset(col));
       }
-      return readDoubleValue(value, oid, "double");
+      return readDoubleValue(buffer, row.getOffset(col), row.getLength(col), oid,
+          getDecimalHolder(), "double");
     }
 
+    Encoding encoding = connection.getEncoding();
+    if (encoding.hasAsciiNumbers()) {
+      Tuple row = thisRow;
+      int col = columnIndex - 1;
+      try {
+        return NumberParser.getFastDecimal(buffer, row.getOffset(col), row.getLength(col),
+            getDecimalHolder()).doubleValue();
+      } catch (NumberFormatException ignored) {
+        // Fast path failed, use slower parsing below
+      }
+    }
     String s = getFixedString(columnIndex);
 
     // Check if this might be a boolean value that should be converted to numeric
@@ -2886,10 +2938,12 @@ public double getDouble(@Positive int columnIndex) throws SQLException {
   @Pure
   private @Nullable Number getNumeric(
       int columnIndex, @Nullable Integer scale, boolean allowSpecial) throws SQLException {
-    byte[] value = getRawValue(columnIndex);
+    byte[] value = getRawValueInPlace(columnIndex);
     if (value == null) {
       return null;
     }
+    int offset = thisRow.getOffset(columnIndex - 1);
+    int length = thisRow.getLength(columnIndex - 1);
 
     if (isBinary(columnIndex)) {
       int sqlType = getSQLType(columnIndex);
@@ -2905,7 +2959,7 @@ public double getDouble(@Positive int columnIndex) throws SQLException {
         }
         return toBigDecimal(trimMoney(String.valueOf(obj)), scale);
       } else {
-        Number num = ByteConverter.numeric(value);
+        Number num = ByteConverter.numeric(value, offset, length);
         if (!allowSpecial && num instanceof Double) {
           String val = Double.toString(num.doubleValue());
           throw new PSQLException(GT.tr("Bad value for type {0} : {1}", "BigDecimal", val),
@@ -2922,7 +2976,7 @@ public double getDouble(@Positive int columnIndex) throws SQLException {
     Encoding encoding = connection.getEncoding();
     if (encoding.hasAsciiNumbers()) {
       try {
-        BigDecimal res = getFastBigDecimal(value);
+        BigDecimal res = getFastBigDecimal(value, offset, length);
         res = scaleBigDecimal(res, scale);
         return res;
       } catch (NumberFormatException ignore) {
@@ -2964,19 +3018,21 @@ public double getDouble(@Positive int columnIndex) throws SQLException {
   @Override
   public byte @Nullable [] getBytes(@Positive int columnIndex) throws SQLException {
     connection.getLogger().log(Level.FINEST, "  getBytes columnIndex: {0}", columnIndex);
-    byte[] value = getRawValue(columnIndex);
+    byte[] value = getRawValueInPlace(columnIndex);
     if (value == null) {
       return null;
     }
+    int offset = thisRow.getOffset(columnIndex - 1);
+    int length = thisRow.getLength(columnIndex - 1);
 
     if (isBinary(columnIndex)) {
-      // If the data is already binary then just return it
-      return value;
+      // If the data is already binary then just return a copy of it
+      return Arrays.copyOfRange(value, offset, offset + length);
     }
     if (fields[columnIndex - 1].getOID() == Oid.BYTEA) {
-      return trimBytes(columnIndex, PGbytea.toBytes(value));
+      return trimBytes(columnIndex, PGbytea.toBytes(value, offset, length));
     } else {
-      return trimBytes(columnIndex, value);
+      return trimBytes(columnIndex, Arrays.copyOfRange(value, offset, offset + length));
     }
   }
 
@@ -3192,7 +3248,7 @@ protected void addWarning(SQLWarning warnings) {
     connection.getLogger().log(Level.FINEST, "  getObject columnIndex: {0}", columnIndex);
     Field field;
 
-    byte[] value = getRawValue(columnIndex);
+    byte[] value = getRawValueInPlace(columnIndex);
     if (value == null) {
       return null;
     }
@@ -3211,7 +3267,7 @@ protected void addWarning(SQLWarning warnings) {
     }
 
     if (isBinary(columnIndex)) {
-      return connection.getObject(getPGType(columnIndex), null, value);
+      return connection.getObject(getPGType(columnIndex), null, thisRow.get(columnIndex - 1));
     }
     String stringValue = castNonNull(getString(columnIndex));
     return connection.getObject(getPGType(columnIndex), stringValue, null);
@@ -3429,6 +3485,29 @@ protected void checkColumnIndex(@Positive int column) throws SQLException {
     return bytes;
   }
 
+  /**
+   * Same as {@link #getRawValue(int)}, but does not copy the value out of the row: returns the
+   * array that holds the value, and the value starts at {@link Tuple#getOffset(int)} of
+   * {@link #thisRow}. The returned array must not be modified.
+   *
+   * @param column The column number to check. Range starts from 1.
+   * @return array that holds the raw value or null
+   * @throws SQLException If state or column is invalid.
+   */
+  @EnsuresNonNull("thisRow")
+  private byte @Nullable [] getRawValueInPlace(@Positive int column) throws SQLException {
+    checkClosed();
+    if (thisRow == null) {
+      throw new PSQLException(
+          GT.tr("ResultSet not positioned properly, perhaps you need to call next."),
+          PSQLState.INVALID_CURSOR_STATE);
+    }
+    checkColumnIndex(column);
+    byte[] bytes = thisRow.getBackingArray(column - 1);
+    wasNullFlag = bytes == null;
+    return bytes;
+  }
+
   /**
    * Returns true if the value of the given column is in binary format.
    *
@@ -3532,6 +3611,23 @@ public static long toLong(@Nullable String s) throws SQLException {
     return 0; // SQL NULL
   }
 
+  /**
+   * Returns true if the binary format of the type is the same as its text format, so binary values
+   * of it are decoded like text ones. This is the case for the element types of binary arrays.
+   */
+  private static boolean hasTextualBinaryFormat(int oid) {
+    switch (oid) {
+      case Oid.TEXT:
+      case Oid.VARCHAR:
+      case Oid.BPCHAR:
+      case Oid.NAME:
+      case Oid.JSON:
+        return true;
+      default:
+        return false;
+    }
+  }
+
   public static @PolyNull BigDecimal toBigDecimal(@PolyNull String s) throws SQLException {
     if (s == null) {
       return null;
@@ -3657,31 +3753,49 @@ private String trimString(@Positive int columnIndex, String string) throws SQLEx
     }
   }
 
+  private MutableDecimal getDecimalHolder() {
+    MutableDecimal decimal = decimalHolder;
+    if (decimal == null) {
+      decimal = new MutableDecimal();
+      decimalHolder = decimal;
+    }
+    return decimal;
+  }
+
   /**
    * Converts any numeric binary field to double value. This method does no overflow checking.
    *
-   * @param bytes The bytes of the numeric field.
+   * @param bytes The array that holds the numeric field.
+   * @param offset The offset of the field in the array.
+   * @param length The length of the field in bytes.
    * @param oid The oid of the field.
+   * @param decimal The holder to decode numeric values into.
    * @param targetType The target type. Used for error reporting.
    * @return The value as double.
    * @throws PSQLException If the field type is not supported numeric type.
    */
-  private static double readDoubleValue(byte[] bytes, int oid, String targetType) throws PSQLException {
+  private static double readDoubleValue(byte[] bytes, int offset, int length, int oid,
+      MutableDecimal decimal, String targetType) throws PSQLException {
     // currently implemented binary encoded fields
     switch (oid) {
       case Oid.INT2:
-        return ByteConverter.int2(bytes, 0);
+        return ByteConverter.int2(bytes, offset);
       case Oid.INT4:
-        return ByteConverter.int4(bytes, 0);
+        return ByteConverter.int4(bytes, offset);
+      case Oid.OID:
+        return ByteConverter.int4(bytes, offset) & 0xFFFFFFFFL;
       case Oid.INT8:
         // might not fit but there still should be no overflow checking
-        return ByteConverter.int8(bytes, 0);
+        return ByteConverter.int8(bytes, offset);
       case Oid.FLOAT4:
-        return ByteConverter.float4(bytes, 0);
+        return ByteConverter.float4(bytes, offset);
       case Oid.FLOAT8:
-        return ByteConverter.float8(bytes, 0);
+        return ByteConverter.float8(bytes, offset);
       case Oid.NUMERIC:
-        return ByteConverter.numeric(bytes).doubleValue();
+        if (ByteConverter.numeric(bytes, offset, length, decimal)) {
+          return decimal.doubleValue();
+        }
+        return ByteConverter.numeric(bytes, offset, length).doubleValue();
     }
     throw new PSQLException(GT.tr("Cannot convert the column of type {0} to requested type {1}.",
         Oid.toString(oid), targetType), PSQLState.DATA_TYPE_MISMATCH);
@@ -3702,8 +3816,14 @@ private static double readDoubleValue(byte[] bytes, int oid, String targetType)
    * <code>byte,short,int,long,float,double,BigDecimal,boolean,string</code>.
    * </p>
    *
-   * @param bytes The bytes of the numeric field.
+   * <p>The integer, floating point and oid types are decoded without allocations, so are numeric
+   * values with up to 18 significant digits.</p>
+   *
+   * @param bytes The array that holds the numeric field.
+   * @param offset The offset of the field in the array.
+   * @param length The length of the field in bytes.
    * @param oid The oid of the field.
+   * @param decimal The holder to decode numeric values into.
    * @param minVal the minimum value allowed.
    * @param maxVal the maximum value allowed.
    * @param targetType The target type. Used for error reporting.
@@ -3712,22 +3832,26 @@ private static double readDoubleValue(byte[] bytes, int oid, String targetType)
    *         range.
    */
   @Pure
-  private static long readLongValue(byte[] bytes, int oid, long minVal, long maxVal, String targetType)
-      throws PSQLException {
+  private static long readLongValue(byte[] bytes, int offset, int length, int oid,
+      MutableDecimal decimal, long minVal, long maxVal, String targetType) throws PSQLException {
     long val;
     // currently implemented binary encoded fields
     switch (oid) {
       case Oid.INT2:
-        val = ByteConverter.int2(bytes, 0);
+        val = ByteConverter.int2(bytes, offset);
         break;
       case Oid.INT4:
-        val = ByteConverter.int4(bytes, 0);
+        val = ByteConverter.int4(bytes, offset);
+        break;
+      case Oid.OID:
+        // oid is an unsigned 4-byte integer
+        val = ByteConverter.int4(bytes, offset) & 0xFFFFFFFFL;
         break;
       case Oid.INT8:
-        val = ByteConverter.int8(bytes, 0);
+        val = ByteConverter.int8(bytes, offset);
         break;
       case Oid.FLOAT4:
-        float f = ByteConverter.float4(bytes, 0);
+        float f = ByteConverter.float4(bytes, offset);
         // for float values we know to be within values of long, just cast directly to long
         if (f <= LONG_MAX_FLOAT && f >= LONG_MIN_FLOAT) {
           val = (long) f;
@@ -3737,7 +3861,7 @@ private static long readLongValue(byte[] bytes, int oid, long minVal, long maxVa
         }
         break;
       case Oid.FLOAT8:
-        double d = ByteConverter.float8(bytes, 0);
+        double d = ByteConverter.float8(bytes, offset);
         // for double values within the values of a long, just directly cast to long
         if (d <= LONG_MAX_DOUBLE && d >= LONG_MIN_DOUBLE) {
           val = (long) d;
@@ -3747,7 +3871,17 @@ private static long readLongValue(byte[] bytes, int oid, long minVal, long maxVa
         }
         break;
       case Oid.NUMERIC:
-        Number num = ByteConverter.numeric(bytes);
+        if (ByteConverter.numeric(bytes, offset, length, decimal) && decimal.isFinite()
+            && decimal.getScale() >= 0) {
+          // the integer part of a long with the fraction removed always fits
+          val = decimal.longValue();
+          break;
+        }
+        Number num = ByteConverter.numeric(bytes, offset, length);
+        if (!(num instanceof BigDecimal)) {
+          throw new PSQLException(GT.tr("Bad value for type {0} : {1}", targetType, num),
+              PSQLState.NUMERIC_VALUE_OUT_OF_RANGE);
+        }
         BigInteger i = ((BigDecimal) num).toBigInteger();
         int gt = i.compareTo(LONGMAX);
         int lt = i.compareTo(LONGMIN);
@@ -3808,7 +3942,12 @@ protected Object getUUID(String data) throws SQLException {
 
   @Pure
   protected Object getUUID(byte[] data) throws SQLException {
-    return new UUID(ByteConverter.int8(data, 0), ByteConverter.int8(data, 8));
+    return getUUID(data, 0);
+  }
+
+  @Pure
+  protected Object getUUID(byte[] data, int offset) throws SQLException {
+    return new UUID(ByteConverter.int8(data, offset), ByteConverter.int8(data, offset + 8));
   }
 
   private class PrimaryKey {
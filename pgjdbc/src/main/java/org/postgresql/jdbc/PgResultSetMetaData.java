@@ -11,6 +11,7 @@
 import org.postgresql.core.BaseConnection;
 import org.postgresql.core.Field;
 import org.postgresql.core.ServerVersion;
+import org.postgresql.core.SharedFieldMetadataCache;
 import org.postgresql.util.GT;
 import org.postgresql.util.Gettable;
 import org.postgresql.util.GettableHashMap;
@@ -200,7 +201,24 @@ private void fetchFieldMetaData() throws SQLException {
       return;
     }
 
-    if (populateFieldsWithMetadata(connection.getFieldMetadataCache())) {
+    SharedFieldMetadataCache sharedCache =
+        connection.getQueryExecutor().getSharedFieldMetadataCache();
+    if (populateFieldsWithMetadata(
+        sharedCache != null ? sharedCache : connection.getFieldMetadataCache())) {
+      return;
+    }
+
+    // Look up all the columns of the tables, so the other results that select different columns
+    // of the same tables find them in the cache
+    Set<String> oidSet = new HashSet<>();
+    for (Field field : fields) {
+      if (field.getMetadata() == null) {
+        oidSet.add(String.valueOf(field.getTableOid()));
+      }
+    }
+
+    if (oidSet.isEmpty()) {
+      fieldInfoFetched = true;
       return;
     }
 
@@ -218,48 +236,8 @@ private void fetchFieldMetaData() throws SQLException {
             + "JOIN pg_catalog.pg_attribute a ON (c.oid = a.attrelid) "
             + "JOIN pg_catalog.pg_type t ON (a.atttypid = t.oid) "
             + "LEFT JOIN pg_catalog.pg_attrdef d ON (d.adrelid = a.attrelid AND d.adnum = a.attnum) "
-            + "JOIN (");
-
-    // 7.4 servers don't support row IN operations (a,b) IN ((c,d),(e,f))
-    // so we've got to fake that with a JOIN here.
-    //
-    boolean hasSourceInfo = false;
-    Set<String> oidSet = new HashSet<>();
-    for (Field field : fields) {
-      if (field.getMetadata() != null) {
-        continue;
-      }
-
-      if (hasSourceInfo) {
-        sql.append(" UNION ALL ");
-      }
-
-      sql.append("SELECT ");
-      sql.append(field.getTableOid());
-      if (!hasSourceInfo) {
-        sql.append(" AS oid ");
-      }
-      sql.append(", ");
-      sql.append(field.getPositionInTable());
-      if (!hasSourceInfo) {
-        sql.append(" AS attnum");
-      }
-
-      if (!hasSourceInfo) {
-        hasSourceInfo = true;
-      }
-      oidSet.add(String.valueOf(field.getTableOid()));
-    }
-    sql.append(") vals ON (c.oid = vals.oid AND a.attnum = vals.attnum) ");
-
-    if (!oidSet.isEmpty()) {
-      sql.append("where c.oid in (").append(String.join(",", oidSet)).append(")");
-    }
-
-    if (!hasSourceInfo) {
-      fieldInfoFetched = true;
-      return;
-    }
+            + "WHERE NOT a.attisdropped AND c.oid IN (");
+    sql.append(String.join(",", oidSet)).append(")");
 
     Statement stmt = connection.createStatement();
     ResultSet rs = null;
@@ -285,7 +263,11 @@ private void fetchFieldMetaData() throws SQLException {
       JdbcBlackHole.close(stmt);
     }
     populateFieldsWithMetadata(md);
-    connection.getFieldMetadataCache().putAll(md);
+    if (sharedCache != null) {
+      sharedCache.putAll(md);
+    } else {
+      connection.getFieldMetadataCache().putAll(md);
+    }
   }
 
   @Override
@@ -159,6 +159,11 @@ public class PgStatement implements Statement, BaseStatement {
 
   protected boolean adaptiveFetch;
 
+  /**
+   * Whether the rows of forward-only resultsets are read as the resultset is advanced.
+   */
+  protected boolean streaming;
+
   private @Nullable TimestampUtils timestampUtils; // our own Object because it's not thread safe
 
   @SuppressWarnings("method.invocation")
@@ -182,6 +187,7 @@ public class PgStatement implements Statement, BaseStatement {
     setQueryTimeout(c.getQueryTimeout());
     setPrepareThreshold(c.getPrepareThreshold());
     setAdaptiveFetch(c.getAdaptiveFetch());
+    streaming = c.getResultSetStreaming();
     // validation check for allowed values of resultset holdability
     if (rsHoldability != ResultSet.HOLD_CURSORS_OVER_COMMIT && rsHoldability != ResultSet.CLOSE_CURSORS_AT_COMMIT) {
       throw new PSQLException(GT.tr("Unknown value for ResultSet holdability"),
@@ -466,13 +472,18 @@ private void executeInternal(CachedQuery cachedQuery,
       throws SQLException {
     closeForNextExecution();
 
-    // Enable cursor-based resultset if possible.
+    // Streaming reads the rows as the resultset is advanced, so it needs neither a cursor nor
+    // a transaction block.
+    // Otherwise, enable cursor-based resultset if possible.
     // A server-side cursor requires an active transaction block. Without one,
     // PostgreSQL auto-commits each statement, and the cursor is destroyed before
     // the client can fetch subsequent batches.
     // This is satisfied either by autoCommit=false (sendQueryPreamble will issue BEGIN)
     // or by the server already being in a transaction (e.g. user issued START TRANSACTION / BEGIN).
-    if (fetchSize > 0 && !wantsScrollableResultSet()
+    if (streaming && !wantsScrollableResultSet() && concurrency == ResultSet.CONCUR_READ_ONLY
+        && !wantsGeneratedKeysOnce && !wantsGeneratedKeysAlways) {
+      flags |= QueryExecutor.QUERY_STREAMING;
+    } else if (fetchSize > 0 && !wantsScrollableResultSet()
         && (!connection.getAutoCommit()
             || connection.getQueryExecutor().getTransactionState() == TransactionState.OPEN)
         && !wantsHoldableResultSet()) {
@@ -1048,16 +1059,19 @@ private void startTimer() {
   }
 
   void cancelIfStillNeeded(TimerTask timerTask) {
-    try {
-      if (!CANCEL_TIMER_UPDATER.compareAndSet(this, timerTask, null)) {
-        // Nothing to do here, statement has already finished and cleared
-        // cancelTimerTask reference
-        return;
-      }
-      cancel();
-    } catch (SQLException ignored) {
-      // We can't do much if the cancel fails
+    if (!CANCEL_TIMER_UPDATER.compareAndSet(this, timerTask, null)) {
+      // Nothing to do here, statement has already finished and cleared
+      // cancelTimerTask reference
+      return;
     }
+    // killTimerTask waits until the cancel completes, as the reference is cleared now
+    StatementCancelTimerTask.startCancel(() -> {
+      try {
+        cancel();
+      } catch (SQLException ignored) {
+        // We can't do much if the cancel fails
+      }
+    });
   }
 
   /**
@@ -1397,6 +1411,17 @@ public boolean getAdaptiveFetch() {
     return adaptiveFetch;
   }
 
+  @Override
+  public void setStreaming(boolean streaming) throws SQLException {
+    checkClosed();
+    this.streaming = streaming;
+  }
+
+  @Override
+  public boolean isStreaming() {
+    return streaming;
+  }
+
   protected TimestampUtils getTimestampUtils() {
     if (timestampUtils == null) {
       timestampUtils = new TimestampUtils(!connection.getQueryExecutor().getIntegerDateTimes(), (Provider<TimeZone>) new QueryExecutorTimeZoneProvider(connection.getQueryExecutor()));
@@ -5,16 +5,25 @@
 
 package org.postgresql.jdbc;
 
+import org.postgresql.util.internal.VirtualThreads;
+
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.TimerTask;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Timer task that sends {@code statement.cancel()} signal to support {@link java.sql.Statement#setQueryTimeout(int)}.
  * We explicitly nullify the reference to statement to help GC since {@code java.util.TimerThread}
  * might keep reference to the latest executed task in its local variable.
+ *
+ * <p>The cancel request opens a new connection to the server, so it is sent from a separate thread,
+ * a virtual one when the runtime supports them. The timer thread is shared by all the connections,
+ * and the timeouts of the other statements must not wait for the server.</p>
  */
 class StatementCancelTimerTask extends TimerTask {
+  private static final AtomicInteger cancelThreadCount = new AtomicInteger();
+
   private @Nullable PgStatement statement;
 
   StatementCancelTimerTask(PgStatement statement) {
@@ -51,4 +60,28 @@ public void run() {
     // Help GC to avoid keeping reference via TimerThread -> TimerTask -> statement -> connection
     this.statement = null;
   }
+
+  /**
+   * Runs the cancel request in a new thread, or in the current thread if a thread can't be
+   * started. The caller waits for the statement to become idle, so the request must run.
+   *
+   * @param cancel the cancel request
+   */
+  static void startCancel(Runnable cancel) {
+    String name = "PostgreSQL-JDBC-Cancel-" + cancelThreadCount.incrementAndGet();
+    Thread thread;
+    try {
+      if (VirtualThreads.isSupported()) {
+        thread = VirtualThreads.unstarted(name, cancel);
+      } else {
+        thread = new Thread(cancel, name);
+        thread.setDaemon(true);
+        // Avoid keeping the ClassLoader of a web application, see SharedTimer
+        thread.setContextClassLoader(null);
+      }
+      thread.start();
+    } catch (RuntimeException | OutOfMemoryError e) {
+      cancel.run();
+    }
+  }
 }
@@ -200,7 +200,12 @@ enum Infinity {
    * Load date/time information into the provided calendar returning the fractional seconds.
    */
   private static ParsedTimestamp parseBackendTimestamp(byte[] s) throws SQLException {
-    int slen = s.length;
+    return parseBackendTimestamp(s, 0, s.length);
+  }
+
+  private static ParsedTimestamp parseBackendTimestamp(byte[] s, int offset, int length)
+      throws SQLException {
+    int slen = offset + length;
 
     // This is pretty gross..
     ParsedTimestamp result = new ParsedTimestamp();
@@ -221,8 +226,8 @@ private static ParsedTimestamp parseBackendTimestamp(byte[] s) throws SQLExcepti
     // trailing whitespace
 
     try {
-      int start = skipWhitespace(s, 0); // Skip leading whitespace
-      int end = firstNonDigit(s, start);
+      int start = skipWhitespace(s, offset, slen); // Skip leading whitespace
+      int end = firstNonDigit(s, start, slen);
       int num;
       byte sep;
 
@@ -238,7 +243,7 @@ private static ParsedTimestamp parseBackendTimestamp(byte[] s) throws SQLExcepti
         start = end + 1; // Skip '-'
 
         // month
-        end = firstNonDigit(s, start);
+        end = firstNonDigit(s, start, slen);
         result.month = number(s, start, end);
 
         if (end < slen) {
@@ -252,10 +257,10 @@ private static ParsedTimestamp parseBackendTimestamp(byte[] s) throws SQLExcepti
         start = end + 1; // Skip '-'
 
         // day of month
-        end = firstNonDigit(s, start);
+        end = firstNonDigit(s, start, slen);
         result.day = number(s, start, end);
 
-        start = skipWhitespace(s, end); // Skip trailing whitespace
+        start = skipWhitespace(s, end, slen); // Skip trailing whitespace
       }
 
       // Possibly read time.
@@ -268,7 +273,7 @@ private static ParsedTimestamp parseBackendTimestamp(byte[] s) throws SQLExcepti
 
         // Hours
 
-        end = firstNonDigit(s, start);
+        end = firstNonDigit(s, start, slen);
         result.hour = number(s, start, end);
 
         if (end < slen) {
@@ -282,7 +287,7 @@ private static ParsedTimestamp parseBackendTimestamp(byte[] s) throws SQLExcepti
 
         // minutes
 
-        end = firstNonDigit(s, start);
+        end = firstNonDigit(s, start, slen);
         result.minute = number(s, start, end);
 
         if (end < slen) {
@@ -297,13 +302,13 @@ private static ParsedTimestamp parseBackendTimestamp(byte[] s) throws SQLExcepti
 
         // seconds
 
-        end = firstNonDigit(s, start);
+        end = firstNonDigit(s, start, slen);
         result.second = number(s, start, end);
         start = end;
 
         // Fractional seconds.
         if (((start < slen) ? s[start] : 0) == '.') {
-          end = firstNonDigit(s, start + 1); // Skip '.'
+          end = firstNonDigit(s, start + 1, slen); // Skip '.'
           num = number(s, start + 1, end);
 
           for (int numlength = end - (start + 1); numlength < 9; numlength++) {
@@ -314,7 +319,7 @@ private static ParsedTimestamp parseBackendTimestamp(byte[] s) throws SQLExcepti
           start = end;
         }
 
-        start = skipWhitespace(s, start); // Skip trailing whitespace
+        start = skipWhitespace(s, start, slen); // Skip trailing whitespace
       }
 
       // Possibly read timezone.
@@ -327,13 +332,13 @@ private static ParsedTimestamp parseBackendTimestamp(byte[] s) throws SQLExcepti
         int tzmin;
         int tzsec;
 
-        end = firstNonDigit(s, start + 1); // Skip +/-
+        end = firstNonDigit(s, start + 1, slen); // Skip +/-
         tzhr = number(s, start + 1, end);
         start = end;
 
         sep = (start < slen) ? s[start] : 0;
         if (sep == ':') {
-          end = firstNonDigit(s, start + 1); // Skip ':'
+          end = firstNonDigit(s, start + 1, slen); // Skip ':'
           tzmin = number(s, start + 1, end);
           start = end;
         } else {
@@ -343,14 +348,14 @@ private static ParsedTimestamp parseBackendTimestamp(byte[] s) throws SQLExcepti
         tzsec = 0;
         sep = (start < slen) ? s[start] : 0;
         if (sep == ':') {
-          end = firstNonDigit(s, start + 1); // Skip ':'
+          end = firstNonDigit(s, start + 1, slen); // Skip ':'
           tzsec = number(s, start + 1, end);
           start = end;
         }
 
         result.offset = ZoneOffset.ofHoursMinutesSeconds(tzsign * tzhr, tzsign * tzmin, tzsign * tzsec);
 
-        start = skipWhitespace(s, start); // Skip trailing whitespace
+        start = skipWhitespace(s, start, slen); // Skip trailing whitespace
       }
 
       if (result.hasDate && start < slen) {
@@ -376,7 +381,8 @@ private static ParsedTimestamp parseBackendTimestamp(byte[] s) throws SQLExcepti
 
     } catch (NumberFormatException nfe) {
       throw new PSQLException(
-          GT.tr("Bad value for type timestamp/date/time: {0}", new String(s, StandardCharsets.UTF_8)),
+          GT.tr("Bad value for type timestamp/date/time: {0}",
+              new String(s, offset, length, StandardCharsets.UTF_8)),
           PSQLState.BAD_DATETIME_FORMAT, nfe);
     }
 
@@ -436,28 +442,42 @@ ParsedTimestamp parseDate(byte[]dateBytes) {
    */
   public @PolyNull Timestamp toTimestamp(@Nullable Calendar cal,
       byte @PolyNull []bytes) throws SQLException {
+    if (bytes == null) {
+      return null;
+    }
+    return toTimestamp(cal, bytes, 0, bytes.length);
+  }
 
-    try (ResourceLock ignore = lock.obtain()) {
-      if (bytes == null) {
-        return null;
-      }
+  /**
+   * Parse a range of an array of bytes and return a timestamp representing its value.
+   *
+   * @param cal calendar to be used to parse the input bytes
+   * @param bytes array that holds the ISO formatted date to parse
+   * @param offset offset of the date in the array
+   * @param length length of the date in bytes
+   * @return a timestamp of the parsed bytes.
+   * @throws SQLException if there is a problem parsing bytes.
+   */
+  public Timestamp toTimestamp(@Nullable Calendar cal, byte[] bytes, int offset, int length)
+      throws SQLException {
 
-      if (bytes.length == 0) {
+    try (ResourceLock ignore = lock.obtain()) {
+      if (length == 0) {
         throw new PSQLException(
             GT.tr("Bad value for type timestamp/date/time: {0}", ""),
             PSQLState.BAD_DATETIME_FORMAT);
       }
 
       // convert postgres's infinity values to internal infinity magic value
-      if (bytes[0] == 'i' && Arrays.equals(bytes,INFINITY)) {
+      if (bytes[offset] == 'i' && regionEquals(bytes, offset, length, INFINITY)) {
         return new Timestamp(PGStatement.DATE_POSITIVE_INFINITY);
       }
 
-      if (bytes[0] == '-' && Arrays.equals(bytes,NEGATIVE_INFINITY)) {
+      if (bytes[offset] == '-' && regionEquals(bytes, offset, length, NEGATIVE_INFINITY)) {
         return new Timestamp(PGStatement.DATE_NEGATIVE_INFINITY);
       }
 
-      ParsedTimestamp ts = parseBackendTimestamp(bytes);
+      ParsedTimestamp ts = parseBackendTimestamp(bytes, offset, length);
       Calendar useCal = ts.hasOffset ? getCalendar(ts.offset) : setupCalendar(cal);
       useCal.set(Calendar.ERA, ts.era);
       useCal.set(Calendar.YEAR, ts.year);
@@ -508,7 +528,21 @@ ParsedTimestamp parseDate(byte[]dateBytes) {
    * @throws PSQLException If binary format could not be parsed.
    */
   public OffsetTime toOffsetTimeBin(byte[] bytes) throws PSQLException {
-    if (bytes.length != 12) {
+    return toOffsetTimeBin(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Returns the offset time object matching a range of the given bytes with Oid#TIMETZ or
+   * Oid#TIME.
+   *
+   * @param bytes array that holds the binary encoded TIMETZ/TIME value
+   * @param offset offset of the value in the array
+   * @param length length of the value in bytes
+   * @return The parsed offset time object.
+   * @throws PSQLException If binary format could not be parsed.
+   */
+  public OffsetTime toOffsetTimeBin(byte[] bytes, int offset, int length) throws PSQLException {
+    if (length != 12) {
       throw new PSQLException(GT.tr("Unsupported binary encoding of {0}.", "time"),
           PSQLState.BAD_DATETIME_FORMAT);
     }
@@ -516,14 +550,15 @@ public OffsetTime toOffsetTimeBin(byte[] bytes) throws PSQLException {
     final long micros;
 
     if (usesDouble) {
-      double seconds = ByteConverter.float8(bytes, 0);
+      double seconds = ByteConverter.float8(bytes, offset);
       micros = (long) (seconds * 1_000_000d);
     } else {
-      micros = ByteConverter.int8(bytes, 0);
+      micros = ByteConverter.int8(bytes, offset);
     }
 
     // postgres offset is negative, so we have to flip sign:
-    final ZoneOffset timeOffset = ZoneOffset.ofTotalSeconds(-ByteConverter.int4(bytes, 8));
+    final ZoneOffset timeOffset =
+        ZoneOffset.ofTotalSeconds(-ByteConverter.int4(bytes, offset + 8));
 
     return OffsetTime.of(LocalTime.ofNanoOfDay(Math.multiplyExact(micros, 1000L)), timeOffset);
   }
@@ -681,7 +716,23 @@ public OffsetDateTime toOffsetDateTime(Time t) {
    * @throws PSQLException If binary format could not be parsed.
    */
   public OffsetDateTime toOffsetDateTimeBin(byte[] bytes) throws PSQLException {
-    ParsedBinaryTimestamp parsedTimestamp = this.toProlepticParsedTimestampBin(bytes);
+    return toOffsetDateTimeBin(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Returns the offset date time object matching a range of the given bytes with
+   * Oid#TIMESTAMPTZ.
+   *
+   * @param bytes array that holds the binary encoded local date time value
+   * @param offset offset of the value in the array
+   * @param length length of the value in bytes
+   * @return The parsed local date time object.
+   * @throws PSQLException If binary format could not be parsed.
+   */
+  public OffsetDateTime toOffsetDateTimeBin(byte[] bytes, int offset, int length)
+      throws PSQLException {
+    ParsedBinaryTimestamp parsedTimestamp =
+        this.toProlepticParsedTimestampBin(bytes, offset, length);
     if (parsedTimestamp.infinity == Infinity.POSITIVE) {
       return OffsetDateTime.MAX;
     } else if (parsedTimestamp.infinity == Infinity.NEGATIVE) {
@@ -1130,7 +1181,20 @@ public String toString(OffsetTime offsetTime) {
    * @return string representation of {@code timetz}
    */
   public String toStringOffsetTimeBin(byte[] value) throws PSQLException {
-    OffsetTime offsetTimeBin = toOffsetTimeBin(value);
+    return toStringOffsetTimeBin(value, 0, value.length);
+  }
+
+  /**
+   * Converts {@code timetz} to string taking client time zone ({@link #timeZoneProvider})
+   * into account.
+   * @param value array that holds the binary representation of {@code timetz}
+   * @param offset offset of the value in the array
+   * @param length length of the value in bytes
+   * @return string representation of {@code timetz}
+   */
+  public String toStringOffsetTimeBin(byte[] value, int offset, int length)
+      throws PSQLException {
+    OffsetTime offsetTimeBin = toOffsetTimeBin(value, offset, length);
     return toString(withClientOffsetSameInstant(offsetTimeBin));
   }
 
@@ -1188,7 +1252,20 @@ public String toString(OffsetDateTime offsetDateTime) {
    * @return string representation of {@code timestamptz}
    */
   public String toStringOffsetDateTime(byte[] value) throws PSQLException {
-    OffsetDateTime offsetDateTime = toOffsetDateTimeBin(value);
+    return toStringOffsetDateTime(value, 0, value.length);
+  }
+
+  /**
+   * Converts {@code timestamptz} to string taking client time zone ({@link #timeZoneProvider})
+   * into account.
+   * @param value array that holds the binary representation of {@code timestamptz}
+   * @param offset offset of the value in the array
+   * @param length length of the value in bytes
+   * @return string representation of {@code timestamptz}
+   */
+  public String toStringOffsetDateTime(byte[] value, int offset, int length)
+      throws PSQLException {
+    OffsetDateTime offsetDateTime = toOffsetDateTimeBin(value, offset, length);
     return toString(withClientOffsetSameInstant(offsetDateTime));
   }
 
@@ -1275,8 +1352,19 @@ private static void appendEra(StringBuilder sb, LocalDate localDate) {
     }
   }
 
-  private static int skipWhitespace(byte[] bytes, int start) {
-    int slen = bytes.length;
+  private static boolean regionEquals(byte[] bytes, int offset, int length, byte[] expected) {
+    if (length != expected.length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (bytes[offset + i] != expected[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int skipWhitespace(byte[] bytes, int start, int slen) {
     for (int i = start; i < slen; i++) {
       if (!Character.isWhitespace(bytes[i])) {
         return i;
@@ -1285,8 +1373,7 @@ private static int skipWhitespace(byte[] bytes, int start) {
     return slen;
   }
 
-  private static int firstNonDigit(byte[] bytes, int start) {
-    int slen = bytes.length;
+  private static int firstNonDigit(byte[] bytes, int start, int slen) {
     for (int i = start; i < slen; i++) {
       if (!Character.isDigit(bytes[i])) {
         return i;
@@ -1416,7 +1503,20 @@ public Time toTimeBin(@Nullable TimeZone tz, byte[] bytes) throws PSQLException
    * @throws PSQLException If binary format could not be parsed.
    */
   public LocalTime toLocalTimeBin(byte[] bytes) throws PSQLException {
-    if (bytes.length != 8) {
+    return toLocalTimeBin(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Returns the SQL Time object matching a range of the given bytes with {@link Oid#TIME}.
+   *
+   * @param bytes array that holds the binary encoded time value
+   * @param offset offset of the value in the array
+   * @param length length of the value in bytes
+   * @return The parsed time object.
+   * @throws PSQLException If binary format could not be parsed.
+   */
+  public LocalTime toLocalTimeBin(byte[] bytes, int offset, int length) throws PSQLException {
+    if (length != 8) {
       throw new PSQLException(GT.tr("Unsupported binary encoding of {0}.", "time"),
           PSQLState.BAD_DATETIME_FORMAT);
     }
@@ -1424,11 +1524,11 @@ public LocalTime toLocalTimeBin(byte[] bytes) throws PSQLException {
     long micros;
 
     if (usesDouble) {
-      double seconds = ByteConverter.float8(bytes, 0);
+      double seconds = ByteConverter.float8(bytes, offset);
 
       micros = (long) (seconds * 1000000d);
     } else {
-      micros = ByteConverter.int8(bytes, 0);
+      micros = ByteConverter.int8(bytes, offset);
     }
 
     long nanos = Math.multiplyExact(micros, 1000L);
@@ -1453,8 +1553,27 @@ public LocalTime toLocalTimeBin(byte[] bytes) throws PSQLException {
    */
   public Timestamp toTimestampBin(@Nullable TimeZone tz, byte[] bytes, boolean timestamptz)
       throws PSQLException {
+    return toTimestampBin(tz, bytes, 0, bytes.length, timestamptz);
+  }
 
-    ParsedBinaryTimestamp parsedTimestamp = this.toParsedTimestampBin(tz, bytes, timestamptz);
+  /**
+   * Returns the SQL Timestamp object matching a range of the given bytes with
+   * {@link Oid#TIMESTAMP} or {@link Oid#TIMESTAMPTZ}.
+   *
+   * @param tz The timezone used when received data is {@link Oid#TIMESTAMP}, ignored if data
+   *        already contains {@link Oid#TIMESTAMPTZ}.
+   * @param bytes array that holds the binary encoded timestamp value
+   * @param offset offset of the value in the array
+   * @param length length of the value in bytes
+   * @param timestamptz True if the binary is in GMT.
+   * @return The parsed timestamp object.
+   * @throws PSQLException If binary format could not be parsed.
+   */
+  public Timestamp toTimestampBin(@Nullable TimeZone tz, byte[] bytes, int offset, int length,
+      boolean timestamptz) throws PSQLException {
+
+    ParsedBinaryTimestamp parsedTimestamp =
+        this.toParsedTimestampBin(tz, bytes, offset, length, timestamptz);
     if (parsedTimestamp.infinity == Infinity.POSITIVE) {
       return new Timestamp(PGStatement.DATE_POSITIVE_INFINITY);
     } else if (parsedTimestamp.infinity == Infinity.NEGATIVE) {
@@ -1466,10 +1585,10 @@ public Timestamp toTimestampBin(@Nullable TimeZone tz, byte[] bytes, boolean tim
     return ts;
   }
 
-  private ParsedBinaryTimestamp toParsedTimestampBinPlain(byte[] bytes)
+  private ParsedBinaryTimestamp toParsedTimestampBinPlain(byte[] bytes, int offset, int length)
       throws PSQLException {
 
-    if (bytes.length != 8) {
+    if (length != 8) {
       throw new PSQLException(GT.tr("Unsupported binary encoding of {0}.", "timestamp"),
               PSQLState.BAD_DATETIME_FORMAT);
     }
@@ -1478,7 +1597,7 @@ private ParsedBinaryTimestamp toParsedTimestampBinPlain(byte[] bytes)
     int nanos;
 
     if (usesDouble) {
-      double time = ByteConverter.float8(bytes, 0);
+      double time = ByteConverter.float8(bytes, offset);
       if (time == Double.POSITIVE_INFINITY) {
         ParsedBinaryTimestamp ts = new ParsedBinaryTimestamp();
         ts.infinity = Infinity.POSITIVE;
@@ -1492,7 +1611,7 @@ private ParsedBinaryTimestamp toParsedTimestampBinPlain(byte[] bytes)
       secs = (long) time;
       nanos = (int) ((time - secs) * 1000000);
     } else {
-      long time = ByteConverter.int8(bytes, 0);
+      long time = ByteConverter.int8(bytes, offset);
 
       // compatibility with text based receiving, not strictly necessary
       // and can actually be confusing because there are timestamps
@@ -1525,10 +1644,10 @@ private ParsedBinaryTimestamp toParsedTimestampBinPlain(byte[] bytes)
   }
 
   private ParsedBinaryTimestamp toParsedTimestampBin(@Nullable TimeZone tz, byte[] bytes,
-      boolean timestamptz)
+      int offset, int length, boolean timestamptz)
       throws PSQLException {
 
-    ParsedBinaryTimestamp ts = toParsedTimestampBinPlain(bytes);
+    ParsedBinaryTimestamp ts = toParsedTimestampBinPlain(bytes, offset, length);
     if (ts.infinity != null) {
       return ts;
     }
@@ -1547,10 +1666,10 @@ private ParsedBinaryTimestamp toParsedTimestampBin(@Nullable TimeZone tz, byte[]
     return ts;
   }
 
-  private ParsedBinaryTimestamp toProlepticParsedTimestampBin(byte[] bytes)
-      throws PSQLException {
+  private ParsedBinaryTimestamp toProlepticParsedTimestampBin(byte[] bytes, int offset,
+      int length) throws PSQLException {
 
-    ParsedBinaryTimestamp ts = toParsedTimestampBinPlain(bytes);
+    ParsedBinaryTimestamp ts = toParsedTimestampBinPlain(bytes, offset, length);
     if (ts.infinity != null) {
       return ts;
     }
@@ -1573,8 +1692,24 @@ private ParsedBinaryTimestamp toProlepticParsedTimestampBin(byte[] bytes)
    * @throws PSQLException If binary format could not be parsed.
    */
   public LocalDateTime toLocalDateTimeBin(byte[] bytes) throws PSQLException {
+    return toLocalDateTimeBin(bytes, 0, bytes.length);
+  }
 
-    ParsedBinaryTimestamp parsedTimestamp = this.toProlepticParsedTimestampBin(bytes);
+  /**
+   * Returns the local date time object matching a range of the given bytes with
+   * {@link Oid#TIMESTAMP} or {@link Oid#TIMESTAMPTZ}.
+   * @param bytes array that holds the binary encoded local date time value
+   * @param offset offset of the value in the array
+   * @param length length of the value in bytes
+   *
+   * @return The parsed local date time object.
+   * @throws PSQLException If binary format could not be parsed.
+   */
+  public LocalDateTime toLocalDateTimeBin(byte[] bytes, int offset, int length)
+      throws PSQLException {
+
+    ParsedBinaryTimestamp parsedTimestamp =
+        this.toProlepticParsedTimestampBin(bytes, offset, length);
     if (parsedTimestamp.infinity == Infinity.POSITIVE) {
       return LocalDateTime.MAX;
     } else if (parsedTimestamp.infinity == Infinity.NEGATIVE) {
@@ -1595,11 +1730,25 @@ public LocalDateTime toLocalDateTimeBin(byte[] bytes) throws PSQLException {
    * @throws PSQLException If binary format could not be parsed.
    */
   public LocalDate toLocalDateBin(byte[] bytes) throws PSQLException {
-    if (bytes.length != 4) {
+    return toLocalDateBin(bytes, 0, bytes.length);
+  }
+
+  /**
+   * Returns the local date time object matching a range of the given bytes with
+   * {@link Oid#DATE} or {@link Oid#TIMESTAMP}.
+   * @param bytes array that holds the binary encoded local date value
+   * @param offset offset of the value in the array
+   * @param length length of the value in bytes
+   *
+   * @return The parsed local date object.
+   * @throws PSQLException If binary format could not be parsed.
+   */
+  public LocalDate toLocalDateBin(byte[] bytes, int offset, int length) throws PSQLException {
+    if (length != 4) {
       throw new PSQLException(GT.tr("Unsupported binary encoding of {0}.", "date"),
           PSQLState.BAD_DATETIME_FORMAT);
     }
-    int days = ByteConverter.int4(bytes, 0);
+    int days = ByteConverter.int4(bytes, offset);
     if (days == Integer.MAX_VALUE) {
       return LocalDate.MAX;
     } else if (days == Integer.MIN_VALUE) {
@@ -1865,6 +2014,85 @@ public void toBinDate(@Nullable TimeZone tz, byte[] bytes, Date value) throws PS
     ByteConverter.int4(bytes, 0, (int) (secs / 86400));
   }
 
+  /**
+   * Converts the LocalDate to binary representation for {@link Oid#DATE}.
+   * {@link LocalDate#MAX} and {@link LocalDate#MIN} are converted to infinity and -infinity.
+   *
+   * @param bytes The target array.
+   * @param idx The index in the target array to write the value at.
+   * @param value value
+   */
+  public void toBinLocalDate(byte[] bytes, int idx, LocalDate value) {
+    int days;
+    if (value.equals(LocalDate.MAX)) {
+      days = Integer.MAX_VALUE;
+    } else if (value.equals(LocalDate.MIN)) {
+      days = Integer.MIN_VALUE;
+    } else {
+      days = (int) (value.toEpochDay() - PG_EPOCH_DIFF.toDays());
+    }
+    ByteConverter.int4(bytes, idx, days);
+  }
+
+  /**
+   * Converts the LocalDateTime to binary representation for {@link Oid#TIMESTAMP}.
+   * {@link LocalDateTime#MAX} and {@link LocalDateTime#MIN} are converted to infinity and
+   * -infinity. This is the reverse of {@link #toLocalDateTimeBin(byte[])}.
+   *
+   * @param bytes The target array.
+   * @param idx The index in the target array to write the value at.
+   * @param value value
+   */
+  public void toBinLocalDateTime(byte[] bytes, int idx, LocalDateTime value) {
+    if (value.equals(LocalDateTime.MAX)) {
+      toBinTimestampInfinity(bytes, idx, true);
+    } else if (value.equals(LocalDateTime.MIN)) {
+      toBinTimestampInfinity(bytes, idx, false);
+    } else {
+      toBinTimestamp(bytes, idx, value.toEpochSecond(ZoneOffset.UTC), value.getNano());
+    }
+  }
+
+  /**
+   * Converts the OffsetDateTime to binary representation for {@link Oid#TIMESTAMPTZ}.
+   * {@link OffsetDateTime#MAX} and {@link OffsetDateTime#MIN} are converted to infinity and
+   * -infinity. This is the reverse of {@link #toOffsetDateTimeBin(byte[])}.
+   *
+   * @param bytes The target array.
+   * @param idx The index in the target array to write the value at.
+   * @param value value
+   */
+  public void toBinOffsetDateTime(byte[] bytes, int idx, OffsetDateTime value) {
+    if (value.equals(OffsetDateTime.MAX)) {
+      toBinTimestampInfinity(bytes, idx, true);
+    } else if (value.equals(OffsetDateTime.MIN)) {
+      toBinTimestampInfinity(bytes, idx, false);
+    } else {
+      toBinTimestamp(bytes, idx, value.toEpochSecond(), value.getNano());
+    }
+  }
+
+  @SuppressWarnings("JavaDurationGetSecondsToToSeconds")
+  private void toBinTimestamp(byte[] bytes, int idx, long epochSecond, int nanos) {
+    // Proleptic calendar, see toProlepticParsedTimestampBin
+    long secs = epochSecond - PG_EPOCH_DIFF.getSeconds();
+    if (usesDouble) {
+      ByteConverter.float8(bytes, idx, secs + nanos / 1e9);
+    } else {
+      // Round to microseconds the same way the backend does
+      ByteConverter.int8(bytes, idx, secs * 1000000 + (nanos + 500) / 1000);
+    }
+  }
+
+  private void toBinTimestampInfinity(byte[] bytes, int idx, boolean positive) {
+    if (usesDouble) {
+      ByteConverter.float8(bytes, idx,
+          positive ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY);
+    } else {
+      ByteConverter.int8(bytes, idx, positive ? Long.MAX_VALUE : Long.MIN_VALUE);
+    }
+  }
+
   /**
    * Converts backend's TimeZone parameter to java format.
    * Notable difference: backend's gmt-3 is GMT+03 in Java.
@@ -12,6 +12,7 @@
 import org.postgresql.core.Oid;
 import org.postgresql.core.QueryExecutor;
 import org.postgresql.core.ServerVersion;
+import org.postgresql.core.SharedTypeCatalog;
 import org.postgresql.core.TypeInfo;
 import org.postgresql.util.GT;
 import org.postgresql.util.PGobject;
@@ -24,8 +25,6 @@
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
@@ -34,6 +33,12 @@
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+/**
+ * Per-connection cache of type information. The maps are concurrent, so the lookups of the types
+ * already known do not lock, while the queries of {@code pg_type} are serialized by a lock.
+ * When a {@link SharedTypeCatalog} is given, the types looked up by other connections to the same
+ * database are taken from it before querying the server.
+ */
 public class TypeInfoCache implements TypeInfo {
 
   private static final Logger LOGGER = Logger.getLogger(TypeInfoCache.class.getName());
@@ -65,6 +70,9 @@ public class TypeInfoCache implements TypeInfo {
 
   private final BaseConnection conn;
   private final int unknownLength;
+  private final @Nullable SharedTypeCatalog sharedCatalog;
+  // Whether the statement returned by getOidStatement looks up a schema-qualified name
+  private boolean oidStatementQualified;
   private @Nullable PreparedStatement getOidStatementSimple;
   private @Nullable PreparedStatement getOidStatementComplexNonArray;
   private @Nullable PreparedStatement getOidStatementComplexArray;
@@ -153,22 +161,34 @@ public class TypeInfoCache implements TypeInfo {
     TYPE_ALIASES.put("timestamptz", "timestamptz");
   }
 
-  @SuppressWarnings("method.invocation")
   public TypeInfoCache(BaseConnection conn, int unknownLength) {
+    this(conn, unknownLength, null);
+  }
+
+  /**
+   * Creates a cache that uses the given catalog for the types not known yet by the connection.
+   *
+   * @param conn the connection
+   * @param unknownLength the value of {@code unknownLength}
+   * @param sharedCatalog the catalog shared with other connections, or null
+   */
+  @SuppressWarnings("method.invocation")
+  public TypeInfoCache(BaseConnection conn, int unknownLength,
+      @Nullable SharedTypeCatalog sharedCatalog) {
     this.conn = conn;
     this.unknownLength = unknownLength;
-    oidToPgName = new HashMap<>((int) Math.round(types.length * 1.5));
-    pgNameToOid = new HashMap<>((int) Math.round(types.length * 1.5));
-    javaArrayTypeToOid = new HashMap<>((int) Math.round(types.length * 1.5));
-    pgNameToJavaClass = new HashMap<>((int) Math.round(types.length * 1.5));
-    pgNameToPgObject = new HashMap<>((int) Math.round(types.length * 1.5));
-    pgArrayToPgType = new HashMap<>((int) Math.round(types.length * 1.5));
-    arrayOidToDelimiter = new HashMap<>((int) Math.round(types.length * 2.5));
-
-    // needs to be synchronized because the iterator is returned
-    // from getPGTypeNamesWithSQLTypes()
-    pgNameToSQLType = Collections.synchronizedMap(new HashMap<String, Integer>((int) Math.round(types.length * 1.5)));
-    oidToSQLType = Collections.synchronizedMap(new HashMap<Integer, Integer>((int) Math.round(types.length * 1.5)));
+    this.sharedCatalog = sharedCatalog;
+    // The maps are concurrent, so the reads do not lock and the iterators returned
+    // from getPGTypeNamesWithSQLTypes() do not fail on concurrent updates
+    oidToPgName = new ConcurrentHashMap<>((int) Math.round(types.length * 1.5));
+    pgNameToOid = new ConcurrentHashMap<>((int) Math.round(types.length * 1.5));
+    javaArrayTypeToOid = new ConcurrentHashMap<>((int) Math.round(types.length * 1.5));
+    pgNameToJavaClass = new ConcurrentHashMap<>((int) Math.round(types.length * 1.5));
+    pgNameToPgObject = new ConcurrentHashMap<>((int) Math.round(types.length * 1.5));
+    pgArrayToPgType = new ConcurrentHashMap<>((int) Math.round(types.length * 1.5));
+    arrayOidToDelimiter = new ConcurrentHashMap<>((int) Math.round(types.length * 2.5));
+    pgNameToSQLType = new ConcurrentHashMap<>((int) Math.round(types.length * 1.5));
+    oidToSQLType = new ConcurrentHashMap<>((int) Math.round(types.length * 1.5));
 
     for (Object[] type : types) {
       String pgTypeName = (String) type[0];
@@ -331,18 +351,17 @@ private PreparedStatement prepareGetTypeInfoStatement() throws SQLException {
 
   @Override
   public int getSQLType(String pgTypeName) throws SQLException {
+    /*
+      Get a few things out of the way such as arrays and known types
+    */
+    if (pgTypeName.endsWith("[]")) {
+      return Types.ARRAY;
+    }
+    Integer i = this.pgNameToSQLType.get(pgTypeName);
+    if (i != null) {
+      return i;
+    }
     try (ResourceLock ignore = lock.obtain()) {
-      /*
-        Get a few things out of the way such as arrays and known types
-      */
-      if (pgTypeName.endsWith("[]")) {
-        return Types.ARRAY;
-      }
-      Integer i = this.pgNameToSQLType.get(pgTypeName);
-      if (i != null) {
-        return i;
-      }
-
       /*
         All else fails then we will query the database.
         save for future calls
@@ -356,23 +375,35 @@ public int getSQLType(String pgTypeName) throws SQLException {
 
   @Override
   public int getJavaArrayType(String className) throws SQLException {
-    try (ResourceLock ignore = lock.obtain()) {
-      Integer oid = javaArrayTypeToOid.get(className);
-      if (oid == null) {
-        return Oid.UNSPECIFIED;
-      }
-      return oid;
+    Integer oid = javaArrayTypeToOid.get(className);
+    if (oid == null) {
+      return Oid.UNSPECIFIED;
     }
+    return oid;
   }
 
   @Override
   public int getSQLType(int typeOid) throws SQLException {
-    try (ResourceLock ignore = lock.obtain()) {
-      if (typeOid == Oid.UNSPECIFIED) {
-        return Types.OTHER;
+    if (typeOid == Oid.UNSPECIFIED) {
+      return Types.OTHER;
+    }
+
+    Integer i = oidToSQLType.get(typeOid);
+    if (i != null) {
+      return i;
+    }
+
+    SharedTypeCatalog sharedCatalog = this.sharedCatalog;
+    if (sharedCatalog != null) {
+      i = sharedCatalog.getSQLType(typeOid);
+      if (i != null) {
+        oidToSQLType.put(typeOid, i);
+        return i;
       }
+    }
 
-      Integer i = oidToSQLType.get(typeOid);
+    try (ResourceLock ignore = lock.obtain()) {
+      i = oidToSQLType.get(typeOid);
       if (i != null) {
         return i;
       }
@@ -398,6 +429,9 @@ public int getSQLType(int typeOid) throws SQLException {
       rs.close();
 
       oidToSQLType.put(typeOid, sqlType);
+      if (sharedCatalog != null) {
+        sharedCatalog.putSQLType(typeOid, sqlType);
+      }
       return sqlType;
     }
   }
@@ -408,6 +442,7 @@ private PreparedStatement getOidStatement(String pgTypeName) throws SQLException
     int dotIndex = pgTypeName.indexOf('.');
 
     if (dotIndex == -1 && !hasQuote && !isArray) {
+      oidStatementQualified = false;
       PreparedStatement getOidStatementSimple = this.getOidStatementSimple;
       if (getOidStatementSimple == null) {
         String sql;
@@ -505,6 +540,7 @@ private PreparedStatement getOidStatement(String pgTypeName) throws SQLException
     } else {
       name = name.toLowerCase(Locale.ROOT);
     }
+    oidStatementQualified = schema != null;
     oidStatementComplex.setString(1, name);
     oidStatementComplex.setString(2, schema);
     oidStatementComplex.setBoolean(3, schema == null);
@@ -513,13 +549,28 @@ private PreparedStatement getOidStatement(String pgTypeName) throws SQLException
 
   @Override
   public int getPGType(String pgTypeName) throws SQLException {
-    try (ResourceLock ignore = lock.obtain()) {
-      // there really isn't anything else to return other than UNSPECIFIED here.
-      if (pgTypeName == null) {
-        return Oid.UNSPECIFIED;
+    // there really isn't anything else to return other than UNSPECIFIED here.
+    if (pgTypeName == null) {
+      return Oid.UNSPECIFIED;
+    }
+
+    Integer oid = pgNameToOid.get(pgTypeName);
+    if (oid != null) {
+      return oid;
+    }
+
+    SharedTypeCatalog sharedCatalog = this.sharedCatalog;
+    if (sharedCatalog != null) {
+      // Only schema-qualified names are shared, so the search_path does not matter
+      oid = sharedCatalog.getOid(pgTypeName);
+      if (oid != null) {
+        pgNameToOid.put(pgTypeName, oid);
+        return oid;
       }
+    }
 
-      Integer oid = pgNameToOid.get(pgTypeName);
+    try (ResourceLock ignore = lock.obtain()) {
+      oid = pgNameToOid.get(pgTypeName);
       if (oid != null) {
         return oid;
       }
@@ -541,6 +592,9 @@ public int getPGType(String pgTypeName) throws SQLException {
       }
       pgNameToOid.put(pgTypeName, oid);
       rs.close();
+      if (sharedCatalog != null && oidStatementQualified && oid != Oid.UNSPECIFIED) {
+        sharedCatalog.putOid(pgTypeName, oid);
+      }
 
       return oid;
     }
@@ -548,13 +602,18 @@ public int getPGType(String pgTypeName) throws SQLException {
 
   @Override
   public @Nullable String getPGType(int oid) throws SQLException {
-    try (ResourceLock ignore = lock.obtain()) {
-      if (oid == Oid.UNSPECIFIED) {
-        // TODO: it would be great to forbid UNSPECIFIED argument, and make the return type non-nullable
-        return null;
-      }
+    if (oid == Oid.UNSPECIFIED) {
+      // TODO: it would be great to forbid UNSPECIFIED argument, and make the return type non-nullable
+      return null;
+    }
+
+    String pgTypeName = oidToPgName.get(oid);
+    if (pgTypeName != null) {
+      return pgTypeName;
+    }
 
-      String pgTypeName = oidToPgName.get(oid);
+    try (ResourceLock ignore = lock.obtain()) {
+      pgTypeName = oidToPgName.get(oid);
       if (pgTypeName != null) {
         return pgTypeName;
       }
@@ -624,23 +683,35 @@ public int getPGArrayType(@Nullable String elementTypeName) throws SQLException
    * @return oid of the array's base element or the provided oid (if not array)
    */
   protected int convertArrayToBaseOid(int oid) {
-    try (ResourceLock ignore = lock.obtain()) {
-      Integer i = pgArrayToPgType.get(oid);
-      if (i == null) {
-        return oid;
-      }
-      return i;
+    Integer i = pgArrayToPgType.get(oid);
+    if (i == null) {
+      return oid;
     }
+    return i;
   }
 
   @Override
   public char getArrayDelimiter(int oid) throws SQLException {
-    try (ResourceLock ignore = lock.obtain()) {
-      if (oid == Oid.UNSPECIFIED) {
-        return ',';
+    if (oid == Oid.UNSPECIFIED) {
+      return ',';
+    }
+
+    Character delim = arrayOidToDelimiter.get(oid);
+    if (delim != null) {
+      return delim;
+    }
+
+    SharedTypeCatalog sharedCatalog = this.sharedCatalog;
+    if (sharedCatalog != null) {
+      delim = sharedCatalog.getArrayDelimiter(oid);
+      if (delim != null) {
+        arrayOidToDelimiter.put(oid, delim);
+        return delim;
       }
+    }
 
-      Character delim = arrayOidToDelimiter.get(oid);
+    try (ResourceLock ignore = lock.obtain()) {
+      delim = arrayOidToDelimiter.get(oid);
       if (delim != null) {
         return delim;
       }
@@ -664,6 +735,9 @@ public char getArrayDelimiter(int oid) throws SQLException {
       delim = s.charAt(0);
 
       arrayOidToDelimiter.put(oid, delim);
+      if (sharedCatalog != null) {
+        sharedCatalog.putArrayDelimiter(oid, delim);
+      }
 
       rs.close();
 
@@ -684,13 +758,28 @@ private PreparedStatement prepareGetArrayDelimiterStatement() throws SQLExceptio
 
   @Override
   public int getPGArrayElement(int oid) throws SQLException {
-    try (ResourceLock ignore = lock.obtain()) {
-      if (oid == Oid.UNSPECIFIED) {
-        return Oid.UNSPECIFIED;
-      }
+    if (oid == Oid.UNSPECIFIED) {
+      return Oid.UNSPECIFIED;
+    }
+
+    Integer pgType = pgArrayToPgType.get(oid);
 
-      Integer pgType = pgArrayToPgType.get(oid);
+    if (pgType != null) {
+      return pgType;
+    }
 
+    SharedTypeCatalog sharedCatalog = this.sharedCatalog;
+    if (sharedCatalog != null) {
+      // The name of the element type is looked up by getPGType(int) when needed
+      pgType = sharedCatalog.getArrayElement(oid);
+      if (pgType != null) {
+        pgArrayToPgType.put(oid, pgType);
+        return pgType;
+      }
+    }
+
+    try (ResourceLock ignore = lock.obtain()) {
+      pgType = pgArrayToPgType.get(oid);
       if (pgType != null) {
         return pgType;
       }
@@ -715,6 +804,9 @@ public int getPGArrayElement(int oid) throws SQLException {
       String schema = rs.getString(3);
       String name = castNonNull(rs.getString(4));
       pgArrayToPgType.put(oid, pgType);
+      if (sharedCatalog != null) {
+        sharedCatalog.putArrayElement(oid, pgType);
+      }
       pgNameToOid.put(schema + "." + name, pgType);
       String fullName = "\"" + schema + "\".\"" + name + "\"";
       pgNameToOid.put(fullName, pgType);
@@ -745,34 +837,30 @@ private PreparedStatement prepareGetArrayElementOidStatement() throws SQLExcepti
 
   @Override
   public @Nullable Class<? extends PGobject> getPGobject(String type) {
-    try (ResourceLock ignore = lock.obtain()) {
-      return pgNameToPgObject.get(type);
-    }
+    return pgNameToPgObject.get(type);
   }
 
   @Override
   public String getJavaClass(int oid) throws SQLException {
-    try (ResourceLock ignore = lock.obtain()) {
-      String pgTypeName = getPGType(oid);
-      if (pgTypeName == null) {
-        // Technically speaking, we should not be here
-        // null result probably means oid == UNSPECIFIED which has no clear way
-        // to map to Java
-        return "java.lang.String";
-      }
-
-      String result = pgNameToJavaClass.get(pgTypeName);
-      if (result != null) {
-        return result;
-      }
+    String pgTypeName = getPGType(oid);
+    if (pgTypeName == null) {
+      // Technically speaking, we should not be here
+      // null result probably means oid == UNSPECIFIED which has no clear way
+      // to map to Java
+      return "java.lang.String";
+    }
 
-      if (getSQLType(pgTypeName) == Types.ARRAY) {
-        result = "java.sql.Array";
-        pgNameToJavaClass.put(pgTypeName, result);
-      }
+    String result = pgNameToJavaClass.get(pgTypeName);
+    if (result != null) {
+      return result;
+    }
 
-      return result == null ? "java.lang.String" : result;
+    if (getSQLType(pgTypeName) == Types.ARRAY) {
+      result = "java.sql.Array";
+      pgNameToJavaClass.put(pgTypeName, result);
     }
+
+    return result == null ? "java.lang.String" : result;
   }
 
   @Override
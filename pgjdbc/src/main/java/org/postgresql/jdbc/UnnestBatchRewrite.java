@@ -0,0 +1,483 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import static org.postgresql.util.internal.Nullness.castNonNull;
+
+import org.postgresql.core.Oid;
+import org.postgresql.core.ParameterList;
+import org.postgresql.core.Parser;
+import org.postgresql.core.TypeInfo;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Rewrites a batch of single-row {@code UPDATE} or {@code DELETE} statements into statements that
+ * take each parameter as an array, see {@code reWriteBatchedUpdates}.
+ *
+ * <p>Only the statements of the following forms are rewritten, where each parameter appears
+ * once:</p>
+ *
+ * <pre>
+ * UPDATE table SET col1 = ?, col2 = ? WHERE key1 = ? AND key2 = ?
+ * DELETE FROM table WHERE key1 = ? AND key2 = ?
+ * </pre>
+ *
+ * <p>They become the following statements, where the {@code n}-th parameter is the array of the
+ * {@code n}-th parameters of the rows:</p>
+ *
+ * <pre>
+ * UPDATE table AS pgjdbc_t SET col1 = pgjdbc_v.p1, col2 = pgjdbc_v.p2
+ *   FROM unnest(?, ?, ?, ?) AS pgjdbc_v(p1, p2, p3, p4)
+ *   WHERE pgjdbc_t.key1 = pgjdbc_v.p3 AND pgjdbc_t.key2 = pgjdbc_v.p4
+ * DELETE FROM table AS pgjdbc_t USING unnest(?, ?) AS pgjdbc_v(p1, p2)
+ *   WHERE pgjdbc_t.key1 = pgjdbc_v.p1 AND pgjdbc_t.key2 = pgjdbc_v.p2
+ * </pre>
+ *
+ * <p>An {@code UPDATE} joined with several rows of {@code unnest} updates a target row only once,
+ * so the rows of a block never have the same key. An {@code UPDATE} which assigns one of its keys
+ * is not rewritten, as each statement of the batch sees the keys changed by the previous ones.</p>
+ */
+final class UnnestBatchRewrite {
+  /**
+   * Maximum number of rows of a rewritten statement.
+   */
+  static final int MAX_ROWS = 4096;
+
+  private static final String TARGET = "pgjdbc_t";
+  private static final String VALUES = "pgjdbc_v";
+
+  /**
+   * Types of the keys of an {@code UPDATE}, for which equal values have equal binary
+   * representations, so duplicate keys can be found by comparing the bytes.
+   */
+  private static final int[] KEY_TYPES =
+      {Oid.INT2, Oid.INT4, Oid.INT8, Oid.UUID, Oid.TEXT, Oid.VARCHAR};
+
+  private final String sql;
+  private final int parameterCount;
+  // 0-based indexes of the key parameters of an UPDATE, null for a DELETE
+  private final int @Nullable [] keyParameters;
+
+  private UnnestBatchRewrite(String sql, int parameterCount, int @Nullable [] keyParameters) {
+    this.sql = sql;
+    this.parameterCount = parameterCount;
+    this.keyParameters = keyParameters;
+  }
+
+  /**
+   * Returns the rewrite of the given statement, or null if the statement does not have one of the
+   * supported forms.
+   *
+   * @param nativeSql the SQL of the statement, with {@code $n} parameters
+   * @param parameterCount the number of parameters of the statement
+   * @return the rewrite, or null
+   */
+  static @Nullable UnnestBatchRewrite parse(String nativeSql, int parameterCount) {
+    List<String> tokens = tokenize(nativeSql);
+    if (tokens == null || parameterCount == 0) {
+      return null;
+    }
+    int pos = 0;
+    boolean update;
+    if (isKeyword(tokens, pos, "update")) {
+      update = true;
+      pos++;
+    } else if (isKeyword(tokens, pos, "delete") && isKeyword(tokens, pos + 1, "from")) {
+      update = false;
+      pos += 2;
+    } else {
+      return null;
+    }
+
+    // table or schema.table
+    int tableStart = pos;
+    if (!isIdentifier(tokens, pos++)) {
+      return null;
+    }
+    if (".".equals(token(tokens, pos))) {
+      if (!isIdentifier(tokens, pos + 1)) {
+        return null;
+      }
+      pos += 2;
+    }
+    String table = String.join("", tokens.subList(tableStart, pos));
+
+    // parameter index -> column, for the SET list and for the WHERE clause
+    @Nullable String[] setColumns = new String[parameterCount];
+    @Nullable String[] keyColumns = new String[parameterCount];
+    int assigned = 0;
+    if (update) {
+      if (!isKeyword(tokens, pos++, "set")) {
+        return null;
+      }
+      do {
+        int parameter = parseAssignment(tokens, pos, parameterCount);
+        if (parameter < 0 || setColumns[parameter] != null || keyColumns[parameter] != null) {
+          return null;
+        }
+        setColumns[parameter] = tokens.get(pos);
+        assigned++;
+        pos += 3;
+      } while (",".equals(token(tokens, pos++)));
+      pos--;
+    }
+    if (!isKeyword(tokens, pos++, "where")) {
+      return null;
+    }
+    int keys = 0;
+    do {
+      int parameter = parseAssignment(tokens, pos, parameterCount);
+      if (parameter < 0 || setColumns[parameter] != null || keyColumns[parameter] != null) {
+        return null;
+      }
+      keyColumns[parameter] = tokens.get(pos);
+      assigned++;
+      keys++;
+      pos += 3;
+    } while (isKeyword(tokens, pos++, "and"));
+    pos--;
+    if (";".equals(token(tokens, pos))) {
+      pos++;
+    }
+    if (pos != tokens.size() || assigned != parameterCount) {
+      return null;
+    }
+    if (update && assignsKey(setColumns, keyColumns)) {
+      // The rows of a block would be matched with the keys before any of them is updated, while
+      // the statements of the batch see the keys changed by the previous rows
+      return null;
+    }
+
+    StringBuilder sb = new StringBuilder(nativeSql.length() * 2);
+    if (update) {
+      sb.append("UPDATE ").append(table).append(" AS ").append(TARGET).append(" SET ");
+      String separator = "";
+      for (int i = 0; i < parameterCount; i++) {
+        if (setColumns[i] != null) {
+          sb.append(separator).append(setColumns[i]).append(" = ").append(VALUES).append(".p")
+              .append(i + 1);
+          separator = ", ";
+        }
+      }
+      sb.append(" FROM ");
+    } else {
+      sb.append("DELETE FROM ").append(table).append(" AS ").append(TARGET).append(" USING ");
+    }
+    sb.append("unnest(");
+    for (int i = 0; i < parameterCount; i++) {
+      sb.append(i == 0 ? "?" : ", ?");
+    }
+    sb.append(") AS ").append(VALUES).append('(');
+    for (int i = 0; i < parameterCount; i++) {
+      sb.append(i == 0 ? "p" : ", p").append(i + 1);
+    }
+    sb.append(") WHERE ");
+    int[] keyParameters = new int[keys];
+    keys = 0;
+    for (int i = 0; i < parameterCount; i++) {
+      if (keyColumns[i] != null) {
+        if (keys > 0) {
+          sb.append(" AND ");
+        }
+        sb.append(TARGET).append('.').append(keyColumns[i]).append(" = ").append(VALUES)
+            .append(".p").append(i + 1);
+        keyParameters[keys++] = i;
+      }
+    }
+    return new UnnestBatchRewrite(sb.toString(), parameterCount, update ? keyParameters : null);
+  }
+
+  /**
+   * Tells if a column of the {@code SET} list is also a key of the {@code WHERE} clause.
+   */
+  private static boolean assignsKey(@Nullable String[] setColumns, @Nullable String[] keyColumns) {
+    Set<String> keys = new HashSet<>();
+    for (String column : keyColumns) {
+      if (column != null) {
+        keys.add(normalizeIdentifier(column));
+      }
+    }
+    for (String column : setColumns) {
+      if (column != null && keys.contains(normalizeIdentifier(column))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the name of the column an identifier refers to: unquoted identifiers are folded to
+   * lower case, and quoted identifiers are unquoted.
+   */
+  private static String normalizeIdentifier(String identifier) {
+    if (identifier.charAt(0) == '"') {
+      return identifier.substring(1, identifier.length() - 1).replace("\"\"", "\"");
+    }
+    return identifier.toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Parses {@code column = $n} and returns {@code n - 1}, or -1.
+   */
+  private static int parseAssignment(List<String> tokens, int pos, int parameterCount) {
+    String parameter = token(tokens, pos + 2);
+    if (!isIdentifier(tokens, pos) || !"=".equals(token(tokens, pos + 1))
+        || parameter == null || parameter.charAt(0) != '$' || parameter.length() > 6) {
+      return -1;
+    }
+    int index = Integer.parseInt(parameter.substring(1)) - 1;
+    return index < parameterCount ? index : -1;
+  }
+
+  private static @Nullable String token(List<String> tokens, int pos) {
+    return pos < tokens.size() ? tokens.get(pos) : null;
+  }
+
+  private static boolean isKeyword(List<String> tokens, int pos, String keyword) {
+    String token = token(tokens, pos);
+    return token != null && token.toLowerCase(Locale.ROOT).equals(keyword);
+  }
+
+  private static boolean isIdentifier(List<String> tokens, int pos) {
+    String token = token(tokens, pos);
+    if (token == null) {
+      return false;
+    }
+    char c = token.charAt(0);
+    return c == '"' || c != '$' && Parser.isIdentifierStartChar(c);
+  }
+
+  /**
+   * Splits the statement into identifiers, {@code $n} parameters and the punctuation of the
+   * supported forms. Returns null if the statement contains anything else, such as literals or
+   * operators.
+   */
+  private static @Nullable List<String> tokenize(String sql) {
+    char[] chars = sql.toCharArray();
+    List<String> tokens = new ArrayList<>();
+    int i = 0;
+    while (i < chars.length) {
+      char c = chars[i];
+      int end;
+      if (Parser.isSpace(c)) {
+        i++;
+        continue;
+      } else if (c == '-' && i + 1 < chars.length && chars[i + 1] == '-') {
+        i = Parser.parseLineComment(chars, i) + 1;
+        continue;
+      } else if (c == '/' && i + 1 < chars.length && chars[i + 1] == '*') {
+        i = Parser.parseBlockComment(chars, i) + 1;
+        continue;
+      } else if (c == '"') {
+        end = Parser.parseDoubleQuotes(chars, i);
+        // "" is a quote in a quoted identifier
+        while (end + 1 < chars.length && chars[end + 1] == '"') {
+          end = Parser.parseDoubleQuotes(chars, end + 1);
+        }
+        if (end >= chars.length) {
+          return null;
+        }
+        end++;
+      } else if (c == '$') {
+        end = i + 1;
+        while (end < chars.length && Character.isDigit(chars[end])) {
+          end++;
+        }
+        if (end == i + 1) {
+          return null;
+        }
+      } else if (Parser.isIdentifierStartChar(c)) {
+        end = i + 1;
+        while (end < chars.length && Parser.isIdentifierContChar(chars[end])) {
+          end++;
+        }
+      } else if (c == '=' || c == ',' || c == '.' || c == ';') {
+        end = i + 1;
+      } else {
+        return null;
+      }
+      tokens.add(sql.substring(i, end));
+      i = end;
+    }
+    return tokens;
+  }
+
+  /**
+   * Returns the SQL of the rewritten statement, with {@code ?} parameters.
+   *
+   * @return the SQL of the rewritten statement
+   */
+  String getSql() {
+    return sql;
+  }
+
+  /**
+   * Returns the number of rows, starting at {@code offset}, of the next rewritten statement. The
+   * rows of an {@code UPDATE} have distinct keys, so the block ends before a key which is already
+   * in the block.
+   *
+   * @param rows the parameters of the rows of the batch
+   * @param offset the first row of the block
+   * @return the number of rows of the block
+   */
+  int nextBlockSize(List<@Nullable ParameterList> rows, int offset) {
+    int limit = Math.min(rows.size() - offset, MAX_ROWS);
+    int[] keyParameters = this.keyParameters;
+    if (keyParameters == null) {
+      return limit;
+    }
+    Set<Object> keys = new HashSet<>();
+    for (int i = 0; i < limit; i++) {
+      ParameterList row = rows.get(offset + i);
+      if (row == null) {
+        return Math.max(i, 1);
+      }
+      @Nullable Object[] values = castNonNull(row.getValues());
+      Object[] key = new Object[keyParameters.length];
+      for (int k = 0; k < keyParameters.length; k++) {
+        Object value = values[keyParameters[k]];
+        key[k] = value instanceof byte[] ? ByteBuffer.wrap((byte[]) value) : value;
+      }
+      if (!keys.add(Arrays.asList(key))) {
+        return Math.max(i, 1);
+      }
+    }
+    return limit;
+  }
+
+  /**
+   * Sets the parameters of the rewritten statement to the arrays of the parameters of the rows.
+   * Returns false if a parameter can't be sent as an array: its type is not known, the rows use
+   * different types, or it is a stream.
+   *
+   * @param typeInfo the type information of the connection
+   * @param target the parameters of the rewritten statement
+   * @param rows the parameters of the rows of the batch
+   * @param offset the first row of the block
+   * @param count the number of rows of the block
+   * @return true if the parameters are set
+   * @throws SQLException if the array types can't be looked up
+   */
+  boolean bind(TypeInfo typeInfo, ParameterList target, List<@Nullable ParameterList> rows,
+      int offset, int count) throws SQLException {
+    for (int p = 0; p < parameterCount; p++) {
+      int elementOid = Oid.UNSPECIFIED;
+      int nullOid = Oid.UNSPECIFIED;
+      // byte[] for binary values, String for text values
+      Class<?> kind = null;
+      @Nullable Object[] values = new Object[count];
+      for (int r = 0; r < count; r++) {
+        ParameterList row = rows.get(offset + r);
+        if (row == null) {
+          return false;
+        }
+        Object value = castNonNull(row.getValues())[p];
+        int oid = row.getTypeOIDs()[p];
+        if (value instanceof byte[] || value instanceof String) {
+          if (kind == null) {
+            kind = value.getClass();
+            elementOid = oid;
+          } else if (kind != value.getClass() || oid != elementOid) {
+            return false;
+          }
+          values[r] = value;
+        } else if (value == null || value.getClass() != Object.class) {
+          // Unset, or a stream. SimpleParameterList represents NULL with a plain Object.
+          return false;
+        } else if (oid != Oid.UNSPECIFIED) {
+          nullOid = oid;
+        }
+      }
+      if (kind == null) {
+        elementOid = nullOid;
+      }
+      if (elementOid == Oid.UNSPECIFIED
+          || keyParameters != null && !isKeyType(keyParameters, p, elementOid)) {
+        return false;
+      }
+      String typeName = typeInfo.getPGType(elementOid);
+      int arrayOid = typeName == null ? Oid.UNSPECIFIED : typeInfo.getPGArrayType(typeName);
+      if (arrayOid == Oid.UNSPECIFIED) {
+        return false;
+      }
+
+      if (kind == String.class && !isTextType(elementOid)) {
+        target.setStringParameter(p + 1,
+            toArrayLiteral(values, typeInfo.getArrayDelimiter(elementOid)), arrayOid);
+      } else {
+        byte[] @Nullable [] elements = new byte[count][];
+        for (int r = 0; r < count; r++) {
+          Object value = values[r];
+          elements[r] = value instanceof String
+              ? ((String) value).getBytes(StandardCharsets.UTF_8)
+              : (byte[]) value;
+        }
+        target.setBinaryParameter(p + 1,
+            ArrayEncoding.toBinaryRepresentation(elementOid, elements), arrayOid);
+      }
+    }
+    return true;
+  }
+
+  private static boolean isKeyType(int[] keyParameters, int parameter, int oid) {
+    for (int keyParameter : keyParameters) {
+      if (keyParameter == parameter) {
+        for (int keyType : KEY_TYPES) {
+          if (keyType == oid) {
+            return true;
+          }
+        }
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether the binary representation of the type is the text in the client encoding.
+   */
+  private static boolean isTextType(int oid) {
+    return oid == Oid.TEXT || oid == Oid.VARCHAR || oid == Oid.BPCHAR;
+  }
+
+  private static String toArrayLiteral(@Nullable Object[] values, char delimiter) {
+    StringBuilder sb = new StringBuilder();
+    sb.append('{');
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        sb.append(delimiter);
+      }
+      Object value = values[i];
+      if (value == null) {
+        sb.append("NULL");
+        continue;
+      }
+      String text = (String) value;
+      sb.append('"');
+      for (int c = 0; c < text.length(); c++) {
+        char ch = text.charAt(c);
+        if (ch == '"' || ch == '\\') {
+          sb.append('\\');
+        }
+        sb.append(ch);
+      }
+      sb.append('"');
+    }
+    sb.append('}');
+    return sb.toString();
+  }
+}
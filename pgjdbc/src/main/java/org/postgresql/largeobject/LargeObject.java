@@ -69,6 +69,7 @@
   private final int fd; // the descriptor of the open large object
 
   private @Nullable BlobOutputStream os; // The current output stream
+  private @Nullable LargeObjectChannel channel; // The current channel
 
   private boolean closed; // true when we are closed
 
@@ -181,6 +182,20 @@ public void close() throws SQLException {
       }
     }
 
+    LargeObjectChannel channel = this.channel;
+    if (channel != null) {
+      this.channel = null;
+      try {
+        channel.flushBeforeClose();
+      } catch (SQLException e) {
+        if (error != null) {
+          error.addSuppressed(e);
+        } else {
+          error = e;
+        }
+      }
+    }
+
     closed = true;
 
     // Always release the server-side descriptor, but do not let lo_close mask a flush failure.
@@ -363,6 +378,14 @@ public long tell64() throws SQLException {
     return fp.getLong("lo_tell64", args);
   }
 
+  Fastpath getFastpath() {
+    return fp;
+  }
+
+  int getDescriptor() {
+    return fd;
+  }
+
   /**
    * Reports whether the server supports the 64-bit large object functions {@code lo_tell64} and
    * {@code lo_lseek64}, added in PostgreSQL 9.3. Callers can use this to choose the 64-bit
@@ -480,6 +503,32 @@ public InputStream getInputStream(int bufferSize, long limit) throws SQLExceptio
     return new BlobInputStream(this, bufferSize, limit);
   }
 
+  /**
+   * Returns a {@link LargeObjectChannel} over this object, that keeps several reads or writes in
+   * flight instead of waiting for the result of each call. Closing the channel closes this object.
+   *
+   * @return a channel that starts at the current position of this object
+   * @throws SQLException if a database-access error occurs.
+   */
+  public LargeObjectChannel getChannel() throws SQLException {
+    return getChannel(LargeObjectChannel.DEFAULT_CHUNK_SIZE, LargeObjectChannel.DEFAULT_WINDOW);
+  }
+
+  /**
+   * Returns a {@link LargeObjectChannel} over this object.
+   *
+   * @param chunkSize the number of bytes of each {@code loread} or {@code lowrite} call
+   * @param window the maximum number of calls in flight
+   * @return a channel that starts at the current position of this object
+   * @throws SQLException if a database-access error occurs.
+   */
+  public LargeObjectChannel getChannel(int chunkSize, int window) throws SQLException {
+    checkClosed();
+    LargeObjectChannel channel = new LargeObjectChannel(this, chunkSize, window);
+    this.channel = channel;
+    return channel;
+  }
+
   /**
    * Returns an {@link OutputStream} to this object.
    *
@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.largeobject;
+
+import org.postgresql.core.FastpathPipeline;
+import org.postgresql.core.ParameterList;
+import org.postgresql.fastpath.Fastpath;
+import org.postgresql.fastpath.FastpathArg;
+import org.postgresql.jdbc.ResourceLock;
+import org.postgresql.util.GT;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.sql.SQLException;
+
+/**
+ * A {@link SeekableByteChannel} over a large object, that keeps several {@code loread} or
+ * {@code lowrite} calls in flight instead of waiting for the result of each call.
+ *
+ * <p>Reads are served from a read-ahead of up to {@code window} chunks: the next chunks are
+ * requested before the application asks for them, so the data streams from the server while the
+ * application processes the previous chunks. The read-ahead starts with one chunk and doubles up
+ * to the window, so short reads do not fetch much more than needed.</p>
+ *
+ * <p>Writes are coalesced into chunks, and up to {@code window} chunks are sent before the result
+ * of the oldest one is checked. Call {@link #flush()} or {@link #close()} to send the last chunk
+ * and check the results of all the writes.</p>
+ *
+ * <p>The channel and its {@link LargeObject} share the position of the large object on the
+ * server, which the read-ahead moves forward. Do not read, write or seek the LargeObject while the
+ * channel is used, or set the position of the channel with {@link #position(long)} afterwards.
+ * Closing the channel closes the LargeObject.</p>
+ *
+ * <p>While calls are in flight, another statement on the connection first reads their results
+ * into memory, so the connection stays usable, but the read-ahead is then no longer overlapped
+ * with the application.</p>
+ */
+public class LargeObjectChannel implements SeekableByteChannel {
+  static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+  static final int DEFAULT_WINDOW = 8;
+
+  private enum Mode {
+    IDLE,
+    READING,
+    WRITING
+  }
+
+  private final LargeObject lo;
+  private final Fastpath fp;
+  private final ResourceLock lock = new ResourceLock();
+  private final int chunkSize;
+  private final int window;
+  private final ParameterList readParams;
+  private final ParameterList writeParams;
+  private final int loreadId;
+  private final int lowriteId;
+
+  private @Nullable FastpathPipeline pipeline;
+  private Mode mode = Mode.IDLE;
+  private long position;
+  private boolean open = true;
+
+  private final byte[] chunk;
+  private int chunkPosition;
+  private int chunkLength;
+  private int readAhead = 1;
+  private boolean endOfObject;
+
+  private int writeLength;
+  private final byte[] writeResult = new byte[4];
+
+  LargeObjectChannel(LargeObject lo, int chunkSize, int window) throws SQLException {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+    }
+    if (window <= 0) {
+      throw new IllegalArgumentException("window must be positive: " + window);
+    }
+    this.lo = lo;
+    this.fp = lo.getFastpath();
+    this.chunkSize = chunkSize;
+    this.window = window;
+    this.chunk = new byte[chunkSize];
+    int fd = lo.getDescriptor();
+    this.loreadId = fp.getID("loread");
+    this.lowriteId = fp.getID("lowrite");
+    this.readParams = fp.createParameters(
+        new FastpathArg[]{new FastpathArg(fd), new FastpathArg(chunkSize)});
+    this.writeParams = fp.createParameters(
+        new FastpathArg[]{new FastpathArg(fd), new FastpathArg(chunk, 0, 0)});
+    this.position = lo.supports64BitOffsets() ? lo.tell64() : lo.tell();
+  }
+
+  @Override
+  public int read(ByteBuffer dst) throws IOException {
+    try (ResourceLock ignore = lock.obtain()) {
+      checkOpen();
+      if (mode == Mode.WRITING) {
+        finishWrites();
+      }
+      mode = Mode.READING;
+      int total = 0;
+      while (dst.hasRemaining()) {
+        if (chunkPosition == chunkLength && !receiveChunk()) {
+          break;
+        }
+        int n = Math.min(dst.remaining(), chunkLength - chunkPosition);
+        dst.put(chunk, chunkPosition, n);
+        chunkPosition += n;
+        position += n;
+        total += n;
+      }
+      return total == 0 && dst.hasRemaining() ? -1 : total;
+    } catch (SQLException e) {
+      throw new IOException(GT.tr("Can not read large object {0}", lo.getLongOID()), e);
+    }
+  }
+
+  /**
+   * Receives the next chunk of the read-ahead, requesting more chunks first.
+   *
+   * @return false at the end of the large object
+   */
+  private boolean receiveChunk() throws SQLException {
+    if (endOfObject) {
+      return false;
+    }
+    FastpathPipeline pipeline = getPipeline();
+    while (pipeline.getPendingCount() < readAhead) {
+      pipeline.sendCall(loreadId, readParams);
+    }
+    pipeline.flush();
+    readAhead = Math.min(readAhead * 2, window);
+    int n = pipeline.receiveResult(chunk, 0, chunkSize);
+    chunkPosition = 0;
+    chunkLength = Math.max(n, 0);
+    if (chunkLength < chunkSize) {
+      // loread only returns less than requested at the end of the object, so the calls in flight
+      // return nothing and the connection can be released
+      endOfObject = true;
+      pipeline.close();
+      this.pipeline = null;
+    }
+    return chunkLength > 0;
+  }
+
+  @Override
+  public int write(ByteBuffer src) throws IOException {
+    try (ResourceLock ignore = lock.obtain()) {
+      checkOpen();
+      if (mode == Mode.READING) {
+        finishReads();
+      }
+      mode = Mode.WRITING;
+      int total = src.remaining();
+      while (src.hasRemaining()) {
+        if (writeLength == 0 && src.remaining() >= chunkSize && src.hasArray()) {
+          // Send a whole chunk from the buffer of the application without copying it
+          sendWrite(src.array(), src.arrayOffset() + src.position(), chunkSize);
+          src.position(src.position() + chunkSize);
+        } else {
+          int n = Math.min(src.remaining(), chunkSize - writeLength);
+          src.get(chunk, writeLength, n);
+          writeLength += n;
+          if (writeLength == chunkSize) {
+            sendWrite(chunk, 0, writeLength);
+            writeLength = 0;
+          }
+        }
+      }
+      position += total;
+      return total;
+    } catch (SQLException e) {
+      throw new IOException(GT.tr("Can not write large object {0}", lo.getLongOID()), e);
+    }
+  }
+
+  private void sendWrite(byte[] buf, int off, int len) throws SQLException {
+    FastpathPipeline pipeline = getPipeline();
+    if (pipeline.getPendingCount() >= window) {
+      receiveWriteResult(pipeline);
+    }
+    writeParams.setBytea(2, buf, off, len);
+    // The data is written to the connection before sendCall returns, so buf can be reused
+    pipeline.sendCall(lowriteId, writeParams);
+  }
+
+  private void receiveWriteResult(FastpathPipeline pipeline) throws SQLException {
+    // lowrite either writes all the bytes or fails
+    pipeline.receiveResult(writeResult, 0, writeResult.length);
+  }
+
+  /**
+   * Sends the data that is buffered, and waits for the results of all the writes.
+   *
+   * @throws IOException if a write failed
+   */
+  public void flush() throws IOException {
+    try (ResourceLock ignore = lock.obtain()) {
+      checkOpen();
+      if (mode == Mode.WRITING) {
+        finishWrites();
+      }
+    } catch (SQLException e) {
+      throw new IOException(GT.tr("Can not write large object {0}", lo.getLongOID()), e);
+    }
+  }
+
+  private void finishWrites() throws SQLException {
+    if (writeLength > 0) {
+      sendWrite(chunk, 0, writeLength);
+      writeLength = 0;
+    }
+    FastpathPipeline pipeline = this.pipeline;
+    if (pipeline != null) {
+      while (pipeline.getPendingCount() > 0) {
+        receiveWriteResult(pipeline);
+      }
+    }
+    mode = Mode.IDLE;
+  }
+
+  /**
+   * Discards the read-ahead, and moves the position on the server back to the position of the
+   * application.
+   */
+  private void finishReads() throws SQLException {
+    FastpathPipeline pipeline = this.pipeline;
+    boolean ahead = chunkPosition < chunkLength
+        || pipeline != null && pipeline.getPendingCount() > 0;
+    if (pipeline != null) {
+      pipeline.close();
+      this.pipeline = null;
+    }
+    chunkPosition = 0;
+    chunkLength = 0;
+    readAhead = 1;
+    endOfObject = false;
+    mode = Mode.IDLE;
+    if (ahead) {
+      seek(position);
+    }
+  }
+
+  private void finish() throws SQLException {
+    if (mode == Mode.WRITING) {
+      finishWrites();
+    } else if (mode == Mode.READING) {
+      finishReads();
+    }
+  }
+
+  private void seek(long newPosition) throws SQLException {
+    if (lo.supports64BitOffsets()) {
+      lo.seek64(newPosition, LargeObject.SEEK_SET);
+    } else {
+      lo.seek(Math.toIntExact(newPosition), LargeObject.SEEK_SET);
+    }
+  }
+
+  private FastpathPipeline getPipeline() throws SQLException {
+    FastpathPipeline pipeline = this.pipeline;
+    if (pipeline == null) {
+      pipeline = fp.createPipeline();
+      this.pipeline = pipeline;
+    }
+    return pipeline;
+  }
+
+  @Override
+  public long position() throws IOException {
+    try (ResourceLock ignore = lock.obtain()) {
+      checkOpen();
+      return position;
+    }
+  }
+
+  @Override
+  public LargeObjectChannel position(long newPosition) throws IOException {
+    if (newPosition < 0) {
+      throw new IllegalArgumentException("Negative position: " + newPosition);
+    }
+    try (ResourceLock ignore = lock.obtain()) {
+      checkOpen();
+      if (newPosition == position) {
+        return this;
+      }
+      finish();
+      seek(newPosition);
+      position = newPosition;
+      return this;
+    } catch (SQLException | ArithmeticException e) {
+      throw new IOException(GT.tr("Can not seek large object {0}", lo.getLongOID()), e);
+    }
+  }
+
+  @Override
+  public long size() throws IOException {
+    try (ResourceLock ignore = lock.obtain()) {
+      checkOpen();
+      finish();
+      return lo.supports64BitOffsets() ? lo.size64() : lo.size();
+    } catch (SQLException e) {
+      throw new IOException(GT.tr("Can not get the size of large object {0}", lo.getLongOID()),
+          e);
+    }
+  }
+
+  @Override
+  public LargeObjectChannel truncate(long size) throws IOException {
+    if (size < 0) {
+      throw new IllegalArgumentException("Negative size: " + size);
+    }
+    try (ResourceLock ignore = lock.obtain()) {
+      checkOpen();
+      finish();
+      boolean supports64 = lo.supports64BitOffsets();
+      long currentSize = supports64 ? lo.size64() : lo.size();
+      if (size < currentSize) {
+        if (supports64) {
+          lo.truncate64(size);
+        } else {
+          lo.truncate(Math.toIntExact(size));
+        }
+      }
+      if (position > size) {
+        seek(size);
+        position = size;
+      }
+      return this;
+    } catch (SQLException | ArithmeticException e) {
+      throw new IOException(GT.tr("Can not truncate large object {0}", lo.getLongOID()), e);
+    }
+  }
+
+  @Override
+  public boolean isOpen() {
+    return open;
+  }
+
+  /**
+   * Sends the data that is buffered, then closes the channel and its {@link LargeObject}.
+   *
+   * @throws IOException if a write failed, or the large object cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    try (ResourceLock ignore = lock.obtain()) {
+      if (!open) {
+        return;
+      }
+      open = false;
+      try {
+        if (mode == Mode.WRITING) {
+          finishWrites();
+        }
+      } finally {
+        FastpathPipeline pipeline = this.pipeline;
+        this.pipeline = null;
+        try {
+          if (pipeline != null) {
+            pipeline.close();
+          }
+        } finally {
+          lo.close();
+        }
+      }
+    } catch (SQLException e) {
+      throw new IOException(GT.tr("Can not close large object {0}", lo.getLongOID()), e);
+    }
+  }
+
+  /**
+   * Sends the data that is buffered, without closing the large object. Called when the
+   * LargeObject is closed directly.
+   */
+  void flushBeforeClose() throws SQLException {
+    try (ResourceLock ignore = lock.obtain()) {
+      if (open) {
+        open = false;
+        try {
+          if (mode == Mode.WRITING) {
+            finishWrites();
+          }
+        } finally {
+          FastpathPipeline pipeline = this.pipeline;
+          this.pipeline = null;
+          if (pipeline != null) {
+            pipeline.close();
+          }
+        }
+      }
+    }
+  }
+
+  private void checkOpen() throws ClosedChannelException {
+    if (!open) {
+      throw new ClosedChannelException();
+    }
+  }
+}
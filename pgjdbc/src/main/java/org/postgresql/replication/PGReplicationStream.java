@@ -5,6 +5,7 @@
 
 package org.postgresql.replication;
 
+import org.postgresql.Driver;
 import org.postgresql.replication.fluent.CommonOptions;
 import org.postgresql.replication.fluent.logical.LogicalReplicationOptions;
 
@@ -56,6 +57,28 @@
    */
   @Nullable ByteBuffer readPending() throws SQLException;
 
+  /**
+   * Read the next WAL records from backend. This method blocks until at least one message is
+   * received, like {@link PGReplicationStream#read()}, then adds the messages that were already
+   * received, without waiting, up to {@code max} messages.
+   *
+   * <p>The messages are received into buffers that the stream reuses, so reading does not allocate
+   * an array for each message. The returned batch and its buffers are only valid until the next
+   * call of {@code readBatch}, {@link PGReplicationStream#read()} or
+   * {@link PGReplicationStream#readPending()}.</p>
+   *
+   * <p>After this method returns, {@link PGReplicationStream#getLastReceiveLSN()} is the position of
+   * the last message of the batch.</p>
+   *
+   * @param max maximum number of messages of the batch
+   * @return not null batch, that is empty only if the stream was closed by the server
+   * @throws SQLException when some internal exception occurs during read from stream, or
+   *     {@code SQLFeatureNotSupportedException} if the implementation does not support batches
+   */
+  default ReplicationBatch readBatch(int max) throws SQLException {
+    throw Driver.notImplemented(getClass(), "readBatch(int)");
+  }
+
   /**
    * Parameter updates by execute {@link PGReplicationStream#read()} method.
    *
@@ -117,6 +140,10 @@
    * explicitly because {@link PGReplicationStream} sends the status to backend periodically by
    * configured interval via {@link LogicalReplicationOptions#getStatusInterval}
    *
+   * <p>When the stream was started with
+   * {@link org.postgresql.replication.fluent.ChainedCommonStreamBuilder#withAsyncStatusUpdates},
+   * the status is sent by the status thread and this method does not wait for it.</p>
+   *
    * @throws SQLException when some internal exception occurs during read from stream
    * @see LogicalReplicationOptions#getStatusInterval()
    */
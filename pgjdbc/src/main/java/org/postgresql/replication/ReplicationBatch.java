@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.replication;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Messages read at once by {@link PGReplicationStream#readBatch(int)}.
+ *
+ * <p>The batch and its buffers are reused by the stream: they are valid until the next call of
+ * {@link PGReplicationStream#readBatch(int)}, {@link PGReplicationStream#read()} or
+ * {@link PGReplicationStream#readPending()}. Copy the data that must be kept longer.</p>
+ */
+public interface ReplicationBatch {
+  /**
+   * @return the number of messages in the batch, at least one unless the stream was closed
+   */
+  int size();
+
+  /**
+   * Returns the data of a message. The data is between the position and the limit of the buffer,
+   * and the position is not zero, so use {@link ByteBuffer#array()} carefully.
+   *
+   * @param index index of the message, from 0 to {@link #size()} - 1
+   * @return the data of the message
+   */
+  ByteBuffer getData(int index);
+
+  /**
+   * Returns the WAL position of a message, which {@link PGReplicationStream#getLastReceiveLSN()}
+   * returns after {@link PGReplicationStream#read()} has read it.
+   *
+   * @param index index of the message, from 0 to {@link #size()} - 1
+   * @return NOT NULL WAL position of the message
+   */
+  LogSequenceNumber getLSN(int index);
+}
@@ -18,6 +18,7 @@
   protected LogSequenceNumber startPosition = LogSequenceNumber.INVALID_LSN;
   protected @Nullable String slotName;
   protected boolean automaticFlush = true;
+  protected boolean asyncStatusUpdates;
 
   protected abstract T self();
 
@@ -44,4 +45,10 @@ public T withAutomaticFlush(boolean automaticFlush) {
     this.automaticFlush = automaticFlush;
     return self();
   }
+
+  @Override
+  public T withAsyncStatusUpdates(boolean asyncStatusUpdates) {
+    this.asyncStatusUpdates = asyncStatusUpdates;
+    return self();
+  }
 }
@@ -53,4 +53,16 @@
    * @return not null fluent
    */
   T withAutomaticFlush(boolean automaticFlush);
+
+  /**
+   * Specify if the status packets are sent by a background thread instead of the thread that reads
+   * the stream. The background thread sends them every status interval, even while the
+   * application processes the messages it read, and {@link
+   * org.postgresql.replication.PGReplicationStream#forceUpdateStatus()} returns without waiting for
+   * the network.
+   *
+   * @param asyncStatusUpdates true to send the status packets from a background thread
+   * @return not null fluent
+   */
+  T withAsyncStatusUpdates(boolean asyncStatusUpdates);
 }
@@ -38,4 +38,12 @@ public interface CommonOptions {
   int getStatusInterval();
 
   boolean getAutomaticFlush();
+
+  /**
+   * Specifies whether the status packets are sent by a background thread, so the thread that reads
+   * the stream never waits for them. The default is false.
+   *
+   * @return true if the status packets are sent by a background thread
+   */
+  boolean getAsyncStatusUpdates();
 }
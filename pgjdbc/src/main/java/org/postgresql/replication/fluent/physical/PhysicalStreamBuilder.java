@@ -55,4 +55,9 @@ public int getStatusInterval() {
   public boolean getAutomaticFlush() {
     return automaticFlush;
   }
+
+  @Override
+  public boolean getAsyncStatusUpdates() {
+    return asyncStatusUpdates;
+  }
 }
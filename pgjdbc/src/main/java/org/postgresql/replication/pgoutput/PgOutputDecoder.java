@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.replication.pgoutput;
+
+import org.postgresql.util.GT;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes the messages of the {@code pgoutput} logical decoding plugin, as returned by
+ * {@link org.postgresql.replication.PGReplicationStream#read()} or
+ * {@link org.postgresql.replication.PGReplicationStream#readBatch(int)} for a stream started with
+ * the {@code proto_version} and {@code publication_names} slot options.
+ *
+ * <p>The decoder returns the same {@link PgOutputMessage} for every message, as a view over the
+ * buffer: nothing is copied, and the strings and row values are only decoded when they are asked
+ * for. The tables are kept from the Relation messages, which the server sends before the first
+ * row of a table and after the table changes, so the row messages refer to them by OID.</p>
+ *
+ * <pre>
+ * PgOutputDecoder decoder = new PgOutputDecoder();
+ * ReplicationBatch batch = stream.readBatch(1000);
+ * for (int i = 0; i &lt; batch.size(); i++) {
+ *   PgOutputMessage message = decoder.decode(batch.getData(i));
+ *   if (message.getType() == PgOutputMessageType.INSERT) {
+ *     long id = message.getNewTuple().getLong(0);
+ *   }
+ * }
+ * </pre>
+ *
+ * <p>The decoder is not thread safe, and follows the state of one stream: use one decoder per
+ * stream.</p>
+ */
+public final class PgOutputDecoder {
+  private static final int INITIAL_RELATION_CAPACITY = 16;
+
+  private final Charset charset;
+  private final PgOutputMessage message;
+  private boolean streaming;
+
+  // Open addressing table of the relations by OID, OID 0 marks a free slot
+  private int[] relationOids = new int[INITIAL_RELATION_CAPACITY];
+  private @Nullable PgOutputRelation[] relations =
+      new PgOutputRelation[INITIAL_RELATION_CAPACITY];
+  private int relationCount;
+
+  /**
+   * Creates a decoder for a database in UTF-8.
+   */
+  public PgOutputDecoder() {
+    this(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Creates a decoder.
+   *
+   * @param charset encoding of the database, used for the names and the values in text format
+   */
+  public PgOutputDecoder(Charset charset) {
+    this.charset = charset;
+    this.message = new PgOutputMessage(charset);
+  }
+
+  /**
+   * Decodes a message. The buffer is not modified: the message is between its position and its
+   * limit.
+   *
+   * @param buffer the data of a message received from a stream with the pgoutput plugin
+   * @return the message, which is only valid until the next call
+   * @throws PSQLException if the message is not a valid pgoutput message, or refers to a table
+   *     without a Relation message before
+   */
+  public PgOutputMessage decode(ByteBuffer buffer) throws PSQLException {
+    int position = buffer.position();
+    byte code = buffer.get(position);
+    PgOutputMessageType type = PgOutputMessageType.fromCode(code);
+    if (type == null) {
+      throw new PSQLException(
+          GT.tr("Unexpected pgoutput message type: {0}", (char) code),
+          PSQLState.PROTOCOL_VIOLATION);
+    }
+    message.reset(type, buffer);
+    try {
+      decode(type, buffer, position + 1);
+    } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+      throw new PSQLException(
+          GT.tr("Invalid pgoutput message {0}", type),
+          PSQLState.PROTOCOL_VIOLATION, e);
+    }
+    return message;
+  }
+
+  private void decode(PgOutputMessageType type, ByteBuffer buffer, int position)
+      throws PSQLException {
+    switch (type) {
+      case BEGIN:
+        message.setLsn(buffer.getLong(position));
+        message.setTimestamp(buffer.getLong(position + 8));
+        message.setXid(buffer.getInt(position + 16));
+        break;
+      case COMMIT:
+        decodeCommit(buffer, position);
+        break;
+      case ORIGIN:
+        message.setLsn(buffer.getLong(position));
+        decodeName(buffer, position + 8);
+        break;
+      case RELATION:
+        decodeRelation(buffer, readStreamXid(buffer, position));
+        break;
+      case TYPE:
+        position = readStreamXid(buffer, position);
+        message.setOid(buffer.getInt(position));
+        position = decodeName(buffer, position + 4);
+        int nameLength = stringLength(buffer, position);
+        message.setSecondName(position, nameLength);
+        break;
+      case INSERT:
+        position = readRelation(buffer, readStreamXid(buffer, position));
+        expectTupleType(buffer, position, 'N');
+        message.wrapNewTuple(position + 1);
+        break;
+      case UPDATE:
+        position = readRelation(buffer, readStreamXid(buffer, position));
+        byte tupleType = buffer.get(position);
+        if (tupleType == 'K' || tupleType == 'O') {
+          position = message.wrapOldTuple((char) tupleType, position + 1);
+        }
+        expectTupleType(buffer, position, 'N');
+        message.wrapNewTuple(position + 1);
+        break;
+      case DELETE:
+        position = readRelation(buffer, readStreamXid(buffer, position));
+        byte oldTupleType = buffer.get(position);
+        if (oldTupleType != 'K' && oldTupleType != 'O') {
+          expectTupleType(buffer, position, 'O');
+        }
+        message.wrapOldTuple((char) oldTupleType, position + 1);
+        break;
+      case TRUNCATE:
+        position = readStreamXid(buffer, position);
+        int count = buffer.getInt(position);
+        message.setFlags(buffer.get(position + 4) & 0xff);
+        position += 5;
+        for (int i = 0; i < count; i++) {
+          message.addTruncatedRelation(getKnownRelation(buffer.getInt(position)));
+          position += 4;
+        }
+        break;
+      case MESSAGE:
+        position = readStreamXid(buffer, position);
+        message.setFlags(buffer.get(position) & 0xff);
+        message.setLsn(buffer.getLong(position + 1));
+        position = decodeName(buffer, position + 9);
+        int contentLength = buffer.getInt(position);
+        if (contentLength < 0 || position + 4 + contentLength > buffer.limit()) {
+          throw new IllegalArgumentException("Content extends beyond the message");
+        }
+        message.setContent(position + 4, contentLength);
+        break;
+      case STREAM_START:
+        streaming = true;
+        message.setXid(buffer.getInt(position));
+        message.setFlags(buffer.get(position + 4) & 0xff);
+        break;
+      case STREAM_STOP:
+        streaming = false;
+        break;
+      case STREAM_COMMIT:
+        message.setXid(buffer.getInt(position));
+        decodeCommit(buffer, position + 4);
+        break;
+      case STREAM_ABORT:
+        message.setXid(buffer.getInt(position));
+        message.setSubXid(buffer.getInt(position + 4));
+        // The position and the time of the abort are sent with parallel streaming only
+        if (buffer.limit() - (position + 8) >= 16) {
+          message.setLsn(buffer.getLong(position + 8));
+          message.setTimestamp(buffer.getLong(position + 16));
+        }
+        break;
+      default:
+        throw new IllegalStateException("Unhandled pgoutput message " + type);
+    }
+  }
+
+  private void decodeCommit(ByteBuffer buffer, int position) {
+    message.setFlags(buffer.get(position) & 0xff);
+    message.setLsn(buffer.getLong(position + 1));
+    message.setEndLsn(buffer.getLong(position + 9));
+    message.setTimestamp(buffer.getLong(position + 17));
+  }
+
+  /**
+   * Reads the transaction id that the messages of a streamed transaction start with.
+   */
+  private int readStreamXid(ByteBuffer buffer, int position) {
+    if (!streaming) {
+      return position;
+    }
+    message.setXid(buffer.getInt(position));
+    return position + 4;
+  }
+
+  private int decodeName(ByteBuffer buffer, int position) {
+    int length = stringLength(buffer, position);
+    message.setName(position, length);
+    return position + length + 1;
+  }
+
+  private void decodeRelation(ByteBuffer buffer, int position) {
+    int oid = buffer.getInt(position);
+    position += 4;
+    int length = stringLength(buffer, position);
+    String namespace = decodeString(buffer, position, length, charset);
+    position += length + 1;
+    length = stringLength(buffer, position);
+    String name = decodeString(buffer, position, length, charset);
+    position += length + 1;
+    char replicaIdentity = (char) buffer.get(position);
+    int columnCount = buffer.getShort(position + 1) & 0xffff;
+    position += 3;
+
+    String[] columnNames = new String[columnCount];
+    int[] columnTypes = new int[columnCount];
+    int[] columnTypeModifiers = new int[columnCount];
+    boolean[] keyColumns = new boolean[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      keyColumns[i] = (buffer.get(position) & 1) != 0;
+      position++;
+      length = stringLength(buffer, position);
+      columnNames[i] = decodeString(buffer, position, length, charset);
+      position += length + 1;
+      columnTypes[i] = buffer.getInt(position);
+      columnTypeModifiers[i] = buffer.getInt(position + 4);
+      position += 8;
+    }
+
+    PgOutputRelation relation = new PgOutputRelation(oid, namespace, name, replicaIdentity,
+        columnNames, columnTypes, columnTypeModifiers, keyColumns);
+    putRelation(relation);
+    message.setRelation(relation);
+  }
+
+  private int readRelation(ByteBuffer buffer, int position) throws PSQLException {
+    message.setRelation(getKnownRelation(buffer.getInt(position)));
+    return position + 4;
+  }
+
+  private static void expectTupleType(ByteBuffer buffer, int position, char expected) {
+    byte tupleType = buffer.get(position);
+    if (tupleType != expected) {
+      throw new IllegalArgumentException(
+          "Expected tuple type " + expected + " but got " + (char) tupleType);
+    }
+  }
+
+  /**
+   * Returns the table of an OID, as described by the last Relation message for it.
+   *
+   * @param oid OID of the table
+   * @return the table, or null if no Relation message was decoded for this OID
+   */
+  public @Nullable PgOutputRelation getRelation(int oid) {
+    if (oid == 0) {
+      return null;
+    }
+    int mask = relationOids.length - 1;
+    for (int i = mix(oid) & mask; ; i = (i + 1) & mask) {
+      int slotOid = relationOids[i];
+      if (slotOid == oid) {
+        return relations[i];
+      }
+      if (slotOid == 0) {
+        return null;
+      }
+    }
+  }
+
+  private PgOutputRelation getKnownRelation(int oid) throws PSQLException {
+    PgOutputRelation relation = getRelation(oid);
+    if (relation == null) {
+      throw new PSQLException(
+          GT.tr("Received a change of the table with OID {0} without its Relation message",
+              Integer.toUnsignedString(oid)),
+          PSQLState.PROTOCOL_VIOLATION);
+    }
+    return relation;
+  }
+
+  private void putRelation(PgOutputRelation relation) {
+    if ((relationCount + 1) * 2 > relationOids.length) {
+      int[] oldOids = relationOids;
+      @Nullable PgOutputRelation[] oldRelations = relations;
+      relationOids = new int[oldOids.length * 2];
+      relations = new PgOutputRelation[oldOids.length * 2];
+      relationCount = 0;
+      for (int i = 0; i < oldOids.length; i++) {
+        PgOutputRelation oldRelation = oldRelations[i];
+        if (oldRelation != null) {
+          putRelation(oldRelation);
+        }
+      }
+    }
+    int oid = relation.getOid();
+    int mask = relationOids.length - 1;
+    int i = mix(oid) & mask;
+    while (relationOids[i] != 0 && relationOids[i] != oid) {
+      i = (i + 1) & mask;
+    }
+    if (relationOids[i] == 0) {
+      relationCount++;
+    }
+    relationOids[i] = oid;
+    relations[i] = relation;
+  }
+
+  private static int mix(int oid) {
+    // OIDs are often consecutive, spread them over the table
+    int h = oid * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Forgets the tables, for instance before the stream is restarted.
+   */
+  public void clear() {
+    relationOids = new int[INITIAL_RELATION_CAPACITY];
+    relations = new PgOutputRelation[INITIAL_RELATION_CAPACITY];
+    relationCount = 0;
+    streaming = false;
+  }
+
+  private static int stringLength(ByteBuffer buffer, int position) {
+    int limit = buffer.limit();
+    for (int i = position; i < limit; i++) {
+      if (buffer.get(i) == 0) {
+        return i - position;
+      }
+    }
+    throw new IllegalArgumentException("String is not terminated");
+  }
+
+  static String decodeString(ByteBuffer buffer, int offset, int length, Charset charset) {
+    if (buffer.hasArray()) {
+      return new String(buffer.array(), buffer.arrayOffset() + offset, length, charset);
+    }
+    byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = buffer.get(offset + i);
+    }
+    return new String(bytes, charset);
+  }
+}
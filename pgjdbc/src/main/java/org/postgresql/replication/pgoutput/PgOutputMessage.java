@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.replication.pgoutput;
+
+import static org.postgresql.util.internal.Nullness.castNonNull;
+
+import org.postgresql.core.v3.replication.V3PGReplicationStream;
+import org.postgresql.replication.LogSequenceNumber;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A message decoded by {@link PgOutputDecoder}. This is a view over the buffer of the message,
+ * reused by the decoder: it is only valid until the next message is decoded.
+ *
+ * <p>The fixed-size fields are decoded with the message, the strings and the values of the rows
+ * only when a getter is called. Each getter documents the messages it applies to, and returns 0,
+ * null or an empty value for the other messages.</p>
+ */
+public final class PgOutputMessage {
+  private final Charset charset;
+  private final PgOutputTuple oldTuple;
+  private final PgOutputTuple newTuple;
+
+  private @Nullable PgOutputMessageType type;
+  private @Nullable ByteBuffer buffer;
+  private int xid;
+  private long lsn;
+  private long endLsn;
+  private long timestamp;
+  private int flags;
+  private @Nullable PgOutputRelation relation;
+  private char oldTupleKind;
+  private boolean hasNewTuple;
+  private int nameOffset;
+  private int nameLength;
+  private int secondNameOffset;
+  private int secondNameLength;
+  private int oid;
+  private int contentOffset;
+  private int contentLength;
+  private @Nullable PgOutputRelation[] relations = new PgOutputRelation[4];
+  private int relationCount;
+  private int subXid;
+
+  PgOutputMessage(Charset charset) {
+    this.charset = charset;
+    this.oldTuple = new PgOutputTuple(charset);
+    this.newTuple = new PgOutputTuple(charset);
+  }
+
+  void reset(PgOutputMessageType type, ByteBuffer buffer) {
+    this.type = type;
+    this.buffer = buffer;
+    xid = 0;
+    lsn = 0;
+    endLsn = 0;
+    timestamp = 0;
+    flags = 0;
+    relation = null;
+    oldTupleKind = 0;
+    hasNewTuple = false;
+    nameLength = -1;
+    secondNameLength = -1;
+    oid = 0;
+    contentLength = -1;
+    relationCount = 0;
+    subXid = 0;
+  }
+
+  void setXid(int xid) {
+    this.xid = xid;
+  }
+
+  void setLsn(long lsn) {
+    this.lsn = lsn;
+  }
+
+  void setEndLsn(long endLsn) {
+    this.endLsn = endLsn;
+  }
+
+  void setTimestamp(long timestamp) {
+    this.timestamp = timestamp;
+  }
+
+  void setFlags(int flags) {
+    this.flags = flags;
+  }
+
+  void setRelation(PgOutputRelation relation) {
+    this.relation = relation;
+  }
+
+  void setName(int offset, int length) {
+    nameOffset = offset;
+    nameLength = length;
+  }
+
+  void setSecondName(int offset, int length) {
+    secondNameOffset = offset;
+    secondNameLength = length;
+  }
+
+  void setOid(int oid) {
+    this.oid = oid;
+  }
+
+  void setContent(int offset, int length) {
+    contentOffset = offset;
+    contentLength = length;
+  }
+
+  void setSubXid(int subXid) {
+    this.subXid = subXid;
+  }
+
+  int wrapOldTuple(char kind, int position) {
+    oldTupleKind = kind;
+    return oldTuple.wrap(castNonNull(buffer), position);
+  }
+
+  int wrapNewTuple(int position) {
+    hasNewTuple = true;
+    return newTuple.wrap(castNonNull(buffer), position);
+  }
+
+  void addTruncatedRelation(PgOutputRelation relation) {
+    if (relationCount == relations.length) {
+      relations = Arrays.copyOf(relations, relationCount * 2);
+    }
+    relations[relationCount++] = relation;
+  }
+
+  /**
+   * @return the type of the message
+   */
+  public PgOutputMessageType getType() {
+    return castNonNull(type);
+  }
+
+  /**
+   * Returns the transaction of the message: for Begin, Stream Start, Stream Commit and Stream
+   * Abort, and for the messages of a streamed transaction, that are sent between Stream Start and
+   * Stream Stop.
+   *
+   * @return the transaction id, or 0 if the message has none
+   */
+  public int getXid() {
+    return xid;
+  }
+
+  /**
+   * Returns the position of the message: the final position of the transaction for Begin, the
+   * position of the commit for Commit and Stream Commit, the position of the commit on the origin
+   * server for Origin, the position of the message for Message, the position of the abort for
+   * Stream Abort with parallel streaming.
+   *
+   * @return NOT NULL position, {@link LogSequenceNumber#INVALID_LSN} if the message has none
+   */
+  public LogSequenceNumber getLSN() {
+    return LogSequenceNumber.valueOf(lsn);
+  }
+
+  /**
+   * Returns the end position of the transaction, for Commit and Stream Commit.
+   *
+   * @return NOT NULL position, {@link LogSequenceNumber#INVALID_LSN} if the message has none
+   */
+  public LogSequenceNumber getEndLSN() {
+    return LogSequenceNumber.valueOf(endLsn);
+  }
+
+  /**
+   * Returns the commit time for Begin, Commit and Stream Commit, the abort time for Stream Abort
+   * with parallel streaming, in microseconds since 2000-01-01 like the server.
+   *
+   * @return the time in microseconds since 2000-01-01 UTC
+   */
+  public long getTimestampMicros() {
+    return timestamp;
+  }
+
+  /**
+   * Returns {@link #getTimestampMicros()} as an {@link Instant}.
+   *
+   * @return the commit or abort time
+   */
+  public Instant getTimestamp() {
+    long seconds = Math.floorDiv(timestamp, 1000000L);
+    long micros = Math.floorMod(timestamp, 1000000L);
+    return Instant.ofEpochSecond(
+        TimeUnit.MILLISECONDS.toSeconds(V3PGReplicationStream.POSTGRES_EPOCH_2000_01_01) + seconds,
+        micros * 1000);
+  }
+
+  /**
+   * @return the flags of Commit, Stream Commit and Message
+   */
+  public int getFlags() {
+    return flags;
+  }
+
+  /**
+   * Returns the table of Relation, Insert, Update and Delete.
+   *
+   * @return the table, or null for the other messages
+   */
+  public @Nullable PgOutputRelation getRelation() {
+    return relation;
+  }
+
+  /**
+   * Returns the kind of the old row of Update and Delete: {@code 'K'} if the row only has the
+   * columns of the replica identity, the others being null, {@code 'O'} if it has all the columns.
+   *
+   * @return {@code 'K'}, {@code 'O'}, or 0 if the message has no old row
+   */
+  public char getOldTupleKind() {
+    return oldTupleKind;
+  }
+
+  /**
+   * Returns the old row of Update and Delete. An Update only has it when the replica identity
+   * changed, or with {@code REPLICA IDENTITY FULL}.
+   *
+   * @return the old row, or null if the message has none
+   */
+  public @Nullable PgOutputTuple getOldTuple() {
+    return oldTupleKind != 0 ? oldTuple : null;
+  }
+
+  /**
+   * Returns the new row of Insert and Update.
+   *
+   * @return the new row, or null if the message has none
+   */
+  public @Nullable PgOutputTuple getNewTuple() {
+    return hasNewTuple ? newTuple : null;
+  }
+
+  /**
+   * Returns the name of the origin for Origin, the prefix for Message, the schema for Type.
+   *
+   * @return the name, or null for the other messages
+   */
+  public @Nullable String getName() {
+    return nameLength < 0 ? null
+        : PgOutputDecoder.decodeString(castNonNull(buffer), nameOffset, nameLength, charset);
+  }
+
+  /**
+   * Returns the name of the type, for Type.
+   *
+   * @return the name of the type, or null for the other messages
+   */
+  public @Nullable String getTypeName() {
+    return secondNameLength < 0 ? null
+        : PgOutputDecoder.decodeString(castNonNull(buffer), secondNameOffset, secondNameLength,
+            charset);
+  }
+
+  /**
+   * @return the OID of the type, for Type
+   */
+  public int getTypeOid() {
+    return oid;
+  }
+
+  /**
+   * @return true if the Message was written in a transaction
+   */
+  public boolean isTransactional() {
+    return type == PgOutputMessageType.MESSAGE && (flags & 1) != 0;
+  }
+
+  /**
+   * Copies the content of Message.
+   *
+   * @return the content, or null for the other messages
+   */
+  public byte @Nullable [] getContent() {
+    if (contentLength < 0) {
+      return null;
+    }
+    byte[] content = new byte[contentLength];
+    ByteBuffer buffer = castNonNull(this.buffer);
+    for (int i = 0; i < contentLength; i++) {
+      content[i] = buffer.get(contentOffset + i);
+    }
+    return content;
+  }
+
+  /**
+   * @return the number of tables of Truncate
+   */
+  public int getTruncatedRelationCount() {
+    return relationCount;
+  }
+
+  /**
+   * @param index index of the table, starting at 0
+   * @return a table of Truncate
+   */
+  public PgOutputRelation getTruncatedRelation(int index) {
+    if (index < 0 || index >= relationCount) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + relationCount);
+    }
+    return castNonNull(relations[index]);
+  }
+
+  /**
+   * @return true if Truncate was executed with {@code CASCADE}
+   */
+  public boolean isTruncateCascade() {
+    return type == PgOutputMessageType.TRUNCATE && (flags & 1) != 0;
+  }
+
+  /**
+   * @return true if Truncate was executed with {@code RESTART IDENTITY}
+   */
+  public boolean isTruncateRestartIdentity() {
+    return type == PgOutputMessageType.TRUNCATE && (flags & 2) != 0;
+  }
+
+  /**
+   * @return true if Stream Start begins the first segment of the transaction
+   */
+  public boolean isFirstSegment() {
+    return type == PgOutputMessageType.STREAM_START && flags == 1;
+  }
+
+  /**
+   * @return the aborted subtransaction of Stream Abort, which is the transaction itself if the
+   *     whole transaction was aborted
+   */
+  public int getSubXid() {
+    return subXid;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder().append(type);
+    if (xid != 0) {
+      sb.append(" xid=").append(Integer.toUnsignedLong(xid));
+    }
+    if (relation != null) {
+      sb.append(' ').append(relation);
+    }
+    if (oldTupleKind != 0) {
+      sb.append(" old").append(oldTupleKind).append('=').append(oldTuple);
+    }
+    if (hasNewTuple) {
+      sb.append(" new=").append(newTuple);
+    }
+    return sb.toString();
+  }
+}
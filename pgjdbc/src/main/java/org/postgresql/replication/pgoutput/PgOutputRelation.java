@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.replication.pgoutput;
+
+/**
+ * A table as described by the last Relation message for its OID. {@link PgOutputDecoder} keeps
+ * the relations, so the row messages refer to them without decoding the names again.
+ */
+public final class PgOutputRelation {
+  /**
+   * The replica identity is the primary key.
+   */
+  public static final char REPLICA_IDENTITY_DEFAULT = 'd';
+  /**
+   * The table has no replica identity, so the old row is never sent.
+   */
+  public static final char REPLICA_IDENTITY_NOTHING = 'n';
+  /**
+   * The old row is sent with all its columns.
+   */
+  public static final char REPLICA_IDENTITY_FULL = 'f';
+  /**
+   * The replica identity is an index.
+   */
+  public static final char REPLICA_IDENTITY_INDEX = 'i';
+
+  private final int oid;
+  private final String namespace;
+  private final String name;
+  private final char replicaIdentity;
+  private final String[] columnNames;
+  private final int[] columnTypes;
+  private final int[] columnTypeModifiers;
+  private final boolean[] keyColumns;
+
+  PgOutputRelation(int oid, String namespace, String name, char replicaIdentity,
+      String[] columnNames, int[] columnTypes, int[] columnTypeModifiers, boolean[] keyColumns) {
+    this.oid = oid;
+    this.namespace = namespace;
+    this.name = name;
+    this.replicaIdentity = replicaIdentity;
+    this.columnNames = columnNames;
+    this.columnTypes = columnTypes;
+    this.columnTypeModifiers = columnTypeModifiers;
+    this.keyColumns = keyColumns;
+  }
+
+  /**
+   * @return the OID of the table
+   */
+  public int getOid() {
+    return oid;
+  }
+
+  /**
+   * @return the schema of the table, an empty string for {@code pg_catalog}
+   */
+  public String getNamespace() {
+    return namespace;
+  }
+
+  /**
+   * @return the name of the table
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * @return the replica identity setting, one of the {@code REPLICA_IDENTITY_*} constants
+   */
+  public char getReplicaIdentity() {
+    return replicaIdentity;
+  }
+
+  /**
+   * @return the number of columns, which is the number of columns of the rows of this table
+   */
+  public int getColumnCount() {
+    return columnNames.length;
+  }
+
+  /**
+   * @param column index of the column, starting at 0
+   * @return the name of the column
+   */
+  public String getColumnName(int column) {
+    return columnNames[column];
+  }
+
+  /**
+   * @param column index of the column, starting at 0
+   * @return the OID of the type of the column
+   */
+  public int getColumnType(int column) {
+    return columnTypes[column];
+  }
+
+  /**
+   * @param column index of the column, starting at 0
+   * @return the type modifier of the column, -1 if it has none
+   */
+  public int getColumnTypeModifier(int column) {
+    return columnTypeModifiers[column];
+  }
+
+  /**
+   * @param column index of the column, starting at 0
+   * @return true if the column is part of the replica identity
+   */
+  public boolean isKeyColumn(int column) {
+    return keyColumns[column];
+  }
+
+  /**
+   * @param columnName name of the column
+   * @return the index of the column, or -1 if the table has no such column
+   */
+  public int findColumn(String columnName) {
+    for (int i = 0; i < columnNames.length; i++) {
+      if (columnNames[i].equals(columnName)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public String toString() {
+    return namespace.isEmpty() ? name : namespace + "." + name;
+  }
+}
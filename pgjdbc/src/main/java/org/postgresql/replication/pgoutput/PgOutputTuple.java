@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.replication.pgoutput;
+
+import static org.postgresql.util.internal.Nullness.castNonNull;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * The columns of a row of an Insert, Update or Delete message. This is a view over the buffer of
+ * the message, reused by {@link PgOutputDecoder}: it is only valid until the next message is
+ * decoded.
+ *
+ * <p>Only the positions of the values are found when the message is decoded. A value is converted
+ * when one of the getters is called, and only {@link #getString(int)} and {@link #getBytes(int)}
+ * allocate.</p>
+ *
+ * <p>Values are in text format, unless the publication was subscribed with the {@code binary}
+ * option, in which case columns whose type has a binary send function are in binary format.</p>
+ */
+public final class PgOutputTuple {
+  /**
+   * The value is null.
+   */
+  public static final char NULL = 'n';
+  /**
+   * The value is a TOASTed value that did not change, so it was not sent.
+   */
+  public static final char UNCHANGED_TOAST = 'u';
+  /**
+   * The value is in text format.
+   */
+  public static final char TEXT = 't';
+  /**
+   * The value is in binary format.
+   */
+  public static final char BINARY = 'b';
+
+  private final Charset charset;
+  private @Nullable ByteBuffer buffer;
+  private int columnCount;
+  private byte[] kinds = new byte[16];
+  private int[] offsets = new int[16];
+  private int[] lengths = new int[16];
+
+  PgOutputTuple(Charset charset) {
+    this.charset = charset;
+  }
+
+  /**
+   * Finds the values of a TupleData structure.
+   *
+   * @param buffer the message
+   * @param position index of the TupleData structure in the buffer
+   * @return the index after the TupleData structure
+   * @throws IllegalArgumentException if a column has an unknown kind
+   */
+  int wrap(ByteBuffer buffer, int position) {
+    this.buffer = buffer;
+    int count = buffer.getShort(position) & 0xffff;
+    position += 2;
+    if (count > kinds.length) {
+      int capacity = Math.max(count, kinds.length * 2);
+      kinds = Arrays.copyOf(kinds, capacity);
+      offsets = Arrays.copyOf(offsets, capacity);
+      lengths = Arrays.copyOf(lengths, capacity);
+    }
+    for (int i = 0; i < count; i++) {
+      byte kind = buffer.get(position++);
+      kinds[i] = kind;
+      switch (kind) {
+        case NULL:
+        case UNCHANGED_TOAST:
+          offsets[i] = position;
+          lengths[i] = -1;
+          break;
+        case TEXT:
+        case BINARY:
+          int length = buffer.getInt(position);
+          position += 4;
+          offsets[i] = position;
+          lengths[i] = length;
+          position += length;
+          break;
+        default:
+          throw new IllegalArgumentException("Unexpected kind of column data: " + (char) kind);
+      }
+    }
+    if (position > buffer.limit()) {
+      throw new IllegalArgumentException("Column data extends beyond the message");
+    }
+    columnCount = count;
+    return position;
+  }
+
+  /**
+   * @return the number of columns
+   */
+  public int getColumnCount() {
+    return columnCount;
+  }
+
+  /**
+   * @param column index of the column, starting at 0
+   * @return the kind of the value: {@link #NULL}, {@link #UNCHANGED_TOAST}, {@link #TEXT} or
+   *     {@link #BINARY}
+   */
+  public char getKind(int column) {
+    checkColumn(column);
+    return (char) kinds[column];
+  }
+
+  /**
+   * @param column index of the column, starting at 0
+   * @return true if the value is null
+   */
+  public boolean isNull(int column) {
+    return getKind(column) == NULL;
+  }
+
+  /**
+   * @param column index of the column, starting at 0
+   * @return true if the value is an unchanged TOASTed value, which is not sent
+   */
+  public boolean isUnchangedToast(int column) {
+    return getKind(column) == UNCHANGED_TOAST;
+  }
+
+  /**
+   * Returns the buffer of the message, to read a value in place with {@link #getOffset(int)} and
+   * {@link #getLength(int)}.
+   *
+   * @return the buffer of the message
+   */
+  public ByteBuffer getBuffer() {
+    return castNonNull(buffer);
+  }
+
+  /**
+   * @param column index of the column, starting at 0
+   * @return the index of the value in {@link #getBuffer()}
+   */
+  public int getOffset(int column) {
+    checkColumn(column);
+    return offsets[column];
+  }
+
+  /**
+   * @param column index of the column, starting at 0
+   * @return the length of the value in bytes, -1 if the value is null or unchanged
+   */
+  public int getLength(int column) {
+    checkColumn(column);
+    return lengths[column];
+  }
+
+  /**
+   * Decodes a value in text format.
+   *
+   * @param column index of the column, starting at 0
+   * @return the value, or null if it is null or unchanged
+   */
+  public @Nullable String getString(int column) {
+    int length = getLength(column);
+    if (length < 0) {
+      return null;
+    }
+    return PgOutputDecoder.decodeString(castNonNull(buffer), offsets[column], length, charset);
+  }
+
+  /**
+   * Copies a value.
+   *
+   * @param column index of the column, starting at 0
+   * @return the bytes of the value, or null if it is null or unchanged
+   */
+  public byte @Nullable [] getBytes(int column) {
+    int length = getLength(column);
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    ByteBuffer buffer = castNonNull(this.buffer);
+    int offset = offsets[column];
+    for (int i = 0; i < length; i++) {
+      bytes[i] = buffer.get(offset + i);
+    }
+    return bytes;
+  }
+
+  /**
+   * Decodes an integer value without allocating: an integer in text format, or an {@code int2},
+   * {@code int4} or {@code int8} in binary format.
+   *
+   * @param column index of the column, starting at 0
+   * @return the value
+   * @throws IllegalStateException if the value is null or unchanged
+   * @throws NumberFormatException if the value is not an integer
+   */
+  public long getLong(int column) {
+    int length = checkValue(column);
+    ByteBuffer buffer = castNonNull(this.buffer);
+    int offset = offsets[column];
+    if (kinds[column] == BINARY) {
+      switch (length) {
+        case 2:
+          return buffer.getShort(offset);
+        case 4:
+          return buffer.getInt(offset);
+        case 8:
+          return buffer.getLong(offset);
+        default:
+          throw new NumberFormatException(
+              "Binary value of " + length + " bytes is not an integer");
+      }
+    }
+    int end = offset + length;
+    boolean negative = length > 0 && buffer.get(offset) == '-';
+    int i = negative || (length > 0 && buffer.get(offset) == '+') ? offset + 1 : offset;
+    if (i == end) {
+      throw new NumberFormatException("Value of column " + column + " is not an integer");
+    }
+    // Accumulate negatively, so Long.MIN_VALUE does not overflow
+    long result = 0;
+    for (; i < end; i++) {
+      int digit = buffer.get(i) - '0';
+      if (digit < 0 || digit > 9 || result < (Long.MIN_VALUE + digit) / 10) {
+        throw new NumberFormatException("Value of column " + column + " is not a long");
+      }
+      result = result * 10 - digit;
+    }
+    if (!negative) {
+      if (result == Long.MIN_VALUE) {
+        throw new NumberFormatException("Value of column " + column + " is not a long");
+      }
+      result = -result;
+    }
+    return result;
+  }
+
+  /**
+   * Decodes an integer value without allocating, see {@link #getLong(int)}.
+   *
+   * @param column index of the column, starting at 0
+   * @return the value
+   * @throws IllegalStateException if the value is null or unchanged
+   * @throws NumberFormatException if the value is not an integer or is out of range
+   */
+  public int getInt(int column) {
+    long value = getLong(column);
+    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+      throw new NumberFormatException("Value of column " + column + " is not an int");
+    }
+    return (int) value;
+  }
+
+  /**
+   * Decodes a {@code boolean} value without allocating.
+   *
+   * @param column index of the column, starting at 0
+   * @return the value
+   * @throws IllegalStateException if the value is null or unchanged
+   */
+  public boolean getBoolean(int column) {
+    int length = checkValue(column);
+    byte first = length > 0 ? castNonNull(buffer).get(offsets[column]) : 0;
+    // 't' in text format, 1 in binary format
+    return first == 't' || first == 1;
+  }
+
+  /**
+   * Decodes a floating point value: a number in text format, or a {@code float4} or
+   * {@code float8} in binary format. The text format is parsed from a String.
+   *
+   * @param column index of the column, starting at 0
+   * @return the value
+   * @throws IllegalStateException if the value is null or unchanged
+   * @throws NumberFormatException if the value is not a number
+   */
+  public double getDouble(int column) {
+    int length = checkValue(column);
+    ByteBuffer buffer = castNonNull(this.buffer);
+    if (kinds[column] == BINARY) {
+      switch (length) {
+        case 4:
+          return buffer.getFloat(offsets[column]);
+        case 8:
+          return buffer.getDouble(offsets[column]);
+        default:
+          throw new NumberFormatException(
+              "Binary value of " + length + " bytes is not a floating point number");
+      }
+    }
+    return Double.parseDouble(castNonNull(getString(column)));
+  }
+
+  private int checkValue(int column) {
+    int length = getLength(column);
+    if (length < 0) {
+      throw new IllegalStateException("Column " + column
+          + (kinds[column] == NULL ? " is null" : " is an unchanged TOAST value"));
+    }
+    return length;
+  }
+
+  private void checkColumn(int column) {
+    if (column < 0 || column >= columnCount) {
+      throw new IndexOutOfBoundsException("Column: " + column + ", columns: " + columnCount);
+    }
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("(");
+    for (int i = 0; i < columnCount; i++) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      switch (kinds[i]) {
+        case NULL:
+          sb.append("null");
+          break;
+        case UNCHANGED_TOAST:
+          sb.append("unchanged");
+          break;
+        case BINARY:
+          sb.append("binary(").append(lengths[i]).append(')');
+          break;
+        default:
+          sb.append(getString(i));
+          break;
+      }
+    }
+    return sb.append(')').toString();
+  }
+}
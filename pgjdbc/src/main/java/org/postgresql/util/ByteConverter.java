@@ -381,12 +381,156 @@ public static Number numeric(byte [] bytes, int pos, int numBytes) {
     return new BigDecimal(unscaledBI, scale);
   }
 
+  /**
+   * Decodes a binary numeric into a {@link MutableDecimal} without allocations. The scale of the
+   * result is the scale sent by the server, unless the unscaled value would not fit in a long
+   * that way; then trailing zeros are dropped and the scale is smaller.
+   *
+   * @param bytes array of bytes to be decoded from binary numeric representation.
+   * @param pos index of the start position of the bytes array for number
+   * @param numBytes number of bytes to use
+   * @param target the holder to store the value into
+   * @return true if the value was decoded, false if it has more significant digits than fit in a
+   *     long, then {@link #numeric(byte[], int, int)} must be used
+   */
+  public static boolean numeric(byte[] bytes, int pos, int numBytes, MutableDecimal target) {
+    if (numBytes < 8) {
+      throw new IllegalArgumentException("number of bytes should be at-least 8");
+    }
+    int len = ByteConverter.int2(bytes, pos) & 0xFFFF;
+    int weight = ByteConverter.int2(bytes, pos + 2);
+    short sign = ByteConverter.int2(bytes, pos + 4);
+    int scale = ByteConverter.int2(bytes, pos + 6);
+
+    if (numBytes != (len * SHORT_BYTES + 8)) {
+      throw new IllegalArgumentException("invalid length of bytes \"numeric\" value");
+    }
+    switch (sign) {
+      case NUMERIC_POS:
+      case NUMERIC_NEG:
+        break;
+      case NUMERIC_NAN:
+        target.setNaN();
+        return true;
+      case NUMERIC_PINF:
+        target.setInfinity(false);
+        return true;
+      case NUMERIC_NINF:
+        target.setInfinity(true);
+        return true;
+      default:
+        throw new IllegalArgumentException("invalid sign in \"numeric\" value");
+    }
+    if ((scale & NUMERIC_DSCALE_MASK) != scale) {
+      throw new IllegalArgumentException("invalid scale in \"numeric\" value");
+    }
+
+    long unscaled = 0;
+    //the power of ten of the last digit of the current group in the unscaled value
+    int power = 4 * weight + scale + 4;
+    int idx = pos + 8;
+    for (int i = 0; i < len; i++, idx += 2) {
+      power -= 4;
+      int d = ByteConverter.int2(bytes, idx);
+      int multiplier = 10000;
+      if (power < 0) {
+        if (power <= -4) {
+          //the group is after the scale
+          power = 0;
+          break;
+        }
+        //the group ends after the scale, its last digits are not significant
+        multiplier = INT_TEN_POWERS[4 + power];
+        d /= INT_TEN_POWERS[-power];
+      }
+      if (unscaled > (Long.MAX_VALUE - d) / multiplier) {
+        return false;
+      }
+      unscaled = unscaled * multiplier + d;
+      if (power < 0) {
+        power = 0;
+        break;
+      }
+    }
+    if (len > 0 && power > 0) {
+      //the value has trailing zeros before the last digit of the scale
+      if (power < LONG_TEN_POWERS.length && unscaled <= Long.MAX_VALUE / LONG_TEN_POWERS[power]) {
+        unscaled *= LONG_TEN_POWERS[power];
+      } else {
+        scale -= power;
+      }
+    }
+    target.set(sign == NUMERIC_NEG ? -unscaled : unscaled, scale);
+    return true;
+  }
+
   /**
    * Converts a non-null {@link BigDecimal} to binary format for {@link org.postgresql.core.Oid#NUMERIC}.
    * @param nbr The instance to represent in binary.
    * @return The binary representation of <i>nbr</i>.
    */
   public static byte[] numeric(BigDecimal nbr) {
+    int scale = nbr.scale();
+    if (scale >= 0) {
+      BigInteger unscaledValue = nbr.unscaledValue();
+      if (unscaledValue.bitLength() < 63) {
+        return numeric(unscaledValue.longValue(), scale);
+      }
+    }
+    return numericFromBigInteger(nbr);
+  }
+
+  /**
+   * Converts a decimal value given as unscaled value and scale to binary format for
+   * {@link org.postgresql.core.Oid#NUMERIC}, without going through {@link BigInteger}.
+   *
+   * @param unscaledValue the unscaled value
+   * @param scale the number of digits after the decimal point
+   * @return The binary representation of {@code unscaledValue × 10^-scale}.
+   */
+  public static byte[] numeric(long unscaledValue, int scale) {
+    if (scale < 0 || unscaledValue == Long.MIN_VALUE) {
+      return numericFromBigInteger(BigDecimal.valueOf(unscaledValue, scale));
+    }
+    if (unscaledValue == 0) {
+      final byte[] bytes = new byte[]{0, 0, -1, -1, 0, 0, 0, 0};
+      ByteConverter.int2(bytes, 6, scale);
+      return bytes;
+    }
+    long value = Math.abs(unscaledValue);
+    //the groups of 4 digits are aligned at the decimal point, so the last group is padded with
+    //zeros when the scale is not a multiple of 4
+    int fractionGroups = (scale + 3) / 4;
+    int padding = fractionGroups * 4 - scale;
+    //least significant group first, 19 digits and 3 digits of padding need at most 6 groups
+    final short[] groups = new short[6];
+    int count = 0;
+    groups[count++] = (short) (value % INT_TEN_POWERS[4 - padding] * INT_TEN_POWERS[padding]);
+    value /= INT_TEN_POWERS[4 - padding];
+    while (value != 0) {
+      groups[count++] = (short) (value % 10000);
+      value /= 10000;
+    }
+    //trailing zero groups are implied by the weight and the scale
+    int last = 0;
+    while (groups[last] == 0) {
+      last++;
+    }
+
+    final byte[] bytes = new byte[8 + (2 * (count - last))];
+    ByteConverter.int2(bytes, 0, count - last);
+    ByteConverter.int2(bytes, 2, count - 1 - fractionGroups);
+    ByteConverter.int2(bytes, 4, unscaledValue < 0 ? NUMERIC_NEG : NUMERIC_POS);
+    ByteConverter.int2(bytes, 6, scale);
+    int idx = 8;
+    for (int i = count - 1; i >= last; i--) {
+      ByteConverter.int2(bytes, idx, groups[i]);
+      idx += 2;
+    }
+    return bytes;
+  }
+
+  private static byte[] numericFromBigInteger(BigDecimal nbr) {
     final PositiveShorts shorts = new PositiveShorts();
     BigInteger unscaled = nbr.unscaledValue().abs();
     int scale = nbr.scale();
@@ -9,6 +9,7 @@
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.net.InetAddress;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.regex.Matcher;
@@ -23,15 +24,32 @@ public class HostSpec {
   protected final @Nullable String localSocketAddress;
   protected final String host;
   protected final int port;
+  protected final @Nullable InetAddress address;
 
   public HostSpec(String host, int port) {
     this(host, port, null);
   }
 
   public HostSpec(String host, int port, @Nullable String localSocketAddress) {
+    this(host, port, localSocketAddress, null);
+  }
+
+  /**
+   * Creates a host spec that connects to the given address of the host. The host name is still
+   * used for SSL host name verification and authentication, and the address is not part of
+   * {@link #equals(Object)}, so the status of the host is tracked per host name.
+   *
+   * @param host host name
+   * @param port port
+   * @param localSocketAddress local address to bind the socket to, or null
+   * @param address address to connect to, or null to resolve the host name on connect
+   */
+  public HostSpec(String host, int port, @Nullable String localSocketAddress,
+      @Nullable InetAddress address) {
     this.host = host;
     this.port = port;
     this.localSocketAddress = localSocketAddress;
+    this.address = address;
   }
 
   public String getHost() {
@@ -62,6 +80,15 @@ public int hashCode() {
     return localSocketAddress;
   }
 
+  /**
+   * Returns the address to connect to, or null if the host name is resolved on connect.
+   *
+   * @return the address to connect to, or null
+   */
+  public @Nullable InetAddress getAddress() {
+    return address;
+  }
+
   public Boolean shouldResolve() {
     String socksProxy = System.getProperty("socksProxyHost");
     if (socksProxy == null || socksProxy.trim().isEmpty()) {
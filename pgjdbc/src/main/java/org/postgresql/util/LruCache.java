@@ -5,6 +5,8 @@
 
 package org.postgresql.util;
 
+import org.postgresql.jdbc.ResourceLock;
+
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.sql.SQLException;
@@ -42,6 +44,8 @@
   private final long maxSizeBytes;
   private long currentSize;
   private final Map<Key, Value> cache;
+  // Not synchronized, so a virtual thread waiting for the cache does not pin its carrier
+  private final ResourceLock lock = new ResourceLock();
 
   private class LimitedMap extends LinkedHashMap<Key, Value> {
     LimitedMap(int initialCapacity, float loadFactor, boolean accessOrder) {
@@ -107,7 +111,7 @@ public LruCache(int maxSizeEntries, long maxSizeBytes, boolean accessOrder,
   @Override
   public @Nullable Value get(Key key) {
     Map<Key, Value> cache = this.cache;
-    synchronized (cache) {
+    try (ResourceLock ignore = lock.obtain()) {
       return cache.get(key);
     }
   }
@@ -121,7 +125,7 @@ public LruCache(int maxSizeEntries, long maxSizeBytes, boolean accessOrder,
    */
   public Value borrow(Key key) throws SQLException {
     Map<Key, Value> cache = this.cache;
-    synchronized (cache) {
+    try (ResourceLock ignore = lock.obtain()) {
       Value value = cache.remove(key);
       if (value == null) {
         if (createAction == null) {
@@ -142,7 +146,7 @@ public Value borrow(Key key) throws SQLException {
    */
   public void put(Key key, Value value) {
     Map<Key, Value> cache = this.cache;
-    synchronized (cache) {
+    try (ResourceLock ignore = lock.obtain()) {
       long valueSize = value.getSize();
       if (maxSizeBytes == 0 || maxSizeEntries == 0 || valueSize * 2 > maxSizeBytes) {
         // Just destroy the value if cache is disabled or if entry would consume more than a half of
@@ -169,8 +173,7 @@ public void put(Key key, Value value) {
    * @param m The map containing entries to put into the cache
    */
   public void putAll(Map<Key, Value> m) {
-    Map<Key, Value> cache = this.cache;
-    synchronized (cache) {
+    try (ResourceLock ignore = lock.obtain()) {
       for (Map.Entry<Key, Value> entry : m.entrySet()) {
         this.put(entry.getKey(), entry.getValue());
       }
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.util;
+
+import java.math.BigDecimal;
+
+/**
+ * A reusable holder for a {@code numeric} value whose unscaled value fits in a {@code long}. The
+ * value is {@code unscaledValue × 10^-scale}, as with {@link BigDecimal}, or one of the special
+ * values {@code NaN}, {@code Infinity} and {@code -Infinity}.
+ *
+ * <p>{@link ByteConverter#numeric(byte[], int, int, MutableDecimal)} and
+ * {@link NumberParser#getFastDecimal(byte[], int, int, MutableDecimal)} decode into an existing
+ * instance, so reading numbers in a loop does not allocate. The conversions to primitives follow
+ * the rules of {@link BigDecimal} for finite values and of {@link Double} for the special
+ * values.</p>
+ *
+ * <p>Instances are not thread-safe.</p>
+ */
+public final class MutableDecimal extends Number {
+  private static final long serialVersionUID = 1L;
+
+  private static final byte FINITE = 0;
+  private static final byte NAN = 1;
+  private static final byte POSITIVE_INFINITY = 2;
+  private static final byte NEGATIVE_INFINITY = 3;
+
+  /**
+   * Integers up to 2^53 and powers of ten up to 10^22 are exact doubles, so a single division or
+   * multiplication of the two is correctly rounded.
+   */
+  private static final long MAX_EXACT_DOUBLE = 1L << 53;
+  private static final double[] DOUBLE_TEN_POWERS = new double[23];
+  private static final long MAX_EXACT_FLOAT = 1L << 24;
+  private static final float[] FLOAT_TEN_POWERS = new float[11];
+  private static final long[] LONG_TEN_POWERS = new long[19];
+
+  static {
+    for (int i = 0; i < DOUBLE_TEN_POWERS.length; i++) {
+      DOUBLE_TEN_POWERS[i] = Double.parseDouble("1e" + i);
+    }
+    for (int i = 0; i < FLOAT_TEN_POWERS.length; i++) {
+      FLOAT_TEN_POWERS[i] = Float.parseFloat("1e" + i);
+    }
+    long power = 1;
+    for (int i = 0; i < LONG_TEN_POWERS.length; i++) {
+      LONG_TEN_POWERS[i] = power;
+      power *= 10;
+    }
+  }
+
+  private long unscaledValue;
+  private int scale;
+  private byte kind;
+
+  /**
+   * Creates a holder with the value zero.
+   */
+  public MutableDecimal() {
+  }
+
+  /**
+   * Sets a finite value.
+   *
+   * @param unscaledValue the unscaled value
+   * @param scale the number of digits after the decimal point, negative to multiply by a power of
+   *     ten
+   * @return this instance
+   */
+  public MutableDecimal set(long unscaledValue, int scale) {
+    this.unscaledValue = unscaledValue;
+    this.scale = scale;
+    this.kind = FINITE;
+    return this;
+  }
+
+  /**
+   * Sets the value to {@code NaN}.
+   *
+   * @return this instance
+   */
+  public MutableDecimal setNaN() {
+    return setSpecial(NAN);
+  }
+
+  /**
+   * Sets the value to {@code Infinity} or {@code -Infinity}.
+   *
+   * @param negative true for {@code -Infinity}
+   * @return this instance
+   */
+  public MutableDecimal setInfinity(boolean negative) {
+    return setSpecial(negative ? NEGATIVE_INFINITY : POSITIVE_INFINITY);
+  }
+
+  private MutableDecimal setSpecial(byte kind) {
+    this.unscaledValue = 0;
+    this.scale = 0;
+    this.kind = kind;
+    return this;
+  }
+
+  /**
+   * Returns the unscaled value. It is zero for the special values.
+   *
+   * @return the unscaled value
+   */
+  public long getUnscaledValue() {
+    return unscaledValue;
+  }
+
+  /**
+   * Returns the scale. The decoders keep the scale of the value as sent by the server when the
+   * unscaled value fits in a {@code long}, otherwise they drop trailing zeros, so the scale may be
+   * smaller or even negative.
+   *
+   * @return the scale, zero for the special values
+   */
+  public int getScale() {
+    return scale;
+  }
+
+  /**
+   * Tells whether the value is neither {@code NaN} nor infinite.
+   *
+   * @return true if the value is finite
+   */
+  public boolean isFinite() {
+    return kind == FINITE;
+  }
+
+  /**
+   * Tells whether the value is {@code NaN}.
+   *
+   * @return true if the value is {@code NaN}
+   */
+  public boolean isNaN() {
+    return kind == NAN;
+  }
+
+  /**
+   * Tells whether the value is {@code Infinity} or {@code -Infinity}.
+   *
+   * @return true if the value is infinite
+   */
+  public boolean isInfinite() {
+    return kind == POSITIVE_INFINITY || kind == NEGATIVE_INFINITY;
+  }
+
+  /**
+   * Returns the integer part of the value like {@link BigDecimal#longValue()}: the fraction is
+   * discarded and only the low-order 64 bits are kept if the result does not fit in a long.
+   * {@code NaN} converts to zero and the infinities to {@link Long#MAX_VALUE} and
+   * {@link Long#MIN_VALUE}, as a cast of a double does.
+   *
+   * @return the value as long
+   */
+  @Override
+  public long longValue() {
+    switch (kind) {
+      case NAN:
+        return 0;
+      case POSITIVE_INFINITY:
+        return Long.MAX_VALUE;
+      case NEGATIVE_INFINITY:
+        return Long.MIN_VALUE;
+      default:
+        break;
+    }
+    if (scale >= 0) {
+      // |unscaledValue| < 10^19, so larger scales leave nothing of the integer part
+      return scale < LONG_TEN_POWERS.length ? unscaledValue / LONG_TEN_POWERS[scale] : 0;
+    }
+    // Multiplication that wraps around keeps the low-order bits, as BigDecimal does
+    long val = unscaledValue;
+    for (int i = -scale; i > 0; i -= LONG_TEN_POWERS.length - 1) {
+      val *= LONG_TEN_POWERS[Math.min(i, LONG_TEN_POWERS.length - 1)];
+    }
+    return val;
+  }
+
+  @Override
+  public int intValue() {
+    return (int) longValue();
+  }
+
+  @Override
+  public float floatValue() {
+    switch (kind) {
+      case NAN:
+        return Float.NaN;
+      case POSITIVE_INFINITY:
+        return Float.POSITIVE_INFINITY;
+      case NEGATIVE_INFINITY:
+        return Float.NEGATIVE_INFINITY;
+      default:
+        break;
+    }
+    if (Math.abs(unscaledValue) <= MAX_EXACT_FLOAT && Math.abs(scale) < FLOAT_TEN_POWERS.length) {
+      return scale >= 0
+          ? unscaledValue / FLOAT_TEN_POWERS[scale]
+          : unscaledValue * FLOAT_TEN_POWERS[-scale];
+    }
+    return toBigDecimal().floatValue();
+  }
+
+  @Override
+  public double doubleValue() {
+    switch (kind) {
+      case NAN:
+        return Double.NaN;
+      case POSITIVE_INFINITY:
+        return Double.POSITIVE_INFINITY;
+      case NEGATIVE_INFINITY:
+        return Double.NEGATIVE_INFINITY;
+      default:
+        break;
+    }
+    if (Math.abs(unscaledValue) <= MAX_EXACT_DOUBLE && Math.abs(scale) < DOUBLE_TEN_POWERS.length) {
+      return scale >= 0
+          ? unscaledValue / DOUBLE_TEN_POWERS[scale]
+          : unscaledValue * DOUBLE_TEN_POWERS[-scale];
+    }
+    return toBigDecimal().doubleValue();
+  }
+
+  /**
+   * Converts the value to a {@link BigDecimal}.
+   *
+   * @return the value as BigDecimal
+   * @throws ArithmeticException if the value is {@code NaN} or infinite
+   */
+  public BigDecimal toBigDecimal() {
+    if (kind != FINITE) {
+      throw new ArithmeticException(toString() + " cannot be represented as BigDecimal");
+    }
+    return BigDecimal.valueOf(unscaledValue, scale);
+  }
+
+  /**
+   * Returns the value in the text format of {@code numeric}.
+   *
+   * @return the value as string
+   */
+  @Override
+  public String toString() {
+    switch (kind) {
+      case NAN:
+        return "NaN";
+      case POSITIVE_INFINITY:
+        return "Infinity";
+      case NEGATIVE_INFINITY:
+        return "-Infinity";
+      default:
+        return toBigDecimal().toPlainString();
+    }
+  }
+}
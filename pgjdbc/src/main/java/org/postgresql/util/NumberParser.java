@@ -18,6 +18,7 @@ public Throwable fillInStackTrace() {
   };
 
   private static final long MIN_LONG_DIV_TEN = Long.MIN_VALUE / 10;
+  private static final long MAX_LONG_BEFORE_DIGIT = (Long.MAX_VALUE - 9) / 10;
 
   /**
    * Optimised byte[] to number parser. This code does not handle null values, so the caller must do
@@ -30,23 +31,41 @@ public Throwable fillInStackTrace() {
    *                               The value must then be parsed by another (less optimised) method.
    */
   public static long getFastLong(byte[] bytes, long minVal, long maxVal) throws NumberFormatException {
-    int len = bytes.length;
-    if (len == 0) {
+    return getFastLong(bytes, 0, bytes.length, minVal, maxVal);
+  }
+
+  /**
+   * Optimised byte[] to number parser that parses a part of the array. See
+   * {@link #getFastLong(byte[], long, long)}.
+   *
+   * @param bytes array that contains the integer represented as a sequence of ASCII bytes
+   * @param offset offset of the number in the array
+   * @param length length of the number in bytes
+   * @param minVal minimal allowed value
+   * @param maxVal maximal allowed value
+   * @return The parsed number.
+   * @throws NumberFormatException If the number is invalid or the out of range for fast parsing.
+   *                               The value must then be parsed by another (less optimised) method.
+   */
+  public static long getFastLong(byte[] bytes, int offset, int length, long minVal, long maxVal)
+      throws NumberFormatException {
+    int len = offset + length;
+    if (length == 0) {
       throw FAST_NUMBER_FAILED;
     }
 
-    boolean neg = bytes[0] == '-';
+    boolean neg = bytes[offset] == '-';
 
     // Accumulate the value as negative since abs(MIN_VALUE) > abs(MAX_VALUE), so every valid
     // input fits without overflow. Wrapped arithmetic on a positive accumulator would let
     // overlong inputs pass the overflow guard and parse to silently wrong values.
     long val = 0;
-    int start = neg ? 1 : 0;
+    int start = neg ? offset + 1 : offset;
     while (start < len) {
       byte b = bytes[start++];
       if (b < '0' || b > '9') {
         if (b == '.') {
-          if (neg && len == 2 || !neg && len == 1) {
+          if (neg && length == 2 || !neg && length == 1) {
             // we have to check that string is not "." or "-."
             throw FAST_NUMBER_FAILED;
           }
@@ -87,4 +106,50 @@ public static long getFastLong(byte[] bytes, long minVal, long maxVal) throws Nu
     }
     return val;
   }
+
+  /**
+   * Optimised byte[] to decimal parser, for the text format of {@code numeric} and the other
+   * numeric types. Exponents, {@code NaN}, the infinities and negative zero are rejected, so
+   * every parsed value converts to the same double as {@link Double#parseDouble(String)} gives.
+   *
+   * @param bytes array that contains the number represented as a sequence of ASCII bytes
+   * @param offset offset of the number in the array
+   * @param length length of the number in bytes
+   * @param target the holder to store the value into
+   * @return the target, for chaining
+   * @throws NumberFormatException If the number is invalid or the unscaled value does not fit in a
+   *                               long. The value must then be parsed by another (less optimised)
+   *                               method.
+   */
+  public static MutableDecimal getFastDecimal(byte[] bytes, int offset, int length,
+      MutableDecimal target) throws NumberFormatException {
+    int len = offset + length;
+    if (length == 0) {
+      throw FAST_NUMBER_FAILED;
+    }
+
+    boolean neg = bytes[offset] == '-';
+    long val = 0;
+    int point = -1;
+    boolean digits = false;
+    for (int i = neg ? offset + 1 : offset; i < len; i++) {
+      byte b = bytes[i];
+      if (b < '0' || b > '9') {
+        if (b != '.' || point >= 0) {
+          throw FAST_NUMBER_FAILED;
+        }
+        point = i;
+        continue;
+      }
+      if (val > MAX_LONG_BEFORE_DIGIT) {
+        throw FAST_NUMBER_FAILED;
+      }
+      val = val * 10 + (b - '0');
+      digits = true;
+    }
+    if (!digits || neg && val == 0) {
+      throw FAST_NUMBER_FAILED;
+    }
+    return target.set(neg ? -val : val, point < 0 ? 0 : len - point - 1);
+  }
 }
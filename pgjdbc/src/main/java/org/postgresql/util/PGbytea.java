@@ -46,25 +46,32 @@ public class PGbytea {
     if (s == null) {
       return null;
     }
+    return toBytes(s, 0, s.length);
+  }
 
+  /*
+   * Converts a range of a PG bytea raw value (i.e. the raw binary representation of the bytea
+   * data type) into a java byte[]
+   */
+  public static byte[] toBytes(byte[] s, int offset, int length) throws SQLException {
     // Starting with PG 9.0, a new hex format is supported
     // that starts with "\x". Figure out which format we're
     // dealing with here.
     //
-    if (s.length < 2 || s[0] != '\\' || s[1] != 'x') {
-      return toBytesOctalEscaped(s);
+    if (length < 2 || s[offset] != '\\' || s[offset + 1] != 'x') {
+      return toBytesOctalEscaped(s, offset, length);
     }
-    return toBytesHexEscaped(s);
+    return toBytesHexEscaped(s, offset, length);
   }
 
-  private static byte[] toBytesHexEscaped(byte[] s) {
+  private static byte[] toBytesHexEscaped(byte[] s, int offset, int length) {
     // first 2 bytes of s indicate the byte[] is hex encoded
     // so they need to be ignored here
-    final int realLength = s.length - 2;
+    final int realLength = length - 2;
     byte[] output = new byte[realLength >>> 1];
     for (int i = 0; i < realLength; i += 2) {
-      int val = getHex(s[2 + i]) << 4;
-      val |= getHex(s[3 + i]);
+      int val = getHex(s[offset + 2 + i]) << 4;
+      val |= getHex(s[offset + 3 + i]);
       output[i >>> 1] = (byte) val;
     }
     return output;
@@ -74,15 +81,15 @@ private static int getHex(byte b) {
     return HEX_VALS[b - '0'];
   }
 
-  private static byte[] toBytesOctalEscaped(byte[] s) {
-    final int slength = s.length;
+  private static byte[] toBytesOctalEscaped(byte[] s, int offset, int length) {
+    final int slength = offset + length;
     byte[] buf = null;
-    int correctSize = slength;
-    if (slength > MAX_3_BUFF_SIZE) {
+    int correctSize = length;
+    if (length > MAX_3_BUFF_SIZE) {
       // count backslash escapes, they will be either
       // backslashes or an octal escape \\ or \003
       //
-      for (int i = 0; i < slength; i++) {
+      for (int i = offset; i < slength; i++) {
         byte current = s[i];
         if (current == '\\') {
           byte next = s[++i];
@@ -95,13 +102,13 @@ private static byte[] toBytesOctalEscaped(byte[] s) {
       }
       buf = new byte[correctSize];
     } else {
-      buf = new byte[slength];
+      buf = new byte[length];
     }
     int bufpos = 0;
     int thebyte;
     byte nextbyte;
     byte secondbyte;
-    for (int i = 0; i < slength; i++) {
+    for (int i = offset; i < slength; i++) {
       nextbyte = s[i];
       if (nextbyte == (byte) '\\') {
         secondbyte = s[++i];
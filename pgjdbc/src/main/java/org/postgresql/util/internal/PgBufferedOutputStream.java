@@ -5,6 +5,7 @@
 
 package org.postgresql.util.internal;
 
+import org.postgresql.core.BufferAllocator;
 import org.postgresql.util.ByteConverter;
 import org.postgresql.util.GT;
 
@@ -21,10 +22,23 @@
  * This is an internal class, and it is not meant to be used as a public API.
  */
 public class PgBufferedOutputStream extends FilterOutputStream {
+  private static final byte[] EMPTY_BUFFER = new byte[0];
+
+  /**
+   * Supplies the buffer
+   */
+  private final BufferAllocator allocator;
+
+  /**
+   * The size of the buffer to request from the allocator
+   */
+  private final int bufferSize;
+
   /**
-   * Buffer for the data
+   * Buffer for the data. It is empty after {@link #releaseBuffer()}, and it is requested from the
+   * allocator on the next write.
    */
-  protected final byte[] buf;
+  protected byte[] buf;
 
   /**
    * Number of bytes stored in the buffer
@@ -32,8 +46,14 @@ public class PgBufferedOutputStream extends FilterOutputStream {
   protected int count;
 
   public PgBufferedOutputStream(OutputStream out, int bufferSize) {
+    this(out, bufferSize, BufferAllocator.HEAP);
+  }
+
+  public PgBufferedOutputStream(OutputStream out, int bufferSize, BufferAllocator allocator) {
     super(out);
-    buf = new byte[bufferSize];
+    this.allocator = allocator;
+    this.bufferSize = bufferSize;
+    buf = allocator.allocate(bufferSize);
   }
 
   protected void flushBuffer() throws IOException {
@@ -41,6 +61,25 @@ protected void flushBuffer() throws IOException {
       out.write(buf, 0, count);
       count = 0;
     }
+    if (buf.length == 0) {
+      buf = allocator.allocate(bufferSize);
+    }
+  }
+
+  /**
+   * Returns the buffer to the allocator if it does not contain unflushed bytes. The next write
+   * requests a new buffer from the allocator.
+   *
+   * @return true if the buffer was released
+   */
+  public boolean releaseBuffer() {
+    if (count != 0 || buf.length == 0) {
+      return false;
+    }
+    byte[] buf = this.buf;
+    this.buf = EMPTY_BUFFER;
+    allocator.release(buf);
+    return true;
   }
 
   @Override
@@ -50,20 +89,20 @@ public void flush() throws IOException {
   }
 
   public void writeInt2(int val) throws IOException {
-    byte[] buf = this.buf;
     if (buf.length - count < 2) {
       flushBuffer();
     }
+    byte[] buf = this.buf;
     int count = this.count;
     ByteConverter.int2(buf, count, val);
     this.count = count + 2;
   }
 
   public void writeInt4(int val) throws IOException {
-    byte[] buf = this.buf;
     if (buf.length - count < 4) {
       flushBuffer();
     }
+    byte[] buf = this.buf;
     int count = this.count;
     ByteConverter.int4(buf, count, val);
     this.count = count + 4;
@@ -108,6 +147,9 @@ public void write(byte[] b, int off, int len) throws IOException {
     }
 
     // At this point, the buffer is empty
+    if (buf.length == 0) {
+      flushBuffer();
+    }
     if (len >= buf.length) {
       // Write big chunk
       // Sample tests to trigger the branch:
@@ -130,6 +172,9 @@ public void write(byte[] b, int off, int len) throws IOException {
    */
   public void write(InputStream inStream, int remaining) throws IOException {
     int expectedLength = remaining;
+    if (buf.length == 0) {
+      flushBuffer();
+    }
     byte[] buf = this.buf;
 
     while (remaining > 0) {
@@ -164,6 +209,9 @@ public void write(InputStream inStream, int remaining) throws IOException {
    * @throws IOException in case writing to the underlying stream fails
    */
   public void writeZeros(int len) throws IOException {
+    if (buf.length == 0) {
+      flushBuffer();
+    }
     int startPos = count;
     if (count > 0) {
       int avail = buf.length - count;
@@ -178,9 +226,10 @@ public void writeZeros(int len) throws IOException {
         return;
       }
     }
-    // The buffer is empty at this point, and startPos..buf.length is filled with zeros
-    // So fill the beginning with zeros as well.
-    Arrays.fill(buf, 0, Math.min(startPos, len), (byte) 0);
+    // The buffer is empty at this point. If it had data, startPos..buf.length is filled with
+    // zeros, so fill the beginning with zeros as well. Otherwise, the buffer may hold the bytes
+    // of earlier writes or of another stream of the allocator, so fill all the bytes we use.
+    Arrays.fill(buf, 0, Math.min(startPos == 0 ? buf.length : startPos, len), (byte) 0);
 
     while (len >= buf.length) {
       // Pretend we have the full buffer
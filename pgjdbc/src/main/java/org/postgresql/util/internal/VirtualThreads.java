@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.util.internal;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Creates virtual threads when the runtime supports them. The driver is compiled for Java 8, so
+ * {@code Thread.ofVirtual()} is looked up reflectively.
+ *
+ * <p>Note: this is a driver-internal class</p>
+ */
+public final class VirtualThreads {
+  // Thread.ofVirtual(), or null if virtual threads are not supported
+  private static final @Nullable MethodHandle OF_VIRTUAL;
+  // Thread.Builder.OfVirtual.name(String)
+  private static final @Nullable MethodHandle NAME;
+  // Thread.Builder.unstarted(Runnable)
+  private static final @Nullable MethodHandle UNSTARTED;
+
+  static {
+    MethodHandle ofVirtual = null;
+    MethodHandle name = null;
+    MethodHandle unstarted = null;
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+      Class<?> builder = Class.forName("java.lang.Thread$Builder");
+      Class<?> ofVirtualBuilder = Class.forName("java.lang.Thread$Builder$OfVirtual");
+      ofVirtual = lookup.findStatic(Thread.class, "ofVirtual",
+          MethodType.methodType(ofVirtualBuilder));
+      name = lookup.findVirtual(ofVirtualBuilder, "name",
+          MethodType.methodType(ofVirtualBuilder, String.class));
+      unstarted = lookup.findVirtual(builder, "unstarted",
+          MethodType.methodType(Thread.class, Runnable.class));
+      // Java 19 and 20 throw UnsupportedOperationException unless preview features are enabled
+      ofVirtual.invoke();
+    } catch (Throwable e) {
+      ofVirtual = null;
+    }
+    OF_VIRTUAL = ofVirtual;
+    NAME = name;
+    UNSTARTED = unstarted;
+  }
+
+  private VirtualThreads() {
+  }
+
+  /**
+   * Returns whether the runtime supports virtual threads.
+   *
+   * @return true if {@link #unstarted(String, Runnable)} can create virtual threads
+   */
+  public static boolean isSupported() {
+    return OF_VIRTUAL != null;
+  }
+
+  /**
+   * Creates a virtual thread which is not started yet.
+   *
+   * @param name the name of the thread
+   * @param task the task of the thread
+   * @return the virtual thread
+   * @throws UnsupportedOperationException if the runtime does not support virtual threads
+   */
+  public static Thread unstarted(String name, Runnable task) {
+    MethodHandle ofVirtual = OF_VIRTUAL;
+    if (ofVirtual == null || NAME == null || UNSTARTED == null) {
+      throw new UnsupportedOperationException("Virtual threads are not supported by this runtime");
+    }
+    try {
+      Object builder = NAME.invoke(ofVirtual.invoke(), name);
+      return (Thread) UNSTARTED.invoke(builder, task);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException("Unable to create a virtual thread", e);
+    }
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import org.postgresql.util.HostSpec;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Records the {@link DriverMetrics} events as Java Flight Recorder events in the
+ * {@code PostgreSQL JDBC} category.
+ *
+ * <p>The byte, message and statement cache counters are summed up and recorded with the next
+ * {@code org.postgresql.RoundTrip} event, so the traffic does not produce an event per message.
+ * Parse messages are recorded as {@code org.postgresql.Parse} events with the SQL, so the
+ * statements that are parsed over and over can be found.</p>
+ *
+ * <p>This is the Java 11+ implementation. It replaces the Java 8 implementation, which ignores the
+ * events, via the multi-release JAR mechanism.</p>
+ */
+public class JfrDriverMetrics implements DriverMetrics {
+  private long bytesSent;
+  private long bytesReceived;
+  private int parses;
+  private int binds;
+  private int executes;
+  private int cacheHits;
+  private int cacheMisses;
+
+  /**
+   * Creates the metrics of a connection.
+   */
+  public JfrDriverMetrics() {
+  }
+
+  @Override
+  public void connectionOpened(HostSpec hostSpec, long durationNanos) {
+    ConnectEvent event = new ConnectEvent();
+    if (event.isEnabled()) {
+      event.host = hostSpec.getHost();
+      event.port = hostSpec.getPort();
+      event.connectTime = durationNanos;
+      event.commit();
+    }
+  }
+
+  @Override
+  public void connectionFailed(HostSpec hostSpec, long durationNanos, Throwable cause) {
+    ConnectEvent event = new ConnectEvent();
+    if (event.isEnabled()) {
+      event.host = hostSpec.getHost();
+      event.port = hostSpec.getPort();
+      event.connectTime = durationNanos;
+      event.failure = String.valueOf(cause);
+      event.commit();
+    }
+  }
+
+  @Override
+  public void roundTrip(long durationNanos) {
+    RoundTripEvent event = new RoundTripEvent();
+    if (event.isEnabled()) {
+      event.waitTime = durationNanos;
+      event.bytesSent = bytesSent;
+      event.bytesReceived = bytesReceived;
+      event.parses = parses;
+      event.binds = binds;
+      event.executes = executes;
+      event.cacheHits = cacheHits;
+      event.cacheMisses = cacheMisses;
+      event.commit();
+    }
+    bytesSent = 0;
+    bytesReceived = 0;
+    parses = 0;
+    binds = 0;
+    executes = 0;
+    cacheHits = 0;
+    cacheMisses = 0;
+  }
+
+  @Override
+  public void bytesSent(int bytes) {
+    bytesSent += bytes;
+  }
+
+  @Override
+  public void bytesReceived(int bytes) {
+    bytesReceived += bytes;
+  }
+
+  @Override
+  public void parseSent(String sql) {
+    parses++;
+    ParseEvent event = new ParseEvent();
+    if (event.isEnabled()) {
+      event.sql = sql;
+      event.commit();
+    }
+  }
+
+  @Override
+  public void bindSent(String sql) {
+    binds++;
+  }
+
+  @Override
+  public void executeSent(String sql) {
+    executes++;
+  }
+
+  @Override
+  public void statementCacheLookup(boolean hit) {
+    if (hit) {
+      cacheHits++;
+    } else {
+      cacheMisses++;
+    }
+  }
+
+  @Override
+  public void cancelSent() {
+    new CancelEvent().commit();
+  }
+
+  @Override
+  public void copyCompleted(long rowCount, long durationNanos) {
+    CopyEvent event = new CopyEvent();
+    if (event.isEnabled()) {
+      event.rowCount = rowCount;
+      event.copyTime = durationNanos;
+      event.commit();
+    }
+  }
+
+  @Name("org.postgresql.Connect")
+  @Label("Connection Attempt")
+  @Category("PostgreSQL JDBC")
+  @Description("Establishing a connection, including the authentication and the session startup")
+  @StackTrace(false)
+  static final class ConnectEvent extends Event {
+    @Label("Host")
+    @Nullable String host;
+
+    @Label("Port")
+    int port;
+
+    @Label("Connect Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long connectTime;
+
+    @Label("Failure")
+    @Nullable String failure;
+  }
+
+  @Name("org.postgresql.RoundTrip")
+  @Label("Round Trip")
+  @Category("PostgreSQL JDBC")
+  @Description("Waiting for and processing the responses of the server, with the traffic since "
+      + "the previous round trip")
+  @StackTrace(false)
+  static final class RoundTripEvent extends Event {
+    @Label("Wait Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long waitTime;
+
+    @Label("Bytes Sent")
+    @DataAmount
+    long bytesSent;
+
+    @Label("Bytes Received")
+    @DataAmount
+    long bytesReceived;
+
+    @Label("Parse Messages")
+    int parses;
+
+    @Label("Bind Messages")
+    int binds;
+
+    @Label("Execute Messages")
+    int executes;
+
+    @Label("Statement Cache Hits")
+    int cacheHits;
+
+    @Label("Statement Cache Misses")
+    int cacheMisses;
+  }
+
+  @Name("org.postgresql.Parse")
+  @Label("Parse")
+  @Category("PostgreSQL JDBC")
+  @Description("A statement was sent to the server for parsing and planning")
+  static final class ParseEvent extends Event {
+    @Label("SQL")
+    @Nullable String sql;
+  }
+
+  @Name("org.postgresql.Cancel")
+  @Label("Cancel Request")
+  @Category("PostgreSQL JDBC")
+  static final class CancelEvent extends Event {
+  }
+
+  @Name("org.postgresql.Copy")
+  @Label("Copy")
+  @Category("PostgreSQL JDBC")
+  @StackTrace(false)
+  static final class CopyEvent extends Event {
+    @Label("Row Count")
+    long rowCount;
+
+    @Label("Copy Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long copyTime;
+  }
+}
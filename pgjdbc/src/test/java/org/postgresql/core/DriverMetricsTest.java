@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.test.TestUtil;
+import org.postgresql.util.HostSpec;
+import org.postgresql.util.PSQLState;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+class DriverMetricsTest {
+  private static final String SQL = "SELECT ?::int4 AS driver_metrics_test";
+  private static final String NATIVE_SQL = "SELECT $1::int4 AS driver_metrics_test";
+
+  /**
+   * Records the events of the last connection it was created for.
+   */
+  public static class RecordingDriverMetrics implements DriverMetrics {
+    static final AtomicReference<RecordingDriverMetrics> LAST = new AtomicReference<>();
+
+    final AtomicInteger connectionsOpened = new AtomicInteger();
+    final AtomicInteger roundTrips = new AtomicInteger();
+    final AtomicLong roundTripNanos = new AtomicLong();
+    final AtomicLong bytesSent = new AtomicLong();
+    final AtomicLong bytesReceived = new AtomicLong();
+    final Map<String, AtomicInteger> parses = new ConcurrentHashMap<>();
+    final Map<String, AtomicInteger> binds = new ConcurrentHashMap<>();
+    final Map<String, AtomicInteger> executes = new ConcurrentHashMap<>();
+    final AtomicInteger cacheHits = new AtomicInteger();
+    final AtomicInteger cacheMisses = new AtomicInteger();
+    final AtomicInteger cancels = new AtomicInteger();
+    final AtomicLong copyRows = new AtomicLong(-2);
+
+    public RecordingDriverMetrics() {
+      LAST.set(this);
+    }
+
+    @Override
+    public void connectionOpened(HostSpec hostSpec, long durationNanos) {
+      connectionsOpened.incrementAndGet();
+    }
+
+    @Override
+    public void roundTrip(long durationNanos) {
+      roundTrips.incrementAndGet();
+      roundTripNanos.addAndGet(durationNanos);
+    }
+
+    @Override
+    public void bytesSent(int bytes) {
+      bytesSent.addAndGet(bytes);
+    }
+
+    @Override
+    public void bytesReceived(int bytes) {
+      bytesReceived.addAndGet(bytes);
+    }
+
+    @Override
+    public void parseSent(String sql) {
+      parses.computeIfAbsent(sql, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    @Override
+    public void bindSent(String sql) {
+      binds.computeIfAbsent(sql, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    @Override
+    public void executeSent(String sql) {
+      executes.computeIfAbsent(sql, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    @Override
+    public void statementCacheLookup(boolean hit) {
+      (hit ? cacheHits : cacheMisses).incrementAndGet();
+    }
+
+    @Override
+    public void cancelSent() {
+      cancels.incrementAndGet();
+    }
+
+    @Override
+    public void copyCompleted(long rowCount, long durationNanos) {
+      copyRows.set(rowCount);
+    }
+
+    static int count(Map<String, AtomicInteger> counts, String sql) {
+      AtomicInteger count = counts.get(sql);
+      return count == null ? 0 : count.get();
+    }
+  }
+
+  private static Connection openDB() throws Exception {
+    Properties props = new Properties();
+    PGProperty.DRIVER_METRICS.set(props, RecordingDriverMetrics.class.getName());
+    return TestUtil.openDB(props);
+  }
+
+  private static int query(Connection con, int value) throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(SQL)) {
+      ps.setInt(1, value);
+      try (ResultSet rs = ps.executeQuery()) {
+        rs.next();
+        return rs.getInt(1);
+      }
+    }
+  }
+
+  @Test
+  void recordsProtocolEvents() throws Exception {
+    try (Connection con = openDB()) {
+      RecordingDriverMetrics metrics = RecordingDriverMetrics.LAST.get();
+      assertNotNull(metrics, "driverMetrics should be instantiated");
+      assertEquals(1, metrics.connectionsOpened.get());
+      long bytesSent = metrics.bytesSent.get();
+      long bytesReceived = metrics.bytesReceived.get();
+      assertTrue(bytesSent > 0, "startup bytes should be sent");
+      assertTrue(bytesReceived > 0, "startup bytes should be received");
+
+      int misses = metrics.cacheMisses.get();
+      assertEquals(1, query(con, 1));
+      assertEquals(1, RecordingDriverMetrics.count(metrics.parses, NATIVE_SQL));
+      assertEquals(1, RecordingDriverMetrics.count(metrics.binds, NATIVE_SQL));
+      assertEquals(1, RecordingDriverMetrics.count(metrics.executes, NATIVE_SQL));
+      assertEquals(misses + 1, metrics.cacheMisses.get(), "the first prepare should miss");
+      assertTrue(metrics.roundTrips.get() > 0, "the query should wait for the server");
+      assertTrue(metrics.roundTripNanos.get() > 0, "the round trips should take time");
+      assertTrue(metrics.bytesSent.get() > bytesSent, "the query should be sent");
+      assertTrue(metrics.bytesReceived.get() > bytesReceived, "the result should be received");
+
+      int hits = metrics.cacheHits.get();
+      assertEquals(2, query(con, 2));
+      assertEquals(hits + 1, metrics.cacheHits.get(), "the second prepare should hit the cache");
+      assertEquals(2, RecordingDriverMetrics.count(metrics.binds, NATIVE_SQL));
+      assertEquals(2, RecordingDriverMetrics.count(metrics.executes, NATIVE_SQL));
+    }
+  }
+
+  @Test
+  void recordsCopyAndCancel() throws Exception {
+    try (Connection con = openDB()) {
+      RecordingDriverMetrics metrics = RecordingDriverMetrics.LAST.get();
+      assertNotNull(metrics, "driverMetrics should be instantiated");
+      TestUtil.createTempTable(con, "driver_metrics_copy", "a int4");
+      long rows = con.unwrap(PGConnection.class).getCopyAPI()
+          .copyIn("COPY driver_metrics_copy FROM STDIN", new StringReader("1\n2\n3\n"));
+      assertEquals(3, rows);
+      assertEquals(3, metrics.copyRows.get());
+
+      try (Statement st = con.createStatement()) {
+        st.setQueryTimeout(1);
+        SQLException e = assertThrows(SQLException.class, () -> st.execute("SELECT pg_sleep(10)"));
+        assertEquals(PSQLState.QUERY_CANCELED.getState(), e.getSQLState());
+      }
+      // The timer thread reports the cancel request after sending it, possibly after the error
+      for (int i = 0; i < 100 && metrics.cancels.get() == 0; i++) {
+        Thread.sleep(100);
+      }
+      assertEquals(1, metrics.cancels.get());
+    }
+  }
+}
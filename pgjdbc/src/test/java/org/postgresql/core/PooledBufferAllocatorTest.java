@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.util.internal.PgBufferedOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+class PooledBufferAllocatorTest {
+  @Test
+  void roundsUpToPowerOfTwo() {
+    PooledBufferAllocator allocator = new PooledBufferAllocator(1 << 20);
+    assertEquals(PooledBufferAllocator.MIN_BUFFER_SIZE, allocator.allocate(1).length);
+    assertEquals(8192, allocator.allocate(8192).length);
+    assertEquals(16384, allocator.allocate(8193).length);
+  }
+
+  @Test
+  void reusesReleasedBuffers() {
+    PooledBufferAllocator allocator = new PooledBufferAllocator(1 << 20);
+    byte[] buffer = allocator.allocate(8000);
+    allocator.release(buffer);
+    assertEquals(8192, allocator.getPooledBytes());
+    assertSame(buffer, allocator.allocate(5000), "released buffer should be reused");
+    assertEquals(0, allocator.getPooledBytes());
+    assertNotSame(buffer, allocator.allocate(5000), "the pool is empty");
+  }
+
+  @Test
+  void retainsUpToMaxPoolSize() {
+    PooledBufferAllocator allocator = new PooledBufferAllocator(16384);
+    allocator.release(allocator.allocate(8192));
+    allocator.release(allocator.allocate(16384));
+    assertEquals(8192, allocator.getPooledBytes(),
+        "the second buffer exceeds maxPoolSize, so it should not be retained");
+    allocator.release(allocator.allocate(8192 + 1));
+    allocator.release(new byte[8192]);
+    assertEquals(16384, allocator.getPooledBytes());
+  }
+
+  @Test
+  void ignoresForeignBuffers() {
+    PooledBufferAllocator allocator = new PooledBufferAllocator(1 << 20);
+    allocator.release(new byte[1000]);
+    allocator.release(new byte[PooledBufferAllocator.MAX_POOLED_BUFFER_SIZE * 2]);
+    assertEquals(0, allocator.getPooledBytes());
+  }
+
+  @Test
+  void inputStreamReacquiresReleasedBuffer() throws IOException {
+    PooledBufferAllocator allocator = new PooledBufferAllocator(1 << 20);
+    VisibleBufferedInputStream in =
+        new VisibleBufferedInputStream(new ByteArrayInputStream(new byte[]{1, 2, 3}), 8192,
+            allocator);
+    assertEquals(1, in.read());
+    assertFalse(in.releaseBuffer(), "the buffer has unread bytes");
+    assertEquals(2, in.read());
+    assertEquals(3, in.read());
+    assertTrue(in.releaseBuffer(), "the buffer is drained");
+    assertEquals(8192, allocator.getPooledBytes());
+    assertEquals(-1, in.read());
+    assertEquals(0, allocator.getPooledBytes(), "read should take the buffer from the pool");
+  }
+
+  @Test
+  void outputStreamReacquiresReleasedBuffer() throws IOException {
+    PooledBufferAllocator allocator = new PooledBufferAllocator(1 << 20);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    PgBufferedOutputStream out = new PgBufferedOutputStream(bytes, 8192, allocator);
+    out.writeInt2(1);
+    assertFalse(out.releaseBuffer(), "the buffer has unflushed bytes");
+    out.flush();
+    assertTrue(out.releaseBuffer());
+    assertEquals(8192, allocator.getPooledBytes());
+    out.writeInt4(2);
+    out.write(new byte[]{3});
+    out.flush();
+    assertTrue(out.releaseBuffer());
+    out.writeZeros(2);
+    out.flush();
+    assertArrayEquals(new byte[]{0, 1, 0, 0, 0, 2, 3, 0, 0}, bytes.toByteArray());
+  }
+
+  @Test
+  void writeZerosClearsReusedBuffer() throws IOException {
+    PooledBufferAllocator allocator = new PooledBufferAllocator(1 << 20);
+    byte[] dirty = allocator.allocate(8192);
+    Arrays.fill(dirty, (byte) 0xff);
+    allocator.release(dirty);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    PgBufferedOutputStream out = new PgBufferedOutputStream(bytes, 8192, allocator);
+    out.writeZeros(8192 + 3);
+    out.write(0xca);
+    out.flush();
+    byte[] expected = new byte[8192 + 4];
+    expected[8192 + 3] = (byte) 0xca;
+    assertArrayEquals(expected, bytes.toByteArray(), "the pooled bytes should not be sent");
+
+    bytes.reset();
+    out.write(new byte[]{1, 2, 3});
+    out.flush();
+    out.writeZeros(2);
+    out.flush();
+    assertArrayEquals(new byte[]{1, 2, 3, 0, 0}, bytes.toByteArray(),
+        "the bytes of the earlier writes should not be sent");
+  }
+}
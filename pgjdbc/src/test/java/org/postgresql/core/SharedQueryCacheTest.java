@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGProperty;
+import org.postgresql.jdbc.EscapeSyntaxCallMode;
+import org.postgresql.test.TestUtil;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+class SharedQueryCacheTest {
+  private static SharedQueryCache.Key key(String sql) {
+    return new SharedQueryCache.Key(sql, true, true, false, false, 0, null);
+  }
+
+  private static SharedQueryCache.ParsedQuery parse(String sql) throws SQLException {
+    List<NativeQuery> queries = Parser.parseJdbcSql(sql, true, true, true, false, false);
+    return new SharedQueryCache.ParsedQuery(Collections.unmodifiableList(queries), false);
+  }
+
+  @Test
+  void returnsCachedParseResult() throws SQLException {
+    SharedQueryCache cache = new SharedQueryCache(1 << 20);
+    String sql = "select * from t where a = ? and b = ?";
+    assertNull(cache.get(key(sql)));
+    SharedQueryCache.ParsedQuery parsed = parse(sql);
+    cache.put(key(sql), parsed);
+    assertSame(parsed, cache.get(key(sql)));
+    assertEquals("select * from t where a = $1 and b = $2", parsed.queries.get(0).nativeSql);
+    assertTrue(cache.getSize() > 0);
+  }
+
+  @Test
+  void keyIncludesParserSettings() {
+    String sql = "select 1";
+    SharedQueryCache.Key base = key(sql);
+    assertEquals(base, key(sql));
+    assertNotEquals(base, new SharedQueryCache.Key(sql, false, true, false, false, 0, null),
+        "standard_conforming_strings affects parsing");
+    assertNotEquals(base, new SharedQueryCache.Key(sql, true, false, false, false, 0, null));
+    assertNotEquals(base, new SharedQueryCache.Key(sql, true, true, true, false, 0, null));
+    assertNotEquals(base, new SharedQueryCache.Key(sql, true, true, false, true, 0, null));
+    assertNotEquals(base, new SharedQueryCache.Key(new CallableQueryKey(sql), true, true, false,
+        false, 170000, EscapeSyntaxCallMode.SELECT));
+  }
+
+  @Test
+  void evictsWhenFull() throws SQLException {
+    SharedQueryCache cache = new SharedQueryCache(64 * 1024);
+    for (int i = 0; i < 10000; i++) {
+      String sql = "select " + i + " from t where a = ?";
+      cache.put(key(sql), parse(sql));
+    }
+    assertTrue(cache.getSize() <= cache.getMaxSize(),
+        "size " + cache.getSize() + " should not exceed " + cache.getMaxSize());
+    assertTrue(cache.getSize() > cache.getMaxSize() / 2,
+        "size " + cache.getSize() + " should be close to " + cache.getMaxSize());
+  }
+
+  @Test
+  void sharedAcrossConnections() throws SQLException {
+    Properties props = new Properties();
+    // A size no other test uses, so the cache is not shared with other tests
+    PGProperty.SHARED_QUERY_CACHE_SIZE_MIB.set(props, 3);
+    SharedQueryCache cache = SharedQueryCache.getShared(3L * 1024 * 1024);
+    String sql = "select ?::int4 + 1 /* SharedQueryCacheTest */";
+    try (Connection first = TestUtil.openDB(props);
+         Connection second = TestUtil.openDB(props)) {
+      assertEquals(2, addOne(first, sql, 1));
+      long size = cache.getSize();
+      assertTrue(size > 0, "the parse result should be cached");
+      assertEquals(3, addOne(second, sql, 2));
+      assertEquals(size, cache.getSize(), "the second connection should reuse the parse result");
+    }
+  }
+
+  private static int addOne(Connection con, String sql, int value) throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(sql)) {
+      ps.setInt(1, value);
+      try (ResultSet rs = ps.executeQuery()) {
+        assertTrue(rs.next());
+        return rs.getInt(1);
+      }
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+class TupleTest {
+  private static Tuple bufferTuple() {
+    byte[] buffer = "abcde".getBytes(StandardCharsets.US_ASCII);
+    // "ab", null, "", "cde"
+    int[] bounds = {0, 2, 2, -1, 2, 0, 2, 3};
+    return new Tuple(buffer, bounds);
+  }
+
+  @Test
+  void bufferBackedValues() {
+    Tuple tuple = bufferTuple();
+    assertEquals(4, tuple.fieldCount());
+    assertEquals(5, tuple.length());
+
+    assertArrayEquals("ab".getBytes(StandardCharsets.US_ASCII), tuple.get(0));
+    assertNull(tuple.get(1));
+    assertArrayEquals(new byte[0], tuple.get(2));
+    assertArrayEquals("cde".getBytes(StandardCharsets.US_ASCII), tuple.get(3));
+
+    assertFalse(tuple.isNull(0));
+    assertTrue(tuple.isNull(1));
+    assertNull(tuple.getBackingArray(1));
+    assertEquals(-1, tuple.getLength(1));
+    assertEquals(2, tuple.getOffset(3));
+    assertEquals(3, tuple.getLength(3));
+  }
+
+  @Test
+  void bufferBackedValuesAreNotShared() {
+    Tuple tuple = bufferTuple();
+    byte[] value = tuple.get(0);
+    value[0] = 'x';
+    assertArrayEquals("ab".getBytes(StandardCharsets.US_ASCII), tuple.get(0),
+        "modification of the value returned by get must not modify the tuple");
+    assertSame(tuple.getBackingArray(0), tuple.getBackingArray(3),
+        "all the values should be backed by the same array");
+  }
+
+  @Test
+  void updateableCopy() {
+    Tuple tuple = bufferTuple();
+    assertThrows(IllegalArgumentException.class, () -> tuple.set(0, null));
+
+    Tuple copy = tuple.updateableCopy();
+    assertNotSame(tuple, copy);
+    copy.set(0, new byte[]{'z'});
+    assertArrayEquals(new byte[]{'z'}, copy.get(0));
+    assertNull(copy.get(1));
+    assertArrayEquals("cde".getBytes(StandardCharsets.US_ASCII), copy.get(3));
+    assertArrayEquals("ab".getBytes(StandardCharsets.US_ASCII), tuple.get(0));
+  }
+
+  @Test
+  void arrayBackedValues() {
+    byte[] value = {1, 2};
+    Tuple tuple = new Tuple(new byte[][]{value, null});
+    assertSame(value, tuple.get(0));
+    assertSame(value, tuple.getBackingArray(0));
+    assertEquals(0, tuple.getOffset(0));
+    assertEquals(2, tuple.getLength(0));
+    assertTrue(tuple.isNull(1));
+    assertEquals(2, tuple.length());
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core.v3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.core.DriverMetrics;
+import org.postgresql.core.QueryExecutor;
+import org.postgresql.hostchooser.CandidateHost;
+import org.postgresql.hostchooser.HostRequirement;
+import org.postgresql.hostchooser.HostStatus;
+import org.postgresql.util.HostSpec;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.ConnectException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.SocketFactory;
+
+class ConnectionRaceTest {
+  private static final HostSpec FIRST = new HostSpec("192.0.2.1", 5432);
+  private static final HostSpec SECOND = new HostSpec("192.0.2.2", 5432);
+
+  /**
+   * Connects after the given delay, or fails, and reports the given status.
+   */
+  private static class FakeConnector implements ConnectionRace.Connector {
+    final Map<HostSpec, Long> delays = new HashMap<>();
+    final Map<HostSpec, HostStatus> statuses = new HashMap<>();
+    final Map<HostSpec, IOException> failures = new HashMap<>();
+    final List<HostSpec> closed = new ArrayList<>();
+    final CountDownLatch closedLatch;
+
+    FakeConnector(int expectedCloses) {
+      closedLatch = new CountDownLatch(expectedCloses);
+    }
+
+    @Override
+    public QueryExecutor connect(HostSpec hostSpec, SocketFactory socketFactory,
+        DriverMetrics driverMetrics) throws IOException {
+      Long delay = delays.get(hostSpec);
+      if (delay != null) {
+        try {
+          Thread.sleep(delay);
+        } catch (InterruptedException e) {
+          throw new IOException(e);
+        }
+      }
+      IOException failure = failures.get(hostSpec);
+      if (failure != null) {
+        throw failure;
+      }
+      return (QueryExecutor) Proxy.newProxyInstance(getClass().getClassLoader(),
+          new Class<?>[]{QueryExecutor.class}, (proxy, method, args) -> {
+            if ("close".equals(method.getName())) {
+              synchronized (closed) {
+                closed.add(hostSpec);
+              }
+              closedLatch.countDown();
+            } else if ("toString".equals(method.getName())) {
+              return hostSpec.toString();
+            }
+            return null;
+          });
+    }
+
+    @Override
+    public HostStatus getHostStatus(QueryExecutor queryExecutor, HostRequirement requirement) {
+      HostStatus status = statuses.get(hostOf(queryExecutor));
+      return status == null ? HostStatus.ConnectOK : status;
+    }
+  }
+
+  private static HostSpec hostOf(QueryExecutor queryExecutor) {
+    return queryExecutor.toString().equals(FIRST.toString()) ? FIRST : SECOND;
+  }
+
+  private static ConnectionRace race(FakeConnector connector, CandidateHost... candidates) {
+    return new ConnectionRace(Arrays.asList(candidates), SocketFactory.getDefault(), 20,
+        new Properties(), connector);
+  }
+
+  @Test
+  void fasterHostWins() throws Exception {
+    FakeConnector connector = new FakeConnector(1);
+    connector.delays.put(FIRST, 500L);
+    QueryExecutor queryExecutor = race(connector,
+        new CandidateHost(FIRST, HostRequirement.any),
+        new CandidateHost(SECOND, HostRequirement.any)).connect();
+    assertSame(SECOND, hostOf(queryExecutor));
+    assertTrue(connector.closedLatch.await(5, TimeUnit.SECONDS),
+        "The connection to the slower host should be closed");
+    assertEquals(Arrays.asList(FIRST), connector.closed);
+  }
+
+  @Test
+  void preferredStatusWinsOverFasterFallback() throws Exception {
+    FakeConnector connector = new FakeConnector(1);
+    connector.statuses.put(FIRST, HostStatus.Primary);
+    connector.statuses.put(SECOND, HostStatus.Secondary);
+    connector.delays.put(SECOND, 200L);
+    QueryExecutor queryExecutor = race(connector,
+        new CandidateHost(FIRST, HostRequirement.secondary),
+        new CandidateHost(SECOND, HostRequirement.secondary),
+        new CandidateHost(FIRST, HostRequirement.any),
+        new CandidateHost(SECOND, HostRequirement.any)).connect();
+    assertSame(SECOND, hostOf(queryExecutor));
+    assertTrue(connector.closedLatch.await(5, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList(FIRST), connector.closed);
+  }
+
+  @Test
+  void fallbackIsUsedWhenNoHostIsPreferred() throws Exception {
+    FakeConnector connector = new FakeConnector(1);
+    connector.statuses.put(FIRST, HostStatus.Primary);
+    connector.statuses.put(SECOND, HostStatus.Primary);
+    connector.delays.put(FIRST, 100L);
+    QueryExecutor queryExecutor = race(connector,
+        new CandidateHost(FIRST, HostRequirement.secondary),
+        new CandidateHost(SECOND, HostRequirement.secondary),
+        new CandidateHost(FIRST, HostRequirement.any),
+        new CandidateHost(SECOND, HostRequirement.any)).connect();
+    assertSame(FIRST, hostOf(queryExecutor), "The fallback listed first should win");
+    assertTrue(connector.closedLatch.await(5, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList(SECOND), connector.closed);
+  }
+
+  @Test
+  void noServerSatisfiesTheRequirement() throws Exception {
+    FakeConnector connector = new FakeConnector(2);
+    connector.statuses.put(FIRST, HostStatus.Secondary);
+    connector.statuses.put(SECOND, HostStatus.Secondary);
+    assertNull(race(connector,
+        new CandidateHost(FIRST, HostRequirement.primary),
+        new CandidateHost(SECOND, HostRequirement.primary)).connect());
+    assertTrue(connector.closedLatch.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void allAttemptsFail() {
+    FakeConnector connector = new FakeConnector(0);
+    connector.failures.put(FIRST, new ConnectException("first refused"));
+    connector.failures.put(SECOND, new ConnectException("second refused"));
+    connector.delays.put(SECOND, 50L);
+    SQLException e = assertThrows(SQLException.class, () -> race(connector,
+        new CandidateHost(FIRST, HostRequirement.any),
+        new CandidateHost(SECOND, HostRequirement.any)).connect());
+    assertEquals("second refused", e.getCause().getMessage());
+    assertEquals(1, e.getSuppressed().length);
+  }
+}
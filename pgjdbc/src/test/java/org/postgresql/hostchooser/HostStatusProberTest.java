@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.hostchooser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.postgresql.PGProperty;
+import org.postgresql.util.HostSpec;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.ServerSocket;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+class HostStatusProberTest {
+
+  private static int closedPort() throws Exception {
+    try (ServerSocket serverSocket = new ServerSocket(0)) {
+      return serverSocket.getLocalPort();
+    }
+  }
+
+  @Test
+  void deadHostIsReportedWithoutConnectionAttempts() throws Exception {
+    HostSpec dead = new HostSpec("localhost", closedPort());
+    HostSpec[] hostSpecs = {dead};
+    Properties info = new Properties();
+    PGProperty.USER.set(info, "test");
+    PGProperty.PG_DBNAME.set(info, "test");
+    PGProperty.CONNECT_TIMEOUT.set(info, 1);
+
+    HostStatusProber.register(hostSpecs, info, 1);
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    List<HostSpec> candidates;
+    do {
+      Thread.sleep(50);
+      candidates = GlobalHostStatusTracker.getCandidateHosts(hostSpecs, HostRequirement.any,
+          TimeUnit.SECONDS.toMillis(10));
+    } while (!candidates.isEmpty() && System.nanoTime() < deadline);
+    assertEquals(Collections.emptyList(), candidates,
+        "The probe should report the host as ConnectFail");
+  }
+}
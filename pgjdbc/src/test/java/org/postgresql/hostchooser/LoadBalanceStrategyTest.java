@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.hostchooser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGProperty;
+import org.postgresql.util.HostSpec;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+class LoadBalanceStrategyTest {
+  private static final HostSpec FAST = new HostSpec("lb-fast.example.com", 5432);
+  private static final HostSpec SLOW = new HostSpec("lb-slow.example.com", 5432);
+  private static final HostSpec BUSY = new HostSpec("lb-busy.example.com", 5432);
+  private static final HostSpec IDLE = new HostSpec("lb-idle.example.com", 5432);
+  private static final HostSpec LAGGING = new HostSpec("lb-lagging.example.com", 5432);
+  private static final HostSpec CURRENT = new HostSpec("lb-current.example.com", 5432);
+  private static final HostSpec UNKNOWN = new HostSpec("lb-unknown.example.com", 5432);
+  private static final HostSpec PRIMARY = new HostSpec("lb-primary.example.com", 5432);
+  private static final HostSpec LAGGING_SECONDARY =
+      new HostSpec("lb-lagging-secondary.example.com", 5432);
+
+  @Test
+  void leastLatencyTriesTheFastestHostFirst() throws Exception {
+    GlobalHostStatusTracker.reportLatency(FAST, 1_000_000);
+    GlobalHostStatusTracker.reportLatency(SLOW, 50_000_000);
+    LoadBalanceStrategy strategy = strategy("leastLatency");
+    for (int i = 0; i < 10; i++) {
+      assertEquals(Arrays.asList(FAST, SLOW),
+          strategy.order(Arrays.asList(SLOW, FAST), HostRequirement.any));
+    }
+  }
+
+  @Test
+  void leastConnectionsTriesTheIdleHostFirst() throws Exception {
+    GlobalHostStatusTracker.connectionOpened(BUSY);
+    GlobalHostStatusTracker.connectionOpened(BUSY);
+    GlobalHostStatusTracker.connectionOpened(IDLE);
+    GlobalHostStatusTracker.connectionClosed(IDLE);
+    LoadBalanceStrategy strategy = strategy("leastConnections");
+    for (int i = 0; i < 10; i++) {
+      assertEquals(Arrays.asList(IDLE, BUSY),
+          strategy.order(Arrays.asList(BUSY, IDLE), HostRequirement.any));
+    }
+  }
+
+  @Test
+  void boundedReplicaLagSkipsOrDefersLaggingSecondaries() throws Exception {
+    GlobalHostStatusTracker.reportReplicaLag(LAGGING, 60_000);
+    GlobalHostStatusTracker.reportReplicaLag(CURRENT, 100);
+    Properties info = new Properties();
+    PGProperty.LOAD_BALANCE_STRATEGY.set(info, "boundedReplicaLag");
+    PGProperty.MAX_REPLICA_LAG_SECONDS.set(info, 10);
+    LoadBalanceStrategy strategy = LoadBalanceStrategyFactory.getLoadBalanceStrategy(info);
+
+    List<HostSpec> secondaries =
+        strategy.order(Arrays.asList(LAGGING, CURRENT, UNKNOWN), HostRequirement.secondary);
+    assertEquals(2, secondaries.size(), "The lagging host should be skipped: " + secondaries);
+    assertTrue(secondaries.contains(CURRENT) && secondaries.contains(UNKNOWN),
+        "The current host and the host with unknown lag should be kept: " + secondaries);
+
+    for (int i = 0; i < 10; i++) {
+      List<HostSpec> any =
+          strategy.order(Arrays.asList(LAGGING, CURRENT, UNKNOWN), HostRequirement.any);
+      assertEquals(3, any.size(), "No host should be skipped for any host: " + any);
+      assertEquals(LAGGING, any.get(2), "The lagging host should be tried last: " + any);
+    }
+  }
+
+  @Test
+  void preferSecondaryTriesPrimaryBeforeLaggingSecondary() {
+    GlobalHostStatusTracker.reportHostStatus(LAGGING_SECONDARY, HostStatus.Secondary);
+    GlobalHostStatusTracker.reportReplicaLag(LAGGING_SECONDARY, 60_000);
+    GlobalHostStatusTracker.reportHostStatus(PRIMARY, HostStatus.Primary);
+    Properties info = new Properties();
+    PGProperty.LOAD_BALANCE_HOSTS.set(info, true);
+    PGProperty.LOAD_BALANCE_STRATEGY.set(info, "boundedReplicaLag");
+    PGProperty.MAX_REPLICA_LAG_SECONDS.set(info, 10);
+    MultiHostChooser chooser = new MultiHostChooser(
+        new HostSpec[]{LAGGING_SECONDARY, PRIMARY}, HostRequirement.preferSecondary, info);
+    for (int i = 0; i < 10; i++) {
+      List<HostSpec> hosts = new ArrayList<>();
+      for (CandidateHost candidate : chooser) {
+        hosts.add(candidate.hostSpec);
+      }
+      assertEquals(Arrays.asList(PRIMARY, LAGGING_SECONDARY), hosts);
+    }
+  }
+
+  private static LoadBalanceStrategy strategy(String name) throws Exception {
+    Properties info = new Properties();
+    PGProperty.LOAD_BALANCE_STRATEGY.set(info, name);
+    return LoadBalanceStrategyFactory.getLoadBalanceStrategy(info);
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGProperty;
+import org.postgresql.test.TestUtil;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.regex.Pattern;
+
+class DatabaseMetaDataSnapshotTest {
+  private Connection con;
+  private Connection snapshotCon;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    con = TestUtil.openDB();
+    TestUtil.createTable(con, "snap_pk", "a int, b int, c text, primary key (a, b)");
+    TestUtil.createTable(con, "snap_fk",
+        "id int primary key, x int, y int, foreign key (x, y) references snap_pk (a, b)");
+    TestUtil.createTable(con, "snap_fk2", "id int primary key, a int, b int unique, "
+        + "constraint snap_fk2_pk foreign key (a, b) references snap_pk (a, b)");
+    TestUtil.execute(con, "CREATE INDEX snap_fk_y ON snap_fk (y DESC)");
+    Properties props = new Properties();
+    PGProperty.DATABASE_METADATA_SNAPSHOT.set(props, true);
+    snapshotCon = TestUtil.openDB(props);
+  }
+
+  @AfterEach
+  void tearDown() throws SQLException {
+    TestUtil.closeDB(snapshotCon);
+    TestUtil.dropTable(con, "snap_fk2");
+    TestUtil.dropTable(con, "snap_fk");
+    TestUtil.dropTable(con, "snap_pk");
+    TestUtil.closeDB(con);
+  }
+
+  private static List<List<String>> rows(ResultSet rs) throws SQLException {
+    try {
+      ResultSetMetaData md = rs.getMetaData();
+      List<List<String>> rows = new ArrayList<>();
+      while (rs.next()) {
+        List<String> row = new ArrayList<>();
+        for (int i = 1; i <= md.getColumnCount(); i++) {
+          row.add(md.getColumnLabel(i) + "=" + rs.getString(i));
+        }
+        rows.add(row);
+      }
+      return rows;
+    } finally {
+      rs.close();
+    }
+  }
+
+  @Test
+  void snapshotMatchesCatalogQueries() throws SQLException {
+    DatabaseMetaData expected = con.getMetaData();
+    DatabaseMetaData actual = snapshotCon.getMetaData();
+    for (String table : Arrays.asList("snap_pk", "snap_fk", "snap_fk2", "snap_missing")) {
+      assertEquals(rows(expected.getColumns(null, "public", table, null)),
+          rows(actual.getColumns(null, "public", table, null)), "getColumns " + table);
+      assertEquals(rows(expected.getColumns(null, "public", table, "_")),
+          rows(actual.getColumns(null, "public", table, "_")), "getColumns pattern " + table);
+      assertEquals(rows(expected.getPrimaryKeys(null, "public", table)),
+          rows(actual.getPrimaryKeys(null, "public", table)), "getPrimaryKeys " + table);
+      assertEquals(rows(expected.getImportedKeys(null, "public", table)),
+          rows(actual.getImportedKeys(null, "public", table)), "getImportedKeys " + table);
+      assertEquals(rows(expected.getExportedKeys(null, "public", table)),
+          rows(actual.getExportedKeys(null, "public", table)), "getExportedKeys " + table);
+      assertEquals(rows(expected.getIndexInfo(null, "public", table, false, false)),
+          rows(actual.getIndexInfo(null, "public", table, false, false)), "getIndexInfo " + table);
+      assertEquals(rows(expected.getIndexInfo(null, "public", table, true, false)),
+          rows(actual.getIndexInfo(null, "public", table, true, false)),
+          "getIndexInfo unique " + table);
+    }
+    assertEquals(rows(expected.getColumns(null, "public", "snap\\_f%", null)),
+        rows(actual.getColumns(null, "public", "snap\\_f%", null)), "getColumns table pattern");
+  }
+
+  @Test
+  void ddlDropsSnapshot() throws SQLException {
+    DatabaseMetaData md = snapshotCon.getMetaData();
+    assertEquals(3, rows(md.getColumns(null, "public", "snap_pk", null)).size());
+    try (Statement st = snapshotCon.createStatement()) {
+      st.execute("ALTER TABLE snap_pk ADD COLUMN d int");
+    }
+    assertEquals(4, rows(md.getColumns(null, "public", "snap_pk", null)).size());
+  }
+
+  @Test
+  void likePattern() {
+    Pattern pattern = DatabaseMetaDataSnapshot.compileLike("a\\_b%c_");
+    assertTrue(pattern.matcher("a_bxyzcd").matches());
+    assertTrue(pattern.matcher("a_bcd").matches());
+    assertFalse(pattern.matcher("axbcd").matches(), "escaped _ matches only _");
+    assertFalse(pattern.matcher("a_bc").matches(), "_ matches a single character");
+    assertTrue(DatabaseMetaDataSnapshot.compileLike("a.b(").matcher("a.b(").matches());
+    assertFalse(DatabaseMetaDataSnapshot.compileLike("a.b").matcher("axb").matches());
+
+    DatabaseMetaDataSnapshot.LikePattern any = new DatabaseMetaDataSnapshot.LikePattern(null);
+    assertTrue(any.matches("a"));
+    assertTrue(any.matches(null));
+    DatabaseMetaDataSnapshot.LikePattern exact = new DatabaseMetaDataSnapshot.LikePattern("a.b");
+    assertTrue(exact.matches("a.b"));
+    assertFalse(exact.matches("A.b"));
+    assertFalse(exact.matches(null));
+    DatabaseMetaDataSnapshot.LikePattern wildcard =
+        new DatabaseMetaDataSnapshot.LikePattern("snap%");
+    assertTrue(wildcard.matches("snap_pk"));
+    assertFalse(wildcard.matches("other"));
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGPipeline;
+import org.postgresql.test.TestUtil;
+import org.postgresql.util.PSQLState;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+class PipelineTest {
+  private Connection conn;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    conn = TestUtil.openDB();
+    TestUtil.createTempTable(conn, "pipeline_test", "id int primary key, v text");
+  }
+
+  @AfterEach
+  void tearDown() throws SQLException {
+    TestUtil.closeDB(conn);
+  }
+
+  @Test
+  void resultsCompleteInSendOrder() throws Exception {
+    List<CompletableFuture<Long>> inserts = new ArrayList<>();
+    try (PGPipeline pipeline = conn.unwrap(PGConnection.class).pipeline();
+         PreparedStatement insert = conn.prepareStatement("insert into pipeline_test values (?, ?)");
+         PreparedStatement select = conn.prepareStatement("select v from pipeline_test where id = ?")) {
+      for (int i = 0; i < 500; i++) {
+        insert.setInt(1, i);
+        insert.setString(2, "v" + i);
+        inserts.add(pipeline.executeUpdate(insert));
+      }
+      select.setInt(1, 42);
+      CompletableFuture<ResultSet> row = pipeline.executeQuery(select);
+      assertEquals(501, pipeline.getPendingCount());
+      assertFalse(row.isDone(), "results are not available before sync");
+
+      pipeline.sync();
+
+      assertEquals(0, pipeline.getPendingCount());
+      for (CompletableFuture<Long> insertCount : inserts) {
+        assertEquals(1L, insertCount.get());
+      }
+      try (ResultSet rs = row.get()) {
+        assertTrue(rs.next());
+        assertEquals("v42", rs.getString(1));
+        assertFalse(rs.next());
+      }
+    }
+  }
+
+  @Test
+  void failureAbortsRemainingStatements() throws Exception {
+    try (PGPipeline pipeline = conn.unwrap(PGConnection.class).pipeline();
+         PreparedStatement insert = conn.prepareStatement("insert into pipeline_test values (?, ?)")) {
+      insert.setInt(1, 1);
+      insert.setString(2, "a");
+      CompletableFuture<Long> first = pipeline.executeUpdate(insert);
+      CompletableFuture<Long> duplicate = pipeline.executeUpdate(insert);
+      insert.setInt(1, 2);
+      CompletableFuture<Long> afterFailure = pipeline.executeUpdate(insert);
+
+      pipeline.sync();
+
+      assertEquals(1L, first.get());
+      ExecutionException duplicateError = assertThrows(ExecutionException.class, duplicate::get);
+      assertEquals(PSQLState.UNIQUE_VIOLATION.getState(),
+          ((SQLException) duplicateError.getCause()).getSQLState());
+      ExecutionException abortedError = assertThrows(ExecutionException.class, afterFailure::get);
+      assertInstanceOf(SQLException.class, abortedError.getCause());
+    }
+  }
+
+  @Test
+  void multipleStatementsAreRejected() throws Exception {
+    try (PGPipeline pipeline = conn.unwrap(PGConnection.class).pipeline();
+         PreparedStatement multi = conn.prepareStatement("select 1; select 2");
+         PreparedStatement select = conn.prepareStatement("select 3")) {
+      SQLException e = assertThrows(SQLException.class, () -> pipeline.executeQuery(multi));
+      assertEquals(PSQLState.NOT_IMPLEMENTED.getState(), e.getSQLState());
+      assertEquals(0, pipeline.getPendingCount());
+
+      CompletableFuture<ResultSet> row = pipeline.executeQuery(select);
+      pipeline.sync();
+      try (ResultSet rs = row.get()) {
+        assertTrue(rs.next());
+        assertEquals(3, rs.getInt(1));
+      }
+    }
+  }
+
+  @Test
+  void closedPipelineRejectsStatements() throws Exception {
+    PGPipeline pipeline = conn.unwrap(PGConnection.class).pipeline();
+    pipeline.close();
+    try (PreparedStatement select = conn.prepareStatement("select 1")) {
+      assertThrows(SQLException.class, () -> pipeline.executeQuery(select));
+    }
+  }
+}
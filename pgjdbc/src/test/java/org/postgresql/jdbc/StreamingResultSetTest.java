@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGProperty;
+import org.postgresql.PGStatement;
+import org.postgresql.test.TestUtil;
+import org.postgresql.util.PSQLState;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+class StreamingResultSetTest {
+  private Connection conn;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    Properties props = new Properties();
+    PGProperty.RESULT_SET_STREAMING.set(props, true);
+    conn = TestUtil.openDB(props);
+  }
+
+  @AfterEach
+  void tearDown() throws SQLException {
+    TestUtil.closeDB(conn);
+  }
+
+  @Test
+  void streamsRowsInAutoCommit() throws SQLException {
+    assertTrue(conn.getAutoCommit());
+    try (PreparedStatement ps = conn.prepareStatement("select g from generate_series(1, ?) g")) {
+      assertTrue(ps.unwrap(PGStatement.class).isStreaming());
+      ps.setInt(1, 10000);
+      try (ResultSet rs = ps.executeQuery()) {
+        for (int i = 1; i <= 10000; i++) {
+          assertTrue(rs.next(), "row " + i);
+          assertEquals(i, rs.getInt(1));
+        }
+        assertFalse(rs.next());
+      }
+    }
+  }
+
+  @Test
+  void fetchSizeDefinesBatchSize() throws SQLException {
+    try (Statement st = conn.createStatement()) {
+      st.setFetchSize(7);
+      try (ResultSet rs = st.executeQuery("select g from generate_series(1, 100) g")) {
+        int count = 0;
+        while (rs.next()) {
+          count++;
+          assertEquals(count, rs.getInt(1));
+        }
+        assertEquals(100, count);
+      }
+    }
+  }
+
+  @Test
+  void otherStatementDiscardsRemainingRows() throws SQLException {
+    try (Statement st = conn.createStatement();
+         Statement other = conn.createStatement()) {
+      try (ResultSet rs = st.executeQuery("select g from generate_series(1, 1000000) g")) {
+        assertTrue(rs.next());
+        assertEquals(1, rs.getInt(1));
+        try (ResultSet otherRs = other.executeQuery("select 42")) {
+          assertTrue(otherRs.next());
+          assertEquals(42, otherRs.getInt(1));
+        }
+        SQLException e = assertThrows(SQLException.class, rs::next);
+        assertEquals(PSQLState.OBJECT_NOT_IN_STATE.getState(), e.getSQLState());
+      }
+    }
+  }
+
+  @Test
+  void closedResultSetReleasesConnection() throws SQLException {
+    try (Statement st = conn.createStatement()) {
+      ResultSet rs = st.executeQuery("select g from generate_series(1, 100000) g");
+      assertTrue(rs.next());
+      rs.close();
+      try (ResultSet otherRs = st.executeQuery("select 1")) {
+        assertTrue(otherRs.next());
+        assertEquals(1, otherRs.getInt(1));
+      }
+    }
+  }
+
+  @Test
+  void closedResultSetKeepsTransaction() throws SQLException {
+    conn.setAutoCommit(false);
+    try (Statement st = conn.createStatement()) {
+      st.execute("create temp table streaming_tx(id int)");
+      st.execute("insert into streaming_tx values (1)");
+      ResultSet rs = st.executeQuery("select g from generate_series(1, 100000) g");
+      assertTrue(rs.next());
+      rs.close();
+      // The query is not cancelled, so the transaction is not aborted
+      try (ResultSet otherRs = st.executeQuery("select count(*) from streaming_tx")) {
+        assertTrue(otherRs.next());
+        assertEquals(1, otherRs.getInt(1));
+      }
+      conn.commit();
+    }
+  }
+
+  @Test
+  void errorIsReportedAfterReceivedRows() throws SQLException {
+    try (Statement st = conn.createStatement()) {
+      try (ResultSet rs =
+               st.executeQuery("select 10 / (3 - g) from generate_series(1, 5) g")) {
+        assertTrue(rs.next());
+        assertEquals(5, rs.getInt(1));
+        assertTrue(rs.next());
+        assertEquals(10, rs.getInt(1));
+        SQLException e = assertThrows(SQLException.class, rs::next);
+        assertEquals(PSQLState.DIVISION_BY_ZERO.getState(), e.getSQLState());
+      }
+      try (ResultSet rs = st.executeQuery("select 1")) {
+        assertTrue(rs.next());
+      }
+    }
+  }
+
+  @Test
+  void streamingCanBeDisabledPerStatement() throws SQLException {
+    try (Statement st = conn.createStatement()) {
+      st.unwrap(PGStatement.class).setStreaming(false);
+      assertFalse(st.unwrap(PGStatement.class).isStreaming());
+      try (ResultSet rs = st.executeQuery("select g from generate_series(1, 10) g")) {
+        int count = 0;
+        while (rs.next()) {
+          count++;
+        }
+        assertEquals(10, count);
+      }
+    }
+  }
+}
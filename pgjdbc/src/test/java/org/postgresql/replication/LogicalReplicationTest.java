@@ -853,6 +853,109 @@ void replicationRestartFromLastFeedbackPositionParallelTransaction() throws Exce
         result, equalTo(wait));
   }
 
+  @Test
+  @Timeout(10)
+  void readBatchReceivesMessagesInOrder() throws Exception {
+    PGConnection pgConnection = (PGConnection) replConnection;
+
+    LogSequenceNumber startLSN = getCurrentLSN();
+
+    Statement st = sqlConnection.createStatement();
+    st.execute("insert into test_logic_table(name) values('first tx changes')");
+    st.execute("insert into test_logic_table(name) values('second tx changes')");
+    st.close();
+
+    PGReplicationStream stream =
+        pgConnection
+            .getReplicationAPI()
+            .replicationStream()
+            .logical()
+            .withSlotName(SLOT_NAME)
+            .withStartPosition(startLSN)
+            .withSlotOption("include-xids", false)
+            .withSlotOption("skip-empty-xacts", true)
+            .start();
+
+    List<String> result = new ArrayList<>();
+    LogSequenceNumber previousLSN = LogSequenceNumber.INVALID_LSN;
+    while (result.size() < 6) {
+      ReplicationBatch batch = stream.readBatch(4);
+      assertThat("readBatch should wait for at least one message", batch.size() > 0,
+          equalTo(true));
+      assertThat("readBatch should not exceed the maximum", batch.size() <= 4, equalTo(true));
+      for (int i = 0; i < batch.size(); i++) {
+        ByteBuffer data = batch.getData(i);
+        result.add(new String(data.array(), data.position(), data.remaining()));
+        assertThat("LSN of the messages should not decrease",
+            batch.getLSN(i).compareTo(previousLSN) >= 0, equalTo(true));
+        previousLSN = batch.getLSN(i);
+      }
+      assertThat(stream.getLastReceiveLSN(), equalTo(batch.getLSN(batch.size() - 1)));
+    }
+
+    String wait = group(Arrays.asList(
+        "BEGIN",
+        "table public.test_logic_table: INSERT: pk[integer]:1 name[character varying]:'first tx changes'",
+        "COMMIT",
+        "BEGIN",
+        "table public.test_logic_table: INSERT: pk[integer]:2 name[character varying]:'second tx changes'",
+        "COMMIT"
+    ));
+
+    assertThat("readBatch should return the same messages as read", group(result),
+        equalTo(wait));
+  }
+
+  @Test
+  @Timeout(10)
+  void asyncStatusUpdatesAreSentWhileNotReading() throws Exception {
+    PGConnection pgConnection = (PGConnection) replConnection;
+
+    LogSequenceNumber startLSN = getCurrentLSN();
+
+    PGReplicationStream stream =
+        pgConnection
+            .getReplicationAPI()
+            .replicationStream()
+            .logical()
+            .withSlotName(SLOT_NAME)
+            .withStartPosition(startLSN)
+            .withSlotOption("include-xids", false)
+            .withSlotOption("skip-empty-xacts", true)
+            .withStatusInterval(100, TimeUnit.MILLISECONDS)
+            .withAsyncStatusUpdates(true)
+            .start();
+
+    Statement st = sqlConnection.createStatement();
+    st.execute("insert into test_logic_table(name) values('message')");
+    st.close();
+
+    int received = 0;
+    while (received < 3) {
+      received += stream.readBatch(10).size();
+    }
+    LogSequenceNumber feedbackLSN = stream.getLastReceiveLSN();
+    stream.setFlushedLSN(feedbackLSN);
+    stream.setAppliedLSN(feedbackLSN);
+
+    // The stream is not read anymore, the status thread sends the feedback
+    LogSequenceNumber confirmedLSN = LogSequenceNumber.INVALID_LSN;
+    while (confirmedLSN.compareTo(feedbackLSN) < 0) {
+      TimeUnit.MILLISECONDS.sleep(20);
+      try (Statement statement = sqlConnection.createStatement();
+           ResultSet rs = statement.executeQuery(
+               "select confirmed_flush_lsn from pg_replication_slots where slot_name = '"
+                   + SLOT_NAME + "'")) {
+        if (rs.next() && rs.getString(1) != null) {
+          confirmedLSN = LogSequenceNumber.valueOf(rs.getString(1));
+        }
+      }
+    }
+
+    stream.close();
+    assertThat(stream.isClosed(), equalTo(true));
+  }
+
   /**
    * Polls pg_replication_slots until confirmed_flush_lsn reaches the expected value.
    * forceUpdateStatus() only flushes data to the TCP socket; the server needs time
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.replication.pgoutput;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.replication.LogSequenceNumber;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decodes the messages of {@code /pgoutput/messages.txt}, which follow the byte layout of the
+ * pgoutput protocol, so the decoder is tested without a server.
+ */
+class PgOutputDecoderTest {
+  private static final Map<String, byte[]> MESSAGES = new HashMap<>();
+  private static final int USERS = 16385;
+  private static final int EVENTS = 16390;
+
+  private PgOutputDecoder decoder;
+
+  @BeforeAll
+  static void loadMessages() throws IOException {
+    InputStream in = PgOutputDecoderTest.class.getResourceAsStream("/pgoutput/messages.txt");
+    assertNotNull(in, "/pgoutput/messages.txt");
+    try (BufferedReader reader =
+             new BufferedReader(new InputStreamReader(in, StandardCharsets.US_ASCII))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isEmpty() || line.startsWith("#")) {
+          continue;
+        }
+        String[] parts = line.split(" ");
+        byte[] bytes = new byte[parts[1].length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+          bytes[i] = (byte) Integer.parseInt(parts[1].substring(i * 2, i * 2 + 2), 16);
+        }
+        MESSAGES.put(parts[0], bytes);
+      }
+    }
+  }
+
+  @BeforeEach
+  void setUp() throws PSQLException {
+    decoder = new PgOutputDecoder();
+    decode("relation");
+    decode("relation_events");
+  }
+
+  /**
+   * Decodes a message placed in the middle of a larger buffer, like the messages of
+   * {@link org.postgresql.replication.ReplicationBatch}, so the decoder must not assume that the
+   * message starts at index 0 or ends at the capacity.
+   */
+  private PgOutputMessage decode(String name) throws PSQLException {
+    byte[] bytes = MESSAGES.get(name);
+    assertNotNull(bytes, name);
+    byte[] padded = new byte[bytes.length + 32];
+    System.arraycopy(bytes, 0, padded, 7, bytes.length);
+    ByteBuffer buffer = ByteBuffer.wrap(padded, 7, bytes.length);
+    PgOutputMessage message = decoder.decode(buffer);
+    assertEquals(7, buffer.position(), "decode must not move the position of the buffer");
+    return message;
+  }
+
+  @Test
+  void relation() throws PSQLException {
+    PgOutputMessage message = decode("relation");
+    assertEquals(PgOutputMessageType.RELATION, message.getType());
+    PgOutputRelation relation = message.getRelation();
+    assertNotNull(relation);
+    assertSame(relation, decoder.getRelation(USERS));
+    assertEquals(USERS, relation.getOid());
+    assertEquals("public", relation.getNamespace());
+    assertEquals("users", relation.getName());
+    assertEquals(PgOutputRelation.REPLICA_IDENTITY_DEFAULT, relation.getReplicaIdentity());
+    assertEquals(4, relation.getColumnCount());
+    assertEquals("id", relation.getColumnName(0));
+    assertEquals(20, relation.getColumnType(0));
+    assertTrue(relation.isKeyColumn(0));
+    assertFalse(relation.isKeyColumn(1));
+    assertEquals(1043, relation.getColumnType(1));
+    assertEquals(68, relation.getColumnTypeModifier(1));
+    assertEquals(-1, relation.getColumnTypeModifier(0));
+    assertEquals(3, relation.findColumn("bio"));
+    assertEquals(-1, relation.findColumn("missing"));
+
+    PgOutputRelation events = decoder.getRelation(EVENTS);
+    assertNotNull(events);
+    assertEquals("", events.getNamespace());
+    assertEquals(PgOutputRelation.REPLICA_IDENTITY_FULL, events.getReplicaIdentity());
+  }
+
+  @Test
+  void beginAndCommit() throws PSQLException {
+    PgOutputMessage begin = decode("begin");
+    assertEquals(PgOutputMessageType.BEGIN, begin.getType());
+    assertEquals(LogSequenceNumber.valueOf("16/3002D50"), begin.getLSN());
+    assertEquals(735, begin.getXid());
+    assertEquals(747660000123456L, begin.getTimestampMicros());
+    assertEquals(Instant.parse("2023-09-10T11:20:00.123456Z"), begin.getTimestamp());
+
+    PgOutputMessage commit = decode("commit");
+    assertEquals(PgOutputMessageType.COMMIT, commit.getType());
+    assertEquals(0, commit.getFlags());
+    assertEquals(LogSequenceNumber.valueOf("16/3002D50"), commit.getLSN());
+    assertEquals(LogSequenceNumber.valueOf("16/3002D88"), commit.getEndLSN());
+    assertEquals(747660000123456L, commit.getTimestampMicros());
+    assertEquals(0, commit.getXid());
+  }
+
+  @Test
+  void insert() throws PSQLException {
+    PgOutputMessage message = decode("insert");
+    assertEquals(PgOutputMessageType.INSERT, message.getType());
+    assertSame(decoder.getRelation(USERS), message.getRelation());
+    assertNull(message.getOldTuple());
+    PgOutputTuple row = message.getNewTuple();
+    assertNotNull(row);
+    assertEquals(4, row.getColumnCount());
+    assertEquals(PgOutputTuple.TEXT, row.getKind(0));
+    assertEquals(42L, row.getLong(0));
+    assertEquals(42, row.getInt(0));
+    assertEquals("Zo\u00eb", row.getString(1));
+    assertTrue(row.getBoolean(2));
+    assertTrue(row.isNull(3));
+    assertNull(row.getString(3));
+    assertEquals(-1, row.getLength(3));
+    assertThrows(IllegalStateException.class, () -> row.getLong(3));
+    assertThrows(IndexOutOfBoundsException.class, () -> row.getKind(4));
+    assertThrows(NumberFormatException.class, () -> row.getLong(1));
+  }
+
+  @Test
+  void insertBinary() throws PSQLException {
+    PgOutputTuple row = decode("insert_binary").getNewTuple();
+    assertNotNull(row);
+    assertEquals(PgOutputTuple.BINARY, row.getKind(0));
+    assertEquals(-7L, row.getLong(0));
+    assertEquals(8, row.getLength(0));
+    assertEquals("bin", row.getString(1));
+    assertTrue(row.getBoolean(2));
+    assertTrue(row.isUnchangedToast(3));
+    assertArrayEquals(new byte[]{'b', 'i', 'n'}, row.getBytes(1));
+  }
+
+  @Test
+  void update() throws PSQLException {
+    PgOutputMessage message = decode("update");
+    assertEquals(PgOutputMessageType.UPDATE, message.getType());
+    assertEquals(0, message.getOldTupleKind());
+    assertNull(message.getOldTuple());
+    PgOutputTuple row = message.getNewTuple();
+    assertNotNull(row);
+    assertEquals("Zoe", row.getString(1));
+    assertFalse(row.getBoolean(2));
+    assertTrue(row.isUnchangedToast(3));
+  }
+
+  @Test
+  void updateOfKey() throws PSQLException {
+    PgOutputMessage message = decode("update_key");
+    assertEquals('K', message.getOldTupleKind());
+    PgOutputTuple oldRow = message.getOldTuple();
+    assertNotNull(oldRow);
+    assertEquals(41L, oldRow.getLong(0));
+    assertTrue(oldRow.isNull(1));
+    PgOutputTuple newRow = message.getNewTuple();
+    assertNotNull(newRow);
+    assertEquals(42L, newRow.getLong(0));
+  }
+
+  @Test
+  void delete() throws PSQLException {
+    PgOutputMessage message = decode("delete");
+    assertEquals(PgOutputMessageType.DELETE, message.getType());
+    assertEquals('K', message.getOldTupleKind());
+    assertNull(message.getNewTuple());
+    PgOutputTuple oldRow = message.getOldTuple();
+    assertNotNull(oldRow);
+    assertEquals(Long.MIN_VALUE, oldRow.getLong(0));
+    assertThrows(NumberFormatException.class, () -> oldRow.getInt(0));
+
+    message = decode("delete_full");
+    assertEquals('O', message.getOldTupleKind());
+    assertSame(decoder.getRelation(EVENTS), message.getRelation());
+    assertEquals(7, castNonNullTuple(message.getOldTuple()).getInt(0));
+  }
+
+  @Test
+  void truncate() throws PSQLException {
+    PgOutputMessage message = decode("truncate");
+    assertEquals(PgOutputMessageType.TRUNCATE, message.getType());
+    assertEquals(2, message.getTruncatedRelationCount());
+    assertSame(decoder.getRelation(USERS), message.getTruncatedRelation(0));
+    assertSame(decoder.getRelation(EVENTS), message.getTruncatedRelation(1));
+    assertTrue(message.isTruncateCascade());
+    assertTrue(message.isTruncateRestartIdentity());
+  }
+
+  @Test
+  void logicalMessage() throws PSQLException {
+    PgOutputMessage message = decode("message");
+    assertEquals(PgOutputMessageType.MESSAGE, message.getType());
+    assertTrue(message.isTransactional());
+    assertEquals(LogSequenceNumber.valueOf("16/3002E00"), message.getLSN());
+    assertEquals("audit", message.getName());
+    assertArrayEquals("hello".getBytes(StandardCharsets.US_ASCII), message.getContent());
+  }
+
+  @Test
+  void typeAndOrigin() throws PSQLException {
+    PgOutputMessage type = decode("type");
+    assertEquals(PgOutputMessageType.TYPE, type.getType());
+    assertEquals(16400, type.getTypeOid());
+    assertEquals("public", type.getName());
+    assertEquals("mood", type.getTypeName());
+
+    PgOutputMessage origin = decode("origin");
+    assertEquals(PgOutputMessageType.ORIGIN, origin.getType());
+    assertEquals(LogSequenceNumber.valueOf("16/3002D50"), origin.getLSN());
+    assertEquals("node_a", origin.getName());
+  }
+
+  @Test
+  void streamedTransaction() throws PSQLException {
+    PgOutputMessage start = decode("stream_start");
+    assertEquals(PgOutputMessageType.STREAM_START, start.getType());
+    assertEquals(736, start.getXid());
+    assertTrue(start.isFirstSegment());
+
+    PgOutputMessage insert = decode("stream_insert");
+    assertEquals(PgOutputMessageType.INSERT, insert.getType());
+    assertEquals(736, insert.getXid());
+    assertSame(decoder.getRelation(EVENTS), insert.getRelation());
+    assertEquals(8, castNonNullTuple(insert.getNewTuple()).getInt(0));
+
+    assertEquals(PgOutputMessageType.STREAM_STOP, decode("stream_stop").getType());
+
+    PgOutputMessage commit = decode("stream_commit");
+    assertEquals(PgOutputMessageType.STREAM_COMMIT, commit.getType());
+    assertEquals(736, commit.getXid());
+    assertEquals(LogSequenceNumber.valueOf("16/3003000"), commit.getLSN());
+    assertEquals(LogSequenceNumber.valueOf("16/3003040"), commit.getEndLSN());
+
+    // Outside of a stream, the rows have no transaction id again
+    PgOutputMessage after = decode("delete_full");
+    assertEquals(0, after.getXid());
+    assertEquals(7, castNonNullTuple(after.getOldTuple()).getInt(0));
+  }
+
+  @Test
+  void streamAbort() throws PSQLException {
+    PgOutputMessage abort = decode("stream_abort");
+    assertEquals(PgOutputMessageType.STREAM_ABORT, abort.getType());
+    assertEquals(736, abort.getXid());
+    assertEquals(737, abort.getSubXid());
+    assertEquals(LogSequenceNumber.INVALID_LSN, abort.getLSN());
+
+    abort = decode("stream_abort_parallel");
+    assertEquals(736, abort.getSubXid());
+    assertEquals(LogSequenceNumber.valueOf("16/3003100"), abort.getLSN());
+    assertEquals(747660001000000L, abort.getTimestampMicros());
+  }
+
+  @Test
+  void messageIsReused() throws PSQLException {
+    PgOutputMessage insert = decode("insert");
+    PgOutputMessage commit = decode("commit");
+    assertSame(insert, commit);
+    assertNull(commit.getRelation());
+    assertNull(commit.getNewTuple());
+  }
+
+  @Test
+  void unknownRelation() {
+    PSQLException e = assertThrows(PSQLException.class, () -> decode("insert_unknown_relation"));
+    assertEquals(PSQLState.PROTOCOL_VIOLATION.getState(), e.getSQLState());
+  }
+
+  @Test
+  void clearForgetsRelations() {
+    decoder.clear();
+    assertNull(decoder.getRelation(USERS));
+    assertThrows(PSQLException.class, () -> decode("insert"));
+  }
+
+  @Test
+  void unknownMessageType() {
+    PSQLException e = assertThrows(PSQLException.class, () -> decode("unknown_type"));
+    assertEquals(PSQLState.PROTOCOL_VIOLATION.getState(), e.getSQLState());
+  }
+
+  @Test
+  void truncatedMessage() {
+    PSQLException e = assertThrows(PSQLException.class, () -> decode("insert_truncated"));
+    assertEquals(PSQLState.PROTOCOL_VIOLATION.getState(), e.getSQLState());
+  }
+
+  @Test
+  void manyRelations() throws PSQLException {
+    // Forces the relation table to grow, with consecutive OIDs like the server assigns
+    for (int oid = 20000; oid < 20100; oid++) {
+      byte[] bytes = relationMessage(oid);
+      decoder.decode(ByteBuffer.wrap(bytes));
+    }
+    for (int oid = 20000; oid < 20100; oid++) {
+      PgOutputRelation relation = decoder.getRelation(oid);
+      assertNotNull(relation, "relation " + oid);
+      assertEquals(oid, relation.getOid());
+    }
+    assertNotNull(decoder.getRelation(USERS));
+  }
+
+  private static byte[] relationMessage(int oid) {
+    ByteBuffer buffer = ByteBuffer.allocate(64);
+    buffer.put((byte) 'R').putInt(oid);
+    buffer.put("s".getBytes(StandardCharsets.US_ASCII)).put((byte) 0);
+    buffer.put(("t" + oid).getBytes(StandardCharsets.US_ASCII)).put((byte) 0);
+    buffer.put((byte) 'd').putShort((short) 0);
+    byte[] bytes = new byte[buffer.position()];
+    buffer.flip();
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  private static PgOutputTuple castNonNullTuple(PgOutputTuple tuple) {
+    assertNotNull(tuple);
+    return tuple;
+  }
+}
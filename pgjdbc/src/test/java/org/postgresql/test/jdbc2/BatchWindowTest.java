@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGProperty;
+import org.postgresql.test.TestUtil;
+import org.postgresql.util.PSQLState;
+import org.postgresql.util.TestLogHandler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Tests {@code executeBatch} with {@code batchWindowBytes}, which reads the responses of the oldest
+ * statements instead of sending intermediate Syncs.
+ */
+@Isolated("Captures org.postgresql logs, so it needs to work in isolation from the other tests")
+public class BatchWindowTest extends BaseTest4 {
+  private static final Pattern FE_SYNC = Pattern.compile("FE=> Sync");
+  private static final Pattern WINDOW_FULL = Pattern.compile("Batch window full");
+  private static final Pattern WINDOW_LIMITED = Pattern.compile("batchWindowBytes=.* exceeds");
+  private static final int ROWS = 2000;
+
+  private TestLogHandler logHandler;
+  private Logger driverLogger;
+  private Level previousDriverLogLevel;
+
+  @Override
+  protected void updateProperties(Properties props) {
+    super.updateProperties(props);
+    // About 16 statements without results
+    PGProperty.BATCH_WINDOW_BYTES.set(props, 4000);
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    assumeNotSimpleQueryMode();
+    TestUtil.createTempTable(con, "batch_window_test", "a int4 primary key, c int4");
+    TestUtil.execute(con, "INSERT INTO batch_window_test(a, c) "
+        + "SELECT g, 0 FROM generate_series(1, " + ROWS + ") g");
+    driverLogger = LogManager.getLogManager().getLogger("org.postgresql");
+    previousDriverLogLevel = driverLogger.getLevel();
+    driverLogger.setLevel(Level.ALL);
+    logHandler = new TestLogHandler();
+    driverLogger.addHandler(logHandler);
+  }
+
+  @Override
+  protected void tearDown() throws SQLException {
+    if (driverLogger != null) {
+      driverLogger.removeHandler(logHandler);
+      driverLogger.setLevel(previousDriverLogLevel);
+    }
+    super.tearDown();
+  }
+
+  private PreparedStatement updateBatch(String setClause) throws SQLException {
+    PreparedStatement ps =
+        con.prepareStatement("UPDATE batch_window_test SET " + setClause + " WHERE a = ?");
+    for (int i = 1; i <= ROWS; i++) {
+      ps.setInt(1, i);
+      ps.addBatch();
+    }
+    return ps;
+  }
+
+  private long sumOfC() throws SQLException {
+    try (Statement st = con.createStatement();
+         ResultSet rs = st.executeQuery("SELECT sum(c) FROM batch_window_test")) {
+      assertTrue(rs.next());
+      return rs.getLong(1);
+    }
+  }
+
+  @Test
+  void largeBatchSendsSingleSync() throws SQLException {
+    int syncsBefore = logHandler.getRecordsMatching(FE_SYNC).size();
+    int[] counts;
+    try (PreparedStatement ps = updateBatch("c = c + 1")) {
+      counts = ps.executeBatch();
+    }
+    int[] expected = new int[ROWS];
+    Arrays.fill(expected, 1);
+    assertEquals(Arrays.toString(expected), Arrays.toString(counts));
+    assertEquals(1, logHandler.getRecordsMatching(FE_SYNC).size() - syncsBefore,
+        "the batch should not send intermediate Syncs");
+    assertFalse(logHandler.getRecordsMatching(WINDOW_FULL).isEmpty(),
+        "the batch should wait for the window");
+    assertEquals(ROWS, sumOfC());
+  }
+
+  @Test
+  void excessiveWindowIsLimited() throws SQLException {
+    Properties props = new Properties();
+    PGProperty.BATCH_WINDOW_BYTES.set(props, Integer.MAX_VALUE);
+    try (Connection limited = TestUtil.openDB(props)) {
+      assertFalse(logHandler.getRecordsMatching(WINDOW_LIMITED).isEmpty(),
+          "the window should be limited to the buffers of the connection");
+      int[] counts;
+      try (PreparedStatement ps = limited.prepareStatement(
+          "UPDATE batch_window_test SET c = c + 1 WHERE a = ?")) {
+        for (int i = 1; i <= ROWS; i++) {
+          ps.setInt(1, i);
+          ps.addBatch();
+        }
+        counts = ps.executeBatch();
+      }
+      assertEquals(ROWS, counts.length);
+    }
+  }
+
+  @Test
+  void failureReportsExactPosition() throws SQLException {
+    // a = 124 is batch entry 123
+    BatchUpdateException e;
+    try (PreparedStatement ps = updateBatch("c = c + 1 / (a - 124)")) {
+      e = assertThrows(BatchUpdateException.class, ps::executeBatch);
+    }
+    assertTrue(e.getMessage().startsWith("Batch entry 123 "), e.getMessage());
+    SQLException next = e.getNextException();
+    assertEquals(PSQLState.DIVISION_BY_ZERO.getState(), next.getSQLState(),
+        () -> next.getMessage());
+    int[] counts = e.getUpdateCounts();
+    assertEquals(ROWS, counts.length);
+    // In auto-commit mode, the batch is a single implicit transaction, so nothing is committed
+    for (int count : counts) {
+      assertEquals(Statement.EXECUTE_FAILED, count, Arrays.toString(counts));
+    }
+    assertEquals(0, sumOfC(), "the connection should be usable after the failure");
+  }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.postgresql.PGProperty;
+import org.postgresql.test.TestUtil;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * Tests {@code executeBatch} with {@code reWriteBatchedUpdates}, which executes the single-row
+ * UPDATE and DELETE statements of a batch as one statement that takes the parameters as arrays.
+ */
+public class BatchedUpdateReWriteTest extends BaseTest4 {
+  private static final int ROWS = 100;
+
+  @Override
+  protected void updateProperties(Properties props) {
+    super.updateProperties(props);
+    PGProperty.REWRITE_BATCHED_UPDATES.set(props, true);
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    TestUtil.createTempTable(con, "batch_update_test",
+        "a int4 primary key, b text, c numeric");
+    TestUtil.execute(con, "INSERT INTO batch_update_test(a, b, c) "
+        + "SELECT g, 'row' || g, 0 FROM generate_series(1, " + ROWS + ") g");
+  }
+
+  private int queryInt(String sql) throws SQLException {
+    try (Statement st = con.createStatement();
+         ResultSet rs = st.executeQuery(sql)) {
+      rs.next();
+      return rs.getInt(1);
+    }
+  }
+
+  private static int[] repeat(int value, int count) {
+    int[] result = new int[count];
+    Arrays.fill(result, value);
+    return result;
+  }
+
+  @Test
+  void update() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(
+        "UPDATE batch_update_test SET b = ?, c = ? WHERE a = ?")) {
+      for (int i = 1; i <= ROWS; i++) {
+        ps.setString(1, "updated" + i);
+        ps.setInt(2, i);
+        ps.setInt(3, i);
+        ps.addBatch();
+      }
+      assertArrayEquals(repeat(Statement.SUCCESS_NO_INFO, ROWS), ps.executeBatch());
+    }
+    assertEquals(ROWS, queryInt("SELECT count(*) FROM batch_update_test WHERE b = 'updated' || a"));
+    assertEquals(ROWS * (ROWS + 1) / 2, queryInt("SELECT sum(c) FROM batch_update_test"));
+  }
+
+  @Test
+  void updateNulls() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(
+        "UPDATE batch_update_test SET b = ? WHERE a = ?")) {
+      for (int i = 1; i <= 10; i++) {
+        ps.setString(1, i % 2 == 0 ? null : "odd");
+        ps.setInt(2, i);
+        ps.addBatch();
+      }
+      ps.executeBatch();
+    }
+    assertEquals(5, queryInt("SELECT count(*) FROM batch_update_test WHERE b IS NULL"));
+    assertEquals(5, queryInt("SELECT count(*) FROM batch_update_test WHERE b = 'odd'"));
+  }
+
+  @Test
+  void updateNoMatch() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(
+        "UPDATE batch_update_test SET c = ? WHERE a = ?")) {
+      for (int i = 1; i <= 3; i++) {
+        ps.setInt(1, 1);
+        ps.setInt(2, -i);
+        ps.addBatch();
+      }
+      assertArrayEquals(new int[]{0, 0, 0}, ps.executeBatch());
+    }
+  }
+
+  @Test
+  void duplicateKeysApplyInOrder() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(
+        "UPDATE batch_update_test SET c = ? WHERE a = ?")) {
+      for (int i = 1; i <= 5; i++) {
+        ps.setInt(1, i);
+        ps.setInt(2, 1);
+        ps.addBatch();
+        ps.setInt(1, i);
+        ps.setInt(2, 2);
+        ps.addBatch();
+      }
+      int[] counts = ps.executeBatch();
+      assertEquals(10, counts.length);
+    }
+    assertEquals(5, queryInt("SELECT c FROM batch_update_test WHERE a = 1"));
+    assertEquals(5, queryInt("SELECT c FROM batch_update_test WHERE a = 2"));
+  }
+
+  @Test
+  void updateOfKeyIsNotRewritten() throws SQLException {
+    TestUtil.createTempTable(con, "batch_update_key_test", "k int4");
+    TestUtil.execute(con, "INSERT INTO batch_update_key_test(k) VALUES (1)");
+    try (PreparedStatement ps = con.prepareStatement(
+        "UPDATE batch_update_key_test SET K = ? WHERE k = ?")) {
+      ps.setInt(1, 2);
+      ps.setInt(2, 1);
+      ps.addBatch();
+      ps.setInt(1, 3);
+      ps.setInt(2, 2);
+      ps.addBatch();
+      assertArrayEquals(new int[]{1, 1}, ps.executeBatch());
+    }
+    assertEquals(3, queryInt("SELECT k FROM batch_update_key_test"));
+  }
+
+  @Test
+  void delete() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(
+        "DELETE FROM batch_update_test WHERE a = ?")) {
+      for (int i = 1; i <= ROWS; i += 2) {
+        ps.setInt(1, i);
+        ps.addBatch();
+      }
+      assertArrayEquals(repeat(Statement.SUCCESS_NO_INFO, ROWS / 2), ps.executeBatch());
+    }
+    assertEquals(ROWS / 2, queryInt("SELECT count(*) FROM batch_update_test"));
+    assertEquals(0, queryInt("SELECT count(*) FROM batch_update_test WHERE a % 2 = 1"));
+  }
+
+  @Test
+  void deleteByTextKey() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(
+        "DELETE FROM batch_update_test WHERE b = ? AND a = ?")) {
+      for (int i = 1; i <= 10; i++) {
+        ps.setString(1, "row" + i);
+        ps.setInt(2, i);
+        ps.addBatch();
+      }
+      ps.executeBatch();
+    }
+    assertEquals(ROWS - 10, queryInt("SELECT count(*) FROM batch_update_test"));
+  }
+
+  @Test
+  void unsupportedStatementIsNotRewritten() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(
+        "UPDATE batch_update_test SET c = c + ? WHERE a > ?")) {
+      for (int i = 0; i < 3; i++) {
+        ps.setInt(1, 1);
+        ps.setInt(2, ROWS - 10);
+        ps.addBatch();
+      }
+      assertArrayEquals(new int[]{10, 10, 10}, ps.executeBatch());
+    }
+    assertEquals(30, queryInt("SELECT sum(c) FROM batch_update_test"));
+  }
+
+  @Test
+  void mixedParameterTypesAreNotRewritten() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(
+        "UPDATE batch_update_test SET c = ? WHERE a = ?")) {
+      ps.setInt(1, 1);
+      ps.setInt(2, 1);
+      ps.addBatch();
+      ps.setString(1, "2");
+      ps.setInt(2, 2);
+      ps.addBatch();
+      assertArrayEquals(new int[]{1, 1}, ps.executeBatch());
+    }
+    assertEquals(3, queryInt("SELECT sum(c) FROM batch_update_test"));
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.copy.BinaryCopyReader;
+import org.postgresql.copy.BinaryCopyWriter;
+import org.postgresql.copy.CopyManager;
+import org.postgresql.jdbc.PreferQueryMode;
+import org.postgresql.test.TestUtil;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Properties;
+import java.util.UUID;
+
+class BinaryCopyTest {
+  private static final String COLUMNS =
+      "id int8, flag bool, small int2, num int4, real4 float4, real8 float8, amount numeric, "
+          + "name text, data bytea, day date, ts timestamp, tstz timestamptz, uid uuid, "
+          + "ints int4[]";
+
+  private Connection con;
+  private CopyManager copyAPI;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    Properties props = new Properties();
+    // Binary arrays are not available in simple mode, see BinaryCopyWriter.writeArray
+    PGProperty.PREFER_QUERY_MODE.set(props, PreferQueryMode.EXTENDED.value());
+    con = TestUtil.openDB(props);
+    TestUtil.createTempTable(con, "binarycopytest", COLUMNS);
+    copyAPI = con.unwrap(PGConnection.class).getCopyAPI();
+  }
+
+  @AfterEach
+  void tearDown() throws SQLException {
+    TestUtil.closeDB(con);
+  }
+
+  @Test
+  void roundTrip() throws SQLException {
+    LocalDateTime ts = LocalDateTime.of(2024, 2, 29, 12, 34, 56, 123456000);
+    OffsetDateTime tstz = OffsetDateTime.of(1999, 12, 31, 23, 59, 59, 999999000, ZoneOffset.UTC);
+    UUID uid = UUID.randomUUID();
+    try (BinaryCopyWriter writer =
+             copyAPI.copyInBinary("COPY binarycopytest FROM STDIN (FORMAT binary)")) {
+      for (int i = 0; i < 100; i++) {
+        writer.startRow(14);
+        writer.writeLong(i);
+        writer.writeBoolean(i % 2 == 0);
+        writer.writeShort((short) -i);
+        writer.writeInt(i * 1000);
+        writer.writeFloat(i / 4f);
+        writer.writeDouble(i / 8d);
+        writer.writeNumeric(new BigDecimal("1234.5678").add(BigDecimal.valueOf(i)));
+        writer.writeText("row " + i + " é");
+        writer.writeBytes(new byte[]{(byte) i, 0, -1});
+        writer.writeDate(LocalDate.of(2000, 1, 1).plusDays(i));
+        writer.writeTimestamp(ts.plusSeconds(i));
+        writer.writeTimestamptz(tstz.plusDays(i));
+        writer.writeUUID(uid);
+        writer.writeArray("int4", new int[]{i, i + 1});
+      }
+      writer.startRow(14);
+      writer.writeLong(100);
+      for (int i = 1; i < 14; i++) {
+        writer.writeNull();
+      }
+      assertEquals(101, writer.endCopy());
+    }
+
+    try (Statement st = con.createStatement();
+         ResultSet rs = st.executeQuery(
+             "SELECT count(*), sum(num), min(ts)::text, max(name) FROM binarycopytest")) {
+      assertTrue(rs.next());
+      assertEquals(101, rs.getInt(1));
+      assertEquals(4950000, rs.getLong(2));
+      assertEquals("2024-02-29 12:34:56.123456", rs.getString(3));
+      assertEquals("row 99 é", rs.getString(4));
+    }
+
+    try (BinaryCopyReader reader = copyAPI.copyOutBinary(
+        "COPY (SELECT * FROM binarycopytest ORDER BY id) TO STDOUT (FORMAT binary)")) {
+      for (int i = 0; i < 100; i++) {
+        assertTrue(reader.nextRow());
+        assertEquals(14, reader.getFieldCount());
+        assertEquals(i, reader.readLong());
+        assertEquals(i % 2 == 0, reader.readBoolean());
+        assertEquals(-i, reader.readShort());
+        assertEquals(i * 1000, reader.readInt());
+        assertEquals(i / 4f, reader.readFloat());
+        assertEquals(i / 8d, reader.readDouble());
+        assertEquals(new BigDecimal("1234.5678").add(BigDecimal.valueOf(i)),
+            reader.readNumeric());
+        assertEquals("row " + i + " é", reader.readText());
+        assertArrayEquals(new byte[]{(byte) i, 0, -1}, reader.readBytes());
+        assertEquals(LocalDate.of(2000, 1, 1).plusDays(i), reader.readDate());
+        assertEquals(ts.plusSeconds(i), reader.readTimestamp());
+        assertEquals(tstz.plusDays(i), reader.readTimestamptz());
+        assertEquals(uid, reader.readUUID());
+        assertArrayEquals(new Integer[]{i, i + 1}, (Object[]) reader.readArray().getArray());
+        assertFalse(reader.wasNull());
+      }
+      assertTrue(reader.nextRow());
+      assertEquals(100, reader.readLong());
+      assertFalse(reader.readBoolean());
+      assertTrue(reader.wasNull());
+      assertEquals(0, reader.readInt() + reader.readShort());
+      assertTrue(reader.wasNull());
+      reader.skipField();
+      reader.skipField();
+      assertNull(reader.readNumeric());
+      assertNull(reader.readText());
+      // The remaining fields are skipped
+      assertFalse(reader.nextRow());
+      assertEquals(101, reader.getHandledRowCount());
+    }
+  }
+
+  @Test
+  void infinity() throws SQLException {
+    TestUtil.createTempTable(con, "binarycopyinf", "day date, ts timestamp, tstz timestamptz");
+    try (BinaryCopyWriter writer =
+             copyAPI.copyInBinary("COPY binarycopyinf FROM STDIN (FORMAT binary)")) {
+      writer.startRow(3);
+      writer.writeDate(LocalDate.MAX);
+      writer.writeTimestamp(LocalDateTime.MAX);
+      writer.writeTimestamptz(OffsetDateTime.MAX);
+      writer.startRow(3);
+      writer.writeDate(LocalDate.MIN);
+      writer.writeTimestamp(LocalDateTime.MIN);
+      writer.writeTimestamptz(OffsetDateTime.MIN);
+    }
+    try (Statement st = con.createStatement();
+         ResultSet rs = st.executeQuery(
+             "SELECT day::text, ts::text, tstz::text FROM binarycopyinf ORDER BY day DESC")) {
+      assertTrue(rs.next());
+      assertEquals("infinity", rs.getString(1));
+      assertEquals("infinity", rs.getString(2));
+      assertEquals("infinity", rs.getString(3));
+      assertTrue(rs.next());
+      assertEquals("-infinity", rs.getString(1));
+      assertEquals("-infinity", rs.getString(2));
+      assertEquals("-infinity", rs.getString(3));
+    }
+  }
+
+  @Test
+  void incompleteRowIsRejected() throws SQLException {
+    BinaryCopyWriter writer =
+        copyAPI.copyInBinary("COPY binarycopytest (id, name) FROM STDIN (FORMAT binary)");
+    writer.startRow(2);
+    writer.writeLong(1);
+    assertThrows(SQLException.class, () -> writer.startRow(2));
+    writer.writeText("one");
+    assertThrows(SQLException.class, () -> writer.writeNull());
+    writer.cancelCopy();
+    assertFalse(writer.isActive());
+    TestUtil.assertNumberOfRows(con, "binarycopytest", 0, "the COPY was cancelled");
+  }
+
+  @Test
+  void textFormatIsRejected() throws SQLException {
+    assertThrows(SQLException.class,
+        () -> copyAPI.copyInBinary("COPY binarycopytest FROM STDIN"));
+    assertThrows(SQLException.class,
+        () -> copyAPI.copyOutBinary("COPY binarycopytest TO STDOUT"));
+    TestUtil.assertNumberOfRows(con, "binarycopytest", 0,
+        "the connection should be usable after the rejected operations");
+  }
+}
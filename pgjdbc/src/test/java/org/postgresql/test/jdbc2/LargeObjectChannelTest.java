@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.postgresql.PGConnection;
+import org.postgresql.largeobject.LargeObject;
+import org.postgresql.largeobject.LargeObjectChannel;
+import org.postgresql.largeobject.LargeObjectManager;
+import org.postgresql.test.TestUtil;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+class LargeObjectChannelTest {
+  private Connection con;
+  private LargeObjectManager lom;
+  private long oid;
+  private byte[] data;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    con = TestUtil.openDB();
+    con.setAutoCommit(false);
+    lom = con.unwrap(PGConnection.class).getLargeObjectAPI();
+    oid = lom.createLO();
+    // Not a multiple of the chunk size, so the last chunk is short
+    data = new byte[100 * 1000 + 123];
+    ThreadLocalRandom.current().nextBytes(data);
+    try (LargeObject lo = lom.open(oid)) {
+      lo.write(data);
+    }
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    con.rollback();
+    TestUtil.closeDB(con);
+  }
+
+  private LargeObjectChannel openChannel() throws SQLException {
+    return lom.open(oid).getChannel(1000, 4);
+  }
+
+  private static byte[] readAll(LargeObjectChannel channel, int readSize) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate((int) channel.size() + 10);
+    ByteBuffer part = ByteBuffer.allocate(readSize);
+    while (true) {
+      part.clear();
+      int n = channel.read(part);
+      if (n == -1) {
+        break;
+      }
+      part.flip();
+      buffer.put(part);
+    }
+    return Arrays.copyOf(buffer.array(), buffer.position());
+  }
+
+  @Test
+  void readWithReadAhead() throws Exception {
+    for (int readSize : new int[]{1, 999, 1000, 4096, 200 * 1000}) {
+      try (LargeObjectChannel channel = openChannel()) {
+        assertArrayEquals(data, readAll(channel, readSize), "readSize " + readSize);
+        assertEquals(data.length, channel.position());
+        assertEquals(-1, channel.read(ByteBuffer.allocate(10)));
+      }
+    }
+  }
+
+  @Test
+  void readAsInputStream() throws Exception {
+    try (InputStream is = Channels.newInputStream(openChannel())) {
+      byte[] read = new byte[data.length];
+      int offset = 0;
+      int n;
+      while ((n = is.read(read, offset, read.length - offset)) > 0) {
+        offset += n;
+      }
+      assertEquals(data.length, offset);
+      assertArrayEquals(data, read);
+    }
+  }
+
+  @Test
+  void writeAndReadBack() throws Exception {
+    byte[] written = new byte[12345];
+    ThreadLocalRandom.current().nextBytes(written);
+    try (LargeObjectChannel channel = openChannel()) {
+      channel.truncate(0);
+      // A heap buffer larger than a chunk is sent without copying, small writes are coalesced
+      channel.write(ByteBuffer.wrap(written, 0, 5000));
+      for (int i = 5000; i < written.length; i += 7) {
+        channel.write(ByteBuffer.wrap(written, i, Math.min(7, written.length - i)));
+      }
+      assertEquals(written.length, channel.position());
+      assertEquals(written.length, channel.size());
+      channel.position(0);
+      assertArrayEquals(written, readAll(channel, 512));
+    }
+  }
+
+  @Test
+  void closingLargeObjectFlushesWrites() throws Exception {
+    LargeObject lo = lom.open(oid);
+    LargeObjectChannel channel = lo.getChannel(1000, 4);
+    channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}));
+    lo.close();
+    assertFalse(channel.isOpen());
+    try (LargeObject check = lom.open(oid)) {
+      assertArrayEquals(new byte[]{1, 2, 3, data[3]}, check.read(4));
+    }
+  }
+
+  @Test
+  void positionDiscardsReadAhead() throws Exception {
+    try (LargeObjectChannel channel = openChannel()) {
+      ByteBuffer buffer = ByteBuffer.allocate(10);
+      channel.read(buffer);
+      // The read-ahead has requested the next chunks, the position is still 10
+      assertEquals(10, channel.position());
+      channel.position(50000);
+      buffer.clear();
+      channel.read(buffer);
+      assertArrayEquals(Arrays.copyOfRange(data, 50000, 50010), buffer.array());
+
+      // Writing after a read writes at the position of the application
+      channel.write(ByteBuffer.wrap(new byte[]{42}));
+      channel.position(50010);
+      buffer.clear();
+      channel.read(buffer);
+      assertEquals(42, buffer.get(0));
+      assertEquals(data[50011], buffer.get(1));
+    }
+  }
+
+  @Test
+  void otherStatementDuringReadAhead() throws Exception {
+    try (LargeObjectChannel channel = openChannel()) {
+      ByteBuffer buffer = ByteBuffer.allocate(3000);
+      channel.read(buffer);
+      // The pending loread results are buffered before the query is sent
+      try (Statement st = con.createStatement();
+           ResultSet rs = st.executeQuery("SELECT 42")) {
+        rs.next();
+        assertEquals(42, rs.getInt(1));
+      }
+      byte[] rest = readAll(channel, 4096);
+      assertArrayEquals(Arrays.copyOfRange(data, 3000, data.length), rest);
+    }
+  }
+
+  @Test
+  void truncate() throws Exception {
+    try (LargeObjectChannel channel = openChannel()) {
+      channel.position(2000);
+      channel.truncate(data.length + 10);
+      // SeekableByteChannel does not grow the object
+      assertEquals(data.length, channel.size());
+      channel.truncate(1000);
+      assertEquals(1000, channel.size());
+      assertEquals(1000, channel.position());
+      assertEquals(-1, channel.read(ByteBuffer.allocate(1)));
+    }
+  }
+
+  @Test
+  void closedChannel() throws Exception {
+    LargeObjectChannel channel = openChannel();
+    channel.close();
+    assertThrows(ClosedChannelException.class, () -> channel.read(ByteBuffer.allocate(1)));
+    assertThrows(ClosedChannelException.class, channel::position);
+    // Closing twice is allowed
+    channel.close();
+  }
+}
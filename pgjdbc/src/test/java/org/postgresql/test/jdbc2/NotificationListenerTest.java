@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.postgresql.PGNotificationListener;
+import org.postgresql.PGProperty;
+import org.postgresql.test.TestUtil;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Timeout(60)
+class NotificationListenerTest {
+  private Connection listenConn;
+  private Connection notifyConn;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    Properties props = new Properties();
+    PGProperty.NOTIFICATION_QUEUE_SIZE.set(props, 4);
+    listenConn = TestUtil.openDB(props);
+    notifyConn = TestUtil.openDB();
+  }
+
+  @AfterEach
+  void tearDown() throws SQLException {
+    TestUtil.closeDB(listenConn);
+    TestUtil.closeDB(notifyConn);
+  }
+
+  /**
+   * Collects the notifications in a queue.
+   */
+  private static class QueueListener implements PGNotificationListener {
+    final BlockingQueue<PGNotification> notifications = new LinkedBlockingQueue<>();
+    final CountDownLatch closed = new CountDownLatch(1);
+    volatile @Nullable SQLException closeCause;
+
+    @Override
+    public void notification(PGNotification notification) {
+      notifications.add(notification);
+    }
+
+    @Override
+    public void closed(@Nullable SQLException cause) {
+      closeCause = cause;
+      closed.countDown();
+    }
+
+    PGNotification take() throws InterruptedException {
+      PGNotification notification = notifications.poll(10, TimeUnit.SECONDS);
+      assertNotNull(notification, "notification should be delivered");
+      return notification;
+    }
+  }
+
+  private void sendNotify(String channel, String payload) throws SQLException {
+    try (Statement st = notifyConn.createStatement()) {
+      st.execute("NOTIFY \"" + channel + "\", '" + payload + "'");
+    }
+  }
+
+  @Test
+  void deliversWithoutPolling() throws Exception {
+    QueueListener first = new QueueListener();
+    QueueListener second = new QueueListener();
+    PGConnection pgConn = listenConn.unwrap(PGConnection.class);
+    pgConn.addNotificationListener("channelOne", first);
+    pgConn.addNotificationListener("channel two", second);
+
+    sendNotify("channelOne", "a");
+    sendNotify("channel two", "b");
+
+    PGNotification notification = first.take();
+    assertEquals("channelOne", notification.getName());
+    assertEquals("a", notification.getParameter());
+    notification = second.take();
+    assertEquals("channel two", notification.getName());
+    assertEquals("b", notification.getParameter());
+    assertTrue(first.notifications.isEmpty());
+  }
+
+  @Test
+  void slowListenerReceivesAllInOrder() throws Exception {
+    List<String> received = new ArrayList<>();
+    CountDownLatch done = new CountDownLatch(50);
+    listenConn.unwrap(PGConnection.class).addNotificationListener("slow", notification -> {
+      received.add(notification.getParameter());
+      try {
+        Thread.sleep(5);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      done.countDown();
+    });
+
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      sendNotify("slow", String.valueOf(i));
+      expected.add(String.valueOf(i));
+    }
+    assertTrue(done.await(30, TimeUnit.SECONDS), "all the notifications should be delivered");
+    assertEquals(expected, received);
+  }
+
+  @Test
+  void queriesWhileListening() throws Exception {
+    QueueListener listener = new QueueListener();
+    listenConn.unwrap(PGConnection.class).addNotificationListener("busy", listener);
+    for (int i = 0; i < 20; i++) {
+      try (Statement st = listenConn.createStatement();
+           ResultSet rs = st.executeQuery("SELECT " + i)) {
+        rs.next();
+        assertEquals(i, rs.getInt(1));
+      }
+      sendNotify("busy", String.valueOf(i));
+    }
+    for (int i = 0; i < 20; i++) {
+      assertEquals(String.valueOf(i), listener.take().getParameter());
+    }
+  }
+
+  @Test
+  void otherChannelsStayForGetNotifications() throws Exception {
+    QueueListener listener = new QueueListener();
+    PGConnection pgConn = listenConn.unwrap(PGConnection.class);
+    pgConn.addNotificationListener("listened", listener);
+    try (Statement st = listenConn.createStatement()) {
+      st.execute("LISTEN polled");
+    }
+    sendNotify("polled", "p");
+    sendNotify("listened", "l");
+
+    assertEquals("l", listener.take().getParameter());
+    PGNotification[] notifications = pgConn.getNotifications();
+    assertEquals(1, notifications.length);
+    assertEquals("polled", notifications[0].getName());
+  }
+
+  @Test
+  void removeListenerUnlistens() throws Exception {
+    QueueListener first = new QueueListener();
+    QueueListener second = new QueueListener();
+    PGConnection pgConn = listenConn.unwrap(PGConnection.class);
+    pgConn.addNotificationListener("removed", first);
+    pgConn.addNotificationListener("removed", second);
+
+    pgConn.removeNotificationListener("removed", first);
+    assertEquals(1, listeningChannels());
+    sendNotify("removed", "x");
+    assertEquals("x", second.take().getParameter());
+    assertTrue(first.notifications.isEmpty());
+
+    pgConn.removeNotificationListener("removed", second);
+    assertEquals(0, listeningChannels());
+  }
+
+  @Test
+  void addAfterRemoveRestartsReader() throws Exception {
+    PGConnection pgConn = listenConn.unwrap(PGConnection.class);
+    // The reader may be stopping when the next listener is added
+    for (int i = 0; i < 20; i++) {
+      QueueListener listener = new QueueListener();
+      pgConn.addNotificationListener("readded", listener);
+      sendNotify("readded", String.valueOf(i));
+      assertEquals(String.valueOf(i), listener.take().getParameter());
+      pgConn.removeNotificationListener("readded", listener);
+    }
+  }
+
+  private int listeningChannels() throws SQLException {
+    try (Statement st = listenConn.createStatement();
+         ResultSet rs = st.executeQuery("SELECT count(*) FROM pg_listening_channels()")) {
+      rs.next();
+      return rs.getInt(1);
+    }
+  }
+
+  @Test
+  void closeNotifiesListeners() throws Exception {
+    QueueListener listener = new QueueListener();
+    listenConn.unwrap(PGConnection.class).addNotificationListener("closing", listener);
+    listenConn.close();
+    assertTrue(listener.closed.await(10, TimeUnit.SECONDS), "closed should be called");
+    assertNull(listener.closeCause);
+  }
+}
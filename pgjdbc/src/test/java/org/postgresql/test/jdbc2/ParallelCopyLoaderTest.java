@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.copy.ParallelCopyLoader;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.postgresql.test.TestUtil;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+class ParallelCopyLoaderTest {
+  private Connection con;
+  private PGSimpleDataSource dataSource;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    con = TestUtil.openDB();
+    // The workers use their own connections, so the table can't be temporary
+    TestUtil.createTable(con, "parallelcopytest", "id int4, name text");
+    dataSource = new PGSimpleDataSource();
+    dataSource.setURL(TestUtil.getURL());
+    dataSource.setUser(TestUtil.getUser());
+    dataSource.setPassword(TestUtil.getPassword());
+  }
+
+  @AfterEach
+  void tearDown() throws SQLException {
+    try {
+      TestUtil.dropTable(con, "parallelcopytest");
+    } finally {
+      TestUtil.closeDB(con);
+    }
+  }
+
+  private static List<byte[]> rows(int count) {
+    List<byte[]> rows = new ArrayList<>();
+    for (int i = 1; i <= count; i++) {
+      rows.add((i + ",row " + i + "\n").getBytes(StandardCharsets.UTF_8));
+    }
+    return rows;
+  }
+
+  @Test
+  void loadsAllChunks() throws SQLException {
+    ParallelCopyLoader loader =
+        new ParallelCopyLoader(dataSource, "COPY parallelcopytest FROM STDIN (FORMAT csv)");
+    loader.setConnections(3);
+    loader.setChunkSize(1000);
+    loader.setMaxPendingChunks(2);
+    assertEquals(10000, loader.load(rows(10000).iterator()));
+
+    try (Statement st = con.createStatement();
+         ResultSet rs = st.executeQuery(
+             "SELECT count(*), count(DISTINCT id), sum(id) FROM parallelcopytest")) {
+      assertTrue(rs.next());
+      assertEquals(10000, rs.getInt(1));
+      assertEquals(10000, rs.getInt(2));
+      assertEquals(50005000L, rs.getLong(3));
+    }
+  }
+
+  @Test
+  void emptySource() throws SQLException {
+    ParallelCopyLoader loader =
+        new ParallelCopyLoader(dataSource, "COPY parallelcopytest FROM STDIN (FORMAT csv)");
+    assertEquals(0, loader.load(new ArrayList<byte[]>().iterator()));
+  }
+
+  @Test
+  void invalidRowFailsLoad() {
+    List<byte[]> rows = rows(1000);
+    rows.set(500, "not a number,oops\n".getBytes(StandardCharsets.UTF_8));
+    ParallelCopyLoader loader =
+        new ParallelCopyLoader(dataSource, "COPY parallelcopytest FROM STDIN (FORMAT csv)");
+    loader.setConnections(2);
+    loader.setChunkSize(100);
+    SQLException e = assertThrows(SQLException.class, () -> loader.load(rows.iterator()));
+    // invalid_text_representation is not retried
+    assertEquals("22P02", e.getSQLState());
+  }
+
+  @Test
+  void rowSourceFailureFailsLoad() {
+    RuntimeException failure = new IllegalStateException("source failed");
+    Iterator<byte[]> rows = new Iterator<byte[]>() {
+      private int count;
+
+      @Override
+      public boolean hasNext() {
+        return true;
+      }
+
+      @Override
+      public byte[] next() {
+        if (++count > 100) {
+          throw failure;
+        }
+        return (count + ",row\n").getBytes(StandardCharsets.UTF_8);
+      }
+    };
+    ParallelCopyLoader loader =
+        new ParallelCopyLoader(dataSource, "COPY parallelcopytest FROM STDIN (FORMAT csv)");
+    SQLException e = assertThrows(SQLException.class, () -> loader.load(rows));
+    assertSame(failure, e.getCause());
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGProperty;
+import org.postgresql.PGResultSetMetaData;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.test.TestUtil;
+import org.postgresql.util.TestLogHandler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+class SharedFieldMetadataCacheTest {
+  private static final Pattern FIELD_METADATA_QUERY_LOG_FILTER =
+      Pattern.compile("FE=> Parse.*pg_catalog\\.pg_attrdef");
+
+  private Connection con;
+  private TestLogHandler log;
+  private Logger driverLogger;
+  private Level driverLogLevel;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    con = openDB();
+    // The other connections read it, so the table can't be temporary
+    TestUtil.createTable(con, "sharedfieldmetadatatest", "id serial, a int4 not null, b text");
+    log = new TestLogHandler();
+    driverLogger = LogManager.getLogManager().getLogger("org.postgresql");
+    driverLogger.addHandler(log);
+    driverLogLevel = driverLogger.getLevel();
+    driverLogger.setLevel(Level.ALL);
+  }
+
+  @AfterEach
+  void tearDown() throws SQLException {
+    driverLogger.removeHandler(log);
+    driverLogger.setLevel(driverLogLevel);
+    try {
+      TestUtil.dropTable(con, "sharedfieldmetadatatest");
+    } finally {
+      TestUtil.closeDB(con);
+    }
+  }
+
+  private static Connection openDB() throws Exception {
+    Properties props = new Properties();
+    PGProperty.SHARED_FIELD_METADATA_CACHE.set(props, true);
+    return TestUtil.openDB(props);
+  }
+
+  private int fieldMetadataQueries() {
+    return log.getRecordsMatching(FIELD_METADATA_QUERY_LOG_FILTER).size();
+  }
+
+  private static String baseColumnName(Connection connection, String sql, int column)
+      throws SQLException {
+    try (Statement st = connection.createStatement();
+         ResultSet rs = st.executeQuery(sql)) {
+      return ((PGResultSetMetaData) rs.getMetaData()).getBaseColumnName(column);
+    }
+  }
+
+  @Test
+  void sharedAcrossConnections() throws Exception {
+    assertEquals("a", baseColumnName(con, "SELECT a AS x FROM sharedfieldmetadatatest", 1));
+    assertEquals(1, fieldMetadataQueries());
+
+    try (Connection second = openDB()) {
+      try (Statement st = second.createStatement();
+           ResultSet rs = st.executeQuery("SELECT id, a, b FROM sharedfieldmetadatatest")) {
+        ResultSetMetaData md = rs.getMetaData();
+        assertEquals(ResultSetMetaData.columnNoNulls, md.isNullable(2));
+        assertTrue(md.isAutoIncrement(1));
+        assertEquals("b", ((PGResultSetMetaData) md).getBaseColumnName(3));
+      }
+      assertEquals(1, fieldMetadataQueries(),
+          "the first lookup should warm all the columns of the table for the other connections");
+    }
+  }
+
+  @Test
+  void alterInvalidatesSharedCache() throws Exception {
+    assertEquals("b", baseColumnName(con, "SELECT b FROM sharedfieldmetadatatest", 1));
+
+    try (Statement st = con.createStatement()) {
+      st.execute("ALTER TABLE sharedfieldmetadatatest RENAME COLUMN b TO c");
+    }
+
+    try (Connection second = openDB()) {
+      assertEquals("c", baseColumnName(second, "SELECT c FROM sharedfieldmetadatatest", 1));
+    }
+    assertEquals(2, fieldMetadataQueries());
+  }
+
+  @Test
+  void disabledByDefault() throws Exception {
+    try (Connection plain = TestUtil.openDB()) {
+      assertNull(plain.unwrap(BaseConnection.class).getQueryExecutor()
+          .getSharedFieldMetadataCache());
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.postgresql.PGProperty;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.Oid;
+import org.postgresql.core.TypeInfo;
+import org.postgresql.test.TestUtil;
+import org.postgresql.util.TestLogHandler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+class SharedTypeInfoCacheTest {
+  private static final Pattern SQL_TYPE_QUERY_LOG_FILTER =
+      Pattern.compile("querying SQL typecode for pg type");
+
+  private Connection con;
+  private TestLogHandler log;
+  private Logger driverLogger;
+  private Level driverLogLevel;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    con = openDB();
+    // The other connections look it up, so the type can't be temporary
+    try (Statement st = con.createStatement()) {
+      st.execute("DROP TYPE IF EXISTS sharedtypeinfotest");
+      st.execute("CREATE TYPE sharedtypeinfotest AS (a int4, b text)");
+    }
+    log = new TestLogHandler();
+    driverLogger = LogManager.getLogManager().getLogger("org.postgresql");
+    driverLogger.addHandler(log);
+    driverLogLevel = driverLogger.getLevel();
+    driverLogger.setLevel(Level.ALL);
+  }
+
+  @AfterEach
+  void tearDown() throws SQLException {
+    driverLogger.removeHandler(log);
+    driverLogger.setLevel(driverLogLevel);
+    try (Statement st = con.createStatement()) {
+      st.execute("DROP TYPE IF EXISTS sharedtypeinfotest");
+    } finally {
+      TestUtil.closeDB(con);
+    }
+  }
+
+  private static Connection openDB() throws Exception {
+    Properties props = new Properties();
+    PGProperty.SHARED_TYPE_INFO_CACHE.set(props, true);
+    return TestUtil.openDB(props);
+  }
+
+  private static TypeInfo typeInfo(Connection connection) throws SQLException {
+    return connection.unwrap(BaseConnection.class).getTypeInfo();
+  }
+
+  private int typeQueries() {
+    return log.getRecordsMatching(SQL_TYPE_QUERY_LOG_FILTER).size();
+  }
+
+  @Test
+  void sharedAcrossConnections() throws Exception {
+    int oid = typeInfo(con).getPGType("public.sharedtypeinfotest");
+    assertNotEquals(Oid.UNSPECIFIED, oid);
+    assertEquals(Types.STRUCT, typeInfo(con).getSQLType(oid));
+    assertEquals(1, typeQueries());
+
+    try (Connection second = openDB()) {
+      TypeInfo typeInfo = typeInfo(second);
+      assertEquals(oid, typeInfo.getPGType("public.sharedtypeinfotest"));
+      assertEquals(Types.STRUCT, typeInfo.getSQLType(oid));
+      assertEquals(1, typeQueries(), "the second connection should use the shared catalog");
+    }
+  }
+
+  @Test
+  void dropInvalidatesSharedCatalog() throws Exception {
+    int oid = typeInfo(con).getPGType("public.sharedtypeinfotest");
+    assertEquals(Types.STRUCT, typeInfo(con).getSQLType(oid));
+    assertNotNull(con.unwrap(BaseConnection.class).getQueryExecutor().getSharedTypeCatalog()
+        .getOid("public.sharedtypeinfotest"));
+
+    try (Statement st = con.createStatement()) {
+      st.execute("DROP TYPE sharedtypeinfotest");
+      st.execute("CREATE TYPE sharedtypeinfotest AS ENUM ('a', 'b')");
+    }
+    assertNull(con.unwrap(BaseConnection.class).getQueryExecutor().getSharedTypeCatalog()
+        .getOid("public.sharedtypeinfotest"), "DROP should clear the shared catalog");
+
+    try (Connection second = openDB()) {
+      TypeInfo typeInfo = typeInfo(second);
+      int newOid = typeInfo.getPGType("public.sharedtypeinfotest");
+      assertNotEquals(oid, newOid, "the recreated type has a new oid");
+      assertEquals(Types.VARCHAR, typeInfo.getSQLType(newOid));
+    }
+  }
+
+  @Test
+  void disabledByDefault() throws Exception {
+    try (Connection plain = TestUtil.openDB()) {
+      assertNull(plain.unwrap(BaseConnection.class).getQueryExecutor().getSharedTypeCatalog());
+    }
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.postgresql.test.TestUtil;
+import org.postgresql.util.PSQLState;
+import org.postgresql.util.internal.VirtualThreads;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs more virtual threads than carrier threads, so the tests take much longer if the driver pins
+ * the carriers while the threads wait for the server or for a connection.
+ */
+class VirtualThreadTest {
+  private static final int PARALLELISM = Integer.getInteger(
+      "jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+
+  @BeforeAll
+  static void requireVirtualThreads() {
+    assumeTrue(VirtualThreads.isSupported(), "Virtual threads require Java 21 or later");
+  }
+
+  private interface Task {
+    void run(int index) throws Exception;
+  }
+
+  /**
+   * Runs the task in the given number of virtual threads, and returns the failures.
+   */
+  private static List<Throwable> runVirtual(int count, Task task) throws InterruptedException {
+    ConcurrentLinkedQueue<Throwable> failures = new ConcurrentLinkedQueue<>();
+    CountDownLatch start = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      int index = i;
+      Thread thread = VirtualThreads.unstarted("VirtualThreadTest-" + i, () -> {
+        try {
+          start.await();
+          task.run(index);
+        } catch (Throwable e) {
+          failures.add(e);
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join(TimeUnit.MINUTES.toMillis(1));
+    }
+    return new ArrayList<>(failures);
+  }
+
+  private static List<Connection> openConnections(int count) throws Exception {
+    List<Connection> connections = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      connections.add(TestUtil.openDB());
+    }
+    return connections;
+  }
+
+  private static void closeConnections(List<Connection> connections) throws SQLException {
+    for (Connection connection : connections) {
+      TestUtil.closeDB(connection);
+    }
+  }
+
+  @Test
+  void waitingForServerDoesNotPinCarriers() throws Exception {
+    int count = Math.min(PARALLELISM * 4, 40);
+    assumeTrue(count >= PARALLELISM * 2, "too many carrier threads for the connection limit");
+    List<Connection> connections = openConnections(count);
+    try {
+      long startNanos = System.nanoTime();
+      List<Throwable> failures = runVirtual(count, index -> {
+        try (Statement st = connections.get(index).createStatement()) {
+          st.execute("SELECT pg_sleep(1)");
+        }
+      });
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+      assertEquals(new ArrayList<>(), failures);
+      // Pinned carriers would run the sleeps in at least two rounds
+      assertTrue(elapsedMillis < 1900,
+          count + " sleeps of 1s on " + PARALLELISM + " carriers took " + elapsedMillis + "ms");
+    } finally {
+      closeConnections(connections);
+    }
+  }
+
+  @Test
+  void sharedConnection() throws Exception {
+    // The threads wait for each other on the connection lock
+    int count = PARALLELISM * 8;
+    AtomicInteger sum = new AtomicInteger();
+    try (Connection con = TestUtil.openDB()) {
+      List<Throwable> failures = runVirtual(count, index -> {
+        for (int i = 0; i < 20; i++) {
+          try (PreparedStatement ps = con.prepareStatement("SELECT ?::int4")) {
+            ps.setInt(1, index);
+            try (ResultSet rs = ps.executeQuery()) {
+              assertTrue(rs.next());
+              sum.addAndGet(rs.getInt(1));
+            }
+          }
+        }
+      });
+      assertEquals(new ArrayList<>(), failures);
+      assertEquals(20 * count * (count - 1) / 2, sum.get());
+    }
+  }
+
+  @Test
+  void queryTimeouts() throws Exception {
+    int count = Math.min(PARALLELISM * 4, 40);
+    List<Connection> connections = openConnections(count);
+    AtomicInteger canceled = new AtomicInteger();
+    try {
+      long startNanos = System.nanoTime();
+      List<Throwable> failures = runVirtual(count, index -> {
+        try (Statement st = connections.get(index).createStatement()) {
+          st.setQueryTimeout(1);
+          st.execute("SELECT pg_sleep(30)");
+        } catch (SQLException e) {
+          if (PSQLState.QUERY_CANCELED.getState().equals(e.getSQLState())) {
+            canceled.incrementAndGet();
+          } else {
+            throw e;
+          }
+        }
+      });
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+      assertEquals(new ArrayList<>(), failures);
+      assertEquals(count, canceled.get(), "all the statements should time out");
+      // The cancel requests are sent concurrently, not one after the other by the timer thread
+      assertTrue(elapsedMillis < 10000, count + " timeouts took " + elapsedMillis + "ms");
+    } finally {
+      closeConnections(connections);
+    }
+  }
+}
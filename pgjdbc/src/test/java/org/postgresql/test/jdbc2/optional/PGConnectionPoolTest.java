@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2.optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGConnection;
+import org.postgresql.ds.PGConnectionPool;
+import org.postgresql.ds.common.BaseDataSource;
+import org.postgresql.test.TestUtil;
+import org.postgresql.util.PSQLException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Tests for {@link PGConnectionPool}.
+ */
+@Timeout(60)
+public class PGConnectionPoolTest extends BaseDataSourceTest {
+  @Override
+  public void tearDown() throws SQLException {
+    super.tearDown();
+    if (bds instanceof PGConnectionPool) {
+      ((PGConnectionPool) bds).close();
+    }
+  }
+
+  @Override
+  protected void initializeDataSource() throws PSQLException {
+    if (bds == null) {
+      PGConnectionPool pool = new PGConnectionPool();
+      setupDataSource(pool);
+      pool.setMaxConnections(4);
+      pool.setConnectionTimeout(2000);
+      bds = pool;
+    }
+  }
+
+  private PGConnectionPool getPool() throws PSQLException {
+    initializeDataSource();
+    return (PGConnectionPool) bds;
+  }
+
+  private static int getBackendPid(Connection con) throws SQLException {
+    return con.unwrap(PGConnection.class).getBackendPID();
+  }
+
+  private static void await(BooleanSupplier condition, String message)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() - deadline < 0, message);
+      Thread.sleep(20);
+    }
+  }
+
+  /**
+   * In this case, we *do* want it to be pooled.
+   */
+  @Override
+  public void testNotPooledConnection() throws SQLException {
+    con = getDataSourceConnection();
+    int pid = getBackendPid(con);
+    con.close();
+    con = getDataSourceConnection();
+    int pid2 = getBackendPid(con);
+    con.close();
+    assertEquals(pid, pid2, "PGConnectionPool doesn't appear to be pooling connections!");
+  }
+
+  /**
+   * The pool of the JNDI lookup is a new pool, so close the original one.
+   */
+  @Override
+  protected void compareJndiDataSource(BaseDataSource oldbds, BaseDataSource bds) {
+    super.compareJndiDataSource(oldbds, bds);
+    ((PGConnectionPool) oldbds).close();
+  }
+
+  @Test
+  public void testPropertiesCantChangeAfterStart() throws SQLException {
+    PGConnectionPool pool = getPool();
+    pool.initialize();
+    assertThrows(IllegalStateException.class, () -> pool.setMaxConnections(5));
+  }
+
+  @Test
+  public void testTimeoutWhenExhausted() throws SQLException {
+    PGConnectionPool pool = getPool();
+    List<Connection> connections = new ArrayList<>();
+    try {
+      for (int i = 0; i < pool.getMaxConnections(); i++) {
+        connections.add(pool.getConnection());
+      }
+      assertEquals(4, pool.getActiveConnections());
+      long start = System.nanoTime();
+      assertThrows(PSQLException.class, pool::getConnection);
+      assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(1900),
+          "getConnection should wait for connectionTimeout");
+    } finally {
+      for (Connection connection : connections) {
+        connection.close();
+      }
+    }
+    assertEquals(0, pool.getActiveConnections());
+    assertEquals(4, pool.getIdleConnections());
+  }
+
+  @Test
+  public void testReturnedConnectionIsHandedToWaiter() throws Exception {
+    PGConnectionPool pool = getPool();
+    List<Connection> connections = new ArrayList<>();
+    for (int i = 0; i < pool.getMaxConnections(); i++) {
+      connections.add(pool.getConnection());
+    }
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Integer> waiter = executor.submit(() -> {
+        try (Connection connection = pool.getConnection()) {
+          return getBackendPid(connection);
+        }
+      });
+      await(() -> pool.getThreadsAwaitingConnection() == 1, "the thread should wait");
+      int pid = getBackendPid(connections.get(0));
+      connections.get(0).close();
+      assertEquals(pid, waiter.get(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdown();
+      for (Connection connection : connections) {
+        connection.close();
+      }
+    }
+  }
+
+  @Test
+  public void testConcurrentBorrow() throws Exception {
+    PGConnectionPool pool = getPool();
+    ExecutorService executor = Executors.newFixedThreadPool(16);
+    try {
+      List<Future<Integer>> results = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        results.add(executor.submit(() -> {
+          int sum = 0;
+          for (int j = 0; j < 50; j++) {
+            try (Connection connection = pool.getConnection();
+                 Statement st = connection.createStatement();
+                 ResultSet rs = st.executeQuery("SELECT " + j)) {
+              rs.next();
+              sum += rs.getInt(1);
+            }
+          }
+          return sum;
+        }));
+      }
+      for (Future<Integer> result : results) {
+        assertEquals(49 * 50 / 2, result.get(30, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertTrue(pool.getTotalConnections() <= 4, "the pool should not exceed maxConnections");
+    assertEquals(0, pool.getActiveConnections());
+  }
+
+  @Test
+  public void testUnfinishedTransactionIsRolledBack() throws SQLException {
+    PGConnectionPool pool = getPool();
+    try (Connection connection = pool.getConnection()) {
+      connection.setAutoCommit(false);
+      try (Statement st = connection.createStatement()) {
+        st.executeUpdate("INSERT INTO poolingtest VALUES (3, 'Rolled back')");
+      }
+    }
+    try (Connection connection = pool.getConnection();
+         Statement st = connection.createStatement();
+         ResultSet rs = st.executeQuery("SELECT count(*) FROM poolingtest")) {
+      assertTrue(connection.getAutoCommit(), "autocommit should be reset");
+      rs.next();
+      assertEquals(2, rs.getInt(1));
+    }
+  }
+
+  @Test
+  public void testMinIdleAndIdleTimeout() throws Exception {
+    PGConnectionPool pool = getPool();
+    pool.setMinIdle(1);
+    pool.setIdleTimeout(300);
+    pool.initialize();
+    await(() -> pool.getIdleConnections() == 1, "minIdle connections should be opened");
+
+    List<Connection> connections = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      connections.add(pool.getConnection());
+    }
+    for (Connection connection : connections) {
+      connection.close();
+    }
+    assertEquals(3, pool.getIdleConnections());
+    await(() -> pool.getTotalConnections() == 1, "idle connections should be closed");
+  }
+
+  @Test
+  public void testMaxLifetime() throws Exception {
+    PGConnectionPool pool = getPool();
+    pool.setMaxLifetime(500);
+    int pid;
+    try (Connection connection = pool.getConnection()) {
+      pid = getBackendPid(connection);
+    }
+    Thread.sleep(600);
+    try (Connection connection = pool.getConnection()) {
+      assertNotEquals(pid, getBackendPid(connection), "expired connection should be replaced");
+    }
+  }
+
+  @Test
+  public void testBrokenConnectionIsReplaced() throws Exception {
+    PGConnectionPool pool = getPool();
+    pool.setValidationInterval(0);
+    int pid;
+    try (Connection connection = pool.getConnection()) {
+      pid = getBackendPid(connection);
+    }
+    try (Connection other = TestUtil.openDB();
+         Statement st = other.createStatement()) {
+      st.execute("SELECT pg_terminate_backend(" + pid + ")");
+    }
+    Thread.sleep(100);
+    try (Connection connection = pool.getConnection()) {
+      assertNotEquals(pid, getBackendPid(connection), "broken connection should be replaced");
+      assertTrue(connection.isValid(5));
+    }
+  }
+
+  @Test
+  public void testLeakedConnectionIsReplaced() throws Exception {
+    PGConnectionPool pool = getPool();
+    pool.setLeakDetection(true);
+    Set<Integer> pids = new HashSet<>();
+    for (int i = 0; i < pool.getMaxConnections(); i++) {
+      pids.add(getBackendPid(pool.getConnection()));
+    }
+    assertEquals(4, pids.size());
+    await(() -> {
+      System.gc();
+      return pool.getActiveConnections() == 0;
+    }, "leaked connections should be returned");
+    try (Connection connection = pool.getConnection()) {
+      assertFalse(pids.contains(getBackendPid(connection)), "leaked connection should be closed");
+    }
+  }
+
+  @Test
+  public void testClose() throws SQLException {
+    PGConnectionPool pool = getPool();
+    Connection connection = pool.getConnection();
+    pool.close();
+    assertTrue(connection.isClosed(), "connections in use should be closed");
+    assertEquals(0, pool.getTotalConnections());
+    assertThrows(PSQLException.class, pool::getConnection);
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc4;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGProperty;
+import org.postgresql.PGResultSetMetaData;
+import org.postgresql.PGStatement;
+import org.postgresql.core.Field;
+import org.postgresql.test.TestUtil;
+import org.postgresql.test.jdbc2.BaseTest4;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Tests {@code binaryTransferMode=always}, which describes one-shot statements before binding
+ * them, so their results use binary format.
+ */
+public class BinaryTransferModeTest extends BaseTest4 {
+
+  @Override
+  protected void updateProperties(Properties props) {
+    super.updateProperties(props);
+    PGProperty.BINARY_TRANSFER_MODE.set(props, "always");
+  }
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    assumeNotSimpleQueryMode();
+  }
+
+  @Test
+  public void oneShotStatement() throws SQLException {
+    try (Statement st = con.createStatement();
+         ResultSet rs = st.executeQuery("SELECT 42::int4, 'abc'::text, 1.5::numeric")) {
+      assertTrue(rs.next());
+      // text has the same binary and text form, so it stays text
+      assertEquals(Field.BINARY_FORMAT, getFormat(rs, 1));
+      assertEquals(Field.TEXT_FORMAT, getFormat(rs, 2));
+      assertEquals(Field.BINARY_FORMAT, getFormat(rs, 3));
+      assertEquals(42, rs.getInt(1));
+      assertEquals("abc", rs.getString(2));
+      assertEquals(new BigDecimal("1.5"), rs.getBigDecimal(3));
+    }
+  }
+
+  @Test
+  public void preparedStatementBelowThreshold() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement("SELECT ?::int8 + 1")) {
+      ((PGStatement) ps).setPrepareThreshold(0);
+      for (int i = 0; i < 3; i++) {
+        ps.setLong(1, i);
+        try (ResultSet rs = ps.executeQuery()) {
+          assertTrue(rs.next());
+          assertEquals(Field.BINARY_FORMAT, getFormat(rs, 1));
+          assertEquals(i + 1, rs.getLong(1));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void firstStatementOfTransaction() throws SQLException {
+    con.setAutoCommit(false);
+    try (Statement st = con.createStatement()) {
+      for (int i = 0; i < 2; i++) {
+        try (ResultSet rs = st.executeQuery("SELECT now()::timestamptz, 7::int2")) {
+          assertTrue(rs.next());
+          assertEquals(Field.BINARY_FORMAT, getFormat(rs, 2));
+          assertEquals(7, rs.getShort(2));
+        }
+      }
+    } finally {
+      con.rollback();
+      con.setAutoCommit(true);
+    }
+  }
+
+  @Test
+  public void statementWithoutRows() throws SQLException {
+    TestUtil.createTempTable(con, "binary_mode_test", "a int4");
+    try (Statement st = con.createStatement()) {
+      assertEquals(1, st.executeUpdate("INSERT INTO binary_mode_test VALUES (1)"));
+      try (ResultSet rs = st.executeQuery(
+          "INSERT INTO binary_mode_test VALUES (2) RETURNING a")) {
+        assertTrue(rs.next());
+        assertEquals(Field.BINARY_FORMAT, getFormat(rs, 1));
+        assertEquals(2, rs.getInt(1));
+      }
+    }
+  }
+
+  @Test
+  public void errorDuringDescribe() throws SQLException {
+    try (Statement st = con.createStatement()) {
+      assertThrows(SQLException.class,
+          () -> st.executeQuery("SELECT * FROM binary_mode_missing_table"));
+      // The connection is usable afterwards
+      try (ResultSet rs = st.executeQuery("SELECT 1::int4")) {
+        assertTrue(rs.next());
+        assertEquals(1, rs.getInt(1));
+      }
+    }
+  }
+
+  @Test
+  public void arrays() throws SQLException {
+    UUID uuid = UUID.randomUUID();
+    String sql = "SELECT ARRAY[1.25, NULL, -3]::numeric[], ARRAY['a', 'bc']::char(2)[], "
+        + "ARRAY['{\"k\": 1}']::json[], ARRAY[true, false]::bool[], ARRAY['" + uuid + "']::uuid[]";
+    try (Statement st = con.createStatement();
+         ResultSet rs = st.executeQuery(sql)) {
+      assertTrue(rs.next());
+      for (int i = 1; i <= 5; i++) {
+        assertEquals(Field.BINARY_FORMAT, getFormat(rs, i), "column " + i);
+      }
+      assertArrayEquals(new BigDecimal[]{new BigDecimal("1.25"), null, new BigDecimal("-3")},
+          (Object[]) getArray(rs, 1));
+      assertArrayEquals(new String[]{"a ", "bc"}, (Object[]) getArray(rs, 2));
+      assertArrayEquals(new String[]{"{\"k\": 1}"}, (Object[]) getArray(rs, 3));
+      assertArrayEquals(new Boolean[]{true, false}, (Object[]) getArray(rs, 4));
+      assertArrayEquals(new UUID[]{uuid}, (Object[]) getArray(rs, 5));
+    }
+  }
+
+  @Test
+  public void numericArrayNaN() throws SQLException {
+    try (Statement st = con.createStatement();
+         ResultSet rs = st.executeQuery("SELECT ARRAY['NaN']::numeric[]")) {
+      assertTrue(rs.next());
+      Array array = rs.getArray(1);
+      assertThrows(SQLException.class, array::getArray);
+    }
+  }
+
+  @Test
+  public void disabledType() throws SQLException {
+    Properties props = new Properties();
+    PGProperty.BINARY_TRANSFER_MODE.set(props, "always");
+    PGProperty.BINARY_TRANSFER_DISABLE.set(props, "int4");
+    try (Connection con2 = TestUtil.openDB(props);
+         Statement st = con2.createStatement();
+         ResultSet rs = st.executeQuery("SELECT 1::int4, 2::int8")) {
+      assertTrue(rs.next());
+      assertEquals(Field.TEXT_FORMAT, getFormat(rs, 1));
+      assertEquals(Field.BINARY_FORMAT, getFormat(rs, 2));
+      assertEquals(1, rs.getInt(1));
+      assertEquals(2, rs.getInt(2));
+    }
+  }
+
+  private static Object getArray(ResultSet rs, int column) throws SQLException {
+    Array array = rs.getArray(column);
+    return array.getArray();
+  }
+
+  private static int getFormat(ResultSet rs, int column) throws SQLException {
+    return ((PGResultSetMetaData) rs.getMetaData()).getFormat(column);
+  }
+}
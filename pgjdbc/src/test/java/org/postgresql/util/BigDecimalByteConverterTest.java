@@ -92,6 +92,13 @@ static void testBinaryConversion(BigDecimal number) {
     } else {
       assertEquals(number.toPlainString(), actual.toPlainString());
     }
+
+    final MutableDecimal decimal = new MutableDecimal();
+    if (ByteConverter.numeric(bytes, 0, bytes.length, decimal)) {
+      assertEquals(0, actual.compareTo(decimal.toBigDecimal()), "MutableDecimal");
+      assertEquals(actual.doubleValue(), decimal.doubleValue(), "MutableDecimal.doubleValue");
+      assertEquals(actual.longValue(), decimal.longValue(), "MutableDecimal.longValue");
+    }
   }
 
   @Test
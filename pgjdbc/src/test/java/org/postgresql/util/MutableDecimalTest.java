@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+class MutableDecimalTest {
+  private final MutableDecimal decimal = new MutableDecimal();
+
+  @Test
+  void binaryKeepsScale() {
+    assertDecoded("12.50", 1250, 2);
+    assertDecoded("0.0001", 1, 4);
+    assertDecoded("-0.000012345", -12345, 9);
+    assertDecoded("10000", 10000, 0);
+    assertDecoded("0.00", 0, 2);
+    assertDecoded("999999999999999999", 999999999999999999L, 0);
+  }
+
+  @Test
+  void binaryDropsTrailingZerosThatDoNotFit() {
+    // numeric(38,20) values have more trailing zeros than a long can hold
+    assertDecoded("12.50000000000000000000", 125000, 4);
+    assertDecoded("100000000000000000000000", 1000, -20);
+  }
+
+  @Test
+  void binaryTooManyDigits() {
+    byte[] bytes = ByteConverter.numeric(new BigDecimal("12345678901234567890.1"));
+    assertFalse(ByteConverter.numeric(bytes, 0, bytes.length, decimal));
+  }
+
+  @Test
+  void binarySpecialValues() {
+    assertTrue(ByteConverter.numeric(new byte[]{0, 0, 0, 0, (byte) 0xC0, 0, 0, 0}, 0, 8, decimal));
+    assertTrue(decimal.isNaN());
+    assertEquals(Double.NaN, decimal.doubleValue());
+    assertEquals("NaN", decimal.toString());
+    assertThrows(ArithmeticException.class, decimal::toBigDecimal);
+    assertTrue(ByteConverter.numeric(new byte[]{0, 0, 0, 0, (byte) 0xF0, 0, 0, 0}, 0, 8, decimal));
+    assertTrue(decimal.isInfinite());
+    assertEquals(Double.NEGATIVE_INFINITY, decimal.doubleValue());
+    assertEquals(Long.MIN_VALUE, decimal.longValue());
+  }
+
+  @Test
+  void binaryMatchesBigDecimal() {
+    Random random = new Random(42);
+    for (int i = 0; i < 100000; i++) {
+      BigDecimal value = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64),
+          random.nextInt(30) - 5);
+      byte[] bytes = ByteConverter.numeric(value);
+      BigDecimal expected = (BigDecimal) ByteConverter.numeric(bytes);
+      if (!ByteConverter.numeric(bytes, 0, bytes.length, decimal)) {
+        // Up to 18 digits always fit, longer values may need a BigDecimal
+        assertTrue(expected.precision() > 18, expected.toString());
+        continue;
+      }
+      assertEquals(0, expected.compareTo(decimal.toBigDecimal()), expected.toString());
+      assertEquals(expected.doubleValue(), decimal.doubleValue(), expected.toString());
+      assertEquals(expected.floatValue(), decimal.floatValue(), expected.toString());
+      assertEquals(expected.longValue(), decimal.longValue(), expected.toString());
+    }
+  }
+
+  @Test
+  void encodeMatchesBigInteger() {
+    Random random = new Random(42);
+    for (int i = 0; i < 100000; i++) {
+      long unscaled = random.nextLong() >> random.nextInt(64);
+      int scale = random.nextInt(30);
+      BigDecimal value = BigDecimal.valueOf(unscaled, scale);
+      byte[] bytes = ByteConverter.numeric(unscaled, scale);
+      // a BigDecimal with an unscaled value beyond a long is encoded with BigInteger arithmetic
+      BigDecimal wide = value.setScale(scale + 20);
+      byte[] wideBytes = ByteConverter.numeric(wide);
+      ByteConverter.int2(wideBytes, 6, scale);
+      assertArrayEquals(wideBytes, bytes);
+      assertEquals(value, ByteConverter.numeric(bytes));
+    }
+  }
+
+  @Test
+  void encodeNegativeScaleAndMinValue() {
+    assertEquals(new BigDecimal("1.23E+5").toPlainString(),
+        ((BigDecimal) ByteConverter.numeric(ByteConverter.numeric(123, -3))).toPlainString());
+    assertEquals(BigDecimal.valueOf(Long.MIN_VALUE, 2),
+        ByteConverter.numeric(ByteConverter.numeric(Long.MIN_VALUE, 2)));
+  }
+
+  @Test
+  void text() {
+    assertParsed("12.50", 1250, 2);
+    assertParsed("-0.001", -1, 3);
+    assertParsed("42", 42, 0);
+    assertParsed("42.", 42, 0);
+    assertParsed(".5", 5, 1);
+    assertParsed("922337203685477580", 922337203685477580L, 0);
+  }
+
+  @Test
+  void textRejected() {
+    for (String s : new String[]{"", "-", ".", "-.", "1.2.3", "1e5", "NaN", "Infinity", "-0",
+        "-0.0", "9223372036854775807", "1.00000000000000000000", "t"}) {
+      byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+      assertThrows(NumberFormatException.class,
+          () -> NumberParser.getFastDecimal(bytes, 0, bytes.length, decimal));
+    }
+  }
+
+  @Test
+  void textDoubleMatchesParseDouble() {
+    Random random = new Random(42);
+    for (int i = 0; i < 100000; i++) {
+      String s = BigDecimal.valueOf(random.nextLong() >> random.nextInt(64), random.nextInt(25))
+          .toPlainString();
+      byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+      try {
+        NumberParser.getFastDecimal(bytes, 0, bytes.length, decimal);
+      } catch (NumberFormatException e) {
+        continue;
+      }
+      assertEquals(Double.parseDouble(s), decimal.doubleValue(), s);
+    }
+  }
+
+  @Test
+  void longValueTruncates() {
+    assertEquals(-12, decimal.set(-1299, 2).longValue());
+    assertEquals(0, decimal.set(Long.MAX_VALUE, 19).longValue());
+    assertEquals(5000, decimal.set(5, -3).longValue());
+    assertEquals(BigDecimal.valueOf(7, -25).longValue(), decimal.set(7, -25).longValue());
+  }
+
+  private void assertDecoded(String value, long unscaled, int scale) {
+    byte[] bytes = ByteConverter.numeric(new BigDecimal(value));
+    assertTrue(ByteConverter.numeric(bytes, 0, bytes.length, decimal), value);
+    assertEquals(unscaled, decimal.getUnscaledValue(), value);
+    assertEquals(scale, decimal.getScale(), value);
+  }
+
+  private void assertParsed(String value, long unscaled, int scale) {
+    byte[] bytes = ("x" + value + "y").getBytes(StandardCharsets.US_ASCII);
+    NumberParser.getFastDecimal(bytes, 1, bytes.length - 2, decimal);
+    assertEquals(unscaled, decimal.getUnscaledValue(), value);
+    assertEquals(scale, decimal.getScale(), value);
+  }
+}
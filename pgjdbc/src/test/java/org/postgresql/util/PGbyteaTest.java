@@ -14,6 +14,7 @@
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.Random;
 
@@ -42,6 +43,13 @@ void hexDecode_upper() throws SQLException {
     assertArrayEquals(data, decoded);
   }
 
+  @Test
+  void decodeRange() throws SQLException {
+    final byte[] row = "xx\\x0a0Byy\\\\a\\001zz".getBytes(StandardCharsets.US_ASCII);
+    assertArrayEquals(new byte[]{10, 11}, PGbytea.toBytes(row, 2, 6));
+    assertArrayEquals(new byte[]{'\\', 'a', 1}, PGbytea.toBytes(row, 10, 7));
+  }
+
   @Test
   void toPGLiteral_byteArray() throws IOException {
     assertEquals("'\\x00010203'::bytea",